@@ -0,0 +1,332 @@
+package net.sf.testng.databinding.code;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+
+import net.sf.testng.databinding.AbstractDataSource;
+import net.sf.testng.databinding.DataSource;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * <p>
+ * This {@link IDataSource data source} binds test data computed in code, removing the round trip through a file for
+ * data that's cheaper to compute than to store. Instead of a configuration interface, the configuration method
+ * returns the rows themselves as an {@link Iterable}, a {@link java.util.stream.Stream Stream} or a {@link Supplier},
+ * which returns one row per call and <code>null</code> once there are no more rows. The rows are pulled one at a time
+ * while the test method is invoked, so they are never all held in memory, unless the configuration method collects
+ * them itself.
+ * </p><p>
+ * Each row may be
+ * </p>
+ * <ul>
+ * <li>an <code>Object[]</code> holding one argument per test method parameter,</li>
+ * <li>the single argument itself, if the test method has exactly one {@link TestInput test input} or
+ * {@link TestOutput test output} parameter, or</li>
+ * <li>a Java Bean with one property per test method parameter, named like the parameter. Like with all other data
+ * sources the names of primitive parameters are given by the annotation, the names of Java Bean and enum parameters
+ * are the simple names of their types. Names are matched case insensitively.</li>
+ * </ul>
+ * <p>
+ * Each argument is checked to be of the type of its parameter. If it isn't, or a row doesn't match the parameters, a
+ * {@link MultipleSourceErrorsException} is thrown. Streams and closeable iterators are closed once all rows have been
+ * bound or binding a row has failed.
+ * </p>
+ * <h3>Example</h3>
+ * <h4>Test Method</h4>
+ * <pre>
+ * &#64;DataBinding(dataSource = "code", configClass = Configs.class)
+ * public void testIsPrime(&#64;TestInput(name = "number") int number,
+ *         &#64;TestOutput(name = "prime") boolean prime) {
+ *     assertEquals(isPrime(number), prime);
+ * }
+ * </pre>
+ * <h4>Configuration</h4>
+ * <pre>
+ * public static Stream&lt;Object[]&gt; testIsPrimeConfig() {
+ *     return IntStream.range(2, 100000).mapToObj(n -&gt; new Object[] { n, BigInteger.valueOf(n).isProbablePrime(50) });
+ * }
+ * </pre>
+ *
+ * @author Matthias Rothe
+ */
+@DataSource(name = "code")
+public class CodeDataSource extends AbstractDataSource {
+	private final List<MethodParameter> parameters = new ArrayList<MethodParameter>();
+	private final Class<?>[] parameterClasses;
+	private final String source;
+	private final Map<Class<?>, Method[]> rowBeanReadMethods = new HashMap<Class<?>, Method[]>();
+	private Iterator<?> rows;
+	private AutoCloseable closeable;
+	private long rowNumber;
+
+	/**
+	 * Constructs a new instance of this class, setting the {@link MethodParameter test method parameters} to bind the
+	 * data to and the {@link Configuration configuration} naming the method computing the data.
+	 *
+	 * @param parameters The test method parameters to which data is to be bound
+	 * @param configuration The configuration naming the method computing the data
+	 * @throws Exception If anything goes wrong during the creation of this instance
+	 */
+	public CodeDataSource(final List<MethodParameter> parameters, final Configuration configuration)
+			throws Exception {
+		for (final MethodParameter parameter : parameters) {
+			if (parameter.getAnnotation(TestInput.class) != null || parameter.getAnnotation(TestOutput.class) != null) {
+				this.parameters.add(parameter);
+			}
+		}
+
+		parameterClasses = new Class<?>[this.parameters.size()];
+		for (int i = 0; i < parameterClasses.length; i++) {
+			parameterClasses[i] = toClass(this.parameters.get(i).getType());
+		}
+
+		source = configuration.getConfigClass().getName() + "." + configuration.getConfigMethod() + "()";
+		openRows(DataSourceConfigurationLoader.loadDataSourceConfigurationAssignableTo(configuration, Iterable.class,
+			BaseStream.class, Supplier.class));
+	}
+
+	private void openRows(final Object data) {
+		if (data == null) {
+			throw sourceErrorsException("the configuration method returned null");
+		} else if (data instanceof BaseStream) {
+			closeable = (BaseStream<?, ?>) data;
+			rows = ((BaseStream<?, ?>) data).iterator();
+		} else if (data instanceof Iterable) {
+			rows = ((Iterable<?>) data).iterator();
+			closeable = rows instanceof AutoCloseable ? (AutoCloseable) rows : null;
+		} else {
+			rows = new SupplierIterator((Supplier<?>) data);
+		}
+	}
+
+	private static Class<?> toClass(final Type type) {
+		Class<?> clazz = type instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) type).getRawType()
+				: (Class<?>) type;
+
+		if (clazz == int.class) {
+			clazz = Integer.class;
+		} else if (clazz == long.class) {
+			clazz = Long.class;
+		} else if (clazz == float.class) {
+			clazz = Float.class;
+		} else if (clazz == double.class) {
+			clazz = Double.class;
+		} else if (clazz == boolean.class) {
+			clazz = Boolean.class;
+		} else if (clazz == char.class) {
+			clazz = Character.class;
+		}
+
+		return clazz;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		if (rows == null) {
+			return false;
+		}
+
+		final boolean hasNext;
+
+		try {
+			hasNext = rows.hasNext();
+		} catch (final RuntimeException e) {
+			cleanUpAfter(e);
+			throw e;
+		}
+
+		if (!hasNext) {
+			cleanUp();
+		}
+
+		return hasNext;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		rowNumber++;
+
+		try {
+			return toArguments(rows.next());
+		} catch (final MultipleSourceErrorsException e) {
+			cleanUpAfter(e);
+			throw e;
+		} catch (final Exception e) {
+			final MultipleSourceErrorsException sourceErrorsException = sourceErrorsException("row " + rowNumber
+					+ ", detail message: " + e.getMessage());
+			cleanUpAfter(sourceErrorsException);
+			throw sourceErrorsException;
+		}
+	}
+
+	private Object[] toArguments(final Object row) throws Exception {
+		final Object[] arguments;
+
+		if (row == null) {
+			throw sourceErrorsException("row " + rowNumber + ", the row is null");
+		} else if (row instanceof Object[]) {
+			arguments = (Object[]) row;
+
+			if (arguments.length != parameterClasses.length) {
+				throw sourceErrorsException("row " + rowNumber + ", the row holds " + arguments.length
+						+ " arguments, expected " + parameterClasses.length);
+			}
+		} else if (parameterClasses.length == 1 && parameterClasses[0].isInstance(row)) {
+			return new Object[] { row };
+		} else {
+			final Method[] readMethods = getRowBeanReadMethods(row.getClass());
+			arguments = new Object[readMethods.length];
+
+			for (int i = 0; i < readMethods.length; i++) {
+				arguments[i] = readMethods[i].invoke(row);
+			}
+		}
+
+		checkArguments(arguments);
+		return arguments;
+	}
+
+	private Method[] getRowBeanReadMethods(final Class<?> rowClass) throws IntrospectionException {
+		Method[] readMethods = rowBeanReadMethods.get(rowClass);
+
+		if (readMethods == null) {
+			final Map<String, Method> properties = new HashMap<String, Method>();
+			for (final PropertyDescriptor descriptor : Introspector.getBeanInfo(rowClass).getPropertyDescriptors()) {
+				if (descriptor.getReadMethod() != null) {
+					properties.put(descriptor.getName().toLowerCase(), descriptor.getReadMethod());
+				}
+			}
+
+			final ErrorCollector errorCollector = new ErrorCollector(rowClass);
+			readMethods = new Method[parameters.size()];
+
+			for (int i = 0; i < readMethods.length; i++) {
+				final String name = parameters.get(i).getName();
+				readMethods[i] = name != null ? properties.get(name.toLowerCase()) : null;
+
+				if (readMethods[i] == null) {
+					errorCollector.addError("no property " + name + " for the test method parameter of type "
+							+ parameters.get(i).getType());
+				}
+			}
+
+			if (errorCollector.hasErrors()) {
+				final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+				errorCollectors.add(errorCollector);
+				throw new MultipleSourceErrorsException(errorCollectors);
+			}
+
+			rowBeanReadMethods.put(rowClass, readMethods);
+		}
+
+		return readMethods;
+	}
+
+	private void checkArguments(final Object[] arguments) {
+		for (int i = 0; i < arguments.length; i++) {
+			final Type type = parameters.get(i).getType();
+			final boolean matches = arguments[i] == null ? !(type instanceof Class && ((Class<?>) type).isPrimitive())
+					: parameterClasses[i].isInstance(arguments[i]);
+
+			if (!matches) {
+				throw sourceErrorsException("row " + rowNumber + ", the argument " + arguments[i]
+						+ " doesn't match the test method parameter " + parameters.get(i).getName() + " of type "
+						+ parameters.get(i).getType());
+			}
+		}
+	}
+
+	private MultipleSourceErrorsException sourceErrorsException(final String detail) {
+		final ErrorCollector errorCollector = new ErrorCollector(source);
+		errorCollector.addError("invalid source for data source " + getClass().getName() + " at " + detail);
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+		errorCollectors.add(errorCollector);
+		return new MultipleSourceErrorsException(errorCollectors);
+	}
+
+	private void cleanUp() {
+		final AutoCloseable toClose = closeable;
+		rows = null;
+		closeable = null;
+
+		if (toClose != null) {
+			try {
+				toClose.close();
+			} catch (final Exception e) {
+				throw Exceptions.softenIfNecessary(e);
+			}
+		}
+	}
+
+	private void cleanUpAfter(final Exception cause) {
+		try {
+			cleanUp();
+		} catch (final RuntimeException e) {
+			cause.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * Pulls the rows from a supplier, which returns <code>null</code> once there are no more rows.
+	 */
+	private static final class SupplierIterator implements Iterator<Object> {
+		private final Supplier<?> supplier;
+		private Object next;
+		private boolean done;
+
+		SupplierIterator(final Supplier<?> supplier) {
+			this.supplier = supplier;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next == null && !done) {
+				next = supplier.get();
+				done = next == null;
+			}
+
+			return next != null;
+		}
+
+		@Override
+		public Object next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			final Object row = next;
+			next = null;
+			return row;
+		}
+	}
+}
\ No newline at end of file
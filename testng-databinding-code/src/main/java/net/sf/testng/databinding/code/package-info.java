@@ -0,0 +1,4 @@
+/**
+ * Contains a {@link net.sf.testng.databinding.IDataSource data source} implementation binding data computed in code.
+ */
+package net.sf.testng.databinding.code;
\ No newline at end of file
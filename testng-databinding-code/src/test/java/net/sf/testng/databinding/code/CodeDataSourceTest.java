@@ -0,0 +1,130 @@
+package net.sf.testng.databinding.code;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.code.beans.Fraction;
+import net.sf.testng.databinding.code.datasource.config.CodeDataSourceConfigurations;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class CodeDataSourceTest {
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test
+	public void shouldBindRowsOfIterable() throws Exception {
+		assertEquals(readAll(createDataSource("fractionConsumer", "listConfig")).toArray(),
+			new Object[][] { { new Fraction(1, 2), true }, { new Fraction(2, 4), false } });
+	}
+
+	@Test
+	public void shouldBindRowBeansOfStreamLazily() throws Exception {
+		final int computedBefore = CodeDataSourceConfigurations.computedRows.get();
+		final int closedBefore = CodeDataSourceConfigurations.closedStreams.get();
+		final CodeDataSource dataSource = createDataSource("fractionConsumer", "streamConfig");
+
+		assertEquals(dataSource.next(), new Object[] { new Fraction(1, 3), true });
+		assertTrue(CodeDataSourceConfigurations.computedRows.get() - computedBefore <= 2);
+
+		assertEquals(readAll(dataSource).toArray(),
+			new Object[][] { { new Fraction(2, 6), false }, { new Fraction(3, 9), false } });
+		assertEquals(CodeDataSourceConfigurations.computedRows.get() - computedBefore, 3);
+		assertEquals(CodeDataSourceConfigurations.closedStreams.get() - closedBefore, 1);
+	}
+
+	@Test
+	public void shouldBindSingleArgumentsOfSupplier() throws Exception {
+		final CodeDataSource dataSource = createDataSource("singleFractionConsumer", "supplierConfig");
+
+		assertEquals(readAll(dataSource).toArray(),
+			new Object[][] { { new Fraction(1, 1) }, { new Fraction(1, 2) }, { new Fraction(1, 3) } });
+		assertFalse(dataSource.hasNext());
+	}
+
+	@Test
+	public void shouldReportMismatchingArgument() throws Exception {
+		final CodeDataSource dataSource = createDataSource("fractionConsumer", "invalidConfig");
+		dataSource.next();
+
+		try {
+			dataSource.next();
+			fail("expected MultipleSourceErrorsException");
+		} catch (final MultipleSourceErrorsException e) {
+			assertTrue(e.getMessage().contains("at row 2"), e.getMessage());
+		}
+	}
+
+	@Test
+	public void shouldCloseStreamAfterFailingRow() throws Exception {
+		final int computedBefore = CodeDataSourceConfigurations.computedRows.get();
+		final int closedBefore = CodeDataSourceConfigurations.closedStreams.get();
+		final CodeDataSource dataSource = createDataSource("fractionConsumer", "invalidStreamConfig");
+		dataSource.next();
+
+		try {
+			dataSource.next();
+			fail("expected MultipleSourceErrorsException");
+		} catch (final MultipleSourceErrorsException e) {
+			assertTrue(e.getMessage().contains("at row 2"), e.getMessage());
+		}
+
+		assertEquals(CodeDataSourceConfigurations.computedRows.get() - computedBefore, 2);
+		assertEquals(CodeDataSourceConfigurations.closedStreams.get() - closedBefore, 1);
+		assertFalse(dataSource.hasNext());
+	}
+
+	@Test(expectedExceptions = RuntimeException.class)
+	public void shouldRequireRowsFromConfigurationMethod() throws Exception {
+		createDataSource("fractionConsumer", "wrongTypeConfig");
+	}
+
+	private List<Object[]> readAll(final CodeDataSource dataSource) {
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		while (dataSource.hasNext()) {
+			rows.add(dataSource.next());
+		}
+		return rows;
+	}
+
+	private CodeDataSource createDataSource(final String methodName, final String configMethod) throws Exception {
+		return new CodeDataSource(createMethodParameters(methodName),
+				new Configuration(CodeDataSourceConfigurations.class, configMethod));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void fractionConsumer(@TestInput final Fraction fraction,
+			@TestOutput(name = "lowestTerms") final boolean lowestTerms) {
+	}
+
+	public void singleFractionConsumer(@TestInput final Fraction fraction) {
+	}
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package net.sf.testng.databinding.code.beans;
+
+public final class Fraction {
+	private final int numerator;
+	private final int denominator;
+
+	public Fraction(final int numerator, final int denominator) {
+		this.numerator = numerator;
+		this.denominator = denominator;
+	}
+
+	public int getNumerator() {
+		return numerator;
+	}
+
+	public int getDenominator() {
+		return denominator;
+	}
+
+	public boolean isInLowestTerms() {
+		int a = Math.abs(numerator);
+		int b = Math.abs(denominator);
+
+		while (b != 0) {
+			final int remainder = a % b;
+			a = b;
+			b = remainder;
+		}
+
+		return a == 1;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * numerator + denominator;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Fraction other = (Fraction) obj;
+		return numerator == other.numerator && denominator == other.denominator;
+	}
+
+	@Override
+	public String toString() {
+		return numerator + "/" + denominator;
+	}
+}
\ No newline at end of file
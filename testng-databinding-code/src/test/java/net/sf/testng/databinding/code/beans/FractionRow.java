@@ -0,0 +1,19 @@
+package net.sf.testng.databinding.code.beans;
+
+public class FractionRow {
+	private final Fraction fraction;
+	private final boolean lowestTerms;
+
+	public FractionRow(final Fraction fraction, final boolean lowestTerms) {
+		this.fraction = fraction;
+		this.lowestTerms = lowestTerms;
+	}
+
+	public Fraction getFraction() {
+		return fraction;
+	}
+
+	public boolean isLowestTerms() {
+		return lowestTerms;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package net.sf.testng.databinding.code.datasource.config;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import net.sf.testng.databinding.code.beans.Fraction;
+import net.sf.testng.databinding.code.beans.FractionRow;
+
+public class CodeDataSourceConfigurations {
+	public static final AtomicInteger computedRows = new AtomicInteger();
+	public static final AtomicInteger closedStreams = new AtomicInteger();
+
+	private CodeDataSourceConfigurations() {}
+	
+	public static List<Object[]> listConfig() {
+		return Arrays.asList(new Object[] { new Fraction(1, 2), true }, new Object[] { new Fraction(2, 4), false });
+	}
+	
+	public static Stream<FractionRow> streamConfig() {
+		return Stream.of(3, 6, 9).map(new Function<Integer, FractionRow>() {
+			
+			@Override
+			public FractionRow apply(final Integer denominator) {
+				computedRows.incrementAndGet();
+				final Fraction fraction = new Fraction(denominator / 3, denominator);
+				return new FractionRow(fraction, fraction.isInLowestTerms());
+			}
+		}).onClose(new Runnable() {
+			
+			@Override
+			public void run() {
+				closedStreams.incrementAndGet();
+			}
+		});
+	}
+	
+	public static Supplier<Fraction> supplierConfig() {
+		return new Supplier<Fraction>() {
+			private int denominator;
+			
+			@Override
+			public Fraction get() {
+				return denominator++ < 3 ? new Fraction(1, denominator) : null;
+			}
+		};
+	}
+	
+	public static List<Object[]> invalidConfig() {
+		return Arrays.asList(new Object[] { new Fraction(1, 2), true }, new Object[] { new Fraction(2, 4), "false" });
+	}
+	
+	public static Stream<Object[]> invalidStreamConfig() {
+		return Stream.of(3, 6, 9).map(new Function<Integer, Object[]>() {
+			
+			@Override
+			public Object[] apply(final Integer denominator) {
+				computedRows.incrementAndGet();
+				final Fraction fraction = new Fraction(denominator / 3, denominator);
+				return new Object[] { fraction, denominator == 6 ? "false" : fraction.isInLowestTerms() };
+			}
+		}).onClose(new Runnable() {
+			
+			@Override
+			public void run() {
+				closedStreams.incrementAndGet();
+			}
+		});
+	}
+	
+	public static Fraction wrongTypeConfig() {
+		return new Fraction(1, 1);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,275 @@
+package net.sf.testng.databinding.columnar;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.util.Types;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * Flattens test method parameters into the columns of a columnar fixture file and back again.
+ * <p>
+ * Primitive and enum parameters map to the column named like the parameter, Java Beans to the columns of their
+ * properties. Properties of nested Java Beans are named by their dotted path, e.g. <code>in_address.city</code>,
+ * just like the headers of a CSV file bound by the header name mapper of the CSV data source. Bean properties of
+ * other types are left out. All column names start with the input or output prefix.
+ *
+ * @author Matthias Rothe
+ */
+final class ColumnLayout {
+	private final List<Node> roots = new ArrayList<Node>();
+	private final List<Leaf> leaves = new ArrayList<Leaf>();
+
+	private ColumnLayout() {
+	}
+
+	/**
+	 * Builds the layout of the given test method parameters.
+	 *
+	 * @param parameters The test method parameters
+	 * @param inputPrefix The prefix of the columns of {@link TestInput test input} parameters
+	 * @param outputPrefix The prefix of the columns of {@link TestOutput test output} parameters
+	 * @return the layout
+	 * @throws MultipleConfigurationErrorsException if any parameter is of an unsupported type
+	 */
+	static ColumnLayout forParameters(final List<MethodParameter> parameters, final String inputPrefix,
+			final String outputPrefix) {
+		final ColumnLayout layout = new ColumnLayout();
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+
+		for (final MethodParameter parameter : parameters) {
+			final String prefix;
+
+			if (parameter.getAnnotation(TestInput.class) != null) {
+				prefix = inputPrefix;
+			} else if (parameter.getAnnotation(TestOutput.class) != null) {
+				prefix = outputPrefix;
+			} else {
+				continue;
+			}
+
+			final Type type = parameter.getType();
+			final ErrorCollector errorCollector = new ErrorCollector(type, parameter.getName());
+
+			if (Types.isPrimitiveType(type) || Types.isEnumType(type)) {
+				layout.roots.add(layout.createLeaf(prefix + parameter.getName(), (Class<?>) type));
+			} else if (Types.isSingleBeanType(type)) {
+				try {
+					final Node bean = layout.createBean((Class<?>) type, prefix, new HashSet<Class<?>>());
+
+					if (bean == null) {
+						errorCollector.addError("no property of a type supported by columnar fixtures");
+					} else {
+						layout.roots.add(bean);
+					}
+				} catch (final Exception e) {
+					errorCollector.addError("unable to create type: " + e.getMessage());
+				}
+			} else {
+				errorCollector.addError("Type " + type + " is not supported by columnar fixtures");
+			}
+
+			if (errorCollector.hasErrors()) {
+				errorCollectors.add(errorCollector);
+			}
+		}
+
+		if (errorCollectors.size() > 0) {
+			throw new MultipleConfigurationErrorsException(errorCollectors);
+		}
+
+		return layout;
+	}
+
+	private Leaf createLeaf(final String name, final Class<?> type) {
+		final Leaf leaf = new Leaf(leaves.size(), name, type);
+		leaves.add(leaf);
+		return leaf;
+	}
+
+	private Node createBean(final Class<?> type, final String prefix, final Set<Class<?>> enclosingTypes)
+			throws IntrospectionException, NoSuchMethodException {
+		final Constructor<?> constructor = type.getConstructor();
+		final List<Method> readMethods = new ArrayList<Method>();
+		final List<Method> writeMethods = new ArrayList<Method>();
+		final List<Node> properties = new ArrayList<Node>();
+		enclosingTypes.add(type);
+
+		for (final PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+			final Method readMethod = descriptor.getReadMethod();
+			final Method writeMethod = descriptor.getWriteMethod();
+			final Class<?> propertyType = descriptor.getPropertyType();
+
+			if (readMethod == null || writeMethod == null) {
+				continue;
+			}
+
+			Node property = null;
+			if (Types.isPrimitiveType(propertyType) || Types.isEnumType(propertyType)) {
+				property = createLeaf(prefix + descriptor.getName(), propertyType);
+			} else if (Types.isSingleBeanType(propertyType) && !enclosingTypes.contains(propertyType)) {
+				property = createBean(propertyType, prefix + descriptor.getName() + ".", enclosingTypes);
+			}
+
+			if (property != null) {
+				readMethods.add(readMethod);
+				writeMethods.add(writeMethod);
+				properties.add(property);
+			}
+		}
+
+		enclosingTypes.remove(type);
+
+		if (properties.isEmpty()) {
+			return null;
+		}
+
+		return new Bean(constructor, readMethods.toArray(new Method[0]), writeMethods.toArray(new Method[0]),
+			properties.toArray(new Node[0]));
+	}
+
+	/**
+	 * @return the columns of all parameters in order
+	 */
+	List<Leaf> getColumns() {
+		return leaves;
+	}
+
+	/**
+	 * Flattens the given test method arguments into one value per column.
+	 *
+	 * @param arguments The test method arguments
+	 * @param row The array to store the values of the columns in
+	 * @throws Exception if reading any Java Bean property fails
+	 */
+	void flatten(final Object[] arguments, final Object[] row) throws Exception {
+		for (int i = 0; i < roots.size(); i++) {
+			roots.get(i).flatten(arguments[i], row);
+		}
+	}
+
+	/**
+	 * Binds the test method arguments from the given row.
+	 *
+	 * @param rowGroup The row group holding the row
+	 * @param row The index of the row within the row group
+	 * @return the test method arguments
+	 * @throws Exception if creating any Java Bean fails
+	 */
+	Object[] bind(final ColumnarFile.RowGroup rowGroup, final int row) throws Exception {
+		final Object[] arguments = new Object[roots.size()];
+
+		for (int i = 0; i < arguments.length; i++) {
+			arguments[i] = roots.get(i).bind(rowGroup, row);
+		}
+
+		return arguments;
+	}
+
+	private abstract static class Node {
+		abstract void flatten(Object value, Object[] row) throws Exception;
+
+		abstract Object bind(ColumnarFile.RowGroup rowGroup, int row) throws Exception;
+	}
+
+	/**
+	 * A single column of a primitive or enum parameter or property.
+	 */
+	static final class Leaf extends Node {
+		private final int index;
+		private final String name;
+		private final ColumnType type;
+		private final Class<?> enumType;
+		private int column = -1;
+
+		private Leaf(final int index, final String name, final Class<?> type) {
+			this.index = index;
+			this.name = name;
+			this.type = ColumnType.forType(type);
+			this.enumType = type.isEnum() ? type : null;
+		}
+
+		/**
+		 * @return the name of the column
+		 */
+		String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the type of the column
+		 */
+		ColumnType getType() {
+			return type;
+		}
+
+		/**
+		 * @param column The index of the column within the file to bind the value from
+		 */
+		void setColumn(final int column) {
+			this.column = column;
+		}
+
+		@Override
+		void flatten(final Object value, final Object[] row) {
+			row[index] = value;
+		}
+
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Object bind(final ColumnarFile.RowGroup rowGroup, final int row) {
+			final Object value = rowGroup.get(column, row);
+			return enumType != null && value != null ? Enum.valueOf((Class<? extends Enum>) enumType, (String) value)
+					: value;
+		}
+	}
+
+	private static final class Bean extends Node {
+		private final Constructor<?> constructor;
+		private final Method[] readMethods;
+		private final Method[] writeMethods;
+		private final Node[] properties;
+
+		private Bean(final Constructor<?> constructor, final Method[] readMethods, final Method[] writeMethods,
+				final Node[] properties) {
+			this.constructor = constructor;
+			this.readMethods = readMethods;
+			this.writeMethods = writeMethods;
+			this.properties = properties;
+		}
+
+		@Override
+		void flatten(final Object value, final Object[] row) throws Exception {
+			for (int i = 0; i < properties.length; i++) {
+				properties[i].flatten(value != null ? readMethods[i].invoke(value) : null, row);
+			}
+		}
+
+		@Override
+		Object bind(final ColumnarFile.RowGroup rowGroup, final int row) throws Exception {
+			final Object bean = constructor.newInstance();
+
+			for (int i = 0; i < properties.length; i++) {
+				final Object value = properties[i].bind(rowGroup, row);
+
+				if (value != null) {
+					writeMethods[i].invoke(bean, value);
+				}
+			}
+
+			return bean;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package net.sf.testng.databinding.columnar;
+
+import java.nio.ByteBuffer;
+
+import net.sf.testng.databinding.core.util.Types;
+
+/**
+ * The types of the columns of a columnar fixture file, each storing its values with a fixed width. Strings are
+ * stored as indexes into the dictionary of the file. The ordinals are part of the file format, so constants may
+ * only ever be appended.
+ *
+ * @author Matthias Rothe
+ */
+enum ColumnType {
+	STRING(4) {
+		@Override
+		void write(final ByteBuffer buffer, final Object value, final Dictionary dictionary) {
+			buffer.putInt(dictionary.indexOf(value instanceof Enum ? ((Enum<?>) value).name() : value.toString()));
+		}
+
+		@Override
+		Object read(final ByteBuffer buffer, final int position, final String[] dictionary) {
+			return dictionary[buffer.getInt(position)];
+		}
+	},
+	CHARACTER(2) {
+		@Override
+		void write(final ByteBuffer buffer, final Object value, final Dictionary dictionary) {
+			buffer.putChar((Character) value);
+		}
+
+		@Override
+		Object read(final ByteBuffer buffer, final int position, final String[] dictionary) {
+			return buffer.getChar(position);
+		}
+	},
+	INTEGER(4) {
+		@Override
+		void write(final ByteBuffer buffer, final Object value, final Dictionary dictionary) {
+			buffer.putInt((Integer) value);
+		}
+
+		@Override
+		Object read(final ByteBuffer buffer, final int position, final String[] dictionary) {
+			return buffer.getInt(position);
+		}
+	},
+	LONG(8) {
+		@Override
+		void write(final ByteBuffer buffer, final Object value, final Dictionary dictionary) {
+			buffer.putLong((Long) value);
+		}
+
+		@Override
+		Object read(final ByteBuffer buffer, final int position, final String[] dictionary) {
+			return buffer.getLong(position);
+		}
+	},
+	FLOAT(4) {
+		@Override
+		void write(final ByteBuffer buffer, final Object value, final Dictionary dictionary) {
+			buffer.putFloat((Float) value);
+		}
+
+		@Override
+		Object read(final ByteBuffer buffer, final int position, final String[] dictionary) {
+			return buffer.getFloat(position);
+		}
+	},
+	DOUBLE(8) {
+		@Override
+		void write(final ByteBuffer buffer, final Object value, final Dictionary dictionary) {
+			buffer.putDouble((Double) value);
+		}
+
+		@Override
+		Object read(final ByteBuffer buffer, final int position, final String[] dictionary) {
+			return buffer.getDouble(position);
+		}
+	},
+	BOOLEAN(1) {
+		@Override
+		void write(final ByteBuffer buffer, final Object value, final Dictionary dictionary) {
+			buffer.put((byte) ((Boolean) value ? 1 : 0));
+		}
+
+		@Override
+		Object read(final ByteBuffer buffer, final int position, final String[] dictionary) {
+			return buffer.get(position) != 0;
+		}
+	};
+
+	private final int width;
+
+	private ColumnType(final int width) {
+		this.width = width;
+	}
+
+	/**
+	 * @return the number of bytes each value takes
+	 */
+	int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Writes the given value at the current position of the buffer.
+	 *
+	 * @param buffer The buffer to write to
+	 * @param value The value, never <code>null</code>
+	 * @param dictionary The dictionary collecting the strings of the file
+	 */
+	abstract void write(ByteBuffer buffer, Object value, Dictionary dictionary);
+
+	/**
+	 * Reads the value at the given position of the buffer.
+	 *
+	 * @param buffer The buffer to read from
+	 * @param position The absolute position of the value
+	 * @param dictionary The strings of the file
+	 * @return the value read
+	 */
+	abstract Object read(ByteBuffer buffer, int position, String[] dictionary);
+
+	/**
+	 * @param type The type of a test method parameter or Java Bean property, a primitive type as defined by
+	 *        {@link Types#isPrimitiveType(java.lang.reflect.Type)} or an enum type
+	 * @return the column type storing values of the given type, <code>null</code> if there is none
+	 */
+	static ColumnType forType(final Class<?> type) {
+		if (type == String.class || type.isEnum()) {
+			return STRING;
+		} else if (type == Character.class || type == char.class) {
+			return CHARACTER;
+		} else if (type == Integer.class || type == int.class) {
+			return INTEGER;
+		} else if (type == Long.class || type == long.class) {
+			return LONG;
+		} else if (type == Float.class || type == float.class) {
+			return FLOAT;
+		} else if (type == Double.class || type == double.class) {
+			return DOUBLE;
+		} else if (type == Boolean.class || type == boolean.class) {
+			return BOOLEAN;
+		} else {
+			return null;
+		}
+	}
+}
\ No newline at end of file
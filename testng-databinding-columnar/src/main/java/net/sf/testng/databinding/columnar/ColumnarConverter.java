@@ -0,0 +1,191 @@
+package net.sf.testng.databinding.columnar;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import net.sf.testng.databinding.DataBinding;
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.core.util.Annotations;
+import net.sf.testng.databinding.core.util.Types;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * <p>
+ * Converts the test data of any {@link DataBinding data bound} test method into a columnar fixture file, to be bound
+ * by the {@link ColumnarDataSource} afterwards. The test data is read through the {@link GenericDataProvider}, so any
+ * data source and configuration the test method is set up with, e.g. a CSV, XML or properties file, serves as the
+ * reader.
+ * </p><p>
+ * The columns are derived from the test method parameters. Primitive and enum parameters are stored in the column
+ * named like the parameter, prefixed by <code>in_</code> for {@link net.sf.testng.databinding.TestInput test input}
+ * and <code>out_</code> for {@link net.sf.testng.databinding.TestOutput test output} parameters. Java Beans are
+ * stored in one column per property of a primitive or enum type, named like the property with the same prefix.
+ * Properties of nested Java Beans are stored in columns named by the dotted path of the property, e.g.
+ * <code>in_address.city</code>. Other properties are left out and parameters of other types aren't supported.
+ * </p><p>
+ * The converter can be run from the command line, e.g. during the build, like this:
+ * </p>
+ * <pre>
+ * java net.sf.testng.databinding.columnar.ColumnarConverter &lt;test class&gt; &lt;test method&gt; &lt;output file&gt; [&lt;rows per row group&gt;]
+ * </pre>
+ * <p>
+ * The class path needs to hold the test class, its data source and the data to convert.
+ * </p>
+ *
+ * @author Matthias Rothe
+ */
+public final class ColumnarConverter {
+	/**
+	 * The number of rows per row group used by default.
+	 */
+	public static final int DEFAULT_ROW_GROUP_SIZE = 65536;
+
+	private ColumnarConverter() {
+	}
+
+	/**
+	 * Converts the test data of the given test method into the given file, using row groups of the
+	 * {@link #DEFAULT_ROW_GROUP_SIZE default size}.
+	 *
+	 * @param method The data bound test method
+	 * @param output The columnar fixture file to write, replacing any existing file
+	 * @return the number of rows converted
+	 * @throws Exception If anything goes wrong reading the test data or writing the file
+	 */
+	public static long convert(final Method method, final File output) throws Exception {
+		return convert(method, output, DEFAULT_ROW_GROUP_SIZE);
+	}
+
+	/**
+	 * Converts the test data of the given test method into the given file.
+	 *
+	 * @param method The data bound test method
+	 * @param output The columnar fixture file to write, replacing any existing file, deleted if conversion fails
+	 * @param rowGroupSize The maximum number of rows per row group
+	 * @return the number of rows converted
+	 * @throws Exception If anything goes wrong reading the test data or writing the file
+	 */
+	public static long convert(final Method method, final File output, final int rowGroupSize) throws Exception {
+		final ColumnLayout layout = ColumnLayout.forParameters(createMethodParameters(method), "in_", "out_");
+		final List<ColumnLayout.Leaf> columns = layout.getColumns();
+		final String[] columnNames = new String[columns.size()];
+		final ColumnType[] columnTypes = new ColumnType[columns.size()];
+
+		for (int i = 0; i < columnNames.length; i++) {
+			columnNames[i] = columns.get(i).getName();
+			columnTypes[i] = columns.get(i).getType();
+		}
+
+		final Iterator<Object[]> data = GenericDataProvider.getDataProvider(method);
+		final ColumnarWriter writer = new ColumnarWriter(output.toPath(), columnNames, columnTypes, rowGroupSize);
+
+		try {
+			final Object[] row = new Object[columnNames.length];
+
+			while (data.hasNext()) {
+				layout.flatten(data.next(), row);
+				writer.addRow(row);
+			}
+
+			writer.close();
+		} catch (final Exception e) {
+			discard(writer, output, e);
+			throw e;
+		}
+
+		return writer.getRowCount();
+	}
+
+	/**
+	 * Closes and deletes the incomplete output file, so a failed conversion doesn't leave a truncated fixture file
+	 * behind.
+	 */
+	private static void discard(final ColumnarWriter writer, final File output, final Exception cause) {
+		try {
+			writer.abort();
+		} catch (final IOException e) {
+			cause.addSuppressed(e);
+		}
+
+		try {
+			Files.deleteIfExists(output.toPath());
+		} catch (final IOException e) {
+			cause.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * Runs the converter from the command line.
+	 *
+	 * @param args The fully qualified name of the test class, the name of the test method, the path of the output
+	 *        file and optionally the number of rows per row group
+	 * @throws Exception If anything goes wrong during conversion
+	 */
+	public static void main(final String[] args) throws Exception {
+		if (args.length < 3 || args.length > 4) {
+			System.err.println("usage: java " + ColumnarConverter.class.getName()
+					+ " <test class> <test method> <output file> [<rows per row group>]");
+			System.exit(2);
+			return;
+		}
+
+		final Class<?> testClass = Class.forName(args[0], true, Thread.currentThread().getContextClassLoader());
+		Method method = null;
+
+		for (final Method candidate : testClass.getMethods()) {
+			if (candidate.getName().equals(args[1])) {
+				method = candidate;
+				break;
+			}
+		}
+
+		if (method == null) {
+			throw new NoSuchMethodException(args[0] + "." + args[1]);
+		}
+
+		final File output = new File(args[2]);
+		final int rowGroupSize = args.length == 4 ? Integer.parseInt(args[3]) : DEFAULT_ROW_GROUP_SIZE;
+		final long rows = convert(method, output, rowGroupSize);
+
+		System.out.println("converted " + rows + " rows of " + testClass.getName() + "." + method.getName()
+				+ " into " + output);
+	}
+
+	private static List<MethodParameter> createMethodParameters(final Method method) {
+		final List<MethodParameter> parameters = new ArrayList<MethodParameter>();
+		final Annotation[][] annotationsArray = method.getParameterAnnotations();
+		final Type[] parameterTypes = method.getGenericParameterTypes();
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			final List<Annotation> annotations = Arrays.asList(annotationsArray[i]);
+			parameters.add(new MethodParameter(annotations, parameterTypes[i], resolveName(annotations,
+				parameterTypes[i])));
+		}
+
+		return parameters;
+	}
+
+	private static String resolveName(final List<Annotation> annotations, final Type type) {
+		if (Types.isSingleBeanType(type) || Types.isEnumType(type)) {
+			return ((Class<?>) type).getSimpleName();
+		}
+
+		for (final Annotation annotation : annotations) {
+			final String name = Annotations.getName(annotation);
+
+			if (name != null) {
+				return name;
+			}
+		}
+
+		return null;
+	}
+}
\ No newline at end of file
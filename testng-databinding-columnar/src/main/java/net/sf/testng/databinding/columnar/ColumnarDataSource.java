@@ -0,0 +1,219 @@
+package net.sf.testng.databinding.columnar;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import net.sf.testng.databinding.AbstractDataSource;
+import net.sf.testng.databinding.DataSource;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
+import net.sf.testng.databinding.core.util.Types;
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * <p>
+ * This {@link IDataSource data source} binds the rows of columnar fixture files to test method parameters. It
+ * supports an arbitrary number of {@link TestInput test input} and {@link TestOutput test output} parameters of
+ * primitive types, as defined by {@link Types#isPrimitiveType(Type)}, of enum types and of Java Bean types, which may
+ * be nested.
+ * </p><p>
+ * Columnar fixture files are compact binary files written by the {@link ColumnarConverter}, which reads the data of
+ * any other data source, e.g. a large CSV, XML or properties file, once at build time. Each column has a fixed type,
+ * strings are stored once in a dictionary and the rows are split into row groups, each holding the values of one
+ * column next to each other. The row groups are mapped into memory one at a time and each value is read at a
+ * computed offset, so binding a row doesn't involve any tokenizing or parsing.
+ * </p><p>
+ * Columns are matched case insensitively by name, see the {@link ColumnarConverter} for how they are named. If any
+ * column is missing or of a type not matching its parameter or property a {@link MultipleSourceErrorsException} is
+ * thrown. Files not located in the file system are copied to a temporary file first.
+ * </p>
+ *
+ * @author Matthias Rothe
+ */
+@DataSource(name = "columnar")
+public class ColumnarDataSource extends AbstractDataSource {
+	private final ColumnarDataSourceConfiguration configuration;
+	private final ColumnLayout layout;
+	private File temporaryFile;
+	private ColumnarFile file;
+	private ColumnarFile.RowGroup rowGroup;
+	private int nextRowGroup;
+	private int nextRow;
+	private long rowNumber;
+
+	/**
+	 * Constructs a new instance of this class, setting the {@link MethodParameter test method parameters} to load the
+	 * data for and the {@link Configuration configuration} describing where to load the data from.
+	 *
+	 * @param parameters The test method parameters for which data is to be loaded
+	 * @param configuration The configuration describing where to load the data from
+	 * @throws Exception If anything goes wrong during the creation of this instance
+	 */
+	public ColumnarDataSource(final List<MethodParameter> parameters, final Configuration configuration)
+			throws Exception {
+		this.configuration = DataSourceConfigurationLoader.loadDataSourceConfiguration(configuration,
+			ColumnarDataSourceConfiguration.class);
+		this.layout = ColumnLayout.forParameters(parameters, this.configuration.getInputColumnPrefix(),
+			this.configuration.getOutputColumnPrefix());
+
+		try {
+			file = new ColumnarFile(locateFile(this.configuration.getURL()).toPath());
+			resolveColumns();
+		} catch (final IOException e) {
+			cleanUpAfter(e);
+			throw sourceErrorsException("the start of the file, detail message: " + e.getMessage());
+		} catch (final Exception e) {
+			cleanUpAfter(e);
+			throw e;
+		}
+
+		if (!hasNext()) {
+			cleanUp();
+		}
+	}
+
+	private void resolveColumns() {
+		final Map<String, Integer> columns = new HashMap<String, Integer>();
+		for (int i = file.getColumnCount() - 1; i >= 0; i--) {
+			columns.put(file.getColumnName(i).toLowerCase(), i);
+		}
+
+		final ErrorCollector errorCollector = new ErrorCollector(configuration.getURL().toExternalForm());
+
+		for (final ColumnLayout.Leaf leaf : layout.getColumns()) {
+			final Integer column = columns.get(leaf.getName().toLowerCase());
+
+			if (column == null) {
+				errorCollector.addError("column " + leaf.getName() + " missing");
+			} else if (file.getColumnType(column) != leaf.getType()) {
+				errorCollector.addError("column " + leaf.getName() + " is of type " + file.getColumnType(column)
+						+ ", expected type " + leaf.getType());
+			} else {
+				leaf.setColumn(column);
+			}
+		}
+
+		if (errorCollector.hasErrors()) {
+			final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+			errorCollectors.add(errorCollector);
+			throw new MultipleSourceErrorsException(errorCollectors);
+		}
+	}
+
+	private File locateFile(final URL url) throws Exception {
+		if ("file".equals(url.getProtocol())) {
+			return new File(url.toURI());
+		}
+
+		temporaryFile = File.createTempFile("testng-databinding-", ".columnar");
+		final InputStream stream = url.openStream();
+		try {
+			Files.copy(stream, temporaryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			stream.close();
+		}
+
+		return temporaryFile;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		if (file == null) {
+			return false;
+		}
+
+		while (rowGroup == null || nextRow == rowGroup.getRowCount()) {
+			if (nextRowGroup == file.getRowGroupCount()) {
+				cleanUp();
+				return false;
+			}
+
+			try {
+				rowGroup = file.readRowGroup(nextRowGroup++);
+				nextRow = 0;
+			} catch (final IOException e) {
+				final MultipleSourceErrorsException sourceErrorsException = sourceErrorsException("row group "
+						+ nextRowGroup + ", detail message: " + e.getMessage());
+				cleanUpAfter(sourceErrorsException);
+				throw sourceErrorsException;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		rowNumber++;
+
+		try {
+			return layout.bind(rowGroup, nextRow++);
+		} catch (final Exception e) {
+			final MultipleSourceErrorsException sourceErrorsException = sourceErrorsException("row " + rowNumber
+					+ ", detail message: " + e.getMessage());
+			cleanUpAfter(sourceErrorsException);
+			throw sourceErrorsException;
+		}
+	}
+
+	private MultipleSourceErrorsException sourceErrorsException(final String detail) {
+		final ErrorCollector errorCollector = new ErrorCollector(configuration.getURL().toExternalForm());
+		errorCollector.addError("invalid source for data source " + getClass().getName() + " at " + detail);
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+		errorCollectors.add(errorCollector);
+		return new MultipleSourceErrorsException(errorCollectors);
+	}
+
+	private void cleanUp() {
+		try {
+			if (file != null) {
+				file.close();
+			}
+		} catch (final IOException e) {
+			throw Exceptions.softenIfNecessary(e);
+		} finally {
+			file = null;
+			rowGroup = null;
+
+			if (temporaryFile != null && !temporaryFile.delete()) {
+				temporaryFile.deleteOnExit();
+			}
+
+			temporaryFile = null;
+		}
+	}
+
+	private void cleanUpAfter(final Exception cause) {
+		try {
+			cleanUp();
+		} catch (final RuntimeException e) {
+			cause.addSuppressed(e);
+		}
+	}
+}
\ No newline at end of file
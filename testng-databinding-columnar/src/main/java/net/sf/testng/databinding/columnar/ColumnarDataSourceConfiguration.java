@@ -0,0 +1,38 @@
+package net.sf.testng.databinding.columnar;
+
+import java.net.URL;
+
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+
+public interface ColumnarDataSourceConfiguration {
+
+	/**
+	 * The locator of the actual data source file, as written by the {@link ColumnarConverter}.
+	 *
+	 * @return the url
+	 */
+	URL getURL();
+
+	/**
+	 * The prefix of the names of columns bound to test method parameters annotated with {@link TestInput}.
+	 * <p>
+	 * Defaults to in_, the prefix used by the {@link ColumnarConverter}
+	 *
+	 * @return the input column prefix
+	 */
+	default String getInputColumnPrefix() {
+		return "in_";
+	}
+
+	/**
+	 * The prefix of the names of columns bound to test method parameters annotated with {@link TestOutput}.
+	 * <p>
+	 * Defaults to out_, the prefix used by the {@link ColumnarConverter}
+	 *
+	 * @return the output column prefix
+	 */
+	default String getOutputColumnPrefix() {
+		return "out_";
+	}
+}
\ No newline at end of file
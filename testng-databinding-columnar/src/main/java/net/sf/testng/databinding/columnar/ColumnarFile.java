@@ -0,0 +1,273 @@
+package net.sf.testng.databinding.columnar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a columnar fixture file, mapping one row group at a time into memory.
+ * <p>
+ * A columnar fixture file starts with a header holding the magic number and the format version. The row groups
+ * follow, each holding one chunk per column: a bitmap marking the <code>null</code> values followed by the values,
+ * each taking the fixed {@link ColumnType#getWidth() width} of the column type. The footer holds the names and types
+ * of the columns, the total number of rows, the dictionary of all strings and the row group index giving the offset
+ * and number of rows of each row group. The file ends with the offset of the footer and the magic number again. All
+ * numbers are stored in big endian byte order, all strings as UTF-8 preceded by their length in bytes.
+ *
+ * @author Matthias Rothe
+ */
+final class ColumnarFile implements Closeable {
+	static final int MAGIC = 0x544E4743;
+	static final int VERSION = 1;
+	static final int HEADER_LENGTH = 8;
+	static final int TRAILER_LENGTH = 12;
+
+	private final FileChannel channel;
+	private final long footerOffset;
+	private String[] columnNames;
+	private ColumnType[] columnTypes;
+	private long rowCount;
+	private String[] dictionary;
+	private long[] rowGroupOffsets;
+	private int[] rowGroupRows;
+
+	/**
+	 * Opens the given file, reading its footer.
+	 *
+	 * @param path The path of the file
+	 * @throws IOException if the file can't be read or isn't a columnar fixture file
+	 */
+	ColumnarFile(final Path path) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+
+		try {
+			final long size = channel.size();
+			if (size < HEADER_LENGTH + TRAILER_LENGTH) {
+				throw notColumnar("file too short");
+			}
+
+			final ByteBuffer header = readFully(0, HEADER_LENGTH);
+			if (header.getInt() != MAGIC) {
+				throw notColumnar("magic number missing");
+			}
+			if (header.getInt() != VERSION) {
+				throw notColumnar("unsupported format version");
+			}
+
+			final ByteBuffer trailer = readFully(size - TRAILER_LENGTH, TRAILER_LENGTH);
+			footerOffset = trailer.getLong();
+			if (trailer.getInt() != MAGIC || footerOffset < HEADER_LENGTH || footerOffset > size - TRAILER_LENGTH
+					|| size - TRAILER_LENGTH - footerOffset > Integer.MAX_VALUE) {
+				throw notColumnar("invalid trailer");
+			}
+
+			readFooter(channel.map(MapMode.READ_ONLY, footerOffset, size - TRAILER_LENGTH - footerOffset));
+		} catch (final IOException e) {
+			closeAfter(e);
+			throw e;
+		} catch (final RuntimeException e) {
+			final IOException exception = notColumnar("invalid footer: " + e);
+			closeAfter(exception);
+			throw exception;
+		}
+	}
+
+	private void readFooter(final ByteBuffer footer) throws IOException {
+		columnNames = new String[footer.getInt()];
+		columnTypes = new ColumnType[columnNames.length];
+
+		for (int i = 0; i < columnNames.length; i++) {
+			columnNames[i] = getString(footer);
+			final int type = footer.get();
+
+			if (type < 0 || type >= ColumnType.values().length) {
+				throw notColumnar("unknown type of column " + columnNames[i]);
+			}
+
+			columnTypes[i] = ColumnType.values()[type];
+		}
+
+		rowCount = footer.getLong();
+		dictionary = new String[footer.getInt()];
+
+		for (int i = 0; i < dictionary.length; i++) {
+			dictionary[i] = getString(footer);
+		}
+
+		rowGroupOffsets = new long[footer.getInt()];
+		rowGroupRows = new int[rowGroupOffsets.length];
+
+		for (int i = 0; i < rowGroupOffsets.length; i++) {
+			rowGroupOffsets[i] = footer.getLong();
+			rowGroupRows[i] = footer.getInt();
+		}
+	}
+
+	/**
+	 * @return the number of columns
+	 */
+	int getColumnCount() {
+		return columnNames.length;
+	}
+
+	/**
+	 * @param column The index of the column
+	 * @return the name of the column
+	 */
+	String getColumnName(final int column) {
+		return columnNames[column];
+	}
+
+	/**
+	 * @param column The index of the column
+	 * @return the type of the column
+	 */
+	ColumnType getColumnType(final int column) {
+		return columnTypes[column];
+	}
+
+	/**
+	 * @return the total number of rows
+	 */
+	long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * @return the number of row groups
+	 */
+	int getRowGroupCount() {
+		return rowGroupOffsets.length;
+	}
+
+	/**
+	 * Maps the given row group into memory.
+	 *
+	 * @param rowGroup The index of the row group
+	 * @return the row group
+	 * @throws IOException if the row group can't be mapped
+	 */
+	RowGroup readRowGroup(final int rowGroup) throws IOException {
+		final long offset = rowGroupOffsets[rowGroup];
+		final long end = rowGroup + 1 < rowGroupOffsets.length ? rowGroupOffsets[rowGroup + 1] : footerOffset;
+		final int rows = rowGroupRows[rowGroup];
+		final int[] chunkOffsets = new int[columnTypes.length];
+		long size = 0;
+
+		for (int i = 0; i < columnTypes.length; i++) {
+			chunkOffsets[i] = (int) size;
+			size += getChunkLength(columnTypes[i], rows);
+		}
+
+		if (offset < HEADER_LENGTH || end - offset != size || size > Integer.MAX_VALUE) {
+			throw notColumnar("invalid row group index");
+		}
+
+		return new RowGroup(channel.map(MapMode.READ_ONLY, offset, size), chunkOffsets, rows);
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * @param type The type of the column
+	 * @param rows The number of rows of the row group
+	 * @return the number of bytes of the column chunk
+	 */
+	static long getChunkLength(final ColumnType type, final int rows) {
+		return getBitmapLength(rows) + (long) rows * type.getWidth();
+	}
+
+	private static int getBitmapLength(final int rows) {
+		return (rows + 7) >>> 3;
+	}
+
+	/**
+	 * Writes the given string preceded by its length.
+	 *
+	 * @param buffer The buffer to write to
+	 * @param string The string
+	 */
+	static void putString(final ByteBuffer buffer, final String string) {
+		final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		buffer.putInt(bytes.length).put(bytes);
+	}
+
+	private static String getString(final ByteBuffer buffer) {
+		final byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private ByteBuffer readFully(final long position, final int length) throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate(length);
+
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw notColumnar("unexpected end of file");
+			}
+		}
+
+		buffer.flip();
+		return buffer;
+	}
+
+	private void closeAfter(final Exception cause) {
+		try {
+			channel.close();
+		} catch (final IOException e) {
+			cause.addSuppressed(e);
+		}
+	}
+
+	private static IOException notColumnar(final String reason) {
+		return new IOException("not a valid columnar fixture file, " + reason);
+	}
+
+	/**
+	 * The rows of a row group mapped into memory.
+	 */
+	final class RowGroup {
+		private final ByteBuffer buffer;
+		private final int[] chunkOffsets;
+		private final int rows;
+		private final int bitmapLength;
+
+		private RowGroup(final ByteBuffer buffer, final int[] chunkOffsets, final int rows) {
+			this.buffer = buffer;
+			this.chunkOffsets = chunkOffsets;
+			this.rows = rows;
+			this.bitmapLength = getBitmapLength(rows);
+		}
+
+		/**
+		 * @return the number of rows
+		 */
+		int getRowCount() {
+			return rows;
+		}
+
+		/**
+		 * @param column The index of the column
+		 * @param row The index of the row within this row group
+		 * @return the value, <code>null</code> if none has been stored
+		 */
+		Object get(final int column, final int row) {
+			final int chunkOffset = chunkOffsets[column];
+
+			if ((buffer.get(chunkOffset + (row >>> 3)) & 1 << (row & 7)) != 0) {
+				return null;
+			}
+
+			final ColumnType type = columnTypes[column];
+			return type.read(buffer, chunkOffset + bitmapLength + row * type.getWidth(), dictionary);
+		}
+	}
+}
\ No newline at end of file
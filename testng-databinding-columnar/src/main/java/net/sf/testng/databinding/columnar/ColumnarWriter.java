@@ -0,0 +1,204 @@
+package net.sf.testng.databinding.columnar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes a columnar fixture file as described by {@link ColumnarFile}, buffering the rows of one row group at a
+ * time.
+ *
+ * @author Matthias Rothe
+ */
+final class ColumnarWriter implements Closeable {
+	private final FileChannel channel;
+	private final String[] columnNames;
+	private final ColumnType[] columnTypes;
+	private final Object[][] values;
+	private final Dictionary dictionary = new Dictionary();
+	private final List<Long> rowGroupOffsets = new ArrayList<Long>();
+	private final List<Integer> rowGroupRows = new ArrayList<Integer>();
+	private int rows;
+	private long rowCount;
+
+	/**
+	 * Creates the given file, replacing any existing file.
+	 *
+	 * @param path The path of the file
+	 * @param columnNames The names of the columns
+	 * @param columnTypes The types of the columns
+	 * @param rowGroupSize The maximum number of rows per row group
+	 * @throws IOException if the file can't be created
+	 */
+	ColumnarWriter(final Path path, final String[] columnNames, final ColumnType[] columnTypes,
+			final int rowGroupSize) throws IOException {
+		if (columnTypes.length == 0) {
+			throw new IllegalArgumentException("no columns given");
+		}
+
+		if (rowGroupSize < 1) {
+			throw new IllegalArgumentException("invalid row group size " + rowGroupSize
+					+ ", the row group size must be at least 1");
+		}
+
+		this.columnNames = columnNames;
+		this.columnTypes = columnTypes;
+		this.values = new Object[columnTypes.length][rowGroupSize];
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+			StandardOpenOption.WRITE);
+
+		final ByteBuffer header = ByteBuffer.allocate(ColumnarFile.HEADER_LENGTH);
+		header.putInt(ColumnarFile.MAGIC).putInt(ColumnarFile.VERSION).flip();
+		writeFully(header);
+	}
+
+	/**
+	 * Adds a row, writing the current row group once it's full.
+	 *
+	 * @param row The values of the row, one per column, <code>null</code> values allowed
+	 * @throws IOException if the row group can't be written
+	 */
+	void addRow(final Object[] row) throws IOException {
+		for (int i = 0; i < columnTypes.length; i++) {
+			values[i][rows] = row[i];
+		}
+
+		if (++rows == values[0].length) {
+			writeRowGroup();
+		}
+	}
+
+	private void writeRowGroup() throws IOException {
+		if (rows == 0) {
+			return;
+		}
+
+		long size = 0;
+		for (final ColumnType type : columnTypes) {
+			size += ColumnarFile.getChunkLength(type, rows);
+		}
+
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("row group of " + size + " bytes too large, reduce the row group size");
+		}
+
+		final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+		for (int i = 0; i < columnTypes.length; i++) {
+			writeChunk(buffer, columnTypes[i], values[i]);
+			Arrays.fill(values[i], null);
+		}
+
+		buffer.flip();
+		rowGroupOffsets.add(channel.position());
+		rowGroupRows.add(rows);
+		writeFully(buffer);
+
+		rowCount += rows;
+		rows = 0;
+	}
+
+	private void writeChunk(final ByteBuffer buffer, final ColumnType type, final Object[] chunk) {
+		final byte[] bitmap = new byte[(rows + 7) >>> 3];
+		for (int row = 0; row < rows; row++) {
+			if (chunk[row] == null) {
+				bitmap[row >>> 3] |= 1 << (row & 7);
+			}
+		}
+
+		buffer.put(bitmap);
+
+		for (int row = 0; row < rows; row++) {
+			if (chunk[row] == null) {
+				buffer.position(buffer.position() + type.getWidth());
+			} else {
+				type.write(buffer, chunk[row], dictionary);
+			}
+		}
+	}
+
+	/**
+	 * @return the number of rows added so far
+	 */
+	long getRowCount() {
+		return rowCount + rows;
+	}
+
+	/**
+	 * Writes the last row group and the footer and closes the file.
+	 *
+	 * @throws IOException if the file can't be written
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			writeRowGroup();
+
+			final long footerOffset = channel.position();
+			writeFully(createFooter());
+
+			final ByteBuffer trailer = ByteBuffer.allocate(ColumnarFile.TRAILER_LENGTH);
+			trailer.putLong(footerOffset).putInt(ColumnarFile.MAGIC).flip();
+			writeFully(trailer);
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Closes the file without writing the last row group and the footer, e.g. after reading the rows has failed. The
+	 * file is left incomplete and should be deleted.
+	 *
+	 * @throws IOException if the file can't be closed
+	 */
+	void abort() throws IOException {
+		channel.close();
+	}
+
+	private ByteBuffer createFooter() throws IOException {
+		long size = 4 + 8 + 4 + 4 + rowGroupOffsets.size() * 12L;
+		for (final String name : columnNames) {
+			size += 5 + name.getBytes(StandardCharsets.UTF_8).length;
+		}
+		for (final String string : dictionary.getStrings()) {
+			size += 4 + string.getBytes(StandardCharsets.UTF_8).length;
+		}
+
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("footer of " + size + " bytes too large");
+		}
+
+		final ByteBuffer footer = ByteBuffer.allocate((int) size);
+		footer.putInt(columnNames.length);
+		for (int i = 0; i < columnNames.length; i++) {
+			ColumnarFile.putString(footer, columnNames[i]);
+			footer.put((byte) columnTypes[i].ordinal());
+		}
+
+		footer.putLong(rowCount);
+		footer.putInt(dictionary.getStrings().size());
+		for (final String string : dictionary.getStrings()) {
+			ColumnarFile.putString(footer, string);
+		}
+
+		footer.putInt(rowGroupOffsets.size());
+		for (int i = 0; i < rowGroupOffsets.size(); i++) {
+			footer.putLong(rowGroupOffsets.get(i)).putInt(rowGroupRows.get(i));
+		}
+
+		footer.flip();
+		return footer;
+	}
+
+	private void writeFully(final ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package net.sf.testng.databinding.columnar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the distinct strings of a columnar fixture file while it's written, so every string is stored once and
+ * the string columns just hold indexes.
+ *
+ * @author Matthias Rothe
+ */
+final class Dictionary {
+	private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+	private final List<String> strings = new ArrayList<String>();
+
+	/**
+	 * @param string The string
+	 * @return the index of the given string, adding it if it isn't known yet
+	 */
+	int indexOf(final String string) {
+		Integer index = indexes.get(string);
+
+		if (index == null) {
+			index = strings.size();
+			indexes.put(string, index);
+			strings.add(string);
+		}
+
+		return index;
+	}
+
+	/**
+	 * @return the strings in the order of their indexes
+	 */
+	List<String> getStrings() {
+		return strings;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+/**
+ * Contains a binary columnar fixture {@link net.sf.testng.databinding.IDataSource data source} implementation and
+ * the converter creating such fixtures from any other data source.
+ */
+package net.sf.testng.databinding.columnar;
\ No newline at end of file
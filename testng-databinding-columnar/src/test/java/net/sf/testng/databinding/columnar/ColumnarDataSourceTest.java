@@ -0,0 +1,167 @@
+package net.sf.testng.databinding.columnar;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.DataBinding;
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.columnar.beans.Reading;
+import net.sf.testng.databinding.columnar.beans.Sensor;
+import net.sf.testng.databinding.columnar.datasource.config.ColumnarDataSourceConfigurations;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class ColumnarDataSourceTest {
+	private Method methodParametersCreator;
+	private File converted;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@BeforeClass
+	public void convertCsvFixture() throws Exception {
+		converted = File.createTempFile("readings", ".columnar");
+		final long rows = ColumnarConverter.convert(getClass().getMethod("readingConsumer", Reading.class,
+			boolean.class), converted, 2);
+
+		assertEquals(rows, 4);
+		ColumnarDataSourceConfigurations.convertedURL = converted.toURI().toURL();
+	}
+
+	@AfterClass
+	public void deleteConvertedFixture() {
+		converted.delete();
+	}
+
+	@Test
+	public void shouldBindConvertedCsvFixture() throws Exception {
+		final ColumnarDataSource dataSource = createDataSource("readingConsumer", "convertedConfig");
+
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		while (dataSource.hasNext()) {
+			rows.add(dataSource.next());
+		}
+
+		assertEquals(rows.toArray(), new Object[][] {
+				{ new Reading(1700000000000L, 21.5, new Sensor("kitchen", 'C')), false },
+				{ new Reading(1700000060000L, 88.25, new Sensor("oven", 'C')), true },
+				{ new Reading(1700000120000L, -3.75, new Sensor("freezer", 'F')), false },
+				{ new Reading(1700000180000L, 22.0, new Sensor("kitchen", 'C')), false } });
+		assertFalse(dataSource.hasNext());
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRequireAllColumns() throws Exception {
+		createDataSource("locatedReadingConsumer", "convertedConfig");
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRejectOtherFiles() throws Exception {
+		createDataSource("readingConsumer", "notColumnarConfig");
+	}
+
+	@Test
+	public void shouldDeleteOutputOfFailedConversion() throws Exception {
+		final File output = File.createTempFile("broken", ".columnar");
+
+		try {
+			ColumnarConverter.convert(getClass().getMethod("brokenReadingConsumer", Reading.class, boolean.class),
+				output, 2);
+			fail("expected the conversion to fail");
+		} catch (final NumberFormatException e) {
+			assertFalse(output.exists(), "Expected the incomplete output to be deleted");
+		} finally {
+			output.delete();
+		}
+	}
+
+	@Test
+	public void shouldRoundTripAllColumnTypesAndNulls() throws Exception {
+		final File file = File.createTempFile("types", ".columnar");
+
+		try {
+			final ColumnType[] types = ColumnType.values();
+			final String[] names = new String[types.length];
+			for (int i = 0; i < types.length; i++) {
+				names[i] = types[i].name().toLowerCase();
+			}
+
+			final Object[] values = { "text", 'c', 42, 42L, 4.2f, 4.2, true };
+			final ColumnarWriter writer = new ColumnarWriter(file.toPath(), names, types, 1);
+			try {
+				writer.addRow(values);
+				writer.addRow(new Object[types.length]);
+				writer.addRow(values);
+			} finally {
+				writer.close();
+			}
+
+			final ColumnarFile columnarFile = new ColumnarFile(file.toPath());
+			try {
+				assertEquals(columnarFile.getRowCount(), 3);
+				assertEquals(columnarFile.getRowGroupCount(), 3);
+
+				for (int i = 0; i < types.length; i++) {
+					assertEquals(columnarFile.getColumnName(i), names[i]);
+					assertEquals(columnarFile.getColumnType(i), types[i]);
+					assertEquals(columnarFile.readRowGroup(0).get(i, 0), values[i]);
+					assertNull(columnarFile.readRowGroup(1).get(i, 0));
+					assertEquals(columnarFile.readRowGroup(2).get(i, 0), values[i]);
+				}
+			} finally {
+				columnarFile.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	private ColumnarDataSource createDataSource(final String methodName, final String configMethod)
+			throws Exception {
+		return new ColumnarDataSource(createMethodParameters(methodName),
+				new Configuration(ColumnarDataSourceConfigurations.class, configMethod));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	@DataBinding(dataSource = "csv", configClass = ColumnarDataSourceConfigurations.class,
+			configMethod = "readingsCsvConfig")
+	public void readingConsumer(@TestInput final Reading reading, @TestOutput(name = "alarm") final boolean alarm) {
+	}
+
+	@DataBinding(dataSource = "csv", configClass = ColumnarDataSourceConfigurations.class,
+			configMethod = "brokenReadingsCsvConfig")
+	public void brokenReadingConsumer(@TestInput final Reading reading,
+			@TestOutput(name = "alarm") final boolean alarm) {
+	}
+
+	public void locatedReadingConsumer(@TestInput final Reading reading,
+			@TestOutput(name = "alarm") final boolean alarm, @TestOutput(name = "room") final String room) {
+	}
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package net.sf.testng.databinding.columnar.beans;
+
+public class Reading {
+	private long timestamp;
+	private double value;
+	private Sensor sensor;
+
+	public Reading() {
+	}
+
+	public Reading(final long timestamp, final double value, final Sensor sensor) {
+		this.timestamp = timestamp;
+		this.value = value;
+		this.sensor = sensor;
+	}
+
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	public void setTimestamp(final long timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	public double getValue() {
+		return value;
+	}
+
+	public void setValue(final double value) {
+		this.value = value;
+	}
+
+	public Sensor getSensor() {
+		return sensor;
+	}
+
+	public void setSensor(final Sensor sensor) {
+		this.sensor = sensor;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + Long.hashCode(timestamp);
+		result = prime * result + Double.hashCode(value);
+		result = prime * result + (sensor == null ? 0 : sensor.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Reading other = (Reading) obj;
+		return timestamp == other.timestamp
+				&& Double.doubleToLongBits(value) == Double.doubleToLongBits(other.value)
+				&& (sensor == null ? other.sensor == null : sensor.equals(other.sensor));
+	}
+
+	@Override
+	public String toString() {
+		return "Reading [timestamp=" + timestamp + ", value=" + value + ", sensor=" + sensor + "]";
+	}
+}
\ No newline at end of file
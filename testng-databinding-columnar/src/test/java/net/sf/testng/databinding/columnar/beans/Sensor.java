@@ -0,0 +1,56 @@
+package net.sf.testng.databinding.columnar.beans;
+
+public class Sensor {
+	private String id;
+	private char unit;
+
+	public Sensor() {
+	}
+
+	public Sensor(final String id, final char unit) {
+		this.id = id;
+		this.unit = unit;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(final String id) {
+		this.id = id;
+	}
+
+	public char getUnit() {
+		return unit;
+	}
+
+	public void setUnit(final char unit) {
+		this.unit = unit;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (id == null ? 0 : id.hashCode());
+		result = prime * result + unit;
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Sensor other = (Sensor) obj;
+		return (id == null ? other.id == null : id.equals(other.id)) && unit == other.unit;
+	}
+
+	@Override
+	public String toString() {
+		return "Sensor [id=" + id + ", unit=" + unit + "]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package net.sf.testng.databinding.columnar.datasource.config;
+
+import java.net.URL;
+
+import net.sf.testng.databinding.columnar.ColumnarDataSourceConfiguration;
+import net.sf.testng.databinding.csv.CsvDataSourceConfiguration;
+
+public class ColumnarDataSourceConfigurations {
+	public static URL convertedURL;
+
+	private ColumnarDataSourceConfigurations() {}
+	
+	public static CsvDataSourceConfiguration readingsCsvConfig() {
+		return new CsvDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/readings.csv");
+			}
+		};
+	}
+	
+	public static CsvDataSourceConfiguration brokenReadingsCsvConfig() {
+		return new CsvDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/broken-readings.csv");
+			}
+		};
+	}
+	
+	public static ColumnarDataSourceConfiguration convertedConfig() {
+		return new ColumnarDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return convertedURL;
+			}
+		};
+	}
+	
+	public static ColumnarDataSourceConfiguration notColumnarConfig() {
+		return new ColumnarDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/readings.csv");
+			}
+		};
+	}
+}
\ No newline at end of file
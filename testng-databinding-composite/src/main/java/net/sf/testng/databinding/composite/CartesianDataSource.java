@@ -0,0 +1,174 @@
+package net.sf.testng.databinding.composite;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import net.sf.testng.databinding.AbstractDataSource;
+import net.sf.testng.databinding.DataSource;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * <p>
+ * This {@link IDataSource data source} binds every combination of the rows of several
+ * {@link CartesianDataSourceConfiguration#getChildren() child data sources}, e.g. browsers &times; locales &times;
+ * payloads, each given by its own data source and configuration. Each child data source binds some consecutive test
+ * method parameters, so the arguments of a combination are the arguments of the rows combined, in the order of the
+ * child data sources.
+ * </p><p>
+ * The combinations are built lazily, one per invocation of the test method, without ever holding them all. The
+ * first child data source varies slowest and is read just once, while the last one varies fastest. The rows of all
+ * but the first child data source are kept in memory, as long as there are no more than the
+ * {@link CartesianDataSourceConfiguration#getMaxBufferedRows() maximum number of buffered rows}. Otherwise they are
+ * read from their source again for every pass. So the product of 5000 payloads &times; 10 browsers &times; 20 locales
+ * holds just 30 rows, if the payloads come first.
+ * </p><p>
+ * Rows kept in memory are bound to several invocations of the test method, so test methods must not modify their
+ * arguments. If any child data source has no rows at all, there are no combinations. The following child data
+ * sources aren't even created then, while the preceding ones are read completely, releasing their resources.
+ * </p>
+ *
+ * @author Matthias Rothe
+ */
+@DataSource(name = "cartesian")
+public class CartesianDataSource extends AbstractDataSource {
+	private final ReplayableRows[] children;
+	private final Object[][] currentRows;
+	private final int parameterCount;
+	private boolean pending;
+
+	/**
+	 * Constructs a new instance of this class, setting the {@link MethodParameter test method parameters} to load the
+	 * data for and the {@link Configuration configuration} describing the child data sources to load the data from.
+	 *
+	 * @param parameters The test method parameters for which data is to be loaded
+	 * @param configuration The configuration describing the child data sources to load the data from
+	 * @throws Exception If anything goes wrong during the creation of this instance
+	 */
+	public CartesianDataSource(final List<MethodParameter> parameters, final Configuration configuration)
+			throws Exception {
+		final CartesianDataSourceConfiguration cartesianConfiguration = DataSourceConfigurationLoader
+			.loadDataSourceConfiguration(configuration, CartesianDataSourceConfiguration.class);
+		final List<ChildDataSource> childDataSources = cartesianConfiguration.getChildren();
+		final List<List<MethodParameter>> childParameters = ChildParameters.split(parameters, childDataSources, 1);
+		final int maxBufferedRows = cartesianConfiguration.getMaxBufferedRows();
+
+		if (maxBufferedRows < 0) {
+			final ErrorCollector errorCollector = new ErrorCollector("configuration");
+			errorCollector.addError("invalid maximum number of buffered rows " + maxBufferedRows
+					+ ", the maximum number of buffered rows must be at least 0");
+			final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+			errorCollectors.add(errorCollector);
+			throw new MultipleConfigurationErrorsException(errorCollectors);
+		}
+
+		parameterCount = parameters.size();
+		children = new ReplayableRows[childDataSources.size()];
+		currentRows = new Object[children.length][];
+
+		pending = true;
+		try {
+			for (int i = 0; i < children.length && pending; i++) {
+				children[i] = new ReplayableRows(childDataSources.get(i), childParameters.get(i),
+					i == 0 ? 0 : maxBufferedRows);
+
+				if (children[i].hasNext()) {
+					currentRows[i] = children[i].next();
+				} else {
+					pending = false;
+				}
+			}
+		} catch (final Exception e) {
+			pending = false;
+			drainAfter(e);
+			throw e;
+		}
+
+		if (!pending) {
+			drain();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		return pending;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] next() {
+		if (!pending) {
+			throw new NoSuchElementException();
+		}
+
+		final Object[] combination = new Object[parameterCount];
+		int offset = 0;
+
+		for (final Object[] row : currentRows) {
+			System.arraycopy(row, 0, combination, offset, row.length);
+			offset += row.length;
+		}
+
+		advance();
+		return combination;
+	}
+
+	private void advance() {
+		// the fastest varying child data source having rows left moves on, all faster ones start their next pass
+		int moving = children.length - 1;
+		while (moving >= 0 && !children[moving].hasNext()) {
+			moving--;
+		}
+
+		if (moving < 0) {
+			pending = false;
+			return;
+		}
+
+		try {
+			currentRows[moving] = children[moving].next();
+
+			for (int i = moving + 1; i < children.length; i++) {
+				children[i].reset();
+
+				if (!children[i].hasNext()) {
+					pending = false;
+					drain();
+					return;
+				}
+
+				currentRows[i] = children[i].next();
+			}
+		} catch (final RuntimeException e) {
+			pending = false;
+			drainAfter(e);
+			throw e;
+		}
+	}
+
+	private void drain() {
+		for (final ReplayableRows child : children) {
+			if (child != null) {
+				child.drain();
+			}
+		}
+	}
+
+	private void drainAfter(final Exception cause) {
+		try {
+			drain();
+		} catch (final RuntimeException e) {
+			cause.addSuppressed(e);
+		}
+	}
+}
\ No newline at end of file
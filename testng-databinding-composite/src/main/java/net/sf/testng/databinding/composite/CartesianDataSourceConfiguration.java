@@ -0,0 +1,32 @@
+package net.sf.testng.databinding.composite;
+
+import java.util.List;
+
+public interface CartesianDataSourceConfiguration {
+
+	/**
+	 * The child data sources, whose rows are combined. Each child data source binds the given number of consecutive
+	 * test method parameters, starting with the first child data source binding the first parameters.
+	 * <p>
+	 * The rows of the first child data source are read just once, while the rows of all other child data sources are
+	 * read once per combination of the rows of the child data sources before them. So the largest child data source
+	 * should come first.
+	 *
+	 * @return the child data sources
+	 */
+	List<ChildDataSource> getChildren();
+
+	/**
+	 * The maximum number of rows of each child data source, except the first, to keep in memory. The rows of child
+	 * data sources having more rows are read from their source again for each combination of the rows before them.
+	 * <p>
+	 * May be any integer &gt;= 0
+	 * <p>
+	 * Defaults to 10000
+	 *
+	 * @return the maximum number of buffered rows
+	 */
+	default int getMaxBufferedRows() {
+		return 10000;
+	}
+}
\ No newline at end of file
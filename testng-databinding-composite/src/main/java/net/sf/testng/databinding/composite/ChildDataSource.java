@@ -0,0 +1,89 @@
+package net.sf.testng.databinding.composite;
+
+import net.sf.testng.databinding.DataBinding;
+import net.sf.testng.databinding.DataSource;
+
+/**
+ * Describes a child data source of a composite data source: its name and configuration, just like given by the
+ * {@link DataBinding} annotation, and the number of consecutive test method parameters it binds. Composite data
+ * sources combining the values of dimensions also accept the {@link #enumConstants() constants} of an enum type as
+ * child data source.
+ *
+ * @author Matthias Rothe
+ */
+public final class ChildDataSource {
+	private final String dataSource;
+	private final Class<?> configClass;
+	private final String configMethod;
+	private final int parameterCount;
+
+	/**
+	 * @param dataSource The name of the data source, as given by the {@link DataSource} annotation
+	 * @param configClass The class declaring the configuration method
+	 * @param configMethod The name of the configuration method
+	 * @param parameterCount The number of consecutive test method parameters bound by the data source
+	 */
+	public ChildDataSource(final String dataSource, final Class<?> configClass, final String configMethod,
+			final int parameterCount) {
+		this.dataSource = dataSource;
+		this.configClass = configClass;
+		this.configMethod = configMethod;
+		this.parameterCount = parameterCount;
+	}
+
+	/**
+	 * Describes the constants of the enum type of the single test method parameter bound, instead of an actual data
+	 * source. Only accepted by composite data sources combining the values of dimensions, like the
+	 * {@link PairwiseDataSource}.
+	 *
+	 * @return the description
+	 */
+	public static ChildDataSource enumConstants() {
+		return new ChildDataSource(null, null, null, 1);
+	}
+
+	/**
+	 * @return whether this describes the {@link #enumConstants() constants of an enum type}
+	 */
+	public boolean isEnumConstants() {
+		return dataSource == null;
+	}
+
+	/**
+	 * @return the name of the data source
+	 */
+	public String getDataSource() {
+		return dataSource;
+	}
+
+	/**
+	 * @return the class declaring the configuration method
+	 */
+	public Class<?> getConfigClass() {
+		return configClass;
+	}
+
+	/**
+	 * @return the name of the configuration method
+	 */
+	public String getConfigMethod() {
+		return configMethod;
+	}
+
+	/**
+	 * @return the number of consecutive test method parameters bound by the data source
+	 */
+	public int getParameterCount() {
+		return parameterCount;
+	}
+
+	@Override
+	public String toString() {
+		if (isEnumConstants()) {
+			return "ChildDataSource [enumConstants, parameterCount=" + parameterCount + "]";
+		}
+
+		return "ChildDataSource [dataSource=" + dataSource + ", configClass=" + configClass.getName()
+				+ ", configMethod=" + configMethod + ", parameterCount=" + parameterCount + "]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package net.sf.testng.databinding.composite;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * Splits the test method parameters of a composite data source between its child data sources and creates them.
+ *
+ * @author Matthias Rothe
+ */
+final class ChildParameters {
+
+	private ChildParameters() {
+	}
+
+	/**
+	 * Splits the given test method parameters into consecutive ranges, one per child data source.
+	 *
+	 * @param parameters The test method parameters
+	 * @param children The child data sources
+	 * @param minChildren The minimum number of child data sources
+	 * @return the parameters of each child data source
+	 * @throws MultipleConfigurationErrorsException if the child data sources don't match the parameters
+	 */
+	static List<List<MethodParameter>> split(final List<MethodParameter> parameters,
+			final List<ChildDataSource> children, final int minChildren) {
+		final ErrorCollector errorCollector = new ErrorCollector("child data sources");
+		final List<List<MethodParameter>> childParameters = new ArrayList<List<MethodParameter>>();
+		int start = 0;
+
+		if (children == null || children.size() < minChildren) {
+			errorCollector.addError("at least " + minChildren + " child data sources required");
+		} else {
+			for (final ChildDataSource child : children) {
+				if (child.getParameterCount() < 1) {
+					errorCollector.addError("invalid parameter count " + child.getParameterCount() + " of " + child
+							+ ", each child data source must bind at least 1 parameter");
+				} else if (start + child.getParameterCount() <= parameters.size()) {
+					childParameters.add(new ArrayList<MethodParameter>(parameters.subList(start,
+						start + child.getParameterCount())));
+				}
+
+				start += child.getParameterCount();
+			}
+
+			if (start != parameters.size()) {
+				errorCollector.addError("the child data sources bind " + start + " parameters, but the test method has "
+						+ parameters.size());
+			}
+		}
+
+		if (errorCollector.hasErrors()) {
+			final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+			errorCollectors.add(errorCollector);
+			throw new MultipleConfigurationErrorsException(errorCollectors);
+		}
+
+		return childParameters;
+	}
+
+	/**
+	 * @param child The child data source
+	 * @param parameters The test method parameters bound by the child data source
+	 * @return a new instance of the child data source
+	 * @throws Exception if the child data source can't be created
+	 */
+	static IDataSource open(final ChildDataSource child, final List<MethodParameter> parameters) throws Exception {
+		return GenericDataProvider.getDataSource(parameters, child.getDataSource(), child.getConfigClass(),
+			child.getConfigMethod());
+	}
+}
\ No newline at end of file
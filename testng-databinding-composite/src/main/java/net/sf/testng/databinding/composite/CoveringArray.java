@@ -0,0 +1,249 @@
+package net.sf.testng.databinding.composite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Generates covering arrays of a given strength <i>t</i>: sets of rows, each choosing one value per dimension, such
+ * that every combination of values of any <i>t</i> dimensions is chosen by at least one row. Strength 2 yields the
+ * well known pairwise, or all pairs, combinations.
+ * <p>
+ * The rows are generated by the deterministic IPOG algorithm: starting with all combinations of the first <i>t</i>
+ * dimensions, one dimension after the other is added, first choosing its value in the existing rows to cover as many
+ * new combinations as possible, then covering the rest by filling in values left open or by adding rows. Values still
+ * left open at the end are chosen round robin.
+ *
+ * @author Matthias Rothe
+ */
+final class CoveringArray {
+	private static final int OPEN = -1;
+
+	private final int[] sizes;
+	private final int strength;
+	private final List<int[]> rows = new ArrayList<int[]>();
+	private List<int[]> columnSets;
+	private BitSet[] uncovered;
+	private int dimension;
+
+	private CoveringArray(final int[] sizes, final int strength) {
+		this.sizes = sizes;
+		this.strength = strength;
+	}
+
+	/**
+	 * Generates a covering array.
+	 *
+	 * @param sizes The number of values of each dimension, each at least 1
+	 * @param strength The strength, at least 1, greater strengths than the number of dimensions yield all
+	 *        combinations
+	 * @return the rows, holding the index of the value chosen for each dimension
+	 * @throws IllegalArgumentException if the dimensions have too many combinations of values
+	 */
+	static List<int[]> generate(final int[] sizes, final int strength) {
+		final CoveringArray array = new CoveringArray(sizes, Math.min(strength, sizes.length));
+		array.generate();
+		return array.rows;
+	}
+
+	private void generate() {
+		addAllCombinations();
+
+		for (dimension = strength; dimension < sizes.length; dimension++) {
+			columnSets = combinations(dimension, strength - 1);
+			uncovered = new BitSet[columnSets.size()];
+
+			for (int i = 0; i < uncovered.length; i++) {
+				final long tuples = countTuples(columnSets.get(i)) * sizes[dimension];
+
+				if (tuples > Integer.MAX_VALUE) {
+					throw new IllegalArgumentException("too many combinations of values to cover");
+				}
+
+				uncovered[i] = new BitSet((int) tuples);
+				uncovered[i].set(0, (int) tuples);
+			}
+
+			growHorizontally();
+			growVertically();
+		}
+
+		for (int r = 0; r < rows.size(); r++) {
+			final int[] row = rows.get(r);
+
+			for (int d = 0; d < row.length; d++) {
+				if (row[d] == OPEN) {
+					row[d] = r % sizes[d];
+				}
+			}
+		}
+	}
+
+	private void addAllCombinations() {
+		final int[] values = new int[strength];
+
+		do {
+			final int[] row = new int[sizes.length];
+			Arrays.fill(row, OPEN);
+			System.arraycopy(values, 0, row, 0, strength);
+			rows.add(row);
+		} while (increment(values));
+	}
+
+	private boolean increment(final int[] values) {
+		for (int d = values.length - 1; d >= 0; d--) {
+			if (++values[d] < sizes[d]) {
+				return true;
+			}
+
+			values[d] = 0;
+		}
+
+		return false;
+	}
+
+	private void growHorizontally() {
+		for (final int[] row : rows) {
+			int bestValue = 0;
+			int bestGain = -1;
+
+			for (int value = 0; value < sizes[dimension]; value++) {
+				row[dimension] = value;
+				int gain = 0;
+
+				for (int s = 0; s < columnSets.size(); s++) {
+					final int tuple = tupleIndex(columnSets.get(s), row);
+
+					if (tuple >= 0 && uncovered[s].get(tuple)) {
+						gain++;
+					}
+				}
+
+				if (gain > bestGain) {
+					bestGain = gain;
+					bestValue = value;
+				}
+			}
+
+			row[dimension] = bestValue;
+			markCovered(row);
+		}
+	}
+
+	private void growVertically() {
+		for (int s = 0; s < columnSets.size(); s++) {
+			final int[] columns = columnSets.get(s);
+
+			for (int tuple = uncovered[s].nextSetBit(0); tuple >= 0; tuple = uncovered[s].nextSetBit(tuple + 1)) {
+				final int[] values = decodeTuple(columns, tuple);
+				int[] target = null;
+
+				for (int r = 0; r < rows.size() && target == null; r++) {
+					if (accepts(rows.get(r), columns, values)) {
+						target = rows.get(r);
+					}
+				}
+
+				if (target == null) {
+					target = new int[sizes.length];
+					Arrays.fill(target, OPEN);
+					rows.add(target);
+				}
+
+				for (int c = 0; c < columns.length; c++) {
+					target[columns[c]] = values[c];
+				}
+
+				target[dimension] = values[columns.length];
+				markCovered(target);
+			}
+		}
+	}
+
+	private boolean accepts(final int[] row, final int[] columns, final int[] values) {
+		for (int c = 0; c < columns.length; c++) {
+			if (row[columns[c]] != OPEN && row[columns[c]] != values[c]) {
+				return false;
+			}
+		}
+
+		return row[dimension] == OPEN || row[dimension] == values[columns.length];
+	}
+
+	private void markCovered(final int[] row) {
+		for (int s = 0; s < columnSets.size(); s++) {
+			final int tuple = tupleIndex(columnSets.get(s), row);
+
+			if (tuple >= 0) {
+				uncovered[s].clear(tuple);
+			}
+		}
+	}
+
+	private int tupleIndex(final int[] columns, final int[] row) {
+		int index = 0;
+
+		for (final int column : columns) {
+			if (row[column] == OPEN) {
+				return -1;
+			}
+
+			index = index * sizes[column] + row[column];
+		}
+
+		return row[dimension] == OPEN ? -1 : index * sizes[dimension] + row[dimension];
+	}
+
+	private int[] decodeTuple(final int[] columns, final int tuple) {
+		final int[] values = new int[columns.length + 1];
+		int rest = tuple;
+
+		values[columns.length] = rest % sizes[dimension];
+		rest /= sizes[dimension];
+
+		for (int c = columns.length - 1; c >= 0; c--) {
+			values[c] = rest % sizes[columns[c]];
+			rest /= sizes[columns[c]];
+		}
+
+		return values;
+	}
+
+	private long countTuples(final int[] columns) {
+		long tuples = 1;
+
+		for (final int column : columns) {
+			tuples *= sizes[column];
+		}
+
+		return tuples;
+	}
+
+	private static List<int[]> combinations(final int n, final int k) {
+		final List<int[]> combinations = new ArrayList<int[]>();
+		final int[] combination = new int[k];
+
+		for (int i = 0; i < k; i++) {
+			combination[i] = i;
+		}
+
+		while (true) {
+			combinations.add(combination.clone());
+
+			int i = k - 1;
+			while (i >= 0 && combination[i] == n - k + i) {
+				i--;
+			}
+
+			if (i < 0) {
+				return combinations;
+			}
+
+			combination[i]++;
+			for (int j = i + 1; j < k; j++) {
+				combination[j] = combination[j - 1] + 1;
+			}
+		}
+	}
+}
\ No newline at end of file
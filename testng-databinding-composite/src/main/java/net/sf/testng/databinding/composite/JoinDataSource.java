@@ -0,0 +1,348 @@
+package net.sf.testng.databinding.composite;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+import net.sf.testng.databinding.AbstractDataSource;
+import net.sf.testng.databinding.DataSource;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * <p>
+ * This {@link IDataSource data source} joins the rows of two child data sources sharing a key, e.g. a file of test
+ * inputs and a file of expected outputs, both having an order id. Each row of the
+ * {@link JoinDataSourceConfiguration#getMain() main child data source} is combined with each row of the
+ * {@link JoinDataSourceConfiguration#getLookup() lookup child data source} having the same key, in the order they
+ * have been read. Rows without a matching row, or without a key at all, are left out. The main child data source
+ * binds the first test method parameters, the lookup child data source the following ones, so the arguments of a
+ * joined row are the arguments of the main row followed by the arguments of the lookup row.
+ * </p><p>
+ * The rows of the main child data source are streamed, one per invocation of the test method. The rows of the lookup
+ * child data source are read once, when this data source is created, into a compact hash index, see
+ * {@link LookupIndex}, as long as there are no more than the
+ * {@link JoinDataSourceConfiguration#getMaxIndexedRows() maximum number of indexed rows}. If there are more and both
+ * child data sources are {@link JoinDataSourceConfiguration#isSorted() sorted} by their keys, they are merged instead,
+ * streaming both and holding just the lookup rows of the current key. The lookup child data source is read just once
+ * either way, the merge starting with the rows read while trying to index them, and the lookup rows left unmerged
+ * are read to the end once the main child data source has run out, releasing its resources. Otherwise a
+ * {@link MultipleConfigurationErrorsException} is thrown. If the rows turn out not to be sorted while merging them,
+ * a {@link MultipleSourceErrorsException} is thrown.
+ * </p><p>
+ * Lookup rows are bound to several invocations of the test method, if several main rows have their key, so test
+ * methods must not modify their arguments.
+ * </p>
+ *
+ * @author Matthias Rothe
+ */
+@DataSource(name = "join")
+public class JoinDataSource extends AbstractDataSource {
+	private final IDataSource main;
+	private final JoinKey mainKey;
+	private final Lookup lookup;
+	private final int parameterCount;
+	private Object[] mainRow;
+	private Object[] lookupRow;
+
+	/**
+	 * Constructs a new instance of this class, setting the {@link MethodParameter test method parameters} to load the
+	 * data for and the {@link Configuration configuration} describing the child data sources to load the data from.
+	 *
+	 * @param parameters The test method parameters for which data is to be loaded
+	 * @param configuration The configuration describing the child data sources to load the data from
+	 * @throws Exception If anything goes wrong during the creation of this instance
+	 */
+	public JoinDataSource(final List<MethodParameter> parameters, final Configuration configuration)
+			throws Exception {
+		final JoinDataSourceConfiguration joinConfiguration = DataSourceConfigurationLoader
+			.loadDataSourceConfiguration(configuration, JoinDataSourceConfiguration.class);
+		final ChildDataSource mainChild = joinConfiguration.getMain();
+		final ChildDataSource lookupChild = joinConfiguration.getLookup();
+		final List<List<MethodParameter>> childParameters = ChildParameters.split(parameters,
+			mainChild != null && lookupChild != null ? Arrays.asList(mainChild, lookupChild) : null, 2);
+		final int maxIndexedRows = joinConfiguration.getMaxIndexedRows();
+
+		final ErrorCollector errorCollector = new ErrorCollector("configuration");
+		mainKey = JoinKey.resolve(joinConfiguration.getMainKey(), childParameters.get(0), errorCollector);
+		final JoinKey lookupKey = JoinKey.resolve(joinConfiguration.getLookupKey(), childParameters.get(1),
+			errorCollector);
+
+		if (maxIndexedRows < 0) {
+			errorCollector.addError("invalid maximum number of indexed rows " + maxIndexedRows
+					+ ", the maximum number of indexed rows must be at least 0");
+		}
+
+		if (errorCollector.hasErrors()) {
+			throw configurationErrorsException(errorCollector);
+		}
+
+		parameterCount = parameters.size();
+
+		final IDataSource lookupSource = ChildParameters.open(lookupChild, childParameters.get(1));
+		final List<Object[]> lookupRows = new ArrayList<Object[]>();
+
+		while (lookupSource.hasNext() && lookupRows.size() <= maxIndexedRows) {
+			lookupRows.add(lookupSource.next());
+		}
+
+		if (lookupRows.size() <= maxIndexedRows) {
+			lookup = new HashLookup(new LookupIndex(lookupRows, lookupKey.extractAll(lookupRows)));
+		} else if (joinConfiguration.isSorted()) {
+			lookup = new MergeLookup(lookupRows, lookupSource, lookupKey, lookupChild);
+		} else {
+			drain(lookupSource);
+			errorCollector.addError("the lookup data source " + lookupChild + " has more than " + maxIndexedRows
+					+ " rows, raise the maximum number of indexed rows or sort both data sources by their keys");
+			throw configurationErrorsException(errorCollector);
+		}
+
+		try {
+			main = ChildParameters.open(mainChild, childParameters.get(0));
+		} catch (final Exception e) {
+			releaseAfter(e);
+			throw e;
+		}
+
+		advance();
+	}
+
+	/**
+	 * Reads the remaining rows of the given data source, as data sources release their resources once they have been
+	 * read completely.
+	 */
+	private static void drain(final IDataSource source) {
+		while (source.hasNext()) {
+			source.next();
+		}
+	}
+
+	private void releaseAfter(final Exception cause) {
+		try {
+			lookup.release();
+		} catch (final RuntimeException e) {
+			cause.addSuppressed(e);
+		}
+	}
+
+	private static MultipleConfigurationErrorsException configurationErrorsException(
+			final ErrorCollector errorCollector) {
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+		errorCollectors.add(errorCollector);
+		return new MultipleConfigurationErrorsException(errorCollectors);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		return lookupRow != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		final Object[] joinedRow = new Object[parameterCount];
+		System.arraycopy(mainRow, 0, joinedRow, 0, mainRow.length);
+		System.arraycopy(lookupRow, 0, joinedRow, mainRow.length, lookupRow.length);
+
+		advance();
+		return joinedRow;
+	}
+
+	private void advance() {
+		lookupRow = mainRow != null ? lookup.nextMatch() : null;
+
+		while (lookupRow == null && main.hasNext()) {
+			mainRow = main.next();
+			final Object key = mainKey.extract(mainRow);
+
+			if (key != null) {
+				lookup.find(key);
+				lookupRow = lookup.nextMatch();
+			}
+		}
+
+		if (lookupRow == null) {
+			lookup.release();
+		}
+	}
+
+	/**
+	 * Finds the lookup rows matching the key of a main row.
+	 */
+	private interface Lookup {
+
+		/**
+		 * Starts finding the lookup rows having the given key.
+		 *
+		 * @param key The key of the current main row, not <code>null</code>
+		 */
+		void find(Object key);
+
+		/**
+		 * @return the next lookup row having the key given last or <code>null</code>, if there is none
+		 */
+		Object[] nextMatch();
+
+		/**
+		 * Releases the resources held by this lookup, once there are no more main rows to find lookup rows for.
+		 */
+		void release();
+	}
+
+	/**
+	 * Finds the lookup rows in the hash index.
+	 */
+	private static final class HashLookup implements Lookup {
+		private final LookupIndex index;
+		private int nextRow = -1;
+
+		HashLookup(final LookupIndex index) {
+			this.index = index;
+		}
+
+		@Override
+		public void find(final Object key) {
+			nextRow = index.first(key);
+		}
+
+		@Override
+		public Object[] nextMatch() {
+			if (nextRow < 0) {
+				return null;
+			}
+
+			final Object[] row = index.get(nextRow);
+			nextRow = index.next(nextRow);
+			return row;
+		}
+
+		@Override
+		public void release() {
+		}
+	}
+
+	/**
+	 * Finds the lookup rows by merging the sorted lookup rows with the sorted main rows. Just the lookup rows of the
+	 * current key are held, so following main rows having the same key are joined with them too. The lookup rows
+	 * already read from the source are merged first, before reading the remaining ones.
+	 */
+	private static final class MergeLookup implements Lookup {
+		private final Queue<Object[]> readRows;
+		private final IDataSource source;
+		private final JoinKey key;
+		private final ChildDataSource child;
+		private final List<Object[]> group = new ArrayList<Object[]>();
+		private Object groupKey;
+		private int nextInGroup;
+		private Object[] head;
+		private Object headKey;
+		private long rowNumber;
+
+		MergeLookup(final List<Object[]> readRows, final IDataSource source, final JoinKey key,
+				final ChildDataSource child) {
+			this.readRows = new ArrayDeque<Object[]>(readRows);
+			this.source = source;
+			this.key = key;
+			this.child = child;
+			pull();
+		}
+
+		@Override
+		public void find(final Object mainKey) {
+			nextInGroup = 0;
+
+			if (groupKey != null) {
+				final int order = compare(mainKey, groupKey, "main");
+
+				if (order == 0) {
+					return;
+				} else if (order < 0) {
+					throw sourceErrorsException("the main data source, the key " + mainKey + " follows the key "
+							+ groupKey + ", but the keys must be sorted ascending");
+				}
+			}
+
+			group.clear();
+			groupKey = mainKey;
+
+			while (head != null && compare(headKey, mainKey, "lookup") < 0) {
+				pull();
+			}
+
+			while (head != null && compare(headKey, mainKey, "lookup") == 0) {
+				group.add(head);
+				pull();
+			}
+		}
+
+		@Override
+		public Object[] nextMatch() {
+			return nextInGroup < group.size() ? group.get(nextInGroup++) : null;
+		}
+
+		@Override
+		public void release() {
+			readRows.clear();
+			group.clear();
+			head = null;
+			drain(source);
+		}
+
+		private void pull() {
+			final Object previousKey = headKey;
+			head = null;
+
+			while (head == null && (!readRows.isEmpty() || source.hasNext())) {
+				final Object[] row = readRows.isEmpty() ? source.next() : readRows.poll();
+				rowNumber++;
+				headKey = key.extract(row);
+
+				if (headKey != null) {
+					head = row;
+				}
+			}
+
+			if (head != null && previousKey != null && compare(headKey, previousKey, "lookup") < 0) {
+				throw sourceErrorsException("row " + rowNumber + " of the lookup data source " + child
+						+ ", the key " + headKey + " follows the key " + previousKey
+						+ ", but the keys must be sorted ascending");
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private int compare(final Object first, final Object second, final String side) {
+			try {
+				return ((Comparable<Object>) first).compareTo(second);
+			} catch (final ClassCastException e) {
+				throw sourceErrorsException("the " + side + " data source, the keys " + first + " and " + second
+						+ " can't be compared, but merging requires keys having a natural order");
+			}
+		}
+
+		private MultipleSourceErrorsException sourceErrorsException(final String detail) {
+			final ErrorCollector errorCollector = new ErrorCollector(child.toString());
+			errorCollector.addError("invalid source for data source " + JoinDataSource.class.getName() + " at "
+					+ detail);
+			final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+			errorCollectors.add(errorCollector);
+			return new MultipleSourceErrorsException(errorCollectors);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package net.sf.testng.databinding.composite;
+
+public interface JoinDataSourceConfiguration {
+
+	/**
+	 * The main child data source, whose rows are streamed. It binds the first test method parameters.
+	 *
+	 * @return the main child data source
+	 */
+	ChildDataSource getMain();
+
+	/**
+	 * The lookup child data source, whose rows are joined to the rows of the {@link #getMain() main child data source}
+	 * having the same key. It binds the test method parameters following the ones bound by the main child data source.
+	 *
+	 * @return the lookup child data source
+	 */
+	ChildDataSource getLookup();
+
+	/**
+	 * The key of the rows of the {@link #getMain() main child data source}: either the name of a test method parameter
+	 * bound by it or the name of such a parameter followed by the dot separated path of a Java Bean property, e.g.
+	 * <code>order.customer.id</code>.
+	 *
+	 * @return the key of the main rows
+	 */
+	String getMainKey();
+
+	/**
+	 * The key of the rows of the {@link #getLookup() lookup child data source}, given just like the
+	 * {@link #getMainKey() key of the main rows}. Keys are equal, if they are {@link Object#equals(Object) equal}, so
+	 * both keys must be of the same type.
+	 *
+	 * @return the key of the lookup rows
+	 */
+	String getLookupKey();
+
+	/**
+	 * The maximum number of rows of the {@link #getLookup() lookup child data source} to hold in the hash index. If it
+	 * has more rows, both child data sources must be {@link #isSorted() sorted} by their keys.
+	 * <p>
+	 * May be any integer &gt;= 0
+	 * <p>
+	 * Defaults to 100000
+	 *
+	 * @return the maximum number of indexed rows
+	 */
+	default int getMaxIndexedRows() {
+		return 100000;
+	}
+
+	/**
+	 * Whether the rows of both child data sources are sorted ascending by their keys, according to the natural order
+	 * of the keys. Sorted child data sources are merged, if the lookup child data source exceeds the
+	 * {@link #getMaxIndexedRows() maximum number of indexed rows}.
+	 * <p>
+	 * Defaults to false
+	 *
+	 * @return <code>true</code>, if both child data sources are sorted by their keys, <code>false</code> otherwise
+	 */
+	default boolean isSorted() {
+		return false;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package net.sf.testng.databinding.composite;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * The key of the rows of a child data source joined by the {@link JoinDataSource}: a test method parameter bound by
+ * the child data source, optionally followed by the path of a Java Bean property of its value. The read methods of
+ * the properties are resolved once, when the key is created.
+ *
+ * @author Matthias Rothe
+ */
+final class JoinKey {
+	private final int index;
+	private final Method[] readMethods;
+
+	private JoinKey(final int index, final Method[] readMethods) {
+		this.index = index;
+		this.readMethods = readMethods;
+	}
+
+	/**
+	 * Resolves the given key against the test method parameters bound by a child data source.
+	 *
+	 * @param key The name of a test method parameter, optionally followed by the dot separated path of a Java Bean
+	 *        property
+	 * @param parameters The test method parameters bound by the child data source
+	 * @param errorCollector The collector of the errors found, if the key can't be resolved
+	 * @return the key or <code>null</code>, if it can't be resolved
+	 */
+	static JoinKey resolve(final String key, final List<MethodParameter> parameters,
+			final ErrorCollector errorCollector) {
+		if (key == null || key.isEmpty()) {
+			errorCollector.addError("no key given");
+			return null;
+		}
+
+		final String[] path = key.split("\\.");
+		int index = -1;
+
+		for (int i = 0; i < parameters.size() && index < 0; i++) {
+			if (path[0].equalsIgnoreCase(parameters.get(i).getName())) {
+				index = i;
+			}
+		}
+
+		if (index < 0) {
+			errorCollector.addError("invalid key " + key + ", there is no test method parameter named " + path[0]);
+			return null;
+		}
+
+		final Method[] readMethods = new Method[path.length - 1];
+		Type type = parameters.get(index).getType();
+
+		for (int i = 0; i < readMethods.length; i++) {
+			readMethods[i] = findReadMethod(toClass(type), path[i + 1]);
+
+			if (readMethods[i] == null) {
+				errorCollector.addError("invalid key " + key + ", there is no readable property " + path[i + 1]
+						+ " of type " + type);
+				return null;
+			}
+
+			type = readMethods[i].getGenericReturnType();
+		}
+
+		return new JoinKey(index, readMethods);
+	}
+
+	private static Method findReadMethod(final Class<?> beanClass, final String property) {
+		try {
+			for (final PropertyDescriptor descriptor : Introspector.getBeanInfo(beanClass).getPropertyDescriptors()) {
+				if (descriptor.getName().equalsIgnoreCase(property) && descriptor.getReadMethod() != null) {
+					return descriptor.getReadMethod();
+				}
+			}
+		} catch (final IntrospectionException e) {
+			throw Exceptions.softenIfNecessary(e);
+		}
+
+		return null;
+	}
+
+	private static Class<?> toClass(final Type type) {
+		return type instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) type).getRawType()
+				: (Class<?>) type;
+	}
+
+	/**
+	 * @param row The row of the child data source
+	 * @return the key of the row or <code>null</code>, if the parameter or any property on the path is
+	 *         <code>null</code>
+	 */
+	Object extract(final Object[] row) {
+		Object value = row[index];
+
+		for (int i = 0; i < readMethods.length && value != null; i++) {
+			try {
+				value = readMethods[i].invoke(value);
+			} catch (final Exception e) {
+				throw Exceptions.softenIfNecessary(e);
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Extracts the keys of all given rows.
+	 *
+	 * @param rows The rows of the child data source
+	 * @return the keys of the rows, in the same order
+	 */
+	List<Object> extractAll(final List<Object[]> rows) {
+		final List<Object> keys = new ArrayList<Object>(rows.size());
+
+		for (final Object[] row : rows) {
+			keys.add(extract(row));
+		}
+
+		return keys;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package net.sf.testng.databinding.composite;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compact hash index of the rows of the lookup child data source of the {@link JoinDataSource}, built once.
+ * <p>
+ * Instead of a map holding a list of rows per key, the index consists of a few arrays: the rows and their keys, an
+ * open addressing table holding the first row of each key and a chain linking each row to the next row of the same
+ * key. So rows sharing a key are found in the order they have been read, and indexing a row costs a few bytes
+ * beyond the row itself. Rows without a key aren't indexed, as they never match.
+ *
+ * @author Matthias Rothe
+ */
+final class LookupIndex {
+	private static final int NONE = -1;
+
+	private final Object[][] rows;
+	private final Object[] keys;
+	private final int[] table;
+	private final int[] next;
+	private final int mask;
+
+	/**
+	 * @param rows The rows to index
+	 * @param keys The keys of the rows, in the same order
+	 */
+	LookupIndex(final List<Object[]> rows, final List<Object> keys) {
+		this.rows = rows.toArray(new Object[rows.size()][]);
+		this.keys = keys.toArray();
+		this.next = new int[this.rows.length];
+
+		int capacity = 2;
+		while (capacity < 2 * this.rows.length) {
+			capacity <<= 1;
+		}
+
+		table = new int[capacity];
+		mask = capacity - 1;
+		Arrays.fill(table, NONE);
+
+		// prepending the rows from last to first keeps the rows of each key in the order they have been read
+		for (int row = this.rows.length - 1; row >= 0; row--) {
+			if (this.keys[row] != null) {
+				final int slot = findSlot(this.keys[row]);
+				next[row] = table[slot];
+				table[slot] = row;
+			}
+		}
+	}
+
+	private int findSlot(final Object key) {
+		int slot = spread(key.hashCode()) & mask;
+
+		while (table[slot] != NONE && !keys[table[slot]].equals(key)) {
+			slot = (slot + 1) & mask;
+		}
+
+		return slot;
+	}
+
+	private static int spread(final int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * @param key The key
+	 * @return the number of the first row having the given key or a negative number, if there is none
+	 */
+	int first(final Object key) {
+		return key == null ? NONE : table[findSlot(key)];
+	}
+
+	/**
+	 * @param row The number of a row
+	 * @return the number of the next row having the same key or a negative number, if there is none
+	 */
+	int next(final int row) {
+		return next[row];
+	}
+
+	/**
+	 * @param row The number of a row
+	 * @return the row
+	 */
+	Object[] get(final int row) {
+		return rows[row];
+	}
+}
\ No newline at end of file
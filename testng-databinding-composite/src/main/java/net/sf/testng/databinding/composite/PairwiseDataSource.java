@@ -0,0 +1,154 @@
+package net.sf.testng.databinding.composite;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import net.sf.testng.databinding.AbstractDataSource;
+import net.sf.testng.databinding.DataSource;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
+import net.sf.testng.databinding.core.util.Types;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * <p>
+ * This {@link IDataSource data source} binds a reduced set of combinations of the values of several
+ * {@link PairwiseDataSourceConfiguration#getDimensions() dimensions}, covering every combination of the values of any
+ * two, or generally any <i>t</i>, dimensions at least once, instead of binding all combinations. As most defects are
+ * triggered by the interaction of just two or three parameters, this finds most of them at a tiny fraction of the
+ * invocations: all pairs of 10 dimensions of 5 values each are covered by less than 50 combinations, instead of
+ * nearly 10 million.
+ * </p><p>
+ * Each dimension is given by a child data source, each row of which is one value, e.g. a CSV or properties file, or
+ * by the {@link ChildDataSource#enumConstants() constants} of the enum type of its single parameter. Each dimension
+ * binds some consecutive test method parameters, so the arguments of a combination are the arguments of the values
+ * combined, in the order of the dimensions.
+ * </p><p>
+ * The values of all dimensions are read up front and the combinations are generated by a deterministic algorithm,
+ * see {@link CoveringArray}, so the same dimensions always yield the same combinations. The combinations are held as
+ * value indexes only and their arguments are bound one combination at a time. Values are bound to several invocations
+ * of the test method, so test methods must not modify their arguments. If any dimension has no values at all, there
+ * are no combinations.
+ * </p>
+ *
+ * @author Matthias Rothe
+ */
+@DataSource(name = "pairwise")
+public class PairwiseDataSource extends AbstractDataSource {
+	private final List<List<Object[]>> dimensions = new ArrayList<List<Object[]>>();
+	private final List<int[]> combinations;
+	private final int parameterCount;
+	private int nextCombination;
+
+	/**
+	 * Constructs a new instance of this class, setting the {@link MethodParameter test method parameters} to load the
+	 * data for and the {@link Configuration configuration} describing the dimensions to load the data from.
+	 *
+	 * @param parameters The test method parameters for which data is to be loaded
+	 * @param configuration The configuration describing the dimensions to load the data from
+	 * @throws Exception If anything goes wrong during the creation of this instance
+	 */
+	public PairwiseDataSource(final List<MethodParameter> parameters, final Configuration configuration)
+			throws Exception {
+		final PairwiseDataSourceConfiguration pairwiseConfiguration = DataSourceConfigurationLoader
+			.loadDataSourceConfiguration(configuration, PairwiseDataSourceConfiguration.class);
+		final List<ChildDataSource> children = pairwiseConfiguration.getDimensions();
+		final List<List<MethodParameter>> childParameters = ChildParameters.split(parameters, children, 1);
+		final int strength = pairwiseConfiguration.getStrength();
+
+		checkConfiguration(children, childParameters, strength);
+		parameterCount = parameters.size();
+
+		final int[] sizes = new int[children.size()];
+		boolean empty = false;
+
+		for (int i = 0; i < sizes.length; i++) {
+			final List<Object[]> values = loadValues(children.get(i), childParameters.get(i));
+			dimensions.add(values);
+			sizes[i] = values.size();
+			empty |= values.isEmpty();
+		}
+
+		combinations = empty ? new ArrayList<int[]>() : CoveringArray.generate(sizes, strength);
+	}
+
+	private void checkConfiguration(final List<ChildDataSource> children,
+			final List<List<MethodParameter>> childParameters, final int strength) {
+		final ErrorCollector errorCollector = new ErrorCollector("configuration");
+
+		if (strength < 1) {
+			errorCollector.addError("invalid strength " + strength + ", the strength must be at least 1");
+		}
+
+		for (int i = 0; i < children.size(); i++) {
+			if (children.get(i).isEnumConstants()) {
+				final Type type = childParameters.get(i).get(0).getType();
+
+				if (!Types.isEnumType(type)) {
+					errorCollector.addError("the enum constants of dimension " + (i + 1)
+							+ " require a parameter of an enum type, but got " + type);
+				}
+			}
+		}
+
+		if (errorCollector.hasErrors()) {
+			final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+			errorCollectors.add(errorCollector);
+			throw new MultipleConfigurationErrorsException(errorCollectors);
+		}
+	}
+
+	private static List<Object[]> loadValues(final ChildDataSource child, final List<MethodParameter> parameters)
+			throws Exception {
+		final List<Object[]> values = new ArrayList<Object[]>();
+
+		if (child.isEnumConstants()) {
+			for (final Object constant : ((Class<?>) parameters.get(0).getType()).getEnumConstants()) {
+				values.add(new Object[] { constant });
+			}
+		} else {
+			final IDataSource dataSource = ChildParameters.open(child, parameters);
+
+			while (dataSource.hasNext()) {
+				values.add(dataSource.next());
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		return nextCombination < combinations.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		final int[] combination = combinations.get(nextCombination++);
+		final Object[] arguments = new Object[parameterCount];
+		int offset = 0;
+
+		for (int i = 0; i < combination.length; i++) {
+			final Object[] value = dimensions.get(i).get(combination[i]);
+			System.arraycopy(value, 0, arguments, offset, value.length);
+			offset += value.length;
+		}
+
+		return arguments;
+	}
+}
\ No newline at end of file
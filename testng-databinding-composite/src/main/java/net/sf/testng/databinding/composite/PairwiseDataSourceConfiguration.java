@@ -0,0 +1,29 @@
+package net.sf.testng.databinding.composite;
+
+import java.util.List;
+
+public interface PairwiseDataSourceConfiguration {
+
+	/**
+	 * The dimensions, whose values are combined. Each dimension is given by a child data source, each row of which is
+	 * one value of the dimension, or by the {@link ChildDataSource#enumConstants() constants} of the enum type of its
+	 * single parameter. Each dimension binds the given number of consecutive test method parameters, starting with
+	 * the first dimension binding the first parameters.
+	 *
+	 * @return the dimensions
+	 */
+	List<ChildDataSource> getDimensions();
+
+	/**
+	 * The strength of the combinations, i.e. the number of dimensions whose combinations of values are all covered.
+	 * <p>
+	 * May be any integer &gt;= 1, strengths of at least the number of dimensions yielding all combinations
+	 * <p>
+	 * Defaults to 2, covering all pairs of values
+	 *
+	 * @return the strength
+	 */
+	default int getStrength() {
+		return 2;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package net.sf.testng.databinding.composite;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * The rows of a child data source, which can be read over and over again. The rows are kept in memory while reading
+ * them the first time, as long as there are no more than a given number. Otherwise the child data source is created
+ * anew for every pass, reading the rows from their source again instead of holding them.
+ *
+ * @author Matthias Rothe
+ */
+final class ReplayableRows {
+	private final ChildDataSource child;
+	private final List<MethodParameter> parameters;
+	private final int maxBufferedRows;
+	private List<Object[]> buffer;
+	private boolean buffered;
+	private int position;
+	private IDataSource source;
+
+	/**
+	 * @param child The child data source
+	 * @param parameters The test method parameters bound by the child data source
+	 * @param maxBufferedRows The maximum number of rows kept in memory
+	 * @throws Exception if the child data source can't be created
+	 */
+	ReplayableRows(final ChildDataSource child, final List<MethodParameter> parameters, final int maxBufferedRows)
+			throws Exception {
+		this.child = child;
+		this.parameters = parameters;
+		this.maxBufferedRows = maxBufferedRows;
+		this.buffer = maxBufferedRows > 0 ? new ArrayList<Object[]>() : null;
+		this.source = ChildParameters.open(child, parameters);
+	}
+
+	/**
+	 * @return <code>true</code>, if there are rows left in the current pass, <code>false</code> otherwise
+	 */
+	boolean hasNext() {
+		return buffered ? position < buffer.size() : source.hasNext();
+	}
+
+	/**
+	 * @return the next row of the current pass
+	 */
+	Object[] next() {
+		if (buffered) {
+			return buffer.get(position++);
+		}
+
+		final Object[] row = source.next();
+
+		if (buffer != null) {
+			if (buffer.size() < maxBufferedRows) {
+				buffer.add(row);
+			} else {
+				buffer = null;
+			}
+		}
+
+		return row;
+	}
+
+	/**
+	 * Reads the remaining rows of the current pass, if they are read from the child data source, as data sources
+	 * release their resources once they have been read completely.
+	 */
+	void drain() {
+		if (!buffered) {
+			while (source.hasNext()) {
+				source.next();
+			}
+		}
+	}
+
+	/**
+	 * Starts the next pass, once all rows of the current pass have been read.
+	 */
+	void reset() {
+		if (buffer != null) {
+			buffered = true;
+			source = null;
+			position = 0;
+		} else {
+			try {
+				source = ChildParameters.open(child, parameters);
+			} catch (final Exception e) {
+				throw Exceptions.softenIfNecessary(e);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+/**
+ * Contains {@link net.sf.testng.databinding.IDataSource data source} implementations combining the data of several
+ * child data sources.
+ */
+package net.sf.testng.databinding.composite;
\ No newline at end of file
@@ -0,0 +1,111 @@
+package net.sf.testng.databinding.composite;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.composite.datasource.config.CompositeDataSourceConfigurations;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class CartesianDataSourceTest {
+	private static final Object[][] COMBINATIONS = { { "small", 1, "firefox", "de" }, { "small", 1, "firefox", "en" },
+			{ "small", 1, "firefox", "fr" }, { "small", 1, "chrome", "de" }, { "small", 1, "chrome", "en" },
+			{ "small", 1, "chrome", "fr" }, { "large", 1000, "firefox", "de" }, { "large", 1000, "firefox", "en" },
+			{ "large", 1000, "firefox", "fr" }, { "large", 1000, "chrome", "de" }, { "large", 1000, "chrome", "en" },
+			{ "large", 1000, "chrome", "fr" } };
+
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test
+	public void shouldBindAllCombinations() throws Exception {
+		assertEquals(readAll(createDataSource("cartesianConfig")).toArray(), COMBINATIONS);
+	}
+
+	@Test
+	public void shouldRereadChildrenExceedingBuffer() throws Exception {
+		assertEquals(readAll(createDataSource("unbufferedCartesianConfig")).toArray(), COMBINATIONS);
+	}
+
+	@Test
+	public void shouldBindNoCombinationsOfEmptyChild() throws Exception {
+		assertFalse(createDataSource("emptyCartesianConfig").hasNext());
+	}
+
+	@Test
+	public void shouldCloseEveryRereadChild() throws Exception {
+		final int openedBefore = CompositeDataSourceConfigurations.openedStreams.get();
+		final int closedBefore = CompositeDataSourceConfigurations.closedStreams.get();
+
+		assertEquals(readAll(createDataSource("streamedCartesianConfig")).toArray(), COMBINATIONS);
+		assertEquals(CompositeDataSourceConfigurations.openedStreams.get() - openedBefore, 1 + 2 + 4);
+		assertEquals(CompositeDataSourceConfigurations.closedStreams.get() - closedBefore, 1 + 2 + 4);
+	}
+
+	@Test
+	public void shouldNotCreateChildrenFollowingEmptyChild() throws Exception {
+		final int openedBefore = CompositeDataSourceConfigurations.openedStreams.get();
+
+		assertFalse(createDataSource("emptyFirstStreamedCartesianConfig").hasNext());
+		assertEquals(CompositeDataSourceConfigurations.openedStreams.get() - openedBefore, 0);
+	}
+
+	@Test
+	public void shouldCloseChildrenPrecedingEmptyChild() throws Exception {
+		final int openedBefore = CompositeDataSourceConfigurations.openedStreams.get();
+		final int closedBefore = CompositeDataSourceConfigurations.closedStreams.get();
+
+		assertFalse(createDataSource("emptyLastStreamedCartesianConfig").hasNext());
+		assertEquals(CompositeDataSourceConfigurations.openedStreams.get() - openedBefore, 2);
+		assertEquals(CompositeDataSourceConfigurations.closedStreams.get() - closedBefore, 2);
+	}
+
+	@Test(expectedExceptions = MultipleConfigurationErrorsException.class)
+	public void shouldRequireChildrenBindingAllParameters() throws Exception {
+		createDataSource("mismatchingCartesianConfig");
+	}
+
+	private List<Object[]> readAll(final CartesianDataSource dataSource) {
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		while (dataSource.hasNext()) {
+			rows.add(dataSource.next());
+		}
+		return rows;
+	}
+
+	private CartesianDataSource createDataSource(final String configMethod) throws Exception {
+		return new CartesianDataSource(createMethodParameters("matrixConsumer"),
+				new Configuration(CompositeDataSourceConfigurations.class, configMethod));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void matrixConsumer(@TestInput(name = "payload") final String payload,
+			@TestInput(name = "size") final int size, @TestInput(name = "browser") final String browser,
+			@TestInput(name = "locale") final String locale) {
+	}
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package net.sf.testng.databinding.composite;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.composite.beans.Order;
+import net.sf.testng.databinding.composite.datasource.config.CompositeDataSourceConfigurations;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class JoinDataSourceTest {
+	private static final Object[][] JOINED_ROWS = { { 1, "ink", 1, 10 }, { 1, "ink", 1, 11 }, { 2, "pad", 2, 20 },
+			{ 2, "pen", 2, 20 } };
+
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test
+	public void shouldJoinRowsByHashIndex() throws Exception {
+		assertEquals(readAll(createDataSource("joinConsumer", "joinConfig")).toArray(), JOINED_ROWS);
+	}
+
+	@Test
+	public void shouldMergeSortedRowsExceedingIndex() throws Exception {
+		assertEquals(readAll(createDataSource("joinConsumer", "mergeJoinConfig")).toArray(), JOINED_ROWS);
+	}
+
+	@Test
+	public void shouldReleaseLookupOnceMainRunsOut() throws Exception {
+		final int openedBefore = CompositeDataSourceConfigurations.openedStreams.get();
+		final int closedBefore = CompositeDataSourceConfigurations.closedStreams.get();
+		final Object[][] expectedRows = { { 1, "ink", 1, 10 }, { 1, "ink", 1, 11 } };
+
+		assertEquals(readAll(createDataSource("joinConsumer", "shortMainMergeJoinConfig")).toArray(), expectedRows);
+		assertEquals(CompositeDataSourceConfigurations.openedStreams.get() - openedBefore, 1);
+		assertEquals(CompositeDataSourceConfigurations.closedStreams.get() - closedBefore, 1);
+	}
+
+	@Test
+	public void shouldReleaseLookupIfMainFailsToOpen() throws Exception {
+		final int openedBefore = CompositeDataSourceConfigurations.openedStreams.get();
+		final int closedBefore = CompositeDataSourceConfigurations.closedStreams.get();
+
+		try {
+			createDataSource("joinConsumer", "failingMainMergeJoinConfig");
+			fail("expected the main data source to fail");
+		} catch (final Exception e) {
+			assertEquals(CompositeDataSourceConfigurations.openedStreams.get() - openedBefore, 1);
+			assertEquals(CompositeDataSourceConfigurations.closedStreams.get() - closedBefore, 1);
+		}
+	}
+
+	@Test
+	public void shouldJoinRowsByBeanProperty() throws Exception {
+		final Object[][] expectedRows = { { new Order(1, "ink"), 1, 10 }, { new Order(1, "ink"), 1, 11 },
+				{ new Order(2, "pad"), 2, 20 }, { new Order(2, "pen"), 2, 20 } };
+
+		assertEquals(readAll(createDataSource("beanJoinConsumer", "beanKeyJoinConfig")).toArray(), expectedRows);
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRejectUnsortedRowsWhileMerging() throws Exception {
+		readAll(createDataSource("joinConsumer", "unsortedMergeJoinConfig"));
+	}
+
+	@Test(expectedExceptions = MultipleConfigurationErrorsException.class)
+	public void shouldRejectUnsortedRowsExceedingIndex() throws Exception {
+		createDataSource("joinConsumer", "oversizedJoinConfig");
+	}
+
+	@Test(expectedExceptions = MultipleConfigurationErrorsException.class)
+	public void shouldRejectUnknownKey() throws Exception {
+		createDataSource("beanJoinConsumer", "unknownKeyJoinConfig");
+	}
+
+	private List<Object[]> readAll(final JoinDataSource dataSource) {
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		while (dataSource.hasNext()) {
+			rows.add(dataSource.next());
+		}
+		return rows;
+	}
+
+	private JoinDataSource createDataSource(final String methodName, final String configMethod) throws Exception {
+		return new JoinDataSource(createMethodParameters(methodName),
+				new Configuration(CompositeDataSourceConfigurations.class, configMethod));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void joinConsumer(@TestInput(name = "id") final int id, @TestInput(name = "product") final String product,
+			@TestOutput(name = "orderId") final int orderId, @TestOutput(name = "total") final int total) {
+	}
+
+	public void beanJoinConsumer(@TestInput(name = "order") final Order order,
+			@TestOutput(name = "orderId") final int orderId, @TestOutput(name = "total") final int total) {
+	}
+}
\ No newline at end of file
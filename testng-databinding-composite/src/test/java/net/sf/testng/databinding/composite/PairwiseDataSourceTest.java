@@ -0,0 +1,172 @@
+package net.sf.testng.databinding.composite;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.composite.beans.Priority;
+import net.sf.testng.databinding.composite.datasource.config.CompositeDataSourceConfigurations;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class PairwiseDataSourceTest {
+	private static final int ALL_COMBINATIONS = 2 * 3 * 3 * 3 * 2;
+
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test
+	public void shouldCoverAllPairsWithFewCombinations() throws Exception {
+		final List<List<Object>> combinations = readAll(createDataSource("pairwiseConfig"));
+
+		assertEquals(countCovered(combinations, 2), countAll(2));
+		assertTrue(combinations.size() < ALL_COMBINATIONS / 4, "too many combinations: " + combinations.size());
+	}
+
+	@Test
+	public void shouldCoverAllTriplesOfGivenStrength() throws Exception {
+		final List<List<Object>> combinations = readAll(createDataSource("strongPairwiseConfig"));
+
+		assertEquals(countCovered(combinations, 3), countAll(3));
+		assertTrue(combinations.size() < ALL_COMBINATIONS, "too many combinations: " + combinations.size());
+	}
+
+	@Test
+	public void shouldBindAllCombinationsOfStrengthExceedingDimensions() throws Exception {
+		final List<List<Object>> combinations = readAll(createDataSource("exhaustivePairwiseConfig"));
+
+		assertEquals(combinations.size(), ALL_COMBINATIONS);
+		assertEquals(new HashSet<List<Object>>(combinations).size(), ALL_COMBINATIONS);
+	}
+
+	@Test
+	public void shouldBindSameCombinationsEachTime() throws Exception {
+		assertEquals(readAll(createDataSource("pairwiseConfig")), readAll(createDataSource("pairwiseConfig")));
+	}
+
+	@Test
+	public void shouldBindNoCombinationsOfEmptyDimension() throws Exception {
+		assertFalse(createDataSource("emptyPairwiseConfig").hasNext());
+	}
+
+	@Test(expectedExceptions = MultipleConfigurationErrorsException.class)
+	public void shouldRejectInvalidStrength() throws Exception {
+		createDataSource("invalidStrengthPairwiseConfig");
+	}
+
+	@Test(expectedExceptions = MultipleConfigurationErrorsException.class)
+	public void shouldRequireEnumParameterForEnumConstants() throws Exception {
+		createDataSource("nonEnumPairwiseConfig");
+	}
+
+	private int countCovered(final List<List<Object>> combinations, final int strength) {
+		final Set<List<Object>> covered = new HashSet<List<Object>>();
+
+		for (final List<Object> combination : combinations) {
+			for (final int[] dimensions : dimensionSets(strength)) {
+				final List<Object> tuple = new ArrayList<Object>();
+
+				for (final int dimension : dimensions) {
+					tuple.add(dimension);
+					tuple.add(combination.get(dimension));
+				}
+
+				covered.add(tuple);
+			}
+		}
+
+		return covered.size();
+	}
+
+	private int countAll(final int strength) {
+		final int[] sizes = { 2, 3, 3, 3, 2 };
+		int count = 0;
+
+		for (final int[] dimensions : dimensionSets(strength)) {
+			int tuples = 1;
+
+			for (final int dimension : dimensions) {
+				tuples *= sizes[dimension];
+			}
+
+			count += tuples;
+		}
+
+		return count;
+	}
+
+	private List<int[]> dimensionSets(final int strength) {
+		final List<int[]> dimensionSets = new ArrayList<int[]>();
+
+		for (int mask = 0; mask < 1 << 5; mask++) {
+			if (Integer.bitCount(mask) == strength) {
+				final int[] dimensions = new int[strength];
+
+				for (int dimension = 0, i = 0; dimension < 5; dimension++) {
+					if ((mask & 1 << dimension) != 0) {
+						dimensions[i++] = dimension;
+					}
+				}
+
+				dimensionSets.add(dimensions);
+			}
+		}
+
+		return dimensionSets;
+	}
+
+	private List<List<Object>> readAll(final PairwiseDataSource dataSource) {
+		final List<List<Object>> combinations = new ArrayList<List<Object>>();
+
+		while (dataSource.hasNext()) {
+			final List<Object> arguments = Arrays.asList(dataSource.next());
+
+			// the payload and its size form the last dimension
+			final List<Object> combination = new ArrayList<Object>(arguments.subList(0, 4));
+			combination.add(arguments.get(4) + "/" + arguments.get(5));
+			combinations.add(combination);
+		}
+
+		return combinations;
+	}
+
+	private PairwiseDataSource createDataSource(final String configMethod) throws Exception {
+		return new PairwiseDataSource(createMethodParameters("pairwiseConsumer"),
+				new Configuration(CompositeDataSourceConfigurations.class, configMethod));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void pairwiseConsumer(@TestInput(name = "browser") final String browser,
+			@TestInput(name = "locale") final String locale, @TestInput(name = "priority") final Priority priority,
+			@TestInput(name = "system") final String system, @TestInput(name = "payload") final String payload,
+			@TestInput(name = "size") final int size) {
+	}
+}
\ No newline at end of file
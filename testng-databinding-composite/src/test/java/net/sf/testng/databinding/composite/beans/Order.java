@@ -0,0 +1,56 @@
+package net.sf.testng.databinding.composite.beans;
+
+public class Order {
+	private int id;
+	private String product;
+
+	public Order() {
+	}
+
+	public Order(final int id, final String product) {
+		this.id = id;
+		this.product = product;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(final int id) {
+		this.id = id;
+	}
+
+	public String getProduct() {
+		return product;
+	}
+
+	public void setProduct(final String product) {
+		this.product = product;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + id;
+		result = prime * result + (product == null ? 0 : product.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Order other = (Order) obj;
+		return id == other.id && (product == null ? other.product == null : product.equals(other.product));
+	}
+
+	@Override
+	public String toString() {
+		return "Order [id=" + id + ", product=" + product + "]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package net.sf.testng.databinding.composite.beans;
+
+public enum Priority {
+	LOW, MEDIUM, HIGH
+}
\ No newline at end of file
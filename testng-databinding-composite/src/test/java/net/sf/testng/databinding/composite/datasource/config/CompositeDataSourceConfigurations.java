@@ -0,0 +1,297 @@
+package net.sf.testng.databinding.composite.datasource.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import net.sf.testng.databinding.composite.CartesianDataSourceConfiguration;
+import net.sf.testng.databinding.composite.ChildDataSource;
+import net.sf.testng.databinding.composite.JoinDataSourceConfiguration;
+import net.sf.testng.databinding.composite.PairwiseDataSourceConfiguration;
+import net.sf.testng.databinding.composite.beans.Order;
+
+public class CompositeDataSourceConfigurations {
+	public static final AtomicInteger openedStreams = new AtomicInteger();
+	public static final AtomicInteger closedStreams = new AtomicInteger();
+
+	private CompositeDataSourceConfigurations() {}
+	
+	public static List<String> browsers() {
+		return Arrays.asList("firefox", "chrome");
+	}
+	
+	public static List<String> locales() {
+		return Arrays.asList("de", "en", "fr");
+	}
+	
+	public static List<Object[]> payloads() {
+		return Arrays.asList(new Object[] { "small", 1 }, new Object[] { "large", 1000 });
+	}
+	
+	public static List<String> systems() {
+		return Arrays.asList("linux", "mac", "windows");
+	}
+	
+	public static List<Object[]> orders() {
+		return Arrays.asList(new Object[] { 1, "ink" }, new Object[] { 2, "pad" }, new Object[] { 2, "pen" },
+			new Object[] { 5, "cap" });
+	}
+	
+	public static List<Order> orderBeans() {
+		return Arrays.asList(new Order(1, "ink"), new Order(2, "pad"), new Order(2, "pen"), new Order(5, "cap"));
+	}
+	
+	public static List<Object[]> totals() {
+		return Arrays.asList(new Object[] { 3, 30 }, new Object[] { 1, 10 }, new Object[] { 2, 20 },
+			new Object[] { 1, 11 }, new Object[] { 4, 40 });
+	}
+	
+	public static List<Object[]> sortedTotals() {
+		return Arrays.asList(new Object[] { 1, 10 }, new Object[] { 1, 11 }, new Object[] { 2, 20 },
+			new Object[] { 3, 30 }, new Object[] { 4, 40 });
+	}
+	
+	public static List<Object[]> firstOrders() {
+		return Collections.singletonList(new Object[] { 1, "ink" });
+	}
+	
+	public static List<Object[]> failingOrders() {
+		throw new IllegalStateException("orders are not available");
+	}
+	
+	public static List<String> none() {
+		return Collections.emptyList();
+	}
+	
+	public static List<Object[]> noPayloads() {
+		return Collections.emptyList();
+	}
+	
+	public static Stream<Object[]> payloadStream() {
+		return countedStream(payloads().stream());
+	}
+	
+	public static Stream<String> browserStream() {
+		return countedStream(browsers().stream());
+	}
+	
+	public static Stream<String> localeStream() {
+		return countedStream(locales().stream());
+	}
+	
+	public static Stream<Object[]> sortedTotalStream() {
+		return countedStream(sortedTotals().stream());
+	}
+	
+	private static <T> Stream<T> countedStream(final Stream<T> stream) {
+		openedStreams.incrementAndGet();
+		return stream.onClose(new Runnable() {
+			
+			@Override
+			public void run() {
+				closedStreams.incrementAndGet();
+			}
+		});
+	}
+	
+	public static CartesianDataSourceConfiguration cartesianConfig() {
+		return new CartesianDataSourceConfiguration() {
+			
+			@Override
+			public List<ChildDataSource> getChildren() {
+				return Arrays.asList(child("payloads", 2), child("browsers", 1), child("locales", 1));
+			}
+		};
+	}
+	
+	public static CartesianDataSourceConfiguration unbufferedCartesianConfig() {
+		return new CartesianDataSourceConfiguration() {
+			
+			@Override
+			public List<ChildDataSource> getChildren() {
+				return Arrays.asList(child("payloads", 2), child("browsers", 1), child("locales", 1));
+			}
+			
+			@Override
+			public int getMaxBufferedRows() {
+				return 2;
+			}
+		};
+	}
+	
+	public static CartesianDataSourceConfiguration emptyCartesianConfig() {
+		return new CartesianDataSourceConfiguration() {
+			
+			@Override
+			public List<ChildDataSource> getChildren() {
+				return Arrays.asList(child("payloads", 2), child("browsers", 1), child("none", 1));
+			}
+		};
+	}
+	
+	public static CartesianDataSourceConfiguration streamedCartesianConfig() {
+		return streamedCartesianConfig(child("payloadStream", 2), child("browserStream", 1),
+			child("localeStream", 1));
+	}
+	
+	public static CartesianDataSourceConfiguration emptyFirstStreamedCartesianConfig() {
+		return streamedCartesianConfig(child("noPayloads", 2), child("browserStream", 1), child("localeStream", 1));
+	}
+	
+	public static CartesianDataSourceConfiguration emptyLastStreamedCartesianConfig() {
+		return streamedCartesianConfig(child("payloadStream", 2), child("browserStream", 1), child("none", 1));
+	}
+	
+	private static CartesianDataSourceConfiguration streamedCartesianConfig(final ChildDataSource... children) {
+		return new CartesianDataSourceConfiguration() {
+			
+			@Override
+			public List<ChildDataSource> getChildren() {
+				return Arrays.asList(children);
+			}
+			
+			@Override
+			public int getMaxBufferedRows() {
+				return 0;
+			}
+		};
+	}
+	
+	public static CartesianDataSourceConfiguration mismatchingCartesianConfig() {
+		return new CartesianDataSourceConfiguration() {
+			
+			@Override
+			public List<ChildDataSource> getChildren() {
+				return Arrays.asList(child("payloads", 2), child("browsers", 1));
+			}
+		};
+	}
+	
+	public static PairwiseDataSourceConfiguration pairwiseConfig() {
+		return pairwiseConfig(2);
+	}
+	
+	public static PairwiseDataSourceConfiguration strongPairwiseConfig() {
+		return pairwiseConfig(3);
+	}
+	
+	public static PairwiseDataSourceConfiguration exhaustivePairwiseConfig() {
+		return pairwiseConfig(10);
+	}
+	
+	public static PairwiseDataSourceConfiguration invalidStrengthPairwiseConfig() {
+		return pairwiseConfig(0);
+	}
+	
+	public static PairwiseDataSourceConfiguration emptyPairwiseConfig() {
+		return new PairwiseDataSourceConfiguration() {
+			
+			@Override
+			public List<ChildDataSource> getDimensions() {
+				return Arrays.asList(child("browsers", 1), child("locales", 1), child("none", 1), child("systems", 1),
+					child("payloads", 2));
+			}
+		};
+	}
+	
+	public static PairwiseDataSourceConfiguration nonEnumPairwiseConfig() {
+		return new PairwiseDataSourceConfiguration() {
+			
+			@Override
+			public List<ChildDataSource> getDimensions() {
+				return Arrays.asList(ChildDataSource.enumConstants(), child("locales", 1),
+					ChildDataSource.enumConstants(), child("systems", 1), child("payloads", 2));
+			}
+		};
+	}
+	
+	public static JoinDataSourceConfiguration joinConfig() {
+		return joinConfig("orders", "id", "totals", 10, false);
+	}
+	
+	public static JoinDataSourceConfiguration mergeJoinConfig() {
+		return joinConfig("orders", "id", "sortedTotals", 2, true);
+	}
+	
+	public static JoinDataSourceConfiguration shortMainMergeJoinConfig() {
+		return joinConfig("firstOrders", "id", "sortedTotalStream", 2, true);
+	}
+	
+	public static JoinDataSourceConfiguration failingMainMergeJoinConfig() {
+		return joinConfig("failingOrders", "id", "sortedTotalStream", 2, true);
+	}
+	
+	public static JoinDataSourceConfiguration unsortedMergeJoinConfig() {
+		return joinConfig("orders", "id", "totals", 2, true);
+	}
+	
+	public static JoinDataSourceConfiguration oversizedJoinConfig() {
+		return joinConfig("orders", "id", "totals", 2, false);
+	}
+	
+	public static JoinDataSourceConfiguration beanKeyJoinConfig() {
+		return joinConfig("orderBeans", "order.id", "totals", 10, false);
+	}
+	
+	public static JoinDataSourceConfiguration unknownKeyJoinConfig() {
+		return joinConfig("orderBeans", "order.customer", "totals", 10, false);
+	}
+	
+	private static JoinDataSourceConfiguration joinConfig(final String main, final String mainKey,
+			final String lookup, final int maxIndexedRows, final boolean sorted) {
+		return new JoinDataSourceConfiguration() {
+			
+			@Override
+			public ChildDataSource getMain() {
+				return child(main, "orderBeans".equals(main) ? 1 : 2);
+			}
+			
+			@Override
+			public ChildDataSource getLookup() {
+				return child(lookup, 2);
+			}
+			
+			@Override
+			public String getMainKey() {
+				return mainKey;
+			}
+			
+			@Override
+			public String getLookupKey() {
+				return "orderId";
+			}
+			
+			@Override
+			public int getMaxIndexedRows() {
+				return maxIndexedRows;
+			}
+			
+			@Override
+			public boolean isSorted() {
+				return sorted;
+			}
+		};
+	}
+	
+	private static PairwiseDataSourceConfiguration pairwiseConfig(final int strength) {
+		return new PairwiseDataSourceConfiguration() {
+			
+			@Override
+			public List<ChildDataSource> getDimensions() {
+				return Arrays.asList(child("browsers", 1), child("locales", 1), ChildDataSource.enumConstants(),
+					child("systems", 1), child("payloads", 2));
+			}
+			
+			@Override
+			public int getStrength() {
+				return strength;
+			}
+		};
+	}
+	
+	private static ChildDataSource child(final String configMethod, final int parameterCount) {
+		return new ChildDataSource("code", CompositeDataSourceConfigurations.class, configMethod, parameterCount);
+	}
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package net.sf.testng.databinding;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -26,6 +27,7 @@ import net.sf.testng.databinding.core.util.Annotations;
 import net.sf.testng.databinding.core.util.MethodParametersAndConfigurationConstructorMatcher;
 import net.sf.testng.databinding.core.util.Types;
 import net.sf.testng.databinding.util.BasePackageLoader;
+import net.sf.testng.databinding.util.ClassLoaderCache;
 import net.sf.testng.databinding.util.ConstructorMatcher;
 import net.sf.testng.databinding.util.Constructors;
 import net.sf.testng.databinding.util.MethodParameter;
@@ -60,40 +62,59 @@ import net.sf.testng.databinding.util.MethodParameter;
  * @author Matthias Rothe
  */
 public class GenericDataProvider {
-	private static class DataSourcesMap extends HashMap<String, Class<? extends IDataSource>> {
+	/**
+	 * The data source classes found by name. The classes are referenced weakly, since they reference the class loader
+	 * the map is cached for. They can't be garbage collected before that class loader anyway.
+	 */
+	private static class DataSourcesMap extends HashMap<String, WeakReference<Class<? extends IDataSource>>> {
 		private static final long serialVersionUID = -1357728940375321662L;
 	}
 
-	private static DataSourcesMap dataSources;
+	private static final String BASE_PACKAGES_SOURCE = "testng-databinding.base-packages";
+
+	private static final ClassLoaderCache<String, DataSourcesMap> DATA_SOURCES =
+			new ClassLoaderCache<String, DataSourcesMap>(new ClassLoaderCache.ValueLoader<String, DataSourcesMap>() {
+
+				@Override
+				public DataSourcesMap load(final String source, final ClassLoader classLoader) {
+					return scanDataSources(source, classLoader);
+				}
+			});
 
 	private GenericDataProvider() {
 	}
 
-	private synchronized static DataSourcesMap getDataSources() {
-		if (dataSources == null) {
-			dataSources = new DataSourcesMap();
+	private static Class<? extends IDataSource> getDataSourceClass(final String name) {
+		final WeakReference<Class<? extends IDataSource>> dataSourceClass = DATA_SOURCES.get(BASE_PACKAGES_SOURCE,
+			Thread.currentThread().getContextClassLoader()).get(name);
+		return dataSourceClass != null ? dataSourceClass.get() : null;
+	}
 
-			final Set<Class<? extends IDataSource>> classes = new HashSet<Class<? extends IDataSource>>();
+	private static DataSourcesMap scanDataSources(final String source, final ClassLoader classLoader) {
+		final DataSourcesMap dataSources = new DataSourcesMap();
+		final Set<Class<? extends IDataSource>> classes = new HashSet<Class<? extends IDataSource>>();
 
-			final ComponentScanner scanner = new ComponentScanner();
-			scanner.getClasses(new ComponentQuery() {
-				@Override
-				protected void query() {
-					select()
-						.from(
-							BasePackageLoader.loadBasePackages("testng-databinding.base-packages").toArray(
-								new String[] {})).andStore(thoseImplementing(IDataSource.class).into(classes))
-						.returning(none());
-				}
-			});
+		final ComponentScanner scanner = new ComponentScanner();
+		scanner.getClasses(new ComponentQuery() {
+			@Override
+			protected void query() {
+				select()
+					.from(
+						BasePackageLoader.loadBasePackages(source, classLoader).toArray(
+							new String[] {})).andStore(thoseImplementing(IDataSource.class).into(classes))
+					.returning(none());
+			}
+		});
 
-			for (final Class<? extends IDataSource> clazz : classes) {
-				if (clazz.isAnnotationPresent(DataSource.class)) {
-					final DataSource dataSource = clazz.getAnnotation(DataSource.class);
-					dataSources.put(dataSource.name().toLowerCase(), clazz);
-				} else {
-					dataSources.put(clazz.getSimpleName(), clazz);
-				}
+		for (final Class<? extends IDataSource> clazz : classes) {
+			final WeakReference<Class<? extends IDataSource>> dataSourceClass =
+					new WeakReference<Class<? extends IDataSource>>(clazz);
+
+			if (clazz.isAnnotationPresent(DataSource.class)) {
+				final DataSource dataSource = clazz.getAnnotation(DataSource.class);
+				dataSources.put(dataSource.name().toLowerCase(), dataSourceClass);
+			} else {
+				dataSources.put(clazz.getSimpleName(), dataSourceClass);
 			}
 		}
 
@@ -222,11 +243,26 @@ public class GenericDataProvider {
 		}
 	}
 
-	private static IDataSource getDataSource(final List<MethodParameter> parameters,
+	/**
+	 * Creates the data source of the given name for the given test method parameters. This method is meant to be
+	 * called by composite data sources creating their child data sources.
+	 * 
+	 * @param parameters
+	 *            The test method parameters for which data is to be loaded
+	 * @param dataSource
+	 *            The name of the data source, as given by the {@link DataSource} annotation
+	 * @param configClass
+	 *            The class declaring the configuration method
+	 * @param configMethod
+	 *            The name of the configuration method
+	 * @return The data source
+	 * @throws Exception
+	 *             If the data source can't be found or fails to be created
+	 */
+	public static IDataSource getDataSource(final List<MethodParameter> parameters,
 			final String dataSource, final Class<?> configClass, final String configMethod)
 			throws Exception {
-		final Class<? extends IDataSource> dataSourceClass = getDataSources().get(
-			dataSource.toLowerCase());
+		final Class<? extends IDataSource> dataSourceClass = getDataSourceClass(dataSource.toLowerCase());
 		
 		if (dataSourceClass == null) {
 			throw new NoSuchElementException("The data source [" + dataSource
@@ -31,4 +31,28 @@ public class DataSourceConfigurationLoader {
 			throw Exceptions.softenIfNecessary(e);
 		}		
 	}
+
+	public static Object loadDataSourceConfigurationAssignableTo(final Configuration configuration,
+			final Class<?>... acceptedTypes) {
+		try {
+			Class<?> configObjectClass = configuration.getConfigClass();
+			Method method = configObjectClass.getDeclaredMethod(configuration.getConfigMethod(),
+					(Class<?>[]) null);
+			int modifiers = method.getModifiers();
+			
+			if ((modifiers & Modifier.PUBLIC) > 0 && (modifiers & Modifier.STATIC) > 0) {
+				for (Class<?> acceptedType : acceptedTypes) {
+					if (acceptedType.isAssignableFrom(method.getReturnType())) {
+						return method.invoke(null, (Object[]) null);
+					}
+				}
+			}
+			
+			throw new NoSuchMethodException("The specified configuration method is not "
+					+ "public static or returns the wrong type.");
+		} catch (NoSuchMethodException | SecurityException | IllegalAccessException
+				| IllegalArgumentException | InvocationTargetException e) {
+			throw Exceptions.softenIfNecessary(e);
+		}
+	}
 }
@@ -0,0 +1,471 @@
+package net.sf.testng.databinding.core.util;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * Maps the names found within a data section or a Java Bean element to the {@link Slot slots} holding
+ * everything needed to bind the values named so: the test method parameter or the Java Bean property, its
+ * pre-resolved setter and the way its value is converted.
+ * <p>
+ * Names of single object types must case insensitively equal the name of the parameter or property. The
+ * names of list types are derived by the {@link Naming naming} rule of the data source. If several slots
+ * match the same name, the first slot not {@link #lookup(String, BitSet) seen} yet wins.
+ * <p>
+ * Tables for data sections are built by the data source, tables for Java Beans are built once per bean
+ * class and naming rule and shared by all data sources, see {@link #forBean(Class, Naming)}.
+ * <p>
+ * <b>Note:</b> This class is not part of the public API and should only be used internally within the
+ * TestNG DataBinding framework.
+ *
+ * @author Matthias Rothe
+ */
+public final class DispatchTable {
+	private final Slot[] slots;
+	private final Map<String, Slot[]> slotsByName = new HashMap<String, Slot[]>();
+	private final Map<String, Slot[]> slotsByNormalizedName = new HashMap<String, Slot[]>();
+	private final Constructor<?> constructor;
+	private final String constructorError;
+
+	private DispatchTable(final List<Slot> slots, final Constructor<?> constructor, final String constructorError) {
+		this.slots = slots.toArray(new Slot[slots.size()]);
+		this.constructor = constructor;
+		this.constructorError = constructorError;
+
+		final Map<String, List<Slot>> candidates = new LinkedHashMap<String, List<Slot>>();
+		for (final Slot slot : this.slots) {
+			for (final String normalizedName : slot.normalizedNames) {
+				List<Slot> slotsForName = candidates.get(normalizedName);
+				if (slotsForName == null) {
+					slotsForName = new ArrayList<Slot>();
+					candidates.put(normalizedName, slotsForName);
+				}
+				if (!slotsForName.contains(slot)) {
+					slotsForName.add(slot);
+				}
+			}
+		}
+
+		for (final Entry<String, List<Slot>> entry : candidates.entrySet()) {
+			final List<Slot> slotsForName = entry.getValue();
+			slotsByNormalizedName.put(entry.getKey(), slotsForName.toArray(new Slot[slotsForName.size()]));
+		}
+
+		for (final Slot slot : this.slots) {
+			for (final String name : slot.names) {
+				slotsByName.put(name, slotsByNormalizedName.get(name.toLowerCase()));
+			}
+		}
+	}
+
+	/**
+	 * Builds the table for a data section holding the given test method parameters.
+	 *
+	 * @param parameters The test method parameters of the data section
+	 * @param naming The naming rule for list parameters
+	 * @return the table
+	 */
+	public static DispatchTable forParameters(final List<MethodParameter> parameters, final Naming naming) {
+		final List<Slot> slots = new ArrayList<Slot>();
+
+		for (final MethodParameter parameter : parameters) {
+			slots.add(new Slot(slots.size(), parameter, null, naming));
+		}
+
+		return new DispatchTable(slots, null, null);
+	}
+
+	/**
+	 * Returns the table for the writable properties of the given Java Bean class, building it on first
+	 * use.
+	 *
+	 * @param beanClass The Java Bean class
+	 * @param naming The naming rule for list properties
+	 * @return the table
+	 * @throws RuntimeException if the bean class can't be introspected
+	 */
+	public static DispatchTable forBean(final Class<?> beanClass, final Naming naming) {
+		return naming.beanTables.get(beanClass);
+	}
+
+	private static DispatchTable createBeanTable(final Class<?> beanClass, final Naming naming)
+			throws IntrospectionException {
+		final List<Slot> slots = new ArrayList<Slot>();
+
+		for (final PropertyDescriptor descriptor : Introspector.getBeanInfo(beanClass).getPropertyDescriptors()) {
+			final Method writeMethod = descriptor.getWriteMethod();
+
+			if (writeMethod != null) {
+				final Annotation[][] annotations = writeMethod.getParameterAnnotations();
+				final Type[] parameterTypes = writeMethod.getGenericParameterTypes();
+				final MethodParameter parameter = new MethodParameter(Arrays.asList(annotations[0]),
+					parameterTypes[0], descriptor.getName());
+				slots.add(new Slot(slots.size(), parameter, writeMethod, naming));
+			}
+		}
+
+		try {
+			return new DispatchTable(slots, beanClass.getConstructor(), null);
+		} catch (final Exception e) {
+			return new DispatchTable(slots, null, e.getClass().getName() + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * @return the number of slots
+	 */
+	public int size() {
+		return slots.length;
+	}
+
+	/**
+	 * @param index The index of the slot
+	 * @return the slot at the given index
+	 */
+	public Slot getSlot(final int index) {
+		return slots[index];
+	}
+
+	/**
+	 * Returns the first slot matching the given name which hasn't been seen yet.
+	 *
+	 * @param name The name
+	 * @param seen The {@link Slot#getIndex() indexes} of the slots already seen
+	 * @return the slot or <code>null</code>, if there is no such slot
+	 */
+	public Slot lookup(final String name, final BitSet seen) {
+		Slot[] candidates = slotsByName.get(name);
+
+		if (candidates == null) {
+			candidates = slotsByNormalizedName.get(name.toLowerCase());
+
+			if (candidates == null) {
+				return null;
+			}
+		}
+
+		for (final Slot candidate : candidates) {
+			if (!seen.get(candidate.index)) {
+				return candidate;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Creates a new instance of the Java Bean class this table has been built for.
+	 *
+	 * @return the new instance
+	 * @throws Exception if the instance can't be created
+	 */
+	public Object newBean() throws Exception {
+		if (constructor == null) {
+			throw new InstantiationException(constructorError);
+		}
+
+		return constructor.newInstance();
+	}
+
+	/**
+	 * The rule deriving the names of list parameters and properties, which differs between the data
+	 * sources. Each rule keeps its own cache of Java Bean tables, so a rule should be created once per data
+	 * source class.
+	 */
+	public abstract static class Naming {
+		private final ClassValue<DispatchTable> beanTables = new ClassValue<DispatchTable>() {
+
+			@Override
+			protected DispatchTable computeValue(final Class<?> beanClass) {
+				try {
+					return createBeanTable(beanClass, Naming.this);
+				} catch (final IntrospectionException e) {
+					throw Exceptions.softenIfNecessary(e);
+				}
+			}
+		};
+
+		/**
+		 * @param listName The name of the list parameter or property
+		 * @return the names matching the list
+		 */
+		protected abstract String[] getListNames(String listName);
+
+		/**
+		 * @param listName The name of the list parameter or property
+		 * @return the name of a single element of the list
+		 */
+		protected abstract String getElementName(String listName);
+	}
+
+	/**
+	 * The kinds of values bound by the slots.
+	 */
+	public enum Kind {
+		ENUM, PRIMITIVE, SINGLE_BEAN, LIST_OF_PRIMITIVES, LIST_OF_BEANS, UNSUPPORTED
+	}
+
+	/**
+	 * A test method parameter or Java Bean property together with everything resolved in advance to bind
+	 * its value.
+	 */
+	public static final class Slot {
+		private final int index;
+		private final MethodParameter parameter;
+		private final Method writeMethod;
+		private final Kind kind;
+		private final Type valueType;
+		private final String elementName;
+		private final Converter converter;
+		private final Map<String, Object> enumConstants;
+		private final Class<?> beanClass;
+		private final String[] names;
+		private final String[] normalizedNames;
+
+		Slot(final int index, final MethodParameter parameter, final Method writeMethod, final Naming naming) {
+			this.index = index;
+			this.parameter = parameter;
+			this.writeMethod = writeMethod;
+
+			final Type type = parameter.getType();
+			final String name = parameter.getName();
+
+			if (Types.isListOfObjectsType(type)) {
+				valueType = Types.unwrapIfPossible(parameter).getType();
+				elementName = naming.getElementName(name);
+				names = naming.getListNames(name);
+			} else {
+				valueType = type;
+				elementName = name;
+				names = Types.isSingleObjectType(type) ? new String[] { name } : new String[0];
+			}
+
+			normalizedNames = new String[names.length];
+			for (int i = 0; i < names.length; i++) {
+				normalizedNames[i] = names[i].toLowerCase();
+			}
+
+			if (Types.isEnumType(type)) {
+				kind = Kind.ENUM;
+			} else if (Types.isPrimitiveType(type)) {
+				kind = Kind.PRIMITIVE;
+			} else if (Types.isSingleBeanType(type)) {
+				kind = Kind.SINGLE_BEAN;
+			} else if (Types.isListOfPrimitivesType(type)) {
+				kind = Kind.LIST_OF_PRIMITIVES;
+			} else if (Types.isListOfBeansType(type)) {
+				kind = Kind.LIST_OF_BEANS;
+			} else {
+				kind = Kind.UNSUPPORTED;
+			}
+
+			converter = Converter.forType(valueType);
+			enumConstants = kind == Kind.ENUM ? collectEnumConstants((Class<?>) type) : null;
+			beanClass = kind == Kind.SINGLE_BEAN || kind == Kind.LIST_OF_BEANS ? (Class<?>) valueType : null;
+		}
+
+		private static Map<String, Object> collectEnumConstants(final Class<?> enumClass) {
+			final Map<String, Object> constants = new HashMap<String, Object>();
+
+			for (final Field field : enumClass.getFields()) {
+				if (Modifier.isStatic(field.getModifiers()) && !constants.containsKey(field.getName())) {
+					try {
+						constants.put(field.getName(), field.get(null));
+					} catch (final Exception ignored) {
+						// shouldn't happen
+					}
+				}
+			}
+
+			return Collections.unmodifiableMap(constants);
+		}
+
+		/**
+		 * @return the index of this slot within its table
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * @return the test method parameter or Java Bean property bound by this slot
+		 */
+		public MethodParameter getParameter() {
+			return parameter;
+		}
+
+		/**
+		 * @return the setter of the Java Bean property or <code>null</code> for test method parameters
+		 */
+		public Method getWriteMethod() {
+			return writeMethod;
+		}
+
+		/**
+		 * @return the kind of value bound by this slot
+		 */
+		public Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * @return the type of a single value: the type of the elements of lists or the parameter type itself
+		 */
+		public Type getValueType() {
+			return valueType;
+		}
+
+		/**
+		 * @return the name of a single value: the name of the elements of lists or the parameter name itself
+		 */
+		public String getElementName() {
+			return elementName;
+		}
+
+		/**
+		 * @return the converter for primitive values or <code>null</code>, if there is none
+		 */
+		public Converter getConverter() {
+			return converter;
+		}
+
+		/**
+		 * @param name The name of the enum constant
+		 * @return the enum constant of the given name or <code>null</code>, if there is none
+		 */
+		public Object getEnumConstant(final String name) {
+			return enumConstants.get(name);
+		}
+
+		/**
+		 * @return the Java Bean class of single beans and the elements of lists of beans, <code>null</code>
+		 *         otherwise
+		 */
+		public Class<?> getBeanClass() {
+			return beanClass;
+		}
+
+		/**
+		 * @param name The name
+		 * @return <code>true</code>, if the given name matches this slot, <code>false</code> otherwise
+		 */
+		public boolean matches(final String name) {
+			for (final String candidate : names) {
+				if (candidate.equals(name)) {
+					return true;
+				}
+			}
+
+			final String normalizedName = name.toLowerCase();
+			for (final String candidate : normalizedNames) {
+				if (candidate.equals(normalizedName)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * Converts texts to the primitive types supported by the data sources.
+	 */
+	public enum Converter {
+		STRING {
+			@Override
+			public Object convert(final String value) {
+				return value;
+			}
+		},
+		CHARACTER {
+			@Override
+			public Object convert(final String value) {
+				if (value.length() != 1) {
+					throw new IllegalArgumentException("[" + value + "] isn't a single character");
+				}
+
+				return value.charAt(0);
+			}
+		},
+		INTEGER {
+			@Override
+			public Object convert(final String value) {
+				return Integer.parseInt(value);
+			}
+		},
+		LONG {
+			@Override
+			public Object convert(final String value) {
+				return Long.parseLong(value);
+			}
+		},
+		FLOAT {
+			@Override
+			public Object convert(final String value) {
+				return Float.parseFloat(value);
+			}
+		},
+		DOUBLE {
+			@Override
+			public Object convert(final String value) {
+				return Double.parseDouble(value);
+			}
+		},
+		BOOLEAN {
+			@Override
+			public Object convert(final String value) {
+				return Boolean.parseBoolean(value);
+			}
+		};
+
+		/**
+		 * @param value The text
+		 * @return the converted value
+		 * @throws RuntimeException if the text can't be converted
+		 */
+		public abstract Object convert(String value);
+
+		/**
+		 * @param type The primitive type
+		 * @return the converter for the given type or <code>null</code>, if there is none
+		 */
+		public static Converter forType(final Type type) {
+			if (type == String.class) {
+				return STRING;
+			} else if (type == Character.class || type == char.class) {
+				return CHARACTER;
+			} else if (type == Integer.class || type == int.class) {
+				return INTEGER;
+			} else if (type == Long.class || type == long.class) {
+				return LONG;
+			} else if (type == Float.class || type == float.class) {
+				return FLOAT;
+			} else if (type == Double.class || type == double.class) {
+				return DOUBLE;
+			} else if (type == Boolean.class || type == boolean.class) {
+				return BOOLEAN;
+			} else {
+				return null;
+			}
+		}
+	}
+}
\ No newline at end of file
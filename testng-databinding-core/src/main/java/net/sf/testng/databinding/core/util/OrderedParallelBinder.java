@@ -0,0 +1,260 @@
+package net.sf.testng.databinding.core.util;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.sf.testng.databinding.util.Exceptions;
+
+/**
+ * Binds the data sets of a data source on a pool of worker threads, handing out the results in source
+ * order.
+ * <p>
+ * The data sets are taken from their {@link Source source} on the calling thread, which must be cheap,
+ * e.g. by just splitting lines or handing out byte ranges found in advance. Consecutive data sets are
+ * handed to the workers in batches, keeping the scheduling overhead low for small data sets. At most a
+ * given number of data sets are bound ahead of the one requested last, bounding the memory held by
+ * results not consumed yet.
+ * <p>
+ * <b>Note:</b> This class is not part of the public API and should only be used internally within the
+ * TestNG DataBinding framework.
+ *
+ * @param <T> The type of the unbound data sets
+ * @author Matthias Rothe
+ */
+public final class OrderedParallelBinder<T> {
+	private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+	private final Source<T> source;
+	private final Binding<T> binding;
+	private final ThreadPoolExecutor executor;
+	private final Queue<Future<Batch>> inFlight = new ArrayDeque<Future<Batch>>();
+	private final int window;
+	private final int batchSize;
+	private boolean moreDataSets = true;
+	private Batch batch;
+	private int nextInBatch;
+	private int boundAhead;
+
+	/**
+	 * Hands out the unbound data sets in source order.
+	 *
+	 * @param <T> The type of the unbound data sets
+	 */
+	public interface Source<T> {
+
+		/**
+		 * @return the next unbound data set or <code>null</code>, if there are none left
+		 * @throws IOException if reading the data set fails
+		 */
+		T next() throws IOException;
+
+		/**
+		 * Releases the resources held by this source.
+		 *
+		 * @throws IOException if releasing the resources fails
+		 */
+		void close() throws IOException;
+	}
+
+	/**
+	 * Binds a single data set.
+	 *
+	 * @param <T> The type of the unbound data sets
+	 */
+	public interface Binding<T> {
+
+		/**
+		 * @param dataSet The unbound data set
+		 * @return the test method arguments bound from the data set
+		 * @throws Exception if binding fails
+		 */
+		Object[] bind(T dataSet) throws Exception;
+	}
+
+	/**
+	 * Starts binding the data sets of the given source.
+	 *
+	 * @param threadNamePrefix The prefix of the names of the worker threads
+	 * @param source The source of the unbound data sets
+	 * @param parallelism The number of worker threads
+	 * @param window The maximum number of data sets bound ahead
+	 * @param binding The binding applied to each data set
+	 * @throws IOException if reading the first data sets fails
+	 */
+	public OrderedParallelBinder(final String threadNamePrefix, final Source<T> source, final int parallelism,
+			final int window, final Binding<T> binding) throws IOException {
+		this.source = source;
+		this.binding = binding;
+		this.window = Math.max(1, window);
+		this.batchSize = Math.max(1, this.window / (2 * parallelism));
+
+		final int poolNumber = POOL_NUMBER.incrementAndGet();
+		final AtomicInteger threadNumber = new AtomicInteger();
+		executor = new ThreadPoolExecutor(parallelism, parallelism, 1, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+					@Override
+					public Thread newThread(final Runnable runnable) {
+						final Thread thread = new Thread(runnable, threadNamePrefix + "-" + poolNumber + "-"
+								+ threadNumber.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		executor.allowCoreThreadTimeOut(true);
+
+		fillWindow();
+	}
+
+	/**
+	 * @return <code>true</code>, if there are data sets left, <code>false</code> otherwise
+	 */
+	public boolean hasNext() {
+		return batch != null || !inFlight.isEmpty();
+	}
+
+	/**
+	 * Waits for the next data set in source order to be bound.
+	 *
+	 * @return the test method arguments bound from the data set
+	 * @throws IOException if reading the following data sets fails
+	 */
+	public Object[] next() throws IOException {
+		if (batch == null) {
+			batch = nextBatch();
+			nextInBatch = 0;
+		}
+
+		if (nextInBatch == batch.count) {
+			final Exception failure = batch.failure;
+			batch = null;
+			throw Exceptions.softenIfNecessary(failure);
+		}
+
+		final Object[] dataSet = batch.dataSets[nextInBatch];
+		batch.dataSets[nextInBatch++] = null;
+		boundAhead--;
+
+		if (nextInBatch == batch.dataSets.length) {
+			batch = null;
+		}
+
+		fillWindow();
+		return dataSet;
+	}
+
+	private Batch nextBatch() {
+		final Future<Batch> future = inFlight.poll();
+
+		if (future == null) {
+			throw new NoSuchElementException();
+		}
+
+		try {
+			return future.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw Exceptions.softenIfNecessary(e);
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw Exceptions.softenIfNecessary((Exception) cause);
+		}
+	}
+
+	/**
+	 * Stops all workers, discarding any data sets bound ahead, and closes the source.
+	 *
+	 * @throws IOException if closing the source fails
+	 */
+	public void close() throws IOException {
+		for (final Future<Batch> future : inFlight) {
+			future.cancel(true);
+		}
+
+		inFlight.clear();
+		batch = null;
+		moreDataSets = false;
+		executor.shutdownNow();
+		source.close();
+	}
+
+	private void fillWindow() throws IOException {
+		while (boundAhead < window && moreDataSets) {
+			final Object[] dataSets = new Object[batchSize];
+			int count = 0;
+
+			while (count < batchSize) {
+				final T dataSet = source.next();
+
+				if (dataSet == null) {
+					moreDataSets = false;
+					break;
+				}
+
+				dataSets[count++] = dataSet;
+			}
+
+			if (count == 0) {
+				break;
+			}
+
+			final int batchCount = count;
+			boundAhead += batchCount;
+
+			inFlight.add(executor.submit(new Callable<Batch>() {
+
+				@Override
+				public Batch call() {
+					return bind(dataSets, batchCount);
+				}
+			}));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Batch bind(final Object[] dataSets, final int count) {
+		final Batch bound = new Batch(count);
+
+		for (int i = 0; i < count; i++) {
+			try {
+				bound.dataSets[bound.count] = binding.bind((T) dataSets[i]);
+				dataSets[i] = null;
+				bound.count++;
+			} catch (final Exception e) {
+				bound.failure = e;
+				break;
+			}
+		}
+
+		return bound;
+	}
+
+	/**
+	 * The test method arguments bound from consecutive data sets. Binding stops at the first failing data
+	 * set, which is reported once all data sets bound before it have been handed out.
+	 */
+	private static final class Batch {
+		private final Object[][] dataSets;
+		private int count;
+		private Exception failure;
+
+		Batch(final int size) {
+			dataSets = new Object[size][];
+		}
+	}
+}
\ No newline at end of file
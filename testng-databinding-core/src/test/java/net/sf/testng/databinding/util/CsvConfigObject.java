@@ -1,6 +1,8 @@
 package net.sf.testng.databinding.util;
 
 import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
 
 public class CsvConfigObject {
 
@@ -13,4 +15,8 @@ public class CsvConfigObject {
 			}
 		};
 	}
+
+	public static List<Object[]> rowsConfig() {
+		return Arrays.<Object[]> asList(new Object[] { "row" });
+	}
 }
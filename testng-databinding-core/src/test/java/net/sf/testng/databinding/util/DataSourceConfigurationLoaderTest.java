@@ -4,6 +4,8 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.fail;
 
+import java.util.function.Supplier;
+
 import org.testng.annotations.Test;
 
 import net.sf.testng.databinding.core.model.Configuration;
@@ -29,4 +31,21 @@ public class DataSourceConfigurationLoaderTest {
 			assertEquals(e.getCause().getClass(), NoSuchMethodException.class);
 		}
 	}
+
+	@Test
+	public void loadDataSourceConfigurationAssignableToAcceptedType() {
+		assertNotNull(DataSourceConfigurationLoader.loadDataSourceConfigurationAssignableTo(
+				new Configuration(CsvConfigObject.class, "rowsConfig"), Supplier.class, Iterable.class));
+	}
+
+	@Test
+	public void shouldntLoadConfigObjectOfOtherType() {
+		try {
+			DataSourceConfigurationLoader.loadDataSourceConfigurationAssignableTo(
+					new Configuration(CsvConfigObject.class, "defaultConfig"), Iterable.class);
+			fail("Shouldn't have accepted a CsvDataSourceConfiguration");
+		} catch (RuntimeException e) {
+			assertEquals(e.getCause().getClass(), NoSuchMethodException.class);
+		}
+	}
 }
@@ -0,0 +1,66 @@
+package net.sf.testng.databinding.csv;
+
+/**
+ * Base class of {@link CsvRow row views} implementing the typed accessors on top of
+ * {@link #get(int)}.
+ *
+ * @author Matthias Rothe
+ */
+abstract class AbstractCsvRow implements CsvRow {
+
+	@Override
+	public String getString(final int column) {
+		return this.get(column).toString();
+	}
+
+	@Override
+	public Character getChar(final int column) {
+		return this.length(column) > 0 ? this.charAt(column, 0) : null;
+	}
+
+	@Override
+	public int getInt(final int column) {
+		return Integer.parseInt(this.get(column), 0, this.length(column), 10);
+	}
+
+	@Override
+	public long getLong(final int column) {
+		return Long.parseLong(this.get(column), 0, this.length(column), 10);
+	}
+
+	@Override
+	public float getFloat(final int column) {
+		return Float.parseFloat(this.getString(column));
+	}
+
+	@Override
+	public double getDouble(final int column) {
+		return Double.parseDouble(this.getString(column));
+	}
+
+	@Override
+	public boolean getBoolean(final int column) {
+		if (this.length(column) != 4) {
+			return false;
+		}
+
+		for (int i = 0; i < 4; i++) {
+			if (Character.toLowerCase(this.charAt(column, i)) != "true".charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public String[] toArray() {
+		final String[] cells = new String[this.size()];
+
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = this.getString(i);
+		}
+
+		return cells;
+	}
+}
@@ -0,0 +1,30 @@
+package net.sf.testng.databinding.csv;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines the zero-based index of the CSV column a test method parameter or a Java Bean property is
+ * bound to by the {@link PositionalMapper}.
+ * <p>
+ * Test method parameters are annotated directly, Java Bean properties are annotated either on their
+ * field or on their getter or setter method.
+ *
+ * @author Matthias Rothe
+ * @see PositionalMapper
+ */
+@Target({ ElementType.PARAMETER, ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ColumnIndex {
+
+	/**
+	 * The zero-based index of the column.
+	 *
+	 * @return the column index
+	 */
+	int value();
+}
@@ -1,6 +1,5 @@
 package net.sf.testng.databinding.csv;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.lang.reflect.Constructor;
@@ -10,7 +9,6 @@ import java.nio.charset.Charset;
 import java.util.List;
 import java.util.NoSuchElementException;
 
-import au.com.bytecode.opencsv.CSVReader;
 import net.sf.testng.databinding.AbstractDataSource;
 import net.sf.testng.databinding.DataSource;
 import net.sf.testng.databinding.IDataSource;
@@ -36,15 +34,17 @@ import net.sf.testng.databinding.util.MethodParameter;
  * <h4>CSV Data Files</h4>
  * <p>
  * The structure of the CSV files depends a lot on the specified data properties and the selected <code>mapper</code>.
- * See the JavaDocs for the standard mappers {@link HeaderNameMapper} and {@link HeaderNameFileLinkingMapper}.
+ * See the JavaDocs for the standard mappers {@link HeaderNameMapper}, {@link HeaderNameFileLinkingMapper},
+ * {@link HeaderNameInlineListMapper} and {@link PositionalMapper}.
  * </p>
  * <h4>Java Beans</h4>
  * <p>
  * Java Beans that data is to be bound to need to have a standard constructor taking no arguments. Only primitive types and
- * {@link String Strings} are supported as Java Bean property types. Nested Java Beans are not supported either. If there
- * are any Java Bean properties for which no columns can be found a {@link MultipleSourceErrorsException} is thrown. Any
- * Java Bean properties having an unsupported type are just not set, leaving them unchanged. Any columns for which no Java
- * Bean properties of matching name and supported type can be found are skipped ignoring them.
+ * {@link String Strings} are supported as Java Bean property types, apart from nested Java Beans, if supported by the
+ * <code>mapper</code> like the {@link HeaderNameMapper} does. If there are any Java Bean properties for which no columns
+ * can be found a {@link MultipleSourceErrorsException} is thrown. Any Java Bean properties having an unsupported type are
+ * just not set, leaving them unchanged. Any columns for which no Java Bean properties of matching name and supported type
+ * can be found are skipped ignoring them.
  * </p>
  * <h3>Examples</h3>
  * <p>
@@ -55,12 +55,14 @@ import net.sf.testng.databinding.util.MethodParameter;
  * @author Matthias Rothe
  * @see HeaderNameMapper
  * @see HeaderNameFileLinkingMapper
+ * @see HeaderNameInlineListMapper
+ * @see PositionalMapper
  */
 @DataSource(name = "csv")
 public class CsvDataSource extends AbstractDataSource {
-	private final CSVReader csvReader;
+	private final CsvRowParser rowParser;
 	private final Mapper mapper;
-	private String[] nextLine;
+	private boolean hasNextRow;
 
 	public CsvDataSource(final List<MethodParameter> parameters, final Configuration configuration)
 			throws Exception {
@@ -68,34 +70,27 @@ public class CsvDataSource extends AbstractDataSource {
 				DataSourceConfigurationLoader.loadDataSourceConfiguration(configuration,
 						CsvDataSourceConfiguration.class);
 		
-		this.csvReader = this.createCsvReader(dataSourceConfiguration);
-		this.mapper = this.createMapper(parameters, dataSourceConfiguration);
-		this.mapper.init(this.csvReader);
+		this.rowParser = createRowParser(dataSourceConfiguration);
+		this.mapper = createMapper(parameters, dataSourceConfiguration);
+		this.mapper.init(this.rowParser.asCSVReader());
 	}
 
 	public CsvDataSource(final List<MethodParameter> parameters,
 			final CsvDataSourceConfiguration configuration) throws Exception {
-		this.csvReader = this.createCsvReader(configuration);
-		this.mapper = this.createMapper(parameters, configuration);
-		this.mapper.init(this.csvReader);
+		this.rowParser = createRowParser(configuration);
+		this.mapper = createMapper(parameters, configuration);
+		this.mapper.init(this.rowParser.asCSVReader());
 	}
 
-	private CSVReader createCsvReader(final CsvDataSourceConfiguration configuration)
+	static CsvRowParser createRowParser(final CsvDataSourceConfiguration configuration)
 			throws Exception {
 		final URL url = configuration.getURL();
 		final Charset charset = Charset.forName(configuration.getCharset());
-		final char separator = configuration.getSeparator();
-		final char quotechar = configuration.getQuoteChar();
-		final char escape = configuration.getEscapeChar();
-		final int line = configuration.getLinesToSkip();
-		final boolean strictQuotes = configuration.useStrictQuotes();
-		final boolean ignoreLeadingWhitespace = configuration.ignoreLeadingWhitespace();
 
-		final BufferedReader rawReader = new BufferedReader(new InputStreamReader(url.openStream(), charset));
-		return new CSVReader(rawReader, separator, quotechar, escape, line, strictQuotes, ignoreLeadingWhitespace);
+		return new CsvRowParser(new InputStreamReader(url.openStream(), charset), configuration);
 	}
 
-	private Mapper createMapper(final List<MethodParameter> parameters,
+	static Mapper createMapper(final List<MethodParameter> parameters,
 			final CsvDataSourceConfiguration configuration) throws Exception {
 		final Class<?> mapperClass = configuration.getMapperClass();
 		final ConstructorMatcher matcher = new MapperConstructorMatcher();
@@ -106,7 +101,7 @@ public class CsvDataSource extends AbstractDataSource {
 	@Override
 	public boolean hasNext() {
 		try {
-			return (this.nextLine = this.csvReader.readNext()) != null;
+			return this.hasNextRow = this.rowParser.readRow();
 		} catch (final IOException e) {
 			e.printStackTrace();
 			return false;
@@ -115,8 +110,8 @@ public class CsvDataSource extends AbstractDataSource {
 
 	@Override
 	public Object[] next() {
-		if (this.nextLine != null) {
-			return this.mapper.createBeans(this.nextLine);
+		if (this.hasNextRow) {
+			return this.mapper.createBeans(this.rowParser.getRow());
 		} else {
 			throw new NoSuchElementException();
 		}
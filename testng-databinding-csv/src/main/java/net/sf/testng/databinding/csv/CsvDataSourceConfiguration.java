@@ -2,6 +2,8 @@ package net.sf.testng.databinding.csv;
 
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Map;
 
 import net.sf.testng.databinding.TestInput;
 import net.sf.testng.databinding.TestOutput;
@@ -157,6 +159,52 @@ public interface CsvDataSourceConfiguration {
 		return "link_";
 	}
 
+	/**
+	 * The delimiter separating the elements of a list within a single
+	 * column. Only applicable if the {@link HeaderNameInlineListMapper} is
+	 * used as the {@link #getMapperClass() mapper}.
+	 * <p>
+	 * Defaults to |
+	 *
+	 * @return the list delimiter
+	 */
+	default char getListDelimiter() {
+		return '|';
+	}
+
+	/**
+	 * The delimiter separating the property values of a Java Bean within a
+	 * list element. Only applicable if the {@link HeaderNameInlineListMapper}
+	 * is used as the {@link #getMapperClass() mapper}.
+	 * <p>
+	 * Defaults to :
+	 *
+	 * @return the field delimiter
+	 */
+	default char getFieldDelimiter() {
+		return ':';
+	}
+
+	/**
+	 * The column indexes keyed by column names. Only applicable if the
+	 * {@link PositionalMapper} is used as the {@link #getMapperClass() mapper}.
+	 * <p>
+	 * The column names are built just like the column names in the header
+	 * line of a CSV source file bound by the {@link HeaderNameMapper}, i.e.
+	 * the {@link #getInputColumnPrefix() input} or
+	 * {@link #getOutputColumnPrefix() output} column prefix followed by the
+	 * name of the parameter or Java Bean property. They are case-insensitive.
+	 * Column indexes are zero-based and take precedence over the ones given
+	 * with the {@link ColumnIndex} annotation.
+	 * <p>
+	 * Defaults to an empty map
+	 *
+	 * @return the column indexes
+	 */
+	default Map<String, Integer> getColumnIndexes() {
+		return Collections.emptyMap();
+	}
+
 	/**
 	 * Retrieves the configuration object for the given linkKey.
 	 * <p>
@@ -37,10 +37,11 @@ import net.sf.testng.databinding.util.MethodParameter;
  * <h4>Java Beans</h4>
  * <p>
  * Java Beans that data is to be bound to need to have a standard constructor taking no arguments. Only primitive types and
- * {@link String Strings} are supported as Java Bean property types. Nested Java Beans are not supported either. If there
- * are any Java Bean properties for which no columns can be found a {@link MultipleSourceErrorsException} is thrown. Any
- * Java Bean properties having an unsupported type are just not set, leaving them unchanged. Any columns for which no Java
- * Bean properties of matching name and supported type can be found are skipped ignoring them.
+ * {@link String Strings} are supported as Java Bean property types, apart from nested Java Beans, if supported by the
+ * <code>mapper</code> like the {@link HeaderNameMapper} does. If there are any Java Bean properties for which no columns
+ * can be found a {@link MultipleSourceErrorsException} is thrown. Any Java Bean properties having an unsupported type are
+ * just not set, leaving them unchanged. Any columns for which no Java Bean properties of matching name and supported type
+ * can be found are skipped ignoring them.
  * </p>
  * <h3>Examples</h3>
  * <p>
@@ -0,0 +1,352 @@
+package net.sf.testng.databinding.csv;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.sf.testng.databinding.AbstractDataSource;
+import net.sf.testng.databinding.DataSource;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * <p>
+ * This {@link IDataSource data source} binds test data contained in several CSV files to test method parameters.
+ * The CSV files are all files within a directory, or any of its subdirectories, whose relative paths match a glob
+ * pattern. Each line of each file results in one test method invocation. Apart from that this data source supports
+ * exactly the same parameters, files and <code>mappers</code> as the {@link CsvDataSource}.
+ * </p>
+ * <h3>Specifications</h3>
+ * <h4>CSV Data Files</h4>
+ * <p>
+ * All files are bound by their own instance of the configured <code>mapper</code>, so their structure needs to be
+ * compatible, not equal. Using the {@link HeaderNameMapper}, for example, every file needs to have all the columns
+ * required by the test method parameters, but the columns may appear in any order. All files are checked before any
+ * data is read and a {@link MultipleSourceErrorsException} listing all incompatible files is thrown if there are any.
+ * </p>
+ * <h4>Concurrency</h4>
+ * <p>
+ * Up to {@link CsvMultiFileDataSourceConfiguration#getParallelism() parallelism} files are read and bound concurrently
+ * by background threads, reading at most {@link CsvMultiFileDataSourceConfiguration#getReadAheadRows() readAheadRows}
+ * lines ahead per file. If {@link CsvMultiFileDataSourceConfiguration#isOrdered() ordered}, which is the default, the
+ * rows are returned file by file in the order of the sorted relative paths of the files, just as if all files had been
+ * concatenated. Otherwise the rows are returned as soon as they become available, in no particular order, and the read
+ * ahead limit applies to all files together. Once all rows have been returned, or as soon as reading any file fails,
+ * the background threads are stopped and all files still open are closed.
+ * </p>
+ * <h3>Example</h3>
+ * <p>
+ * This example binds the daily shards of some exported data, which are located in the directory /data/daily and named
+ * like 2026-10-01.csv, all having the same columns. See the {@link HeaderNameMapper} for how the columns are bound.
+ * </p>
+ * <h4>Configuration Method</h4>
+ * <pre>
+ * public static CsvMultiFileDataSourceConfiguration dailyConfig() {
+ *     return new CsvMultiFileDataSourceConfiguration() {
+ *         &#64;Override
+ *         public URL getURL() {
+ *             return DailyTest.class.getResource("/data/daily");
+ *         }
+ *
+ *         &#64;Override
+ *         public String getGlob() {
+ *             return "2026-*.csv";
+ *         }
+ *     };
+ * }
+ * </pre>
+ *
+ * @author Matthias Rothe
+ * @see CsvDataSource
+ * @see CsvMultiFileDataSourceConfiguration
+ */
+@DataSource(name = "csv-multi-file")
+public class CsvMultiFileDataSource extends AbstractDataSource {
+	private static final Object[] END_OF_FILE = new Object[0];
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	private final List<MethodParameter> parameters;
+	private final CsvMultiFileDataSourceConfiguration configuration;
+	private final List<URL> files;
+	private final List<BlockingQueue<Object[]>> queues = new ArrayList<BlockingQueue<Object[]>>();
+	private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+	private final ExecutorService executor;
+	private volatile boolean closed;
+	private int remainingFiles;
+	private Object[] nextRow;
+
+	/**
+	 * Creates a new object of this class.
+	 *
+	 * @param parameters
+	 *            The test method's parameters
+	 * @param configuration
+	 *            The configuration of the configuration class and method
+	 * @throws Exception
+	 *             if anything goes wrong during initialization
+	 */
+	public CsvMultiFileDataSource(final List<MethodParameter> parameters, final Configuration configuration)
+			throws Exception {
+		this(parameters, DataSourceConfigurationLoader.loadDataSourceConfiguration(configuration,
+			CsvMultiFileDataSourceConfiguration.class));
+	}
+
+	/**
+	 * Creates a new object of this class.
+	 *
+	 * @param parameters
+	 *            The test method's parameters
+	 * @param configuration
+	 *            The data source configuration
+	 * @throws Exception
+	 *             if anything goes wrong during initialization
+	 */
+	public CsvMultiFileDataSource(final List<MethodParameter> parameters,
+			final CsvMultiFileDataSourceConfiguration configuration) throws Exception {
+		this.parameters = parameters;
+		this.configuration = configuration;
+		this.files = this.findFiles();
+		this.checkFiles();
+
+		final int queueCount = configuration.isOrdered() ? this.files.size() : 1;
+		for (int i = 0; i < queueCount; i++) {
+			this.queues.add(new ArrayBlockingQueue<Object[]>(configuration.getReadAheadRows()));
+		}
+
+		this.remainingFiles = this.files.size();
+		this.executor = Executors.newFixedThreadPool(Math.min(configuration.getParallelism(), this.files.size()),
+			new ReaderThreadFactory());
+
+		for (int i = 0; i < this.files.size(); i++) {
+			final int index = i;
+			this.executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					CsvMultiFileDataSource.this.readFile(index);
+				}
+			});
+		}
+
+		this.executor.shutdown();
+	}
+
+	private List<URL> findFiles() throws Exception {
+		final Path directory = Paths.get(this.configuration.getURL().toURI());
+		final PathMatcher matcher = directory.getFileSystem().getPathMatcher("glob:" + this.configuration.getGlob());
+		final List<Path> paths;
+
+		try (Stream<Path> stream = Files.walk(directory)) {
+			paths = stream.filter(Files::isRegularFile).map(directory::relativize).filter(matcher::matches).sorted()
+				.collect(Collectors.toList());
+		}
+
+		if (paths.isEmpty()) {
+			final ErrorCollector errorCollector = new ErrorCollector(this.configuration.getURL().toExternalForm());
+			errorCollector.addError("no files matching [" + this.configuration.getGlob() + "] found");
+			throw new MultipleSourceErrorsException(Arrays.asList(errorCollector));
+		}
+
+		final List<URL> urls = new ArrayList<URL>();
+		for (final Path path : paths) {
+			urls.add(directory.resolve(path).toUri().toURL());
+		}
+
+		return urls;
+	}
+
+	private void checkFiles() throws Exception {
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+
+		for (final URL file : this.files) {
+			try {
+				this.openFile(file, CsvDataSource.createMapper(this.parameters, this.createConfiguration(file)))
+					.close();
+			} catch (final MultipleSourceErrorsException e) {
+				final ErrorCollector errorCollector = new ErrorCollector(file.toExternalForm());
+				errorCollector.addError(e.getMessage());
+				errorCollectors.add(errorCollector);
+			}
+		}
+
+		if (errorCollectors.size() > 0) {
+			throw new MultipleSourceErrorsException(errorCollectors);
+		}
+	}
+
+	private CsvDataSourceConfiguration createConfiguration(final URL file) {
+		return new SingleFileConfiguration(this.configuration, file);
+	}
+
+	private CsvRowParser openFile(final URL file, final Mapper mapper) throws Exception {
+		final CsvRowParser rowParser = CsvDataSource.createRowParser(this.createConfiguration(file));
+		boolean initialized = false;
+
+		try {
+			mapper.init(rowParser.asCSVReader());
+			initialized = true;
+			return rowParser;
+		} finally {
+			if (!initialized) {
+				rowParser.close();
+			}
+		}
+	}
+
+	private BlockingQueue<Object[]> queueFor(final int fileIndex) {
+		return this.queues.get(this.configuration.isOrdered() ? fileIndex : 0);
+	}
+
+	private void readFile(final int index) {
+		final URL file = this.files.get(index);
+		final BlockingQueue<Object[]> queue = this.queueFor(index);
+
+		try {
+			final Mapper mapper = CsvDataSource.createMapper(this.parameters, this.createConfiguration(file));
+			final CsvRowParser rowParser = this.openFile(file, mapper);
+
+			try {
+				while (this.failure.get() == null && !this.closed && rowParser.readRow()) {
+					if (!this.offer(queue, mapper.createBeans(rowParser.getRow()))) {
+						return;
+					}
+				}
+			} finally {
+				rowParser.close();
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		} catch (final Throwable t) {
+			this.failure.compareAndSet(null, t);
+		}
+
+		try {
+			this.offer(queue, END_OF_FILE);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Waits for the queue to accept the row, giving up once this data source has been closed, so readers never block
+	 * forever on rows nobody is going to take.
+	 */
+	private boolean offer(final BlockingQueue<Object[]> queue, final Object[] row) throws InterruptedException {
+		while (!this.closed) {
+			if (queue.offer(row, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		while (this.nextRow == null && this.remainingFiles > 0) {
+			final Object[] row = this.take(this.queueFor(this.files.size() - this.remainingFiles));
+
+			if (row == END_OF_FILE) {
+				this.remainingFiles--;
+				this.rethrowFailure();
+			} else {
+				this.nextRow = row;
+			}
+		}
+
+		if (this.remainingFiles == 0) {
+			this.close();
+		}
+
+		return this.nextRow != null;
+	}
+
+	private Object[] take(final BlockingQueue<Object[]> queue) {
+		try {
+			return queue.take();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.close();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void rethrowFailure() {
+		final Throwable t = this.failure.get();
+
+		if (t != null) {
+			this.remainingFiles = 0;
+			this.close();
+
+			if (t instanceof Error) {
+				throw (Error) t;
+			} else {
+				throw Exceptions.softenIfNecessary((Exception) t);
+			}
+		}
+	}
+
+	/**
+	 * Stops all readers, which close their files, and discards the rows read ahead. Files not started yet are never
+	 * opened.
+	 */
+	private void close() {
+		if (!this.closed) {
+			this.closed = true;
+			this.executor.shutdownNow();
+
+			for (final BlockingQueue<Object[]> queue : this.queues) {
+				queue.clear();
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] next() {
+		if (this.hasNext()) {
+			final Object[] row = this.nextRow;
+			this.nextRow = null;
+			return row;
+		} else {
+			throw new NoSuchElementException();
+		}
+	}
+
+	private static class ReaderThreadFactory implements ThreadFactory {
+
+		@Override
+		public Thread newThread(final Runnable runnable) {
+			final Thread thread = new Thread(runnable, "testng-databinding-csv-reader-" + THREAD_COUNT.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package net.sf.testng.databinding.csv;
+
+import java.net.URL;
+import java.nio.file.FileSystem;
+
+/**
+ * The configuration of a {@link CsvMultiFileDataSource}. All settings inherited from the
+ * {@link CsvDataSourceConfiguration} apply to each of the CSV source files alike.
+ *
+ * @author Matthias Rothe
+ */
+public interface CsvMultiFileDataSourceConfiguration extends CsvDataSourceConfiguration {
+
+	/**
+	 * The locator of the directory containing the CSV source files.
+	 * <p>
+	 * MUST denote a directory within the default file system, i.e.
+	 * it must be a <code>file:</code> URL.
+	 *
+	 * @return the directory url
+	 */
+	@Override
+	URL getURL();
+
+	/**
+	 * The glob pattern the paths of the CSV source files must match.
+	 * The paths matched are relative to the {@link #getURL() directory},
+	 * so a pattern containing directory separators, like
+	 * <code>*&#47;*.csv</code>, matches files within subdirectories.
+	 * <p>
+	 * May be any pattern deemed to be legal by
+	 * {@link FileSystem#getPathMatcher(String)} using the <code>glob</code> syntax
+	 * <p>
+	 * Defaults to *.csv
+	 *
+	 * @return the glob pattern
+	 */
+	default String getGlob() {
+		return "*.csv";
+	}
+
+	/**
+	 * Whether the rows are returned in a deterministic order or not.
+	 * If ordered, all rows of a file are returned before any row of the
+	 * next file, with the files sorted by their relative paths. Otherwise
+	 * rows are returned as soon as they have been read from any file.
+	 * <p>
+	 * Defaults to <code>true</code>
+	 *
+	 * @return <code>true</code>, or <code>false</code>
+	 */
+	default boolean isOrdered() {
+		return true;
+	}
+
+	/**
+	 * The maximum number of CSV source files read concurrently.
+	 * <p>
+	 * May be any integer &gt; 0
+	 * <p>
+	 * Defaults to the number of available processors
+	 *
+	 * @return the number of files read concurrently
+	 */
+	default int getParallelism() {
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * The maximum number of rows read ahead of the test method invocations
+	 * per CSV source file, or in total if not {@link #isOrdered() ordered}.
+	 * <p>
+	 * May be any integer &gt; 0
+	 * <p>
+	 * Defaults to 256
+	 *
+	 * @return the number of rows read ahead
+	 */
+	default int getReadAheadRows() {
+		return 256;
+	}
+}
@@ -0,0 +1,98 @@
+package net.sf.testng.databinding.csv;
+
+/**
+ * A read-only view of the cells of one line of a CSV file, as passed to
+ * {@link Mapper#createBeans(CsvRow)}.
+ * <p>
+ * Row views are reused for all lines of a CSV file, so a row view, and any {@link CharSequence} obtained
+ * from it, is only valid until the next line is read. Values that need to outlive the current line must
+ * be copied, e.g. by {@link #getString(int)}. Apart from {@link #getString(int)}, {@link #getFloat(int)},
+ * {@link #getDouble(int)} and {@link #toArray()} none of the accessors allocate any objects.
+ * <p>
+ * Columns are zero-based. Accessing a column not contained in the current line results in an
+ * {@link IndexOutOfBoundsException}.
+ *
+ * @author Matthias Rothe
+ */
+public interface CsvRow {
+
+	/**
+	 * @return the number of cells of the current line
+	 */
+	int size();
+
+	/**
+	 * @param column The column
+	 * @return the number of characters in the cell of the given column
+	 */
+	int length(int column);
+
+	/**
+	 * @param column The column
+	 * @param index The index of the character within the cell
+	 * @return the character at the given index of the cell of the given column
+	 */
+	char charAt(int column, int index);
+
+	/**
+	 * Returns a view of the cell of the given column. The view is only valid until the next line is
+	 * read.
+	 *
+	 * @param column The column
+	 * @return the cell of the given column
+	 */
+	CharSequence get(int column);
+
+	/**
+	 * @param column The column
+	 * @return a copy of the cell of the given column
+	 */
+	String getString(int column);
+
+	/**
+	 * @param column The column
+	 * @return the first character of the cell of the given column, or <code>null</code> if the cell is
+	 *         empty
+	 */
+	Character getChar(int column);
+
+	/**
+	 * @param column The column
+	 * @return the cell of the given column parsed as a decimal <code>int</code>
+	 * @throws NumberFormatException if the cell doesn't contain a parsable <code>int</code>
+	 */
+	int getInt(int column);
+
+	/**
+	 * @param column The column
+	 * @return the cell of the given column parsed as a decimal <code>long</code>
+	 * @throws NumberFormatException if the cell doesn't contain a parsable <code>long</code>
+	 */
+	long getLong(int column);
+
+	/**
+	 * @param column The column
+	 * @return the cell of the given column parsed as a <code>float</code>
+	 * @throws NumberFormatException if the cell doesn't contain a parsable <code>float</code>
+	 */
+	float getFloat(int column);
+
+	/**
+	 * @param column The column
+	 * @return the cell of the given column parsed as a <code>double</code>
+	 * @throws NumberFormatException if the cell doesn't contain a parsable <code>double</code>
+	 */
+	double getDouble(int column);
+
+	/**
+	 * @param column The column
+	 * @return <code>true</code>, if the cell of the given column equals "true" ignoring case,
+	 *         <code>false</code> otherwise, just like {@link Boolean#parseBoolean(String)}
+	 */
+	boolean getBoolean(int column);
+
+	/**
+	 * @return a copy of all cells of the current line
+	 */
+	String[] toArray();
+}
@@ -0,0 +1,358 @@
+package net.sf.testng.databinding.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Objects;
+
+import au.com.bytecode.opencsv.CSVReader;
+
+/**
+ * Parses the lines of a CSV file into a single, reused {@link CsvRow row view}. The cells of a line are
+ * stored in one character buffer shared by all lines, so reading a line doesn't allocate any objects once
+ * the buffers have grown to the size of the longest line.
+ * <p>
+ * Lines are parsed exactly like the {@link CSVReader} does, taking the separator, quote and escape
+ * characters, the lines to skip, strict quotes and leading whitespace settings into account. Quoted cells
+ * may span several physical lines.
+ *
+ * @author Matthias Rothe
+ */
+final class CsvRowParser implements Closeable {
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Reader reader;
+	private final char separator;
+	private final char quoteChar;
+	private final char escape;
+	private final boolean strictQuotes;
+	private final boolean ignoreLeadingWhitespace;
+	private int linesToSkip;
+
+	private final char[] input = new char[BUFFER_SIZE];
+	private int inputPosition;
+	private int inputLimit;
+	private boolean skipLineFeed;
+
+	private char[] line = new char[128];
+	private int lineLength;
+	private boolean inField;
+
+	private final Row row = new Row();
+
+	/**
+	 * Creates a new parser reading from the given reader.
+	 *
+	 * @param reader The reader to read the CSV file from
+	 * @param configuration The configuration defining the structure of the CSV file
+	 */
+	CsvRowParser(final Reader reader, final CsvDataSourceConfiguration configuration) {
+		this.reader = reader;
+		this.separator = configuration.getSeparator();
+		this.quoteChar = configuration.getQuoteChar();
+		this.escape = configuration.getEscapeChar();
+		this.strictQuotes = configuration.useStrictQuotes();
+		this.ignoreLeadingWhitespace = configuration.ignoreLeadingWhitespace();
+		this.linesToSkip = configuration.getLinesToSkip();
+	}
+
+	/**
+	 * Reads the next line into the {@link #getRow() row view}.
+	 *
+	 * @return <code>true</code>, if a line has been read, <code>false</code> if the end of the file has
+	 *         been reached
+	 * @throws IOException if reading fails
+	 */
+	boolean readRow() throws IOException {
+		for (; this.linesToSkip > 0; this.linesToSkip--) {
+			this.readLine();
+		}
+
+		this.row.clear();
+		boolean pending = false;
+
+		do {
+			if (!this.readLine()) {
+				return this.row.size > 0;
+			}
+
+			pending = this.parseLine(pending);
+		} while (pending);
+
+		return true;
+	}
+
+	/**
+	 * @return the row view holding the last line read
+	 */
+	CsvRow getRow() {
+		return this.row;
+	}
+
+	/**
+	 * Returns a {@link CSVReader} reading its lines from this parser, for {@link Mapper mappers} reading
+	 * lines on {@link Mapper#init(CSVReader) initialization}.
+	 *
+	 * @return the reader
+	 */
+	CSVReader asCSVReader() {
+		return new RowReader();
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.reader.close();
+	}
+
+	private boolean readLine() throws IOException {
+		boolean read = false;
+		this.lineLength = 0;
+
+		while (true) {
+			if (this.inputPosition >= this.inputLimit) {
+				this.inputLimit = this.reader.read(this.input, 0, this.input.length);
+				this.inputPosition = 0;
+
+				if (this.inputLimit <= 0) {
+					this.inputLimit = 0;
+					return read;
+				}
+			}
+
+			if (this.skipLineFeed) {
+				this.skipLineFeed = false;
+
+				if (this.input[this.inputPosition] == '\n') {
+					this.inputPosition++;
+					continue;
+				}
+			}
+
+			read = true;
+			final int start = this.inputPosition;
+
+			while (this.inputPosition < this.inputLimit) {
+				final char c = this.input[this.inputPosition];
+
+				if (c == '\n' || c == '\r') {
+					this.appendToLine(start, this.inputPosition);
+					this.inputPosition++;
+					this.skipLineFeed = c == '\r';
+					return true;
+				}
+
+				this.inputPosition++;
+			}
+
+			this.appendToLine(start, this.inputPosition);
+		}
+	}
+
+	private void appendToLine(final int start, final int end) {
+		final int length = end - start;
+
+		if (this.lineLength + length > this.line.length) {
+			this.line = Arrays.copyOf(this.line, Math.max(this.line.length * 2, this.lineLength + length));
+		}
+
+		System.arraycopy(this.input, start, this.line, this.lineLength, length);
+		this.lineLength += length;
+	}
+
+	private boolean parseLine(final boolean pending) {
+		final char[] line = this.line;
+		final int length = this.lineLength;
+		boolean inQuotes = pending;
+
+		for (int i = 0; i < length; i++) {
+			final char c = line[i];
+
+			if (c == this.escape) {
+				if (this.isNextCharacterEscapable(inQuotes || this.inField, i)) {
+					this.row.append(line[i + 1]);
+					i++;
+				}
+			} else if (c == this.quoteChar) {
+				if (this.isNextCharacterEscapedQuote(inQuotes || this.inField, i)) {
+					this.row.append(line[i + 1]);
+					i++;
+				} else {
+					if (!this.strictQuotes && i > 2 && line[i - 1] != this.separator && length > i + 1
+							&& line[i + 1] != this.separator) {
+						if (this.ignoreLeadingWhitespace && this.row.isCellWhitespace()) {
+							this.row.resetCell();
+						} else {
+							this.row.append(c);
+						}
+					}
+
+					inQuotes = !inQuotes;
+				}
+
+				this.inField = !this.inField;
+			} else if (c == this.separator && !inQuotes) {
+				this.row.endCell();
+				this.inField = false;
+			} else if (!this.strictQuotes || inQuotes) {
+				this.row.append(c);
+				this.inField = true;
+			}
+		}
+
+		if (inQuotes) {
+			this.row.append('\n');
+			return true;
+		}
+
+		this.row.endCell();
+		return false;
+	}
+
+	private boolean isNextCharacterEscapedQuote(final boolean inQuotes, final int i) {
+		return inQuotes && this.lineLength > i + 1 && this.line[i + 1] == this.quoteChar;
+	}
+
+	private boolean isNextCharacterEscapable(final boolean inQuotes, final int i) {
+		return inQuotes && this.lineLength > i + 1
+				&& (this.line[i + 1] == this.quoteChar || this.line[i + 1] == this.escape);
+	}
+
+	private static final class Row extends AbstractCsvRow {
+		private char[] chars = new char[256];
+		private int length;
+		private int cellStart;
+		private int[] starts = new int[16];
+		private int[] ends = new int[16];
+		private int size;
+		private Cell[] cells = new Cell[16];
+
+		void clear() {
+			this.length = 0;
+			this.cellStart = 0;
+			this.size = 0;
+		}
+
+		void append(final char c) {
+			if (this.length == this.chars.length) {
+				this.chars = Arrays.copyOf(this.chars, this.length * 2);
+			}
+
+			this.chars[this.length++] = c;
+		}
+
+		boolean isCellWhitespace() {
+			if (this.length == this.cellStart) {
+				return false;
+			}
+
+			for (int i = this.cellStart; i < this.length; i++) {
+				if (!Character.isWhitespace(this.chars[i])) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		void resetCell() {
+			this.length = this.cellStart;
+		}
+
+		void endCell() {
+			if (this.size == this.starts.length) {
+				this.starts = Arrays.copyOf(this.starts, this.size * 2);
+				this.ends = Arrays.copyOf(this.ends, this.size * 2);
+			}
+
+			this.starts[this.size] = this.cellStart;
+			this.ends[this.size] = this.length;
+			this.size++;
+			this.cellStart = this.length;
+		}
+
+		@Override
+		public int size() {
+			return this.size;
+		}
+
+		@Override
+		public int length(final int column) {
+			Objects.checkIndex(column, this.size);
+			return this.ends[column] - this.starts[column];
+		}
+
+		@Override
+		public char charAt(final int column, final int index) {
+			Objects.checkIndex(index, this.length(column));
+			return this.chars[this.starts[column] + index];
+		}
+
+		@Override
+		public CharSequence get(final int column) {
+			Objects.checkIndex(column, this.size);
+
+			if (column >= this.cells.length) {
+				this.cells = Arrays.copyOf(this.cells, Math.max(this.cells.length * 2, column + 1));
+			}
+
+			if (this.cells[column] == null) {
+				this.cells[column] = new Cell(column);
+			}
+
+			return this.cells[column];
+		}
+
+		@Override
+		public String getString(final int column) {
+			return new String(this.chars, this.starts[column], this.length(column));
+		}
+
+		private final class Cell implements CharSequence {
+			private final int column;
+
+			Cell(final int column) {
+				this.column = column;
+			}
+
+			@Override
+			public int length() {
+				return Row.this.length(this.column);
+			}
+
+			@Override
+			public char charAt(final int index) {
+				return Row.this.charAt(this.column, index);
+			}
+
+			@Override
+			public CharSequence subSequence(final int start, final int end) {
+				Objects.checkFromToIndex(start, end, this.length());
+				return new String(Row.this.chars, Row.this.starts[this.column] + start, end - start);
+			}
+
+			@Override
+			public String toString() {
+				return Row.this.getString(this.column);
+			}
+		}
+	}
+
+	private final class RowReader extends CSVReader {
+
+		RowReader() {
+			super(new StringReader(""));
+		}
+
+		@Override
+		public String[] readNext() throws IOException {
+			return CsvRowParser.this.readRow() ? CsvRowParser.this.row.toArray() : null;
+		}
+
+		@Override
+		public void close() throws IOException {
+			CsvRowParser.this.close();
+		}
+	}
+}
@@ -196,40 +196,20 @@ public class HeaderNameFileLinkingMapper extends HeaderNameMapper {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Object[] createBeans(final String[] line) {
-		final List<Object> objects = new ArrayList<Object>();
-
-		for (final MethodParameter parameter : this.getParameters()) {
-			if (this.getInputParameters().contains(parameter)) {
-				objects.add(this.createInputObject(parameter, line));
-			} else if (this.getOutputParameters().contains(parameter)) {
-				objects.add(this.createOutputObject(parameter, line));
-			}
-		}
-
-		return objects.toArray();
-	}
-
-	private Object createInputObject(final MethodParameter parameter, final String[] line) {
-		return this.createObject(parameter, line, this.getInputColumnPrefix());
-	}
-
-	private Object createOutputObject(final MethodParameter parameter, final String[] line) {
-		final Type type = parameter.getType();
-
-		if (Types.isListOfObjectsType(type)) {
-			return this.createListOfObjects(parameter, line);
+	protected Object createObject(final MethodParameter parameter, final CsvRow row, final String prefix) {
+		if (Types.isListOfObjectsType(parameter.getType())) {
+			return this.createListOfObjects(parameter, row);
 		} else {
-			return this.createObject(parameter, line, this.getOutputColumnPrefix());
+			return super.createObject(parameter, row, prefix);
 		}
 	}
 
-	private Object createListOfObjects(final MethodParameter parameter, final String[] line) {
+	private Object createListOfObjects(final MethodParameter parameter, final CsvRow row) {
 		try {
 			final List<Object> list = new ArrayList<Object>();
 
 			final String name = parameter.getName();
-			final String linkKey = line[this.getHeaderIndexFor(this.linkingColumnPrefix, name)];
+			final String linkKey = row.getString(this.getHeaderIndexFor(this.linkingColumnPrefix, name));
 
 			final CsvDataSourceConfiguration configuration =
 					getConfiguration().getConfiguration(linkKey);
@@ -0,0 +1,353 @@
+package net.sf.testng.databinding.csv;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.util.Types;
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * <p>
+ * Maps the column names in the first line (header line) of the CSV file to the names of the
+ * {@link MethodParameter method parameters} just like the {@link HeaderNameMapper}, but additionally binds
+ * {@link List lists} of primitives and lists of Java Beans for {@link TestInput test input} and
+ * {@link TestOutput test output} parameters from a single column. Unlike the {@link HeaderNameFileLinkingMapper}
+ * no dependent CSV files are needed, as all elements of a list are contained in the column itself.
+ * </p><p>
+ * The elements of a list are separated by the {@link CsvDataSourceConfiguration#getListDelimiter() list delimiter}.
+ * An empty column results in an empty list. The column of a list of Java Beans is named after the simple class name
+ * of the Java Bean, just like the column of a single Java Bean property, and declares the properties its elements
+ * consist of in parentheses after the column name, separated by the
+ * {@link CsvDataSourceConfiguration#getFieldDelimiter() field delimiter}. Each element then contains the values of
+ * these properties in the same order, separated by the field delimiter as well. Neither delimiter can be escaped, so
+ * list elements must not contain them. The values are parsed directly from the column, without splitting it up into
+ * intermediate arrays first.
+ * </p>
+ * <h3>Example</h3>
+ * <p>
+ * This example binds the same data as the example of the {@link HeaderNameFileLinkingMapper}, plus the bounds of
+ * the prime twins within each range as a {@link List list} of Java Beans. Getters and setters are omitted in the Java
+ * Bean for brevity in this example. They are however crucial in actual Java Beans, so you have to include them in any
+ * Java Bean you actually want to bind data to.
+ * </p>
+ * <h4>Test Method</h4>
+ * <pre>
+ * &#64;DataBinding(dataSource = "csv", configClass = Configs.class)
+ * public void testGetPrimesInRange(&#64;TestInput Bounds bounds, &#64;TestInput(name = "includingBounds") boolean includingBounds,
+ *         &#64;TestOutput(name = "primes") List&lt;Integer&gt; primes, &#64;TestOutput List&lt;Bounds&gt; twins) {
+ *     assertEquals(getPrimesInRange(bounds.getLower(), bounds.getUpper(), includingBounds), primes);
+ *     assertEquals(getPrimeTwinsInRange(bounds.getLower(), bounds.getUpper(), includingBounds), twins);
+ * }
+ * </pre>
+ * <h4>Java Bean: Bounds</h4>
+ * <pre>
+ * public class Bounds {
+ *     private int lower;
+ *     private int upper;
+ *
+ *     /* Getters and setters omitted for brevity &#42;/
+ * }
+ * </pre>
+ * <h4>Configuration Method</h4>
+ * <pre>
+ * public static CsvDataSourceConfiguration testGetPrimesInRangeConfig() {
+ *     return new CsvDataSourceConfiguration() {
+ *         &#64;Override
+ *         public URL getURL() {
+ *             return Configs.class.getResource("/data/primeRanges.csv");
+ *         }
+ *
+ *         &#64;Override
+ *         public Class&lt;? extends Mapper&gt; getMapperClass() {
+ *             return HeaderNameInlineListMapper.class;
+ *         }
+ *     };
+ * }
+ * </pre>
+ * <h4>CSV Data Source File</h4>
+ * <pre>
+ * in_lower,in_upper,in_includingBounds,out_primes,out_bounds(lower:upper)
+ * 2,11,true,2|3|5|7|11,3:5|5:7
+ * 13,37,false,17|19|23|29|31,17:19|29:31
+ * </pre>
+ *
+ * @author Matthias Rothe
+ */
+public class HeaderNameInlineListMapper extends HeaderNameMapper {
+	private final char listDelimiter;
+	private final char fieldDelimiter;
+	private final Map<MethodParameter, ListColumn> listColumns = new HashMap<MethodParameter, ListColumn>();
+
+	/**
+	 * Constructor taking a {@link List list} of {@link MethodParameter method parameters} to bind the data to and
+	 * the {@link CsvDataSourceConfiguration configuration} specifying how the CSV file is defined and how to bind the
+	 * data.
+	 *
+	 * @param parameters The test method parameters
+	 * @param configuration The configuration
+	 */
+	public HeaderNameInlineListMapper(final List<MethodParameter> parameters,
+			final CsvDataSourceConfiguration configuration) {
+		super(parameters, configuration);
+		this.listDelimiter = configuration.getListDelimiter();
+		this.fieldDelimiter = configuration.getFieldDelimiter();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected List<ErrorCollector> checkParameters(final List<MethodParameter> parameters) {
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+
+		for (final MethodParameter parameter : parameters) {
+			final Type type = parameter.getType();
+
+			final ErrorCollector errorCollector = new ErrorCollector(type);
+			this.checkIsNotEnumType(type, errorCollector);
+
+			if (errorCollector.hasErrors()) {
+				errorCollectors.add(errorCollector);
+			}
+		}
+
+		return errorCollectors;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected List<ErrorCollector> checkHeaders() throws Exception {
+		final List<ErrorCollector> errorCollectors = super.checkHeaders();
+
+		errorCollectors.addAll(this.checkListHeaders(this.getInputParameters(), this.getInputColumnPrefix()));
+		errorCollectors.addAll(this.checkListHeaders(this.getOutputParameters(), this.getOutputColumnPrefix()));
+
+		return errorCollectors;
+	}
+
+	private List<ErrorCollector> checkListHeaders(final List<MethodParameter> parameters, final String prefix)
+			throws IntrospectionException, NoSuchMethodException {
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+
+		for (final MethodParameter parameter : parameters) {
+			final Type type = parameter.getType();
+			final ErrorCollector errorCollector = new ErrorCollector(type, parameter.getName());
+
+			if (Types.isListOfPrimitivesType(type)) {
+				this.checkListOfPrimitivesHeader(parameter, prefix, errorCollector);
+			} else if (Types.isListOfBeansType(type)) {
+				this.checkListOfBeansHeader(parameter, prefix, errorCollector);
+			}
+
+			if (errorCollector.hasErrors()) {
+				errorCollectors.add(errorCollector);
+			}
+		}
+
+		return errorCollectors;
+	}
+
+	private void checkListOfPrimitivesHeader(final MethodParameter parameter, final String prefix,
+			final ErrorCollector errorCollector) {
+		final int index = this.getHeaderIndexFor(prefix, parameter.getName());
+
+		if (index < 0) {
+			errorCollector.addError("header not found: " + prefix + parameter.getName());
+		} else {
+			final Type elementType = ((ParameterizedType) parameter.getType()).getActualTypeArguments()[0];
+			this.listColumns.put(parameter, new PrimitiveListColumn(index, PrimitiveConverter.forType(elementType)));
+		}
+	}
+
+	private void checkListOfBeansHeader(final MethodParameter parameter, final String prefix,
+			final ErrorCollector errorCollector) throws IntrospectionException, NoSuchMethodException {
+		final String start = (prefix + parameter.getName() + "(").toLowerCase();
+		final List<String> headers = this.getHeaders();
+
+		for (int index = 0; index < headers.size(); index++) {
+			final String header = headers.get(index);
+
+			if (header.startsWith(start) && header.endsWith(")")) {
+				final Class<?> beanClass = (Class<?>) ((ParameterizedType) parameter.getType())
+					.getActualTypeArguments()[0];
+				final String[] fieldNames = header.substring(start.length(), header.length() - 1)
+					.split(Pattern.quote(String.valueOf(this.fieldDelimiter)), -1);
+				this.listColumns.put(parameter, this.createBeanListColumn(index, beanClass, fieldNames,
+					errorCollector));
+				return;
+			}
+		}
+
+		errorCollector.addError("header not found: " + prefix + parameter.getName() + "(<properties>)");
+	}
+
+	private ListColumn createBeanListColumn(final int index, final Class<?> beanClass, final String[] fieldNames,
+			final ErrorCollector errorCollector) throws IntrospectionException, NoSuchMethodException {
+		final Method[] writeMethods = new Method[fieldNames.length];
+		final PrimitiveConverter[] converters = new PrimitiveConverter[fieldNames.length];
+		final BeanInfo info = Introspector.getBeanInfo(beanClass);
+
+		for (int i = 0; i < fieldNames.length; i++) {
+			for (final PropertyDescriptor descriptor : info.getPropertyDescriptors()) {
+				if (descriptor.getName().equalsIgnoreCase(fieldNames[i]) && descriptor.getWriteMethod() != null
+						&& Types.isPrimitiveType(descriptor.getPropertyType())) {
+					writeMethods[i] = descriptor.getWriteMethod();
+					converters[i] = PrimitiveConverter.forType(descriptor.getPropertyType());
+				}
+			}
+
+			if (writeMethods[i] == null) {
+				errorCollector.addError("no writeable primitive property " + fieldNames[i] + " in " + beanClass);
+			}
+		}
+
+		return new BeanListColumn(index, beanClass.getConstructor(), writeMethods, converters);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Object createObject(final MethodParameter parameter, final CsvRow row, final String prefix) {
+		final ListColumn listColumn = this.listColumns.get(parameter);
+
+		if (listColumn != null) {
+			return listColumn.createList(row.get(listColumn.index));
+		} else {
+			return super.createObject(parameter, row, prefix);
+		}
+	}
+
+	private static int indexOf(final CharSequence cell, final char c, final int fromIndex, final int toIndex) {
+		for (int i = fromIndex; i < toIndex; i++) {
+			if (cell.charAt(i) == c) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private static MultipleSourceErrorsException elementError(final CharSequence cell, final int beginIndex,
+			final int endIndex, final String detail) {
+		final ErrorCollector errorCollector = new ErrorCollector(cell.toString());
+		errorCollector.addError("element " + cell.subSequence(beginIndex, endIndex) + " " + detail);
+		return new MultipleSourceErrorsException(Arrays.asList(errorCollector));
+	}
+
+	private static Object convert(final PrimitiveConverter converter, final CharSequence cell, final int beginIndex,
+			final int endIndex, final int elementBeginIndex, final int elementEndIndex) {
+		try {
+			return converter.convert(cell, beginIndex, endIndex);
+		} catch (final RuntimeException e) {
+			throw elementError(cell, elementBeginIndex, elementEndIndex, "can't be converted, detail message: "
+					+ e.getMessage());
+		}
+	}
+
+	private abstract class ListColumn {
+		private final int index;
+
+		ListColumn(final int index) {
+			this.index = index;
+		}
+
+		List<Object> createList(final CharSequence cell) {
+			final List<Object> list = new ArrayList<Object>();
+
+			if (cell.length() > 0) {
+				int begin = 0;
+				int end;
+
+				while ((end = indexOf(cell, listDelimiter, begin, cell.length())) >= 0) {
+					list.add(this.createElement(cell, begin, end));
+					begin = end + 1;
+				}
+
+				list.add(this.createElement(cell, begin, cell.length()));
+			}
+
+			return list;
+		}
+
+		abstract Object createElement(CharSequence cell, int beginIndex, int endIndex);
+	}
+
+	private class PrimitiveListColumn extends ListColumn {
+		private final PrimitiveConverter converter;
+
+		PrimitiveListColumn(final int index, final PrimitiveConverter converter) {
+			super(index);
+			this.converter = converter;
+		}
+
+		@Override
+		Object createElement(final CharSequence cell, final int beginIndex, final int endIndex) {
+			return convert(this.converter, cell, beginIndex, endIndex, beginIndex, endIndex);
+		}
+	}
+
+	private class BeanListColumn extends ListColumn {
+		private final Constructor<?> constructor;
+		private final Method[] writeMethods;
+		private final PrimitiveConverter[] converters;
+
+		BeanListColumn(final int index, final Constructor<?> constructor, final Method[] writeMethods,
+				final PrimitiveConverter[] converters) {
+			super(index);
+			this.constructor = constructor;
+			this.writeMethods = writeMethods;
+			this.converters = converters;
+		}
+
+		@Override
+		Object createElement(final CharSequence cell, final int beginIndex, final int endIndex) {
+			try {
+				final Object bean = this.constructor.newInstance();
+				int begin = beginIndex;
+
+				for (int i = 0; i < this.writeMethods.length; i++) {
+					final int end = i < this.writeMethods.length - 1 ? indexOf(cell, fieldDelimiter, begin, endIndex)
+							: endIndex;
+
+					if (end < 0) {
+						throw elementError(cell, beginIndex, endIndex, "has fewer than " + this.writeMethods.length
+								+ " fields");
+					} else if (end == endIndex && indexOf(cell, fieldDelimiter, begin, endIndex) >= 0) {
+						throw elementError(cell, beginIndex, endIndex, "has more than " + this.writeMethods.length
+								+ " fields");
+					}
+
+					this.writeMethods[i].invoke(bean, convert(this.converters[i], cell, begin, end, beginIndex,
+						endIndex));
+					begin = end + 1;
+				}
+
+				return bean;
+			} catch (final MultipleSourceErrorsException e) {
+				throw e;
+			} catch (final Exception e) {
+				throw Exceptions.softenIfNecessary(e);
+			}
+		}
+	}
+}
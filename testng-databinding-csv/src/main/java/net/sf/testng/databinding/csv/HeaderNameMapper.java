@@ -4,17 +4,20 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import net.sf.testng.databinding.TestInput;
 import net.sf.testng.databinding.TestOutput;
 import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
 import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
 import net.sf.testng.databinding.core.util.Types;
 import net.sf.testng.databinding.util.Exceptions;
@@ -26,6 +29,16 @@ import au.com.bytecode.opencsv.CSVReader;
  * Maps the column names in the first line (header line) of the CSV file to the names of the
  * {@link MethodParameter method parameters}. Takes input and output column prefixes into account, mapping the
  * input and output columns to {@link TestInput test input} and {@link TestOutput test output} parameters.
+ * </p><p>
+ * Java Beans may contain nested Java Beans. Their properties are bound from columns with dotted names, consisting of
+ * the column prefix followed by the path of property names leading to the primitive property, e.g.
+ * <code>in_address.city</code> for the <code>city</code> property of the <code>address</code> property of a
+ * {@link TestInput test input} Java Bean. The columns of all primitive parameters and Java Bean properties are
+ * resolved once when the header line is read, so binding a line doesn't involve any column name lookups. Subclasses
+ * binding further types of parameters get those passed to {@link #createObject(MethodParameter, CsvRow, String)}.
+ * Subclasses overriding {@link #createObject(MethodParameter, String[], String)}, one of the
+ * <code>createPrimitive</code> or one of the <code>createSingleBean</code> methods get the parameters concerned passed
+ * to their overrides instead of having them bound by the resolved columns.
  * </p>
  * <h3>Example</h3>
  * <p>
@@ -75,6 +88,8 @@ public class HeaderNameMapper extends Mapper {
 	private List<String> headers = new ArrayList<String>();
 	private List<MethodParameter> inputParameters = new ArrayList<MethodParameter>();
 	private List<MethodParameter> outputParameters = new ArrayList<MethodParameter>();
+	private Map<String, Map<Class<?>, BeanPlan>> beanPlans = new HashMap<String, Map<Class<?>, BeanPlan>>();
+	private ParameterPlan[] parameterPlans;
 
 	/**
 	 * Constructor taking a {@link List list} of {@link MethodParameter method parameters} to bind the data to and
@@ -127,6 +142,13 @@ public class HeaderNameMapper extends Mapper {
 		return this.outputParameters;
 	}
 
+	/**
+	 * @return The normalized, i.e. lower case, headers of the CSV file
+	 */
+	protected final List<String> getHeaders() {
+		return this.headers;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -160,6 +182,63 @@ public class HeaderNameMapper extends Mapper {
 		if (errorCollectors != null && errorCollectors.size() > 0) {
 			throw new MultipleSourceErrorsException(errorCollectors);
 		}
+
+		this.parameterPlans = this.compileParameterPlans();
+	}
+
+	private ParameterPlan[] compileParameterPlans() {
+		List<ParameterPlan> plans = new ArrayList<ParameterPlan>();
+
+		for (MethodParameter parameter : this.getParameters()) {
+			String prefix;
+
+			if (this.inputParameters.contains(parameter)) {
+				prefix = this.inputColumnPrefix;
+			} else if (this.outputParameters.contains(parameter)) {
+				prefix = this.outputColumnPrefix;
+			} else {
+				continue;
+			}
+
+			Type type = parameter.getType();
+			int index = -1;
+			PrimitiveConverter converter = null;
+			BeanPlan beanPlan = null;
+			boolean lineHooks = this.overrides("createObject", String[].class);
+
+			if (Types.isPrimitiveType(type)) {
+				lineHooks |= this.overrides("createPrimitive", String[].class);
+
+				if (!lineHooks && !this.overrides("createPrimitive", CsvRow.class)) {
+					index = this.getHeaderIndexFor(prefix, parameter.getName());
+					converter = PrimitiveConverter.forType(type);
+				}
+			} else if (Types.isSingleBeanType(type)) {
+				lineHooks |= this.overrides("createSingleBean", String[].class);
+
+				if (!lineHooks && !this.overrides("createSingleBean", CsvRow.class)
+						&& this.beanPlans.containsKey(prefix)) {
+					beanPlan = this.beanPlans.get(prefix).get(type);
+				}
+			}
+
+			plans.add(new ParameterPlan(parameter, prefix, index, converter, beanPlan, lineHooks));
+		}
+
+		return plans.toArray(new ParameterPlan[plans.size()]);
+	}
+
+	private boolean overrides(String methodName, Class<?> lineType) {
+		for (Class<?> clazz = this.getClass(); clazz != HeaderNameMapper.class; clazz = clazz.getSuperclass()) {
+			try {
+				clazz.getDeclaredMethod(methodName, MethodParameter.class, lineType, String.class);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// not overridden by this class
+			}
+		}
+
+		return false;
 	}
 
 	private void normalizeHeaders() {
@@ -241,8 +320,10 @@ public class HeaderNameMapper extends Mapper {
 	}
 
 	/**
-	 * Checks whether all headers required by the given Java Bean type are contained in the CSV file with the given
-	 * prefix. Returns an {@link ErrorCollector error collector} containing any error found.
+	 * Checks whether all headers required by the given Java Bean type, including the headers required by any nested
+	 * Java Bean, are contained in the CSV file with the given prefix. Returns an {@link ErrorCollector error
+	 * collector} containing any error found. If no error is found the binding of the Java Bean type is compiled for
+	 * use by {@link #createSingleBean(MethodParameter, String[], String)}.
 	 * 
 	 * @param type The Java Bean type of the method parameter
 	 * @param prefix The column prefix of the header
@@ -251,15 +332,65 @@ public class HeaderNameMapper extends Mapper {
 	 */
 	protected ErrorCollector checkSingleBeanHeaders(Class<?> type, String prefix) throws IntrospectionException {
 		ErrorCollector errorCollector = new ErrorCollector(type);
+		BeanPlan plan = this.compileBeanPlan(type, prefix, new ArrayList<Class<?>>(), errorCollector);
+
+		if (!errorCollector.hasErrors()) {
+			Map<Class<?>, BeanPlan> plans = this.beanPlans.get(prefix);
+			if (plans == null) {
+				plans = new HashMap<Class<?>, BeanPlan>();
+				this.beanPlans.put(prefix, plans);
+			}
+			plans.put(type, plan);
+		}
+
+		return errorCollector;
+	}
+
+	private BeanPlan compileBeanPlan(Class<?> type, String prefix, List<Class<?>> enclosingTypes,
+			ErrorCollector errorCollector) throws IntrospectionException {
+		List<Method> writeMethods = new ArrayList<Method>();
+		List<Integer> indexes = new ArrayList<Integer>();
+		List<PrimitiveConverter> converters = new ArrayList<PrimitiveConverter>();
+		List<Method> nestedWriteMethods = new ArrayList<Method>();
+		List<BeanPlan> nestedPlans = new ArrayList<BeanPlan>();
+
+		enclosingTypes.add(type);
 
 		BeanInfo info = Introspector.getBeanInfo(type);
 		for (PropertyDescriptor descriptor : info.getPropertyDescriptors()) {
-			if (this.isWriteable(descriptor) && !this.headersContain(prefix, descriptor.getName())) {
-				errorCollector.addError("header not found: " + prefix + descriptor.getName());
+			if (!this.isWriteable(descriptor)) {
+				continue;
+			}
+
+			Class<?> propertyType = descriptor.getPropertyType();
+			String name = descriptor.getName();
+
+			if (this.isNestedBeanType(propertyType) && !this.headersContain(prefix, name)) {
+				if (enclosingTypes.contains(propertyType)) {
+					errorCollector.addError("cyclic nesting of " + propertyType.getName() + " at: " + prefix + name);
+				} else {
+					nestedWriteMethods.add(descriptor.getWriteMethod());
+					nestedPlans.add(this.compileBeanPlan(propertyType, prefix + name + ".", enclosingTypes,
+						errorCollector));
+				}
+			} else if (!this.headersContain(prefix, name)) {
+				errorCollector.addError("header not found: " + prefix + name);
+			} else if (this.isPrimitiveType(descriptor)) {
+				writeMethods.add(descriptor.getWriteMethod());
+				indexes.add(this.getHeaderIndexFor(prefix, name));
+				converters.add(PrimitiveConverter.forType(propertyType));
 			}
 		}
 
-		return errorCollector;
+		enclosingTypes.remove(enclosingTypes.size() - 1);
+
+		try {
+			return new BeanPlan(type.getConstructor(), writeMethods, indexes, converters, nestedWriteMethods,
+				nestedPlans);
+		} catch (NoSuchMethodException e) {
+			errorCollector.addError("no public default constructor found for: " + type.getName());
+			return null;
+		}
 	}
 
 	private boolean isWriteable(PropertyDescriptor descriptor) {
@@ -287,17 +418,21 @@ public class HeaderNameMapper extends Mapper {
 	 */
 	@Override
 	public Object[] createBeans(String[] line) {
-		List<Object> objects = new ArrayList<Object>();
+		return this.createBeans(toRow(line));
+	}
 
-		for (MethodParameter parameter : this.getParameters()) {
-			if (this.inputParameters.contains(parameter)) {
-				objects.add(this.createObject(parameter, line, this.inputColumnPrefix));
-			} else if (this.outputParameters.contains(parameter)) {
-				objects.add(this.createObject(parameter, line, this.outputColumnPrefix));
-			}
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] createBeans(CsvRow row) {
+		Object[] objects = new Object[this.parameterPlans.length];
+
+		for (int i = 0; i < objects.length; i++) {
+			objects[i] = this.parameterPlans[i].createObject(row);
 		}
 
-		return objects.toArray();
+		return objects;
 	}
 
 	/**
@@ -317,6 +452,28 @@ public class HeaderNameMapper extends Mapper {
 			return this.createPrimitive(parameter, line, prefix);
 		} else if (Types.isSingleBeanType(type)) {
 			return this.createSingleBean(parameter, line, prefix);
+		} else {
+			return this.createObject(parameter, toRow(line), prefix);
+		}
+	}
+
+	/**
+	 * Creates the object for the given {@link MethodParameter method parameter} taking the appropriate value(s) from
+	 * the given {@link CsvRow row view} representing the current line from the CSV file. The given prefix is used to
+	 * retrieve the correct header(s) corresponding to the given {@link MethodParameter method parameter}.
+	 * 
+	 * @param parameter The test method parameter for which to create the object
+	 * @param row The current line from the CSV file
+	 * @param prefix The column prefix
+	 * @return The created object
+	 */
+	protected Object createObject(MethodParameter parameter, CsvRow row, String prefix) {
+		Type type = parameter.getType();
+
+		if (Types.isPrimitiveType(type)) {
+			return this.createPrimitive(parameter, row, prefix);
+		} else if (Types.isSingleBeanType(type)) {
+			return this.createSingleBean(parameter, row, prefix);
 		} else {
 			// shouldn't happen cause check would have failed earlier
 			return null;
@@ -334,25 +491,22 @@ public class HeaderNameMapper extends Mapper {
 	 * @return The created primitive value
 	 */
 	protected Object createPrimitive(MethodParameter parameter, String[] line, String prefix) {
-		final String value = line[this.getHeaderIndexFor(prefix, parameter.getName())];
-		final Type type = parameter.getType();
-
-		if (type.equals(String.class)) {
-			return value;
-		} else if (type == Integer.class || type == int.class) {
-			return Integer.parseInt(value);
-		} else if (type == Long.class || type == long.class) {
-			return Long.parseLong(value);
-		} else if (type == Float.class || type == float.class) {
-			return Float.parseFloat(value);
-		} else if (type == Double.class || type == double.class) {
-			return Double.parseDouble(value);
-		} else if (type == Boolean.class || type == boolean.class) {
-			return Boolean.parseBoolean(value);
-		}
+		return this.createPrimitive(parameter, toRow(line), prefix);
+	}
 
-		// can't happen
-		throw new RuntimeException();
+	/**
+	 * Creates the primitive value for the given {@link MethodParameter method parameter} taking the appropriate value
+	 * from the given {@link CsvRow row view} representing the current line from the CSV file. The given prefix is used
+	 * to retrieve the correct header corresponding to the given {@link MethodParameter method parameter}.
+	 * 
+	 * @param parameter The test method parameter for which to create the object
+	 * @param row The current line from the CSV file
+	 * @param prefix The column prefix
+	 * @return The created primitive value
+	 */
+	protected Object createPrimitive(MethodParameter parameter, CsvRow row, String prefix) {
+		final int column = this.getHeaderIndexFor(prefix, parameter.getName());
+		return PrimitiveConverter.forType(parameter.getType()).convert(row, column);
 	}
 
 	/**
@@ -366,20 +520,34 @@ public class HeaderNameMapper extends Mapper {
 	 * @return The created Java Bean
 	 */
 	protected Object createSingleBean(MethodParameter parameter, String[] line, String prefix) {
+		return this.createSingleBean(parameter, toRow(line), prefix);
+	}
+
+	/**
+	 * Creates the Java Bean for the given {@link MethodParameter method parameter} taking the appropriate values
+	 * from the given {@link CsvRow row view} representing the current line from the CSV file. The given prefix is
+	 * used to retrieve the correct header corresponding to the given {@link MethodParameter method parameter}.
+	 * 
+	 * @param parameter The test method parameter for which to create the object
+	 * @param row The current line from the CSV file
+	 * @param prefix The column prefix
+	 * @return The created Java Bean
+	 */
+	protected Object createSingleBean(MethodParameter parameter, CsvRow row, String prefix) {
 		try {
 			Class<?> clazz = (Class<?>) parameter.getType();
-			Object object = clazz.getConstructor().newInstance();
-			BeanInfo info = Introspector.getBeanInfo(clazz);
-
-			for (PropertyDescriptor descriptor : info.getPropertyDescriptors()) {
-				if (this.isWriteable(descriptor) && isPrimitiveType(descriptor)) {
-					Object value = createPrimitive(createMethodParameterForProperty(descriptor), line, prefix);
-					Method writeMethod = descriptor.getWriteMethod();
-					writeMethod.invoke(object, value);
+			Map<Class<?>, BeanPlan> plans = this.beanPlans.get(prefix);
+			BeanPlan plan = plans != null ? plans.get(clazz) : null;
+
+			if (plan == null) {
+				ErrorCollector errorCollector = this.checkSingleBeanHeaders(clazz, prefix);
+				if (errorCollector.hasErrors()) {
+					throw new MultipleConfigurationErrorsException(Arrays.asList(errorCollector));
 				}
+				plan = this.beanPlans.get(prefix).get(clazz);
 			}
 
-			return object;
+			return plan.createBean(row);
 		} catch (Exception e) {
 			throw Exceptions.softenIfNecessary(e);
 		}
@@ -389,11 +557,8 @@ public class HeaderNameMapper extends Mapper {
 		return Types.isPrimitiveType(descriptor.getPropertyType());
 	}
 
-	private MethodParameter createMethodParameterForProperty(final PropertyDescriptor descriptor) {
-		final Method writeMethod = descriptor.getWriteMethod();
-		final Annotation[][] annotations = writeMethod.getParameterAnnotations();
-		final Type[] parameterTypes = writeMethod.getGenericParameterTypes();
-		return new MethodParameter(Arrays.asList(annotations[0]), parameterTypes[0], descriptor.getName());
+	private boolean isNestedBeanType(Class<?> type) {
+		return Types.isSingleBeanType(type) && !type.isInterface() && !type.isArray();
 	}
 
 	/**
@@ -406,4 +571,85 @@ public class HeaderNameMapper extends Mapper {
 	protected int getHeaderIndexFor(String prefix, String name) {
 		return this.headers.indexOf((prefix + name).toLowerCase());
 	}
+
+	/**
+	 * The compiled binding of a test method parameter, holding its column prefix and either the resolved column index
+	 * and converter of a primitive parameter or the compiled binding of a Java Bean parameter. Parameters of any other
+	 * type, or of types whose binding is overridden by a subclass, are bound by the <code>createObject</code> methods,
+	 * getting a copy of the cells if a subclass overrides the methods taking a {@link String string array}.
+	 */
+	private class ParameterPlan {
+		private final MethodParameter parameter;
+		private final String prefix;
+		private final int index;
+		private final PrimitiveConverter converter;
+		private final BeanPlan beanPlan;
+		private final boolean lineHooks;
+
+		ParameterPlan(MethodParameter parameter, String prefix, int index, PrimitiveConverter converter,
+				BeanPlan beanPlan, boolean lineHooks) {
+			this.parameter = parameter;
+			this.prefix = prefix;
+			this.index = index;
+			this.converter = converter;
+			this.beanPlan = beanPlan;
+			this.lineHooks = lineHooks;
+		}
+
+		Object createObject(CsvRow row) {
+			if (this.converter != null) {
+				return this.converter.convert(row, this.index);
+			} else if (this.beanPlan != null) {
+				try {
+					return this.beanPlan.createBean(row);
+				} catch (Exception e) {
+					throw Exceptions.softenIfNecessary(e);
+				}
+			} else if (this.lineHooks) {
+				return HeaderNameMapper.this.createObject(this.parameter, row.toArray(), this.prefix);
+			} else {
+				return HeaderNameMapper.this.createObject(this.parameter, row, this.prefix);
+			}
+		}
+	}
+
+	/**
+	 * The compiled binding of a Java Bean type, holding the resolved column index and converter for each primitive
+	 * property and the compiled bindings of all nested Java Beans.
+	 */
+	private static class BeanPlan {
+		private final Constructor<?> constructor;
+		private final Method[] writeMethods;
+		private final int[] indexes;
+		private final PrimitiveConverter[] converters;
+		private final Method[] nestedWriteMethods;
+		private final BeanPlan[] nestedPlans;
+
+		BeanPlan(Constructor<?> constructor, List<Method> writeMethods, List<Integer> indexes,
+				List<PrimitiveConverter> converters, List<Method> nestedWriteMethods, List<BeanPlan> nestedPlans) {
+			this.constructor = constructor;
+			this.writeMethods = writeMethods.toArray(new Method[writeMethods.size()]);
+			this.indexes = new int[indexes.size()];
+			for (int i = 0; i < this.indexes.length; i++) {
+				this.indexes[i] = indexes.get(i);
+			}
+			this.converters = converters.toArray(new PrimitiveConverter[converters.size()]);
+			this.nestedWriteMethods = nestedWriteMethods.toArray(new Method[nestedWriteMethods.size()]);
+			this.nestedPlans = nestedPlans.toArray(new BeanPlan[nestedPlans.size()]);
+		}
+
+		Object createBean(CsvRow row) throws Exception {
+			Object bean = this.constructor.newInstance();
+
+			for (int i = 0; i < this.writeMethods.length; i++) {
+				this.writeMethods[i].invoke(bean, this.converters[i].convert(row, this.indexes[i]));
+			}
+
+			for (int i = 0; i < this.nestedWriteMethods.length; i++) {
+				this.nestedWriteMethods[i].invoke(bean, this.nestedPlans[i].createBean(row));
+			}
+
+			return bean;
+		}
+	}
 }
\ No newline at end of file
@@ -12,6 +12,12 @@ import au.com.bytecode.opencsv.CSVReader;
 
 /**
  * A mapper defines how each line of a CSV file is bound to Java objects.
+ * <p>
+ * The data sources pass each line to {@link #createBeans(CsvRow)} as a reused {@link CsvRow row view}, which
+ * doesn't require a {@link String} per cell. By default it adapts the row view to {@link #createBeans(String[])}, so
+ * mappers only implementing the original contract keep working. Mappers should override it to bind directly from
+ * the row view, implementing {@link #createBeans(String[])} by wrapping the line into a row view in turn, as all
+ * standard mappers do.
  * 
  * @author Matthias Rothe
  */
@@ -93,4 +99,29 @@ public abstract class Mapper {
 	 * @return The array of objects to be used as test method parameters
 	 */
 	public abstract Object[] createBeans(String[] line);
+
+	/**
+	 * Binds the values contained in the given {@link CsvRow row view} representing a line from the CSV file to Java
+	 * objects to be used as test method parameters and returns those objects as an {@link Object array of objects}.
+	 * The row view is only valid during this call.
+	 * <p>
+	 * Defaults to calling {@link #createBeans(String[])} with a copy of all cells of the given row view.
+	 * 
+	 * @param row A line from the CSV file
+	 * @return The array of objects to be used as test method parameters
+	 */
+	public Object[] createBeans(CsvRow row) {
+		return this.createBeans(row.toArray());
+	}
+
+	/**
+	 * Wraps the given line into a {@link CsvRow row view}, for mappers implementing {@link #createBeans(String[])} by
+	 * delegating to {@link #createBeans(CsvRow)}.
+	 * 
+	 * @param line A line from the CSV file
+	 * @return The row view of the given line
+	 */
+	protected static CsvRow toRow(String[] line) {
+		return new StringArrayCsvRow(line);
+	}
 }
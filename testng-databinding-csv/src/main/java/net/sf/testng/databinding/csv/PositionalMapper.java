@@ -0,0 +1,331 @@
+package net.sf.testng.databinding.csv;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.util.Types;
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+import au.com.bytecode.opencsv.CSVReader;
+
+/**
+ * <p>
+ * Maps the columns of CSV files without a header line to the {@link MethodParameter method parameters} by their
+ * position. The zero-based column index of each primitive parameter and each primitive Java Bean property is declared
+ * once, either with the {@link ColumnIndex} annotation or with the
+ * {@link CsvDataSourceConfiguration#getColumnIndexes() column indexes} of the configuration, which take precedence.
+ * All column indexes are resolved before the first line is read, so binding a line doesn't involve any column name
+ * comparisons at all.
+ * </p><p>
+ * Every primitive parameter needs to have a column index. Java Bean properties without a column index are not set,
+ * leaving them unchanged, but every Java Bean needs to have at least one property with a column index. If any column
+ * index is missing a {@link MultipleConfigurationErrorsException} is thrown. If a line has fewer columns than required
+ * by the column indexes a {@link MultipleSourceErrorsException} is thrown.
+ * </p>
+ * <h3>Example</h3>
+ * <p>
+ * This example binds the same data as the example of the {@link HeaderNameMapper}, but from a CSV file without a
+ * header line. Getters and setters are omitted in the Java Bean for brevity in this example. They are however crucial
+ * in actual Java Beans, so you have to include them in any Java Bean you actually want to bind data to.
+ * </p>
+ * <h4>Test Method</h4>
+ * <pre>
+ * &#64;DataBinding(dataSource = "csv", configClass = Configs.class)
+ * public void testIsBetween(&#64;TestInput CheckData data,
+ *         &#64;TestOutput(name = "expected") &#64;ColumnIndex(3) boolean expected) {
+ *     assertEquals(isBetween(data.getValue(), data.getLower(), data.getUpper()), expected);
+ * }
+ * </pre>
+ * <h4>Java Bean: CheckData</h4>
+ * <pre>
+ * public class CheckData {
+ *     &#64;ColumnIndex(0)
+ *     private int value;
+ *     &#64;ColumnIndex(1)
+ *     private int lower;
+ *     &#64;ColumnIndex(2)
+ *     private int upper;
+ *
+ *     /* Getters and setters omitted for brevity &#42;/
+ * }
+ * </pre>
+ * <h4>Configuration Method</h4>
+ * <pre>
+ * public static CsvDataSourceConfiguration testIsBetweenConfig() {
+ *     return new CsvDataSourceConfiguration() {
+ *         &#64;Override
+ *         public URL getURL() {
+ *             return Configs.class.getResource("/data/isBetween.csv");
+ *         }
+ *
+ *         &#64;Override
+ *         public Class&lt;? extends Mapper&gt; getMapperClass() {
+ *             return PositionalMapper.class;
+ *         }
+ *     };
+ * }
+ * </pre>
+ * <h4>CSV Data Source File</h4>
+ * <pre>
+ * -10,-5,10,false
+ * -5,-5,10,true
+ * 0,-5,10,true
+ * 10,-5,10,true
+ * 20,-5,10,false
+ * </pre>
+ *
+ * @author Matthias Rothe
+ */
+public class PositionalMapper extends Mapper {
+	private final Map<String, Integer> columnIndexes = new HashMap<String, Integer>();
+	private final List<Binding> bindings = new ArrayList<Binding>();
+	private int requiredColumns;
+
+	/**
+	 * Constructor taking a {@link List list} of {@link MethodParameter method parameters} to bind the data to and
+	 * the {@link CsvDataSourceConfiguration configuration} specifying how the CSV file is defined and how to bind the
+	 * data.
+	 *
+	 * @param parameters The test method parameters
+	 * @param configuration The configuration
+	 */
+	public PositionalMapper(final List<MethodParameter> parameters, final CsvDataSourceConfiguration configuration) {
+		super(parameters, configuration);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected List<ErrorCollector> checkParameters(final List<MethodParameter> parameters) {
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+
+		for (final MethodParameter parameter : parameters) {
+			final Type type = parameter.getType();
+
+			if (Types.isEnumType(type) || Types.isListOfObjectsType(type)) {
+				final ErrorCollector errorCollector = new ErrorCollector(type);
+				errorCollector.addError("Type " + type + " is not supported by this mapper: " + this.getClass());
+				errorCollectors.add(errorCollector);
+			}
+		}
+
+		return errorCollectors;
+	}
+
+	private void addBinding(final MethodParameter parameter, final String prefix,
+			final List<ErrorCollector> errorCollectors) {
+		final Type type = parameter.getType();
+		final ErrorCollector errorCollector = new ErrorCollector(type, parameter.getName());
+
+		if (Types.isPrimitiveType(type)) {
+			final int index = this.resolveColumnIndex(prefix, parameter.getName(),
+				parameter.getAnnotation(ColumnIndex.class));
+
+			if (index < 0) {
+				errorCollector.addError("no column index declared for " + prefix + parameter.getName());
+			} else {
+				this.bindings.add(new PrimitiveBinding(index, PrimitiveConverter.forType(type)));
+			}
+		} else if (Types.isSingleBeanType(type)) {
+			try {
+				this.bindings.add(this.createBeanBinding((Class<?>) type, prefix, errorCollector));
+			} catch (final Exception e) {
+				errorCollector.addError("unable to create type: " + e.getMessage());
+			}
+		}
+
+		if (errorCollector.hasErrors()) {
+			errorCollectors.add(errorCollector);
+		}
+	}
+
+	private Binding createBeanBinding(final Class<?> type, final String prefix, final ErrorCollector errorCollector)
+			throws IntrospectionException, NoSuchMethodException {
+		final List<Method> writeMethods = new ArrayList<Method>();
+		final List<Integer> indexes = new ArrayList<Integer>();
+		final List<PrimitiveConverter> converters = new ArrayList<PrimitiveConverter>();
+
+		final BeanInfo info = Introspector.getBeanInfo(type);
+		for (final PropertyDescriptor descriptor : info.getPropertyDescriptors()) {
+			final Method writeMethod = descriptor.getWriteMethod();
+
+			if (writeMethod != null && Types.isPrimitiveType(descriptor.getPropertyType())) {
+				final int index = this.resolveColumnIndex(prefix, descriptor.getName(),
+					this.findColumnIndexAnnotation(type, descriptor));
+
+				if (index >= 0) {
+					writeMethods.add(writeMethod);
+					indexes.add(index);
+					converters.add(PrimitiveConverter.forType(descriptor.getPropertyType()));
+				}
+			}
+		}
+
+		if (writeMethods.isEmpty()) {
+			errorCollector.addError("no column index declared for any property of " + type.getName());
+		}
+
+		final int[] indexArray = new int[indexes.size()];
+		for (int i = 0; i < indexArray.length; i++) {
+			indexArray[i] = indexes.get(i);
+		}
+
+		return new BeanBinding(type.getConstructor(), writeMethods.toArray(new Method[0]), indexArray,
+			converters.toArray(new PrimitiveConverter[0]));
+	}
+
+	private ColumnIndex findColumnIndexAnnotation(final Class<?> type, final PropertyDescriptor descriptor) {
+		for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+			try {
+				final Field field = clazz.getDeclaredField(descriptor.getName());
+				if (field.isAnnotationPresent(ColumnIndex.class)) {
+					return field.getAnnotation(ColumnIndex.class);
+				}
+			} catch (final NoSuchFieldException ignored) {
+				// look for the field in the super class
+			}
+		}
+
+		if (descriptor.getWriteMethod().isAnnotationPresent(ColumnIndex.class)) {
+			return descriptor.getWriteMethod().getAnnotation(ColumnIndex.class);
+		} else if (descriptor.getReadMethod() != null && descriptor.getReadMethod().isAnnotationPresent(ColumnIndex.class)) {
+			return descriptor.getReadMethod().getAnnotation(ColumnIndex.class);
+		}
+
+		return null;
+	}
+
+	private int resolveColumnIndex(final String prefix, final String name, final ColumnIndex annotation) {
+		final Integer configuredIndex = this.columnIndexes.get((prefix + name).toLowerCase());
+		final int index = configuredIndex != null ? configuredIndex : annotation != null ? annotation.value() : -1;
+
+		if (index >= this.requiredColumns) {
+			this.requiredColumns = index + 1;
+		}
+
+		return index;
+	}
+
+	/**
+	 * Resolves the column indexes of all parameters. No line is read, as CSV files bound by this mapper don't have a
+	 * header line.
+	 *
+	 * @throws MultipleConfigurationErrorsException if any column index is missing
+	 */
+	@Override
+	public void init(final CSVReader csvReader) throws Exception {
+		for (final Entry<String, Integer> entry : this.getConfiguration().getColumnIndexes().entrySet()) {
+			this.columnIndexes.put(entry.getKey().toLowerCase(), entry.getValue());
+		}
+
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+
+		for (final MethodParameter parameter : this.getParameters()) {
+			if (parameter.getAnnotation(TestInput.class) != null) {
+				this.addBinding(parameter, this.getConfiguration().getInputColumnPrefix(), errorCollectors);
+			} else if (parameter.getAnnotation(TestOutput.class) != null) {
+				this.addBinding(parameter, this.getConfiguration().getOutputColumnPrefix(), errorCollectors);
+			}
+		}
+
+		if (errorCollectors.size() > 0) {
+			throw new MultipleConfigurationErrorsException(errorCollectors);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] createBeans(final String[] line) {
+		return this.createBeans(toRow(line));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] createBeans(final CsvRow row) {
+		if (row.size() < this.requiredColumns) {
+			final ErrorCollector errorCollector = new ErrorCollector(Arrays.toString(row.toArray()));
+			errorCollector.addError("line has " + row.size() + " columns, but at least " + this.requiredColumns
+					+ " columns are required");
+			throw new MultipleSourceErrorsException(Arrays.asList(errorCollector));
+		}
+
+		final Object[] objects = new Object[this.bindings.size()];
+
+		for (int i = 0; i < objects.length; i++) {
+			objects[i] = this.bindings.get(i).bind(row);
+		}
+
+		return objects;
+	}
+
+	private interface Binding {
+		Object bind(CsvRow row);
+	}
+
+	private static class PrimitiveBinding implements Binding {
+		private final int index;
+		private final PrimitiveConverter converter;
+
+		PrimitiveBinding(final int index, final PrimitiveConverter converter) {
+			this.index = index;
+			this.converter = converter;
+		}
+
+		@Override
+		public Object bind(final CsvRow row) {
+			return this.converter.convert(row, this.index);
+		}
+	}
+
+	private static class BeanBinding implements Binding {
+		private final Constructor<?> constructor;
+		private final Method[] writeMethods;
+		private final int[] indexes;
+		private final PrimitiveConverter[] converters;
+
+		BeanBinding(final Constructor<?> constructor, final Method[] writeMethods, final int[] indexes,
+				final PrimitiveConverter[] converters) {
+			this.constructor = constructor;
+			this.writeMethods = writeMethods;
+			this.indexes = indexes;
+			this.converters = converters;
+		}
+
+		@Override
+		public Object bind(final CsvRow row) {
+			try {
+				final Object bean = this.constructor.newInstance();
+
+				for (int i = 0; i < this.writeMethods.length; i++) {
+					this.writeMethods[i].invoke(bean, this.converters[i].convert(row, this.indexes[i]));
+				}
+
+				return bean;
+			} catch (final Exception e) {
+				throw Exceptions.softenIfNecessary(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package net.sf.testng.databinding.csv;
+
+import java.lang.reflect.Type;
+
+import net.sf.testng.databinding.core.util.Types;
+
+/**
+ * Converts CSV cell values to the primitive types as defined by {@link Types#isPrimitiveType(Type)}.
+ * The converter for a type is resolved once, so converting a value doesn't require any further type
+ * checks.
+ *
+ * @author Matthias Rothe
+ */
+enum PrimitiveConverter {
+	STRING {
+		@Override
+		Object convert(final String value) {
+			return value;
+		}
+
+		@Override
+		Object convert(final CsvRow row, final int column) {
+			return row.getString(column);
+		}
+	},
+	INTEGER {
+		@Override
+		Object convert(final String value) {
+			return Integer.parseInt(value);
+		}
+
+		@Override
+		Object convert(final CharSequence value, final int beginIndex, final int endIndex) {
+			return Integer.parseInt(value, beginIndex, endIndex, 10);
+		}
+
+		@Override
+		Object convert(final CsvRow row, final int column) {
+			return row.getInt(column);
+		}
+	},
+	LONG {
+		@Override
+		Object convert(final String value) {
+			return Long.parseLong(value);
+		}
+
+		@Override
+		Object convert(final CharSequence value, final int beginIndex, final int endIndex) {
+			return Long.parseLong(value, beginIndex, endIndex, 10);
+		}
+
+		@Override
+		Object convert(final CsvRow row, final int column) {
+			return row.getLong(column);
+		}
+	},
+	FLOAT {
+		@Override
+		Object convert(final String value) {
+			return Float.parseFloat(value);
+		}
+
+		@Override
+		Object convert(final CsvRow row, final int column) {
+			return row.getFloat(column);
+		}
+	},
+	DOUBLE {
+		@Override
+		Object convert(final String value) {
+			return Double.parseDouble(value);
+		}
+
+		@Override
+		Object convert(final CsvRow row, final int column) {
+			return row.getDouble(column);
+		}
+	},
+	BOOLEAN {
+		@Override
+		Object convert(final String value) {
+			return Boolean.parseBoolean(value);
+		}
+
+		@Override
+		Object convert(final CharSequence value, final int beginIndex, final int endIndex) {
+			if (endIndex - beginIndex != 4) {
+				return false;
+			}
+
+			for (int i = 0; i < 4; i++) {
+				if (Character.toLowerCase(value.charAt(beginIndex + i)) != "true".charAt(i)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		Object convert(final CsvRow row, final int column) {
+			return row.getBoolean(column);
+		}
+	},
+	CHARACTER {
+		@Override
+		Object convert(final String value) {
+			return value.length() > 0 ? value.charAt(0) : null;
+		}
+
+		@Override
+		Object convert(final CsvRow row, final int column) {
+			return row.getChar(column);
+		}
+	};
+
+	/**
+	 * Converts the given cell value.
+	 *
+	 * @param value The cell value
+	 * @return The converted value
+	 */
+	abstract Object convert(String value);
+
+	/**
+	 * Converts the part of the given cell value between the given indexes. Integer, long and boolean
+	 * values are parsed in place, all other values are converted from the respective substring.
+	 *
+	 * @param value The cell value
+	 * @param beginIndex The index of the first character to convert, inclusive
+	 * @param endIndex The index of the last character to convert, exclusive
+	 * @return The converted value
+	 */
+	Object convert(final CharSequence value, final int beginIndex, final int endIndex) {
+		return this.convert(value.subSequence(beginIndex, endIndex).toString());
+	}
+
+	/**
+	 * Converts the cell of the given column using the typed accessors of the given row view.
+	 *
+	 * @param row The row view
+	 * @param column The column
+	 * @return The converted value
+	 */
+	abstract Object convert(CsvRow row, int column);
+
+	/**
+	 * Returns the converter for the given primitive type.
+	 *
+	 * @param type The primitive type
+	 * @return The converter for the given type
+	 * @throws IllegalArgumentException if the given type is not a primitive type
+	 */
+	static PrimitiveConverter forType(final Type type) {
+		if (type == String.class) {
+			return STRING;
+		} else if (type == Integer.class || type == int.class) {
+			return INTEGER;
+		} else if (type == Long.class || type == long.class) {
+			return LONG;
+		} else if (type == Float.class || type == float.class) {
+			return FLOAT;
+		} else if (type == Double.class || type == double.class) {
+			return DOUBLE;
+		} else if (type == Boolean.class || type == boolean.class) {
+			return BOOLEAN;
+		} else if (type == Character.class || type == char.class) {
+			return CHARACTER;
+		}
+
+		throw new IllegalArgumentException("Type " + type + " is not a primitive type");
+	}
+}
@@ -0,0 +1,100 @@
+package net.sf.testng.databinding.csv;
+
+import java.net.URL;
+import java.util.Map;
+
+/**
+ * A {@link CsvDataSourceConfiguration} for a single file out of several files, taking all settings
+ * from the configuration given for all of them.
+ *
+ * @author Matthias Rothe
+ */
+class SingleFileConfiguration implements CsvDataSourceConfiguration {
+	private final CsvDataSourceConfiguration delegate;
+	private final URL url;
+
+	SingleFileConfiguration(final CsvDataSourceConfiguration delegate, final URL url) {
+		this.delegate = delegate;
+		this.url = url;
+	}
+
+	@Override
+	public URL getURL() {
+		return this.url;
+	}
+
+	@Override
+	public String getCharset() {
+		return this.delegate.getCharset();
+	}
+
+	@Override
+	public char getSeparator() {
+		return this.delegate.getSeparator();
+	}
+
+	@Override
+	public char getQuoteChar() {
+		return this.delegate.getQuoteChar();
+	}
+
+	@Override
+	public char getEscapeChar() {
+		return this.delegate.getEscapeChar();
+	}
+
+	@Override
+	public int getLinesToSkip() {
+		return this.delegate.getLinesToSkip();
+	}
+
+	@Override
+	public boolean useStrictQuotes() {
+		return this.delegate.useStrictQuotes();
+	}
+
+	@Override
+	public boolean ignoreLeadingWhitespace() {
+		return this.delegate.ignoreLeadingWhitespace();
+	}
+
+	@Override
+	public Class<? extends Mapper> getMapperClass() {
+		return this.delegate.getMapperClass();
+	}
+
+	@Override
+	public String getInputColumnPrefix() {
+		return this.delegate.getInputColumnPrefix();
+	}
+
+	@Override
+	public String getOutputColumnPrefix() {
+		return this.delegate.getOutputColumnPrefix();
+	}
+
+	@Override
+	public String getLinkingColumnPrefix() {
+		return this.delegate.getLinkingColumnPrefix();
+	}
+
+	@Override
+	public char getListDelimiter() {
+		return this.delegate.getListDelimiter();
+	}
+
+	@Override
+	public char getFieldDelimiter() {
+		return this.delegate.getFieldDelimiter();
+	}
+
+	@Override
+	public Map<String, Integer> getColumnIndexes() {
+		return this.delegate.getColumnIndexes();
+	}
+
+	@Override
+	public CsvDataSourceConfiguration getConfiguration(final String linkKey) {
+		return this.delegate.getConfiguration(linkKey);
+	}
+}
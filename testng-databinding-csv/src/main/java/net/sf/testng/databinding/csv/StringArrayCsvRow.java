@@ -0,0 +1,45 @@
+package net.sf.testng.databinding.csv;
+
+/**
+ * A {@link CsvRow row view} of the cells of a line already split into {@link String strings},
+ * adapting the original {@link Mapper#createBeans(String[])} contract to the row view based one.
+ *
+ * @author Matthias Rothe
+ */
+class StringArrayCsvRow extends AbstractCsvRow {
+	private final String[] line;
+
+	StringArrayCsvRow(final String[] line) {
+		this.line = line;
+	}
+
+	@Override
+	public int size() {
+		return this.line.length;
+	}
+
+	@Override
+	public int length(final int column) {
+		return this.line[column].length();
+	}
+
+	@Override
+	public char charAt(final int column, final int index) {
+		return this.line[column].charAt(index);
+	}
+
+	@Override
+	public CharSequence get(final int column) {
+		return this.line[column];
+	}
+
+	@Override
+	public String getString(final int column) {
+		return this.line[column];
+	}
+
+	@Override
+	public String[] toArray() {
+		return this.line.clone();
+	}
+}
@@ -0,0 +1,128 @@
+package net.sf.testng.databinding.csv;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.csv.beans.CheckData;
+import net.sf.testng.databinding.csv.datasource.config.CsvDataSourceConfigurations;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class CsvMultiFileDataSourceTest {
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test(timeOut = 5000)
+	public void shouldReadAllFilesInOrder() throws Exception {
+		final CsvMultiFileDataSource dataSource = createDataSource("multiFileOrderedConfig");
+		assertEquals(readAll(dataSource).toArray(), createExpecteds());
+	}
+
+	@Test(timeOut = 5000)
+	public void shouldReadAllFilesUnordered() throws Exception {
+		final CsvMultiFileDataSource dataSource = createDataSource("multiFileUnorderedConfig");
+		assertEquals(asSet(readAll(dataSource).toArray(new Object[0][])), asSet(createExpecteds()));
+	}
+
+	@Test(timeOut = 5000)
+	public void shouldOnlyReadFilesMatchingGlob() throws Exception {
+		final CsvMultiFileDataSource dataSource = createDataSource("multiFileTopLevelConfig");
+		assertEquals(readAll(dataSource).size(), 4);
+	}
+
+	@Test(timeOut = 5000, expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRejectIncompatibleFiles() throws Exception {
+		createDataSource("multiFileIncompatibleConfig");
+	}
+
+	@Test(timeOut = 5000)
+	public void shouldStopReadersAfterFailingRow() throws Exception {
+		try {
+			readAll(createDataSource("multiFileFailingConfig"));
+			fail("failing row not reported");
+		} catch (final RuntimeException e) {
+			// expected
+		}
+
+		while (hasReaderThreads()) {
+			Thread.sleep(10);
+		}
+	}
+
+	private boolean hasReaderThreads() {
+		for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName().startsWith("testng-databinding-csv-reader-")) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private CsvMultiFileDataSource createDataSource(final String configMethod) throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("checkDataConsumer");
+		return new CsvMultiFileDataSource(parameters,
+				new Configuration(CsvDataSourceConfigurations.class, configMethod));
+	}
+
+	private List<Object[]> readAll(final CsvMultiFileDataSource dataSource) {
+		final List<Object[]> rows = new ArrayList<Object[]>();
+
+		while (dataSource.hasNext()) {
+			rows.add(dataSource.next());
+		}
+
+		assertFalse(dataSource.hasNext());
+		return rows;
+	}
+
+	private Set<List<Object>> asSet(final Object[][] rows) {
+		final Set<List<Object>> set = new HashSet<List<Object>>();
+
+		for (final Object[] row : rows) {
+			set.add(Arrays.asList(row));
+		}
+
+		return set;
+	}
+
+	private Object[][] createExpecteds() {
+		return new Object[][] { { new CheckData(-10, -5, 10), false }, { new CheckData(-5, -5, 10), true },
+				{ new CheckData(0, -5, 10), true }, { new CheckData(10, -5, 10), true },
+				{ new CheckData(20, -5, 10), false } };
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void checkDataConsumer(@TestInput final CheckData data, @TestOutput(name = "expected") final boolean expected) {
+	}
+}
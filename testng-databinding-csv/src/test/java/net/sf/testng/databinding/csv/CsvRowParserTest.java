@@ -0,0 +1,109 @@
+package net.sf.testng.databinding.csv;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.net.URL;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import au.com.bytecode.opencsv.CSVReader;
+
+public class CsvRowParserTest {
+	private static final String CSV = "a,b,c\r\n" + "\"quoted, with separator\",\"with \"\"quotes\"\"\",x\n"
+			+ "with \\\"escape\\\",\"multi\nline\",\n" + "  \"leading\",a\"b\"c,\n" + "\n" + ",,\r" + "last\n"
+			+ "x,\"unterminated";
+
+	@DataProvider
+	public Object[][] configurations() {
+		return new Object[][] { { configuration(false, false, 0) }, { configuration(true, false, 0) },
+				{ configuration(false, true, 0) }, { configuration(true, true, 2) } };
+	}
+
+	@Test(dataProvider = "configurations")
+	public void shouldParseLikeCSVReader(final CsvDataSourceConfiguration configuration) throws Exception {
+		final CSVReader csvReader = new CSVReader(new StringReader(CSV), configuration.getSeparator(),
+				configuration.getQuoteChar(), configuration.getEscapeChar(), configuration.getLinesToSkip(),
+				configuration.useStrictQuotes(), configuration.ignoreLeadingWhitespace());
+		final CsvRowParser rowParser = new CsvRowParser(new StringReader(CSV), configuration);
+
+		String[] expected;
+		while ((expected = csvReader.readNext()) != null) {
+			assertTrue(rowParser.readRow());
+			assertEquals(rowParser.getRow().toArray(), expected);
+		}
+
+		assertFalse(rowParser.readRow());
+	}
+
+	@Test
+	public void shouldProvideTypedAccessors() throws Exception {
+		final CsvRowParser rowParser = new CsvRowParser(new StringReader("42,-7000000000,2.5,TRUE,xyz,\n"),
+				configuration(false, false, 0));
+
+		assertTrue(rowParser.readRow());
+		final CsvRow row = rowParser.getRow();
+
+		assertEquals(row.size(), 6);
+		assertEquals(row.getInt(0), 42);
+		assertEquals(row.getLong(1), -7000000000L);
+		assertEquals(row.getFloat(2), 2.5f);
+		assertEquals(row.getDouble(2), 2.5);
+		assertTrue(row.getBoolean(3));
+		assertFalse(row.getBoolean(4));
+		assertEquals(row.getChar(4), Character.valueOf('x'));
+		assertNull(row.getChar(5));
+		assertEquals(row.length(4), 3);
+		assertEquals(row.charAt(4, 1), 'y');
+		assertEquals(row.get(4).toString(), "xyz");
+		assertEquals(row.get(4).subSequence(1, 3), "yz");
+		assertEquals(row.getString(5), "");
+	}
+
+	@Test
+	public void shouldServeMapperInitializationAsCSVReader() throws Exception {
+		final CsvRowParser rowParser = new CsvRowParser(new StringReader("h1,h2\n1,2\n"),
+				configuration(false, false, 0));
+
+		assertEquals(rowParser.asCSVReader().readNext(), new String[] { "h1", "h2" });
+		assertTrue(rowParser.readRow());
+		assertEquals(rowParser.getRow().getInt(1), 2);
+		assertFalse(rowParser.readRow());
+	}
+
+	private CsvDataSourceConfiguration configuration(final boolean strictQuotes, final boolean ignoreLeadingWhitespace,
+			final int linesToSkip) {
+		return new CsvDataSourceConfiguration() {
+
+			@Override
+			public URL getURL() {
+				return null;
+			}
+
+			@Override
+			public boolean useStrictQuotes() {
+				return strictQuotes;
+			}
+
+			@Override
+			public boolean ignoreLeadingWhitespace() {
+				return ignoreLeadingWhitespace;
+			}
+
+			@Override
+			public int getLinesToSkip() {
+				return linesToSkip;
+			}
+
+			@Override
+			public String toString() {
+				return "strictQuotes=" + strictQuotes + ", ignoreLeadingWhitespace=" + ignoreLeadingWhitespace
+						+ ", linesToSkip=" + linesToSkip;
+			}
+		};
+	}
+}
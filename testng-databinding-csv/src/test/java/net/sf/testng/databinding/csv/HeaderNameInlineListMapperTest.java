@@ -0,0 +1,85 @@
+package net.sf.testng.databinding.csv;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.csv.beans.Bounds;
+import net.sf.testng.databinding.csv.datasource.config.CsvDataSourceConfigurations;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class HeaderNameInlineListMapperTest {
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test
+	public void shouldBindInlineLists() throws Exception {
+		assertEquals(readAll(createDataSource("inlineListConfig")).toArray(), new Object[][] {
+				{ new Bounds(2, 11), true, Arrays.asList(2, 3, 5, 7, 11),
+						Arrays.asList(new Bounds(3, 5), new Bounds(5, 7)) },
+				{ new Bounds(13, 37), false, Arrays.asList(17, 19, 23, 29, 31),
+						Arrays.asList(new Bounds(17, 19), new Bounds(29, 31)) },
+				{ new Bounds(20, 22), true, Collections.emptyList(), Collections.emptyList() } });
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRequirePropertiesOfBeanListColumn() throws Exception {
+		createDataSource("inlineListMissingPropertiesConfig");
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRejectElementWithTooManyFields() throws Exception {
+		readAll(createDataSource("inlineListTooManyFieldsConfig"));
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRejectElementWithInvalidField() throws Exception {
+		readAll(createDataSource("inlineListInvalidFieldConfig"));
+	}
+
+	private List<Object[]> readAll(final CsvDataSource dataSource) {
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		while (dataSource.hasNext()) {
+			rows.add(dataSource.next());
+		}
+		return rows;
+	}
+
+	private CsvDataSource createDataSource(final String configMethod) throws Exception {
+		return new CsvDataSource(createMethodParameters("primesInRangeConsumer"),
+				new Configuration(CsvDataSourceConfigurations.class, configMethod));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void primesInRangeConsumer(@TestInput final Bounds bounds,
+			@TestInput(name = "includingBounds") final boolean includingBounds,
+			@TestOutput(name = "primes") final List<Integer> primes, @TestOutput final List<Bounds> twins) {
+	}
+}
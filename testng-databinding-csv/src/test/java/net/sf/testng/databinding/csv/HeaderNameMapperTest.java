@@ -0,0 +1,83 @@
+package net.sf.testng.databinding.csv;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.csv.beans.Address;
+import net.sf.testng.databinding.csv.beans.Person;
+import net.sf.testng.databinding.csv.datasource.config.CsvDataSourceConfigurations;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class HeaderNameMapperTest {
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test
+	public void shouldBindNestedBeansFromDottedHeaders() throws Exception {
+		assertEquals(readAll(createDataSource("nestedBeanConfig")).toArray(), new Object[][] {
+				{ new Person("Anna", new Address("Berlin", 10115)), true },
+				{ new Person("Ben", new Address("Hamburg", 20095)), false } });
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRequireAllNestedHeaders() throws Exception {
+		createDataSource("nestedBeanMissingColumnConfig");
+	}
+
+	@Test
+	public void shouldBindPrimitivesByOverriddenHook() throws Exception {
+		assertEquals(readAll(createDataSource("negatingMapperConfig")).toArray(), new Object[][] {
+				{ new Person("Anna", new Address("Berlin", 10115)), false },
+				{ new Person("Ben", new Address("Hamburg", 20095)), true } });
+	}
+
+	@Test
+	public void shouldBindBeansByOverriddenHook() throws Exception {
+		assertEquals(readAll(createDataSource("upperCaseNameMapperConfig")).toArray(), new Object[][] {
+				{ new Person("ANNA", new Address("Berlin", 10115)), true },
+				{ new Person("BEN", new Address("Hamburg", 20095)), false } });
+	}
+
+	private List<Object[]> readAll(final CsvDataSource dataSource) {
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		while (dataSource.hasNext()) {
+			rows.add(dataSource.next());
+		}
+		return rows;
+	}
+
+	private CsvDataSource createDataSource(final String configMethod) throws Exception {
+		return new CsvDataSource(createMethodParameters("personConsumer"),
+				new Configuration(CsvDataSourceConfigurations.class, configMethod));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void personConsumer(@TestInput final Person person, @TestOutput(name = "local") final boolean local) {
+	}
+}
@@ -0,0 +1,81 @@
+package net.sf.testng.databinding.csv;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.csv.beans.CheckData;
+import net.sf.testng.databinding.csv.datasource.config.CsvDataSourceConfigurations;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class PositionalMapperTest {
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test
+	public void shouldBindColumnsByIndex() throws Exception {
+		final CsvDataSource dataSource = createDataSource("checkDataConsumer", "positionalConfig");
+
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		while (dataSource.hasNext()) {
+			rows.add(dataSource.next());
+		}
+
+		assertEquals(rows.toArray(), new Object[][] { { new CheckData(-10, -5, 10), false },
+				{ new CheckData(-5, -5, 10), true }, { new CheckData(0, -5, 10), true },
+				{ new CheckData(10, -5, 10), true }, { new CheckData(20, -5, 10), false } });
+	}
+
+	@Test(expectedExceptions = MultipleConfigurationErrorsException.class)
+	public void shouldRejectParametersWithoutColumnIndex() throws Exception {
+		createDataSource("unindexedConsumer", "positionalConfig");
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRejectLinesWithTooFewColumns() throws Exception {
+		final CsvDataSource dataSource = createDataSource("checkDataConsumer", "positionalShortLineConfig");
+
+		while (dataSource.hasNext()) {
+			dataSource.next();
+		}
+	}
+
+	private CsvDataSource createDataSource(final String methodName, final String configMethod) throws Exception {
+		return new CsvDataSource(createMethodParameters(methodName),
+				new Configuration(CsvDataSourceConfigurations.class, configMethod));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void checkDataConsumer(@TestInput final CheckData data,
+			@TestOutput(name = "expected") @ColumnIndex(3) final boolean expected) {
+	}
+
+	public void unindexedConsumer(@TestInput final CheckData data, @TestOutput(name = "expected") final boolean expected) {
+	}
+}
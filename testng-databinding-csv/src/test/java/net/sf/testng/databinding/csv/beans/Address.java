@@ -0,0 +1,56 @@
+package net.sf.testng.databinding.csv.beans;
+
+public class Address {
+	private String city;
+	private int zip;
+
+	public Address() {
+	}
+
+	public Address(final String city, final int zip) {
+		this.city = city;
+		this.zip = zip;
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public void setCity(final String city) {
+		this.city = city;
+	}
+
+	public int getZip() {
+		return zip;
+	}
+
+	public void setZip(final int zip) {
+		this.zip = zip;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (city == null ? 0 : city.hashCode());
+		result = prime * result + zip;
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Address other = (Address) obj;
+		return (city == null ? other.city == null : city.equals(other.city)) && zip == other.zip;
+	}
+
+	@Override
+	public String toString() {
+		return "Address [city=" + city + ", zip=" + zip + "]";
+	}
+}
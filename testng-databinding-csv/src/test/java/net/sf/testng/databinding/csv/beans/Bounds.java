@@ -0,0 +1,56 @@
+package net.sf.testng.databinding.csv.beans;
+
+public class Bounds {
+	private int lower;
+	private int upper;
+
+	public Bounds() {
+	}
+
+	public Bounds(final int lower, final int upper) {
+		this.lower = lower;
+		this.upper = upper;
+	}
+
+	public int getLower() {
+		return lower;
+	}
+
+	public void setLower(final int lower) {
+		this.lower = lower;
+	}
+
+	public int getUpper() {
+		return upper;
+	}
+
+	public void setUpper(final int upper) {
+		this.upper = upper;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + lower;
+		result = prime * result + upper;
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Bounds other = (Bounds) obj;
+		return lower == other.lower && upper == other.upper;
+	}
+
+	@Override
+	public String toString() {
+		return "Bounds [lower=" + lower + ", upper=" + upper + "]";
+	}
+}
@@ -0,0 +1,67 @@
+package net.sf.testng.databinding.csv.beans;
+
+public class CheckData {
+	private int value;
+	private int lower;
+	private int upper;
+
+	public CheckData() {
+	}
+
+	public CheckData(final int value, final int lower, final int upper) {
+		this.value = value;
+		this.lower = lower;
+		this.upper = upper;
+	}
+
+	public int getValue() {
+		return value;
+	}
+
+	public void setValue(final int value) {
+		this.value = value;
+	}
+
+	public int getLower() {
+		return lower;
+	}
+
+	public void setLower(final int lower) {
+		this.lower = lower;
+	}
+
+	public int getUpper() {
+		return upper;
+	}
+
+	public void setUpper(final int upper) {
+		this.upper = upper;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + lower;
+		result = prime * result + upper;
+		result = prime * result + value;
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final CheckData other = (CheckData) obj;
+		return lower == other.lower && upper == other.upper && value == other.value;
+	}
+
+	@Override
+	public String toString() {
+		return "CheckData [value=" + value + ", lower=" + lower + ", upper=" + upper + "]";
+	}
+}
@@ -0,0 +1,57 @@
+package net.sf.testng.databinding.csv.beans;
+
+public class Person {
+	private String name;
+	private Address address;
+
+	public Person() {
+	}
+
+	public Person(final String name, final Address address) {
+		this.name = name;
+		this.address = address;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(final String name) {
+		this.name = name;
+	}
+
+	public Address getAddress() {
+		return address;
+	}
+
+	public void setAddress(final Address address) {
+		this.address = address;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (name == null ? 0 : name.hashCode());
+		result = prime * result + (address == null ? 0 : address.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Person other = (Person) obj;
+		return (name == null ? other.name == null : name.equals(other.name))
+				&& (address == null ? other.address == null : address.equals(other.address));
+	}
+
+	@Override
+	public String toString() {
+		return "Person [name=" + name + ", address=" + address + "]";
+	}
+}
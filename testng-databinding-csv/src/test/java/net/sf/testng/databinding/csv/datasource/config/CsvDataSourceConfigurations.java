@@ -0,0 +1,207 @@
+package net.sf.testng.databinding.csv.datasource.config;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.sf.testng.databinding.csv.CsvDataSourceConfiguration;
+import net.sf.testng.databinding.csv.CsvMultiFileDataSourceConfiguration;
+import net.sf.testng.databinding.csv.HeaderNameInlineListMapper;
+import net.sf.testng.databinding.csv.Mapper;
+import net.sf.testng.databinding.csv.PositionalMapper;
+import net.sf.testng.databinding.csv.mappers.NegatingMapper;
+import net.sf.testng.databinding.csv.mappers.UpperCaseNameMapper;
+
+public class CsvDataSourceConfigurations {
+
+	private CsvDataSourceConfigurations() {}
+
+	public static CsvMultiFileDataSourceConfiguration multiFileOrderedConfig() {
+		return new CsvMultiFileDataSourceConfiguration() {
+
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/multiFile/compatible");
+			}
+
+			@Override
+			public String getGlob() {
+				return "**.csv";
+			}
+
+			@Override
+			public int getParallelism() {
+				return 2;
+			}
+
+			@Override
+			public int getReadAheadRows() {
+				return 1;
+			}
+		};
+	}
+
+	public static CsvMultiFileDataSourceConfiguration multiFileUnorderedConfig() {
+		return new CsvMultiFileDataSourceConfiguration() {
+
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/multiFile/compatible");
+			}
+
+			@Override
+			public String getGlob() {
+				return "**.csv";
+			}
+
+			@Override
+			public boolean isOrdered() {
+				return false;
+			}
+		};
+	}
+
+	public static CsvMultiFileDataSourceConfiguration multiFileTopLevelConfig() {
+		return new CsvMultiFileDataSourceConfiguration() {
+
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/multiFile/compatible");
+			}
+		};
+	}
+
+	public static CsvMultiFileDataSourceConfiguration multiFileFailingConfig() {
+		return new CsvMultiFileDataSourceConfiguration() {
+
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/multiFile/failing");
+			}
+
+			@Override
+			public int getParallelism() {
+				return 2;
+			}
+
+			@Override
+			public int getReadAheadRows() {
+				return 1;
+			}
+		};
+	}
+
+	public static CsvMultiFileDataSourceConfiguration multiFileIncompatibleConfig() {
+		return new CsvMultiFileDataSourceConfiguration() {
+
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/multiFile/incompatible");
+			}
+		};
+	}
+
+	public static CsvDataSourceConfiguration positionalConfig() {
+		return positionalConfig("/positional/isBetween.csv");
+	}
+
+	public static CsvDataSourceConfiguration positionalShortLineConfig() {
+		return positionalConfig("/positional/short.csv");
+	}
+
+	private static CsvDataSourceConfiguration positionalConfig(final String path) {
+		return new CsvDataSourceConfiguration() {
+
+			@Override
+			public URL getURL() {
+				return getClass().getResource(path);
+			}
+
+			@Override
+			public Class<? extends Mapper> getMapperClass() {
+				return PositionalMapper.class;
+			}
+
+			@Override
+			public Map<String, Integer> getColumnIndexes() {
+				final Map<String, Integer> columnIndexes = new HashMap<String, Integer>();
+				columnIndexes.put("in_value", 0);
+				columnIndexes.put("IN_LOWER", 1);
+				columnIndexes.put("in_upper", 2);
+				return columnIndexes;
+			}
+		};
+	}
+
+	public static CsvDataSourceConfiguration inlineListConfig() {
+		return inlineListConfig("/inlineList/primeRanges.csv");
+	}
+
+	public static CsvDataSourceConfiguration inlineListMissingPropertiesConfig() {
+		return inlineListConfig("/inlineList/missingProperties.csv");
+	}
+
+	public static CsvDataSourceConfiguration inlineListTooManyFieldsConfig() {
+		return inlineListConfig("/inlineList/tooManyFields.csv");
+	}
+
+	public static CsvDataSourceConfiguration inlineListInvalidFieldConfig() {
+		return inlineListConfig("/inlineList/invalidField.csv");
+	}
+
+	private static CsvDataSourceConfiguration inlineListConfig(final String path) {
+		return new CsvDataSourceConfiguration() {
+
+			@Override
+			public URL getURL() {
+				return getClass().getResource(path);
+			}
+
+			@Override
+			public Class<? extends Mapper> getMapperClass() {
+				return HeaderNameInlineListMapper.class;
+			}
+		};
+	}
+
+	public static CsvDataSourceConfiguration nestedBeanConfig() {
+		return nestedBeanConfig("/nested/people.csv");
+	}
+
+	public static CsvDataSourceConfiguration nestedBeanMissingColumnConfig() {
+		return nestedBeanConfig("/nested/missingColumn.csv");
+	}
+
+	public static CsvDataSourceConfiguration negatingMapperConfig() {
+		return nestedBeanConfig(NegatingMapper.class);
+	}
+
+	public static CsvDataSourceConfiguration upperCaseNameMapperConfig() {
+		return nestedBeanConfig(UpperCaseNameMapper.class);
+	}
+
+	private static CsvDataSourceConfiguration nestedBeanConfig(final Class<? extends Mapper> mapperClass) {
+		return new CsvDataSourceConfiguration() {
+
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/nested/people.csv");
+			}
+
+			@Override
+			public Class<? extends Mapper> getMapperClass() {
+				return mapperClass;
+			}
+		};
+	}
+
+	private static CsvDataSourceConfiguration nestedBeanConfig(final String path) {
+		return new CsvDataSourceConfiguration() {
+
+			@Override
+			public URL getURL() {
+				return getClass().getResource(path);
+			}
+		};
+	}
+}
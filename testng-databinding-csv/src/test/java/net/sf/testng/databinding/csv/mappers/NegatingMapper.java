@@ -0,0 +1,20 @@
+package net.sf.testng.databinding.csv.mappers;
+
+import java.util.List;
+
+import net.sf.testng.databinding.csv.CsvDataSourceConfiguration;
+import net.sf.testng.databinding.csv.HeaderNameMapper;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class NegatingMapper extends HeaderNameMapper {
+
+	public NegatingMapper(final List<MethodParameter> parameters, final CsvDataSourceConfiguration configuration) {
+		super(parameters, configuration);
+	}
+
+	@Override
+	protected Object createPrimitive(final MethodParameter parameter, final String[] line, final String prefix) {
+		final Object value = super.createPrimitive(parameter, line, prefix);
+		return value instanceof Boolean ? !(Boolean) value : value;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package net.sf.testng.databinding.csv.mappers;
+
+import java.util.List;
+
+import net.sf.testng.databinding.csv.CsvDataSourceConfiguration;
+import net.sf.testng.databinding.csv.CsvRow;
+import net.sf.testng.databinding.csv.HeaderNameMapper;
+import net.sf.testng.databinding.csv.beans.Person;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class UpperCaseNameMapper extends HeaderNameMapper {
+
+	public UpperCaseNameMapper(final List<MethodParameter> parameters,
+			final CsvDataSourceConfiguration configuration) {
+		super(parameters, configuration);
+	}
+
+	@Override
+	protected Object createSingleBean(final MethodParameter parameter, final CsvRow row, final String prefix) {
+		final Person person = (Person) super.createSingleBean(parameter, row, prefix);
+		person.setName(person.getName().toUpperCase());
+		return person;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package net.sf.testng.databinding.fixedwidth;
+
+import java.lang.reflect.Type;
+
+import net.sf.testng.databinding.core.util.Types;
+
+/**
+ * Converts decoded fields to the primitive types as defined by {@link Types#isPrimitiveType(Type)}. Whole numbers
+ * are parsed straight from the decoded characters.
+ *
+ * @author Matthias Rothe
+ */
+enum FieldConverter {
+	STRING {
+		@Override
+		Object convert(final FieldDecoder field) {
+			return field.toString();
+		}
+	},
+	CHARACTER {
+		@Override
+		Object convert(final FieldDecoder field) {
+			return field.length() > 0 ? field.firstChar() : null;
+		}
+	},
+	INTEGER {
+		@Override
+		Object convert(final FieldDecoder field) {
+			return Integer.parseInt(field.getSequence(), field.getStart(), field.getEnd(), 10);
+		}
+	},
+	LONG {
+		@Override
+		Object convert(final FieldDecoder field) {
+			return Long.parseLong(field.getSequence(), field.getStart(), field.getEnd(), 10);
+		}
+	},
+	FLOAT {
+		@Override
+		Object convert(final FieldDecoder field) {
+			return Float.parseFloat(field.toString());
+		}
+	},
+	DOUBLE {
+		@Override
+		Object convert(final FieldDecoder field) {
+			return Double.parseDouble(field.toString());
+		}
+	},
+	BOOLEAN {
+		@Override
+		Object convert(final FieldDecoder field) {
+			if (field.length() != 4) {
+				return false;
+			}
+
+			for (int i = 0; i < 4; i++) {
+				if (Character.toLowerCase(field.getSequence().charAt(field.getStart() + i)) != "true".charAt(i)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+	};
+
+	abstract Object convert(FieldDecoder field);
+
+	static FieldConverter forType(final Type type) {
+		if (type == String.class) {
+			return STRING;
+		} else if (type == Character.class || type == char.class) {
+			return CHARACTER;
+		} else if (type == Integer.class || type == int.class) {
+			return INTEGER;
+		} else if (type == Long.class || type == long.class) {
+			return LONG;
+		} else if (type == Float.class || type == float.class) {
+			return FLOAT;
+		} else if (type == Double.class || type == double.class) {
+			return DOUBLE;
+		} else if (type == Boolean.class || type == boolean.class) {
+			return BOOLEAN;
+		} else {
+			return null;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+package net.sf.testng.databinding.fixedwidth;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Decodes single fields of a record into a reused character buffer, so binding a field doesn't create any
+ * objects except for the bound value itself.
+ * <p>
+ * Bytes below 0x80 are decoded directly for all ASCII compatible charsets, all bytes for ISO-8859-1. Any other
+ * byte is decoded by the charset's decoder. The decoded field is only valid until the next field is decoded.
+ *
+ * @author Matthias Rothe
+ */
+final class FieldDecoder {
+	private final CharsetDecoder decoder;
+	private final boolean asciiCompatible;
+	private final boolean latin1;
+	private final boolean trim;
+	private char[] chars = new char[64];
+	private CharBuffer sequence = CharBuffer.wrap(chars);
+	private int start;
+	private int end;
+
+	/**
+	 * @param charset The charset of the fields
+	 * @param trim Whether to strip leading and trailing whitespace
+	 */
+	FieldDecoder(final Charset charset, final boolean trim) {
+		this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPORT)
+			.onUnmappableCharacter(CodingErrorAction.REPORT);
+		this.latin1 = charset.equals(StandardCharsets.ISO_8859_1);
+		this.asciiCompatible = latin1 || charset.equals(StandardCharsets.US_ASCII)
+				|| charset.equals(StandardCharsets.UTF_8) || "windows-1252".equals(charset.name());
+		this.trim = trim;
+	}
+
+	/**
+	 * Decodes the field of the given length at the given offset.
+	 *
+	 * @param buffer The buffer holding the record
+	 * @param offset The offset of the field within the buffer
+	 * @param length The length of the field in bytes
+	 * @throws CharacterCodingException if the field can't be decoded
+	 */
+	void decode(final ByteBuffer buffer, final int offset, final int length) throws CharacterCodingException {
+		if (length > chars.length) {
+			chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length));
+			sequence = CharBuffer.wrap(chars);
+		}
+
+		end = 0;
+
+		if (asciiCompatible) {
+			for (; end < length; end++) {
+				final int b = buffer.get(offset + end) & 0xff;
+
+				if (b >= 0x80 && !latin1) {
+					break;
+				}
+
+				chars[end] = (char) b;
+			}
+		}
+
+		if (end < length) {
+			decodeRemainder(buffer, offset + end, length - end);
+		}
+
+		start = 0;
+
+		if (trim) {
+			while (start < end && Character.isWhitespace(chars[start])) {
+				start++;
+			}
+
+			while (end > start && Character.isWhitespace(chars[end - 1])) {
+				end--;
+			}
+		}
+	}
+
+	private void decodeRemainder(final ByteBuffer buffer, final int offset, final int length)
+			throws CharacterCodingException {
+		final ByteBuffer input = buffer.duplicate();
+		input.limit(offset + length).position(offset);
+		final CharBuffer output = CharBuffer.wrap(chars, end, chars.length - end);
+
+		decoder.reset();
+		CoderResult result = decoder.decode(input, output, true);
+		if (!result.isError()) {
+			result = decoder.flush(output);
+		}
+		if (result.isError() || result.isOverflow()) {
+			result.throwException();
+		}
+
+		end = output.position();
+	}
+
+	/**
+	 * @return the number of characters of the field
+	 */
+	int length() {
+		return end - start;
+	}
+
+	/**
+	 * @return the first character of the field
+	 */
+	char firstChar() {
+		return chars[start];
+	}
+
+	/**
+	 * @return a view of the characters decoded, valid until the next field is decoded
+	 */
+	CharSequence getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * @return the index of the first character of the field within the {@link #getSequence() sequence}
+	 */
+	int getStart() {
+		return start;
+	}
+
+	/**
+	 * @return the index after the last character of the field within the {@link #getSequence() sequence}
+	 */
+	int getEnd() {
+		return end;
+	}
+
+	@Override
+	public String toString() {
+		return new String(chars, start, end - start);
+	}
+}
\ No newline at end of file
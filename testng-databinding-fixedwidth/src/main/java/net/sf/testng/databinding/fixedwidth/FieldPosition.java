@@ -0,0 +1,41 @@
+package net.sf.testng.databinding.fixedwidth;
+
+/**
+ * The position of a field within each record, as declared by
+ * {@link FixedWidthDataSourceConfiguration#getFieldPositions()}.
+ *
+ * @author Matthias Rothe
+ * @see FixedField
+ */
+public final class FieldPosition {
+	private final int offset;
+	private final int length;
+
+	/**
+	 * @param offset The zero-based offset of the field within the record, in bytes
+	 * @param length The length of the field, in bytes
+	 */
+	public FieldPosition(final int offset, final int length) {
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * @return the zero-based offset of the field within the record, in bytes
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * @return the length of the field, in bytes
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	@Override
+	public String toString() {
+		return "[offset=" + offset + ", length=" + length + "]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package net.sf.testng.databinding.fixedwidth;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines the position of the field within each record a test method parameter or a Java Bean property is
+ * bound to by the {@link FixedWidthDataSource}.
+ * <p>
+ * Test method parameters are annotated directly, Java Bean properties are annotated either on their
+ * field or on their getter or setter method.
+ *
+ * @author Matthias Rothe
+ * @see FixedWidthDataSource
+ */
+@Target({ ElementType.PARAMETER, ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface FixedField {
+
+	/**
+	 * The zero-based offset of the field within the record, in bytes.
+	 *
+	 * @return the offset
+	 */
+	int offset();
+
+	/**
+	 * The length of the field, in bytes.
+	 *
+	 * @return the length
+	 */
+	int length();
+}
\ No newline at end of file
@@ -0,0 +1,436 @@
+package net.sf.testng.databinding.fixedwidth;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+import net.sf.testng.databinding.AbstractDataSource;
+import net.sf.testng.databinding.DataSource;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
+import net.sf.testng.databinding.core.util.Types;
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * <p>
+ * This {@link IDataSource data source} binds the records of fixed-width files, like mainframe exports, to test method
+ * parameters. It supports an arbitrary number of {@link TestInput test input} and {@link TestOutput test output}
+ * parameters of primitive types, as defined by {@link Types#isPrimitiveType(Type)}, and of Java Bean types with
+ * primitive properties.
+ * </p><p>
+ * Each record holds the data for one test method invocation. All records have the same length, given by the
+ * {@link FixedWidthDataSourceConfiguration#getRecordLength() configuration} or taken from the first line. Each field
+ * is declared once by its offset and length in bytes, either with the {@link FixedField} annotation or with the
+ * {@link FixedWidthDataSourceConfiguration#getFieldPositions() field positions} of the configuration, which take
+ * precedence. Every primitive parameter needs to have a field position. Java Bean properties without a field position
+ * are not set, leaving them unchanged, but every Java Bean needs to have at least one property with a field position.
+ * If any field position is missing a {@link MultipleConfigurationErrorsException} is thrown.
+ * </p><p>
+ * The file is mapped into memory and each field is sliced from its record at a constant offset, without any
+ * tokenizing, and decoded with the configured charset, stripping leading and trailing whitespace by default. As record
+ * <i>n</i> starts at a known offset, skipping records and splitting the file into
+ * {@link FixedWidthDataSourceConfiguration#getShardCount() shards} doesn't require reading the records skipped.
+ * Files not located in the file system are copied to a temporary file first.
+ * </p>
+ * <h3>Example</h3>
+ * <p>
+ * Getters and setters are omitted in the Java Bean for brevity in this example. They are however crucial in actual
+ * Java Beans, so you have to include them in any Java Bean you actually want to bind data to.
+ * </p>
+ * <h4>Test Method</h4>
+ * <pre>
+ * &#64;DataBinding(dataSource = "fixedwidth", configClass = Configs.class)
+ * public void testIsBetween(&#64;TestInput CheckData data,
+ *         &#64;TestOutput(name = "expected") &#64;FixedField(offset = 15, length = 5) boolean expected) {
+ *     assertEquals(isBetween(data.getValue(), data.getLower(), data.getUpper()), expected);
+ * }
+ * </pre>
+ * <h4>Java Bean: CheckData</h4>
+ * <pre>
+ * public class CheckData {
+ *     &#64;FixedField(offset = 0, length = 5)
+ *     private int value;
+ *     &#64;FixedField(offset = 5, length = 5)
+ *     private int lower;
+ *     &#64;FixedField(offset = 10, length = 5)
+ *     private int upper;
+ *
+ *     /* Getters and setters omitted for brevity &#42;/
+ * }
+ * </pre>
+ * <h4>Fixed-Width Data Source File</h4>
+ * <pre>
+ *   -10   -5   10false
+ *    -5   -5   10true
+ *    20   -5   10false
+ * </pre>
+ *
+ * @author Matthias Rothe
+ */
+@DataSource(name = "fixedwidth")
+public class FixedWidthDataSource extends AbstractDataSource {
+	private final FixedWidthDataSourceConfiguration configuration;
+	private final Map<String, FieldPosition> fieldPositions = new HashMap<String, FieldPosition>();
+	private final List<Binding> bindings = new ArrayList<Binding>();
+	private final FieldDecoder decoder;
+	private int requiredLength;
+	private File temporaryFile;
+	private RecordFile recordFile;
+	private long nextRecord;
+	private long endRecord;
+
+	/**
+	 * Constructs a new instance of this class, setting the {@link MethodParameter test method parameters} to load the
+	 * data for and the {@link Configuration configuration} describing where to load the data from.
+	 *
+	 * @param parameters The test method parameters for which data is to be loaded
+	 * @param configuration The configuration describing where to load the data from
+	 * @throws Exception If anything goes wrong during the creation of this instance
+	 */
+	public FixedWidthDataSource(final List<MethodParameter> parameters, final Configuration configuration)
+			throws Exception {
+		this.configuration = DataSourceConfigurationLoader.loadDataSourceConfiguration(configuration,
+			FixedWidthDataSourceConfiguration.class);
+		this.decoder = new FieldDecoder(Charset.forName(this.configuration.getCharset()),
+			this.configuration.trimFields());
+
+		for (final Entry<String, FieldPosition> entry : this.configuration.getFieldPositions().entrySet()) {
+			fieldPositions.put(entry.getKey().toLowerCase(), entry.getValue());
+		}
+
+		createBindings(parameters);
+
+		try {
+			recordFile = new RecordFile(locateFile(this.configuration.getURL()).toPath(),
+				this.configuration.getRecordLength(), requiredLength);
+			checkRecordLength();
+
+			final long firstRecord = Math.min(this.configuration.getRecordsToSkip(), recordFile.getRecordCount());
+			final long records = recordFile.getRecordCount() - firstRecord;
+			final int shardCount = this.configuration.getShardCount();
+			final int shardIndex = this.configuration.getShardIndex();
+
+			nextRecord = firstRecord + records * shardIndex / shardCount;
+			endRecord = firstRecord + records * (shardIndex + 1) / shardCount;
+		} catch (final Exception e) {
+			cleanUpAfter(e);
+			throw e;
+		}
+
+		if (!hasNext()) {
+			cleanUp();
+		}
+	}
+
+	private void createBindings(final List<MethodParameter> parameters) {
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+		checkConfiguration(errorCollectors);
+
+		for (final MethodParameter parameter : parameters) {
+			if (parameter.getAnnotation(TestInput.class) != null) {
+				addBinding(parameter, configuration.getInputPrefix(), errorCollectors);
+			} else if (parameter.getAnnotation(TestOutput.class) != null) {
+				addBinding(parameter, configuration.getOutputPrefix(), errorCollectors);
+			}
+		}
+
+		if (errorCollectors.size() > 0) {
+			throw new MultipleConfigurationErrorsException(errorCollectors);
+		}
+	}
+
+	private void checkConfiguration(final List<ErrorCollector> errorCollectors) {
+		final ErrorCollector errorCollector = new ErrorCollector("configuration");
+		final int shardCount = configuration.getShardCount();
+		final int shardIndex = configuration.getShardIndex();
+
+		if (configuration.getRecordLength() < 0) {
+			errorCollector.addError("invalid record length " + configuration.getRecordLength()
+					+ ", the record length must be at least 0");
+		}
+
+		if (configuration.getRecordsToSkip() < 0) {
+			errorCollector.addError("invalid number of records to skip " + configuration.getRecordsToSkip()
+					+ ", the number of records to skip must be at least 0");
+		}
+
+		if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+			errorCollector.addError("invalid shard " + shardIndex + " of " + shardCount
+					+ " shards, the shard index must be at least 0 and less than the number of shards");
+		}
+
+		if (errorCollector.hasErrors()) {
+			errorCollectors.add(errorCollector);
+		}
+	}
+
+	private void addBinding(final MethodParameter parameter, final String prefix,
+			final List<ErrorCollector> errorCollectors) {
+		final Type type = parameter.getType();
+		final ErrorCollector errorCollector = new ErrorCollector(type, parameter.getName());
+
+		if (Types.isPrimitiveType(type)) {
+			final FieldPosition position = resolveFieldPosition(prefix, parameter.getName(),
+				parameter.getAnnotation(FixedField.class), errorCollector);
+
+			if (position == null) {
+				errorCollector.addError("no field position declared for " + prefix + parameter.getName());
+			} else {
+				bindings.add(new FieldBinding(position, FieldConverter.forType(type)));
+			}
+		} else if (Types.isSingleBeanType(type)) {
+			try {
+				bindings.add(createBeanBinding((Class<?>) type, prefix, errorCollector));
+			} catch (final Exception e) {
+				errorCollector.addError("unable to create type: " + e.getMessage());
+			}
+		} else {
+			errorCollector.addError("Type " + type + " is not supported by this data source: " + getClass());
+		}
+
+		if (errorCollector.hasErrors()) {
+			errorCollectors.add(errorCollector);
+		}
+	}
+
+	private Binding createBeanBinding(final Class<?> type, final String prefix, final ErrorCollector errorCollector)
+			throws IntrospectionException, NoSuchMethodException {
+		final List<Method> writeMethods = new ArrayList<Method>();
+		final List<FieldBinding> fieldBindings = new ArrayList<FieldBinding>();
+
+		final BeanInfo info = Introspector.getBeanInfo(type);
+		for (final PropertyDescriptor descriptor : info.getPropertyDescriptors()) {
+			final Method writeMethod = descriptor.getWriteMethod();
+
+			if (writeMethod != null && Types.isPrimitiveType(descriptor.getPropertyType())) {
+				final FieldPosition position = resolveFieldPosition(prefix, descriptor.getName(),
+					findFixedFieldAnnotation(type, descriptor), errorCollector);
+
+				if (position != null) {
+					writeMethods.add(writeMethod);
+					fieldBindings.add(new FieldBinding(position,
+						FieldConverter.forType(descriptor.getPropertyType())));
+				}
+			}
+		}
+
+		if (writeMethods.isEmpty()) {
+			errorCollector.addError("no field position declared for any property of " + type.getName());
+		}
+
+		return new BeanBinding(type.getConstructor(), writeMethods.toArray(new Method[0]),
+			fieldBindings.toArray(new FieldBinding[0]));
+	}
+
+	private FixedField findFixedFieldAnnotation(final Class<?> type, final PropertyDescriptor descriptor) {
+		for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+			try {
+				final Field field = clazz.getDeclaredField(descriptor.getName());
+				if (field.isAnnotationPresent(FixedField.class)) {
+					return field.getAnnotation(FixedField.class);
+				}
+			} catch (final NoSuchFieldException ignored) {
+				// look for the field in the super class
+			}
+		}
+
+		if (descriptor.getWriteMethod().isAnnotationPresent(FixedField.class)) {
+			return descriptor.getWriteMethod().getAnnotation(FixedField.class);
+		} else if (descriptor.getReadMethod() != null
+				&& descriptor.getReadMethod().isAnnotationPresent(FixedField.class)) {
+			return descriptor.getReadMethod().getAnnotation(FixedField.class);
+		}
+
+		return null;
+	}
+
+	private FieldPosition resolveFieldPosition(final String prefix, final String name, final FixedField annotation,
+			final ErrorCollector errorCollector) {
+		FieldPosition position = fieldPositions.get((prefix + name).toLowerCase());
+
+		if (position == null && annotation != null) {
+			position = new FieldPosition(annotation.offset(), annotation.length());
+		}
+
+		if (position != null) {
+			if (position.getOffset() < 0 || position.getLength() < 1) {
+				errorCollector.addError("invalid field position " + position + " declared for " + prefix + name);
+				return null;
+			}
+
+			requiredLength = Math.max(requiredLength, position.getOffset() + position.getLength());
+		}
+
+		return position;
+	}
+
+	private void checkRecordLength() {
+		if (requiredLength > recordFile.getRecordLength()) {
+			final ErrorCollector errorCollector = new ErrorCollector(configuration.getURL().toExternalForm());
+			errorCollector.addError("records have " + recordFile.getRecordLength() + " bytes, but the fields require "
+					+ requiredLength + " bytes");
+			final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+			errorCollectors.add(errorCollector);
+			throw new MultipleSourceErrorsException(errorCollectors);
+		}
+	}
+
+	private File locateFile(final URL url) throws Exception {
+		if ("file".equals(url.getProtocol())) {
+			return new File(url.toURI());
+		}
+
+		temporaryFile = File.createTempFile("testng-databinding-", ".dat");
+		final InputStream stream = url.openStream();
+		try {
+			Files.copy(stream, temporaryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			stream.close();
+		}
+
+		return temporaryFile;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		return nextRecord < endRecord;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		final long record = nextRecord++;
+
+		try {
+			final int recordOffset = recordFile.seek(record);
+			final ByteBuffer buffer = recordFile.getWindow();
+			final Object[] objects = new Object[bindings.size()];
+
+			for (int i = 0; i < objects.length; i++) {
+				objects[i] = bindings.get(i).bind(buffer, recordOffset, decoder);
+			}
+
+			return objects;
+		} catch (final Exception e) {
+			final ErrorCollector errorCollector = new ErrorCollector(configuration.getURL().toExternalForm());
+			errorCollector.addError("invalid source for data source " + getClass().getName() + " at record "
+					+ (record + 1) + ", detail message: " + e.getMessage());
+			final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+			errorCollectors.add(errorCollector);
+			throw new MultipleSourceErrorsException(errorCollectors);
+		} finally {
+			if (!hasNext()) {
+				cleanUp();
+			}
+		}
+	}
+
+	private void cleanUp() {
+		try {
+			if (recordFile != null) {
+				recordFile.close();
+			}
+		} catch (final IOException e) {
+			throw Exceptions.softenIfNecessary(e);
+		} finally {
+			recordFile = null;
+
+			if (temporaryFile != null && !temporaryFile.delete()) {
+				temporaryFile.deleteOnExit();
+			}
+
+			temporaryFile = null;
+		}
+	}
+
+	private void cleanUpAfter(final Exception cause) {
+		try {
+			cleanUp();
+		} catch (final RuntimeException e) {
+			cause.addSuppressed(e);
+		}
+	}
+
+	private interface Binding {
+		Object bind(ByteBuffer buffer, int recordOffset, FieldDecoder decoder) throws Exception;
+	}
+
+	private static class FieldBinding implements Binding {
+		private final int offset;
+		private final int length;
+		private final FieldConverter converter;
+
+		FieldBinding(final FieldPosition position, final FieldConverter converter) {
+			this.offset = position.getOffset();
+			this.length = position.getLength();
+			this.converter = converter;
+		}
+
+		@Override
+		public Object bind(final ByteBuffer buffer, final int recordOffset, final FieldDecoder decoder)
+				throws Exception {
+			decoder.decode(buffer, recordOffset + offset, length);
+			return converter.convert(decoder);
+		}
+	}
+
+	private static class BeanBinding implements Binding {
+		private final Constructor<?> constructor;
+		private final Method[] writeMethods;
+		private final FieldBinding[] fieldBindings;
+
+		BeanBinding(final Constructor<?> constructor, final Method[] writeMethods,
+				final FieldBinding[] fieldBindings) {
+			this.constructor = constructor;
+			this.writeMethods = writeMethods;
+			this.fieldBindings = fieldBindings;
+		}
+
+		@Override
+		public Object bind(final ByteBuffer buffer, final int recordOffset, final FieldDecoder decoder)
+				throws Exception {
+			final Object bean = constructor.newInstance();
+
+			for (int i = 0; i < writeMethods.length; i++) {
+				writeMethods[i].invoke(bean, fieldBindings[i].bind(buffer, recordOffset, decoder));
+			}
+
+			return bean;
+		}
+	}
+}
\ No newline at end of file
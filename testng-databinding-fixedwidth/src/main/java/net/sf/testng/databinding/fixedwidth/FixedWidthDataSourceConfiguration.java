@@ -0,0 +1,134 @@
+package net.sf.testng.databinding.fixedwidth;
+
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Map;
+
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+
+public interface FixedWidthDataSourceConfiguration {
+
+	/**
+	 * The locator of the actual data source file.
+	 *
+	 * @return the url
+	 */
+	URL getURL();
+
+	/**
+	 * The character set of the fields within the data source file.
+	 * <p>
+	 * May be any charset name or alias deemed to be legal by {@link Charset#forName(String)}. As field
+	 * positions are given in bytes, charsets encoding characters with varying numbers of bytes, like UTF-8,
+	 * are only sensible as long as the number of bytes of each field doesn't vary.
+	 * <p>
+	 * Defaults to UTF-8
+	 *
+	 * @return the charset
+	 */
+	default String getCharset() {
+		return "UTF-8";
+	}
+
+	/**
+	 * The length of each record in bytes, including any record separator, like a line break.
+	 * <p>
+	 * Defaults to 0, taking the length of the first line including its line break
+	 *
+	 * @return the record length
+	 */
+	default int getRecordLength() {
+		return 0;
+	}
+
+	/**
+	 * The number of records to skip at the beginning of the data source file, e.g. header records.
+	 * <p>
+	 * May be any integer &gt;= 0
+	 * <p>
+	 * Defaults to 0
+	 *
+	 * @return the records to skip
+	 */
+	default int getRecordsToSkip() {
+		return 0;
+	}
+
+	/**
+	 * Whether to strip leading and trailing whitespace from each field before binding it.
+	 * <p>
+	 * Defaults to <code>true</code>
+	 *
+	 * @return <code>true</code>, or <code>false</code>
+	 */
+	default boolean trimFields() {
+		return true;
+	}
+
+	/**
+	 * The field positions keyed by field names, taking precedence over the ones given with the
+	 * {@link FixedField} annotation.
+	 * <p>
+	 * The field names are the {@link #getInputPrefix() input} or {@link #getOutputPrefix() output} prefix
+	 * followed by the name of the parameter or Java Bean property. They are case-insensitive.
+	 * <p>
+	 * Defaults to an empty map
+	 *
+	 * @return the field positions
+	 */
+	default Map<String, FieldPosition> getFieldPositions() {
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * The prefix of the names of fields bound to test method parameters annotated with {@link TestInput},
+	 * see {@link #getFieldPositions()}.
+	 * <p>
+	 * Defaults to in_
+	 *
+	 * @return the input prefix
+	 */
+	default String getInputPrefix() {
+		return "in_";
+	}
+
+	/**
+	 * The prefix of the names of fields bound to test method parameters annotated with {@link TestOutput},
+	 * see {@link #getFieldPositions()}.
+	 * <p>
+	 * Defaults to out_
+	 *
+	 * @return the output prefix
+	 */
+	default String getOutputPrefix() {
+		return "out_";
+	}
+
+	/**
+	 * The number of shards the records of the data source file are split into. Only the records of the
+	 * {@link #getShardIndex() shard} given are bound, so several test runs can split a large file between
+	 * them. Each shard is a contiguous range of records of about the same size.
+	 * <p>
+	 * Defaults to 1, binding all records
+	 *
+	 * @return the number of shards
+	 */
+	default int getShardCount() {
+		return 1;
+	}
+
+	/**
+	 * The index of the shard to bind, see {@link #getShardCount()}.
+	 * <p>
+	 * May be any integer from 0 to the number of shards - 1
+	 * <p>
+	 * Defaults to 0
+	 *
+	 * @return the index of the shard
+	 */
+	default int getShardIndex() {
+		return 0;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package net.sf.testng.databinding.fixedwidth;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file of fixed-length records, mapped into memory. Record <i>n</i> starts at byte <i>n</i> times the record
+ * length, so any record can be accessed directly, without reading the records before it.
+ * <p>
+ * The file is mapped in windows of whole records of up to {@value #MAX_WINDOW_SIZE} bytes, so files of any size
+ * can be mapped. The last record may lack its record separator, as long as it holds all fields.
+ *
+ * @author Matthias Rothe
+ */
+final class RecordFile implements Closeable {
+	static final int MAX_WINDOW_SIZE = 1 << 30;
+	private static final int DETECTION_LIMIT = 1 << 16;
+
+	private final FileChannel channel;
+	private final int recordLength;
+	private final long recordCount;
+	private final int recordsPerWindow;
+	private MappedByteBuffer window;
+	private long windowStart = -1;
+
+	/**
+	 * @param path The path of the file
+	 * @param recordLength The length of each record in bytes, 0 to take the length of the first line
+	 * @param requiredLength The number of bytes at the start of each record holding all fields
+	 * @throws IOException if the file can't be opened
+	 */
+	RecordFile(final Path path, final int recordLength, final int requiredLength) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+
+		try {
+			this.recordLength = recordLength > 0 ? recordLength : detectRecordLength();
+			final long size = channel.size();
+			final long remainder = size % this.recordLength;
+			recordCount = size / this.recordLength + (remainder > 0 && remainder >= requiredLength ? 1 : 0);
+			recordsPerWindow = Math.max(1, MAX_WINDOW_SIZE / this.recordLength);
+		} catch (final IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private int detectRecordLength() throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(DETECTION_LIMIT, Math.max(1, channel.size())));
+		channel.read(buffer, 0);
+
+		for (int i = 0; i < buffer.position(); i++) {
+			if (buffer.get(i) == '\n') {
+				return i + 1;
+			}
+		}
+
+		if (channel.size() > DETECTION_LIMIT) {
+			throw new IOException("no line break found within the first " + DETECTION_LIMIT
+					+ " bytes, the record length must be configured");
+		}
+
+		return Math.max(1, buffer.position());
+	}
+
+	/**
+	 * @return the length of each record in bytes
+	 */
+	int getRecordLength() {
+		return recordLength;
+	}
+
+	/**
+	 * @return the number of records
+	 */
+	long getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * Maps the window holding the given record, if necessary.
+	 *
+	 * @param record The index of the record
+	 * @return the offset of the record within the {@link #getWindow() window}
+	 * @throws IOException if the window can't be mapped
+	 */
+	int seek(final long record) throws IOException {
+		final long start = record - record % recordsPerWindow;
+
+		if (start != windowStart) {
+			final long position = start * recordLength;
+			final long size = Math.min((long) recordsPerWindow * recordLength, channel.size() - position);
+			window = channel.map(MapMode.READ_ONLY, position, size);
+			windowStart = start;
+		}
+
+		return (int) (record - start) * recordLength;
+	}
+
+	/**
+	 * @return the window mapped last
+	 */
+	ByteBuffer getWindow() {
+		return window;
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		channel.close();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,4 @@
+/**
+ * Contains a fixed-width record {@link net.sf.testng.databinding.IDataSource data source} implementation.
+ */
+package net.sf.testng.databinding.fixedwidth;
\ No newline at end of file
@@ -0,0 +1,121 @@
+package net.sf.testng.databinding.fixedwidth;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.fixedwidth.beans.Person;
+import net.sf.testng.databinding.fixedwidth.datasource.config.FixedWidthDataSourceConfigurations;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class FixedWidthDataSourceTest {
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test
+	public void shouldBindRecordsThroughAnnotations() throws Exception {
+		final FixedWidthDataSource dataSource = createDataSource("personConsumer", "peopleConfig");
+
+		assertTrue(dataSource.hasNext());
+		assertTrue(dataSource.hasNext());
+
+		final List<Object[]> records = readAll(dataSource);
+
+		assertEquals(records.toArray(), new Object[][] { { new Person("Anna", "Berlin", 10115), true },
+				{ new Person("Ben", "Hamburg", 20095), false }, { new Person("Carla", "Munich", 80331), false },
+				{ new Person("Dora", "Cologne", 50667), true }, { new Person("Emil", "Bremen", 28195), false } });
+		assertFalse(dataSource.hasNext());
+	}
+
+	@Test
+	public void shouldPreferConfiguredFieldPositions() throws Exception {
+		final FixedWidthDataSource dataSource = createDataSource("personConsumer", "fieldPositionsConfig");
+
+		assertEquals(dataSource.next(), new Object[] { new Person("Berlin", "Berlin", 10115), true });
+	}
+
+	@Test
+	public void shouldBindShardAfterSkippedRecords() throws Exception {
+		final FixedWidthDataSource dataSource = createDataSource("personConsumer", "shardConfig");
+
+		assertEquals(readAll(dataSource).toArray(), new Object[][] {
+				{ new Person("Dora", "Cologne", 50667), true }, { new Person("Emil", "Bremen", 28195), false } });
+	}
+
+	@Test(expectedExceptions = MultipleConfigurationErrorsException.class)
+	public void shouldRequireValidShard() throws Exception {
+		createDataSource("personConsumer", "invalidShardConfig");
+	}
+
+	@Test(expectedExceptions = MultipleConfigurationErrorsException.class)
+	public void shouldRequireFieldPositions() throws Exception {
+		createDataSource("unpositionedConsumer", "peopleConfig");
+	}
+
+	@Test
+	public void shouldReportInvalidRecord() throws Exception {
+		final FixedWidthDataSource dataSource = createDataSource("personConsumer", "invalidConfig");
+
+		assertEquals(dataSource.next(), new Object[] { new Person("Anna", "Berlin", 10115), true });
+
+		try {
+			dataSource.next();
+			fail("expected MultipleSourceErrorsException");
+		} catch (final MultipleSourceErrorsException e) {
+			assertTrue(e.getMessage().contains("at record 2"), e.getMessage());
+		}
+
+		assertFalse(dataSource.hasNext());
+	}
+
+	private List<Object[]> readAll(final FixedWidthDataSource dataSource) {
+		final List<Object[]> records = new ArrayList<Object[]>();
+		while (dataSource.hasNext()) {
+			records.add(dataSource.next());
+		}
+		return records;
+	}
+
+	private FixedWidthDataSource createDataSource(final String methodName, final String configMethod)
+			throws Exception {
+		return new FixedWidthDataSource(createMethodParameters(methodName),
+				new Configuration(FixedWidthDataSourceConfigurations.class, configMethod));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void personConsumer(@TestInput final Person person,
+			@TestOutput(name = "local") @FixedField(offset = 25, length = 5) final boolean local) {
+	}
+
+	public void unpositionedConsumer(@TestInput final Person person, @TestOutput(name = "local") final boolean local) {
+	}
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package net.sf.testng.databinding.fixedwidth.beans;
+
+import net.sf.testng.databinding.fixedwidth.FixedField;
+
+public class Person {
+	@FixedField(offset = 0, length = 10)
+	private String name;
+	@FixedField(offset = 10, length = 10)
+	private String city;
+	private int zip;
+
+	public Person() {
+	}
+
+	public Person(final String name, final String city, final int zip) {
+		this.name = name;
+		this.city = city;
+		this.zip = zip;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(final String name) {
+		this.name = name;
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public void setCity(final String city) {
+		this.city = city;
+	}
+
+	@FixedField(offset = 20, length = 5)
+	public int getZip() {
+		return zip;
+	}
+
+	public void setZip(final int zip) {
+		this.zip = zip;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (name == null ? 0 : name.hashCode());
+		result = prime * result + (city == null ? 0 : city.hashCode());
+		result = prime * result + zip;
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Person other = (Person) obj;
+		return (name == null ? other.name == null : name.equals(other.name))
+				&& (city == null ? other.city == null : city.equals(other.city)) && zip == other.zip;
+	}
+
+	@Override
+	public String toString() {
+		return "Person [name=" + name + ", city=" + city + ", zip=" + zip + "]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package net.sf.testng.databinding.fixedwidth.datasource.config;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.sf.testng.databinding.fixedwidth.FieldPosition;
+import net.sf.testng.databinding.fixedwidth.FixedWidthDataSourceConfiguration;
+
+public class FixedWidthDataSourceConfigurations {
+
+	private FixedWidthDataSourceConfigurations() {}
+	
+	public static FixedWidthDataSourceConfiguration peopleConfig() {
+		return new FixedWidthDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/people.dat");
+			}
+		};
+	}
+	
+	public static FixedWidthDataSourceConfiguration fieldPositionsConfig() {
+		return new FixedWidthDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/people.dat");
+			}
+			
+			@Override
+			public Map<String, FieldPosition> getFieldPositions() {
+				final Map<String, FieldPosition> fieldPositions = new HashMap<String, FieldPosition>();
+				fieldPositions.put("in_name", new FieldPosition(10, 10));
+				return fieldPositions;
+			}
+		};
+	}
+	
+	public static FixedWidthDataSourceConfiguration shardConfig() {
+		return new FixedWidthDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/people.dat");
+			}
+			
+			@Override
+			public int getRecordLength() {
+				return 31;
+			}
+			
+			@Override
+			public int getRecordsToSkip() {
+				return 1;
+			}
+			
+			@Override
+			public int getShardCount() {
+				return 2;
+			}
+			
+			@Override
+			public int getShardIndex() {
+				return 1;
+			}
+		};
+	}
+	
+	public static FixedWidthDataSourceConfiguration invalidShardConfig() {
+		return new FixedWidthDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/people.dat");
+			}
+			
+			@Override
+			public int getShardIndex() {
+				return 1;
+			}
+		};
+	}
+	
+	public static FixedWidthDataSourceConfiguration invalidConfig() {
+		return new FixedWidthDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/invalid.dat");
+			}
+		};
+	}
+}
\ No newline at end of file
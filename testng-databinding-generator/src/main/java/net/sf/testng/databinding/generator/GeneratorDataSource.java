@@ -0,0 +1,309 @@
+package net.sf.testng.databinding.generator;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+import net.sf.testng.databinding.AbstractDataSource;
+import net.sf.testng.databinding.DataSource;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
+import net.sf.testng.databinding.core.util.Types;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * <p>
+ * This {@link IDataSource data source} generates synthetic test data on the fly, e.g. for load style or property
+ * based tests, instead of reading it from a file. It supports an arbitrary number of {@link TestInput test input}
+ * and {@link TestOutput test output} parameters of primitive types, as defined by {@link Types#isPrimitiveType(Type)},
+ * of enum types and of Java Bean types with primitive or enum properties.
+ * </p><p>
+ * The {@link GeneratorDataSourceConfiguration configuration} gives the seed, the number of rows and a
+ * {@link ValueGenerator value generator} per parameter or property. Each value is derived from the seed, the number
+ * of its row and the name of its parameter or property only. So the rows are reproducible, any row can be generated
+ * without generating the ones before, e.g. when the rows are split into
+ * {@link GeneratorDataSourceConfiguration#getShardCount() shards} generated in parallel, and adding a generator
+ * doesn't change the values of the others.
+ * </p>
+ * <h3>Example</h3>
+ * <h4>Test Method</h4>
+ * <pre>
+ * &#64;DataBinding(dataSource = "generator", configClass = Configs.class)
+ * public void testTransfer(&#64;TestInput(name = "amount") long amount,
+ *         &#64;TestInput(name = "currency") String currency) {
+ *     ...
+ * }
+ * </pre>
+ * <h4>Configuration</h4>
+ * <pre>
+ * public static GeneratorDataSourceConfiguration testTransferConfig() {
+ *     return new GeneratorDataSourceConfiguration() {
+ *         public long getSeed() {
+ *             return 42;
+ *         }
+ *
+ *         public long getRowCount() {
+ *             return 1000000;
+ *         }
+ *
+ *         public Map&lt;String, ValueGenerator&gt; getGenerators() {
+ *             Map&lt;String, ValueGenerator&gt; generators = new HashMap&lt;String, ValueGenerator&gt;();
+ *             generators.put("in_amount", ValueGenerators.longs(1, 100000));
+ *             generators.put("in_currency", ValueGenerators.oneOf("EUR", "USD"));
+ *             return generators;
+ *         }
+ *     };
+ * }
+ * </pre>
+ *
+ * @author Matthias Rothe
+ */
+@DataSource(name = "generator")
+public class GeneratorDataSource extends AbstractDataSource {
+	private final GeneratorDataSourceConfiguration configuration;
+	private final Map<String, ValueGenerator> generators = new HashMap<String, ValueGenerator>();
+	private final List<Binding> bindings = new ArrayList<Binding>();
+	private final RowRandom random = new RowRandom();
+	private final long seed;
+	private long nextRow;
+	private final long endRow;
+
+	/**
+	 * Constructs a new instance of this class, setting the {@link MethodParameter test method parameters} to generate
+	 * the data for and the {@link Configuration configuration} describing how to generate the data.
+	 *
+	 * @param parameters The test method parameters for which data is to be generated
+	 * @param configuration The configuration describing how to generate the data
+	 * @throws Exception If anything goes wrong during the creation of this instance
+	 */
+	public GeneratorDataSource(final List<MethodParameter> parameters, final Configuration configuration)
+			throws Exception {
+		this.configuration = DataSourceConfigurationLoader.loadDataSourceConfiguration(configuration,
+			GeneratorDataSourceConfiguration.class);
+		this.seed = this.configuration.getSeed();
+
+		if (this.configuration.getGenerators() != null) {
+			for (final Entry<String, ValueGenerator> entry : this.configuration.getGenerators().entrySet()) {
+				generators.put(entry.getKey().toLowerCase(), entry.getValue());
+			}
+		}
+
+		createBindings(parameters);
+
+		final long rowCount = this.configuration.getRowCount();
+		final int shardCount = this.configuration.getShardCount();
+		final int shardIndex = this.configuration.getShardIndex();
+
+		nextRow = getShardStart(rowCount, shardCount, shardIndex);
+		endRow = getShardStart(rowCount, shardCount, shardIndex + 1);
+	}
+
+	private static long getShardStart(final long rowCount, final int shardCount, final int shardIndex) {
+		return rowCount / shardCount * shardIndex + rowCount % shardCount * shardIndex / shardCount;
+	}
+
+	private void createBindings(final List<MethodParameter> parameters) {
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+		checkConfiguration(errorCollectors);
+
+		for (final MethodParameter parameter : parameters) {
+			if (parameter.getAnnotation(TestInput.class) != null) {
+				addBinding(parameter, configuration.getInputPrefix(), errorCollectors);
+			} else if (parameter.getAnnotation(TestOutput.class) != null) {
+				addBinding(parameter, configuration.getOutputPrefix(), errorCollectors);
+			}
+		}
+
+		if (errorCollectors.size() > 0) {
+			throw new MultipleConfigurationErrorsException(errorCollectors);
+		}
+	}
+
+	private void checkConfiguration(final List<ErrorCollector> errorCollectors) {
+		final ErrorCollector errorCollector = new ErrorCollector("configuration");
+		final int shardCount = configuration.getShardCount();
+		final int shardIndex = configuration.getShardIndex();
+
+		if (configuration.getRowCount() < 0) {
+			errorCollector.addError("invalid row count " + configuration.getRowCount()
+					+ ", the row count must be at least 0");
+		}
+
+		if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+			errorCollector.addError("invalid shard " + shardIndex + " of " + shardCount
+					+ " shards, the shard index must be at least 0 and less than the number of shards");
+		}
+
+		if (errorCollector.hasErrors()) {
+			errorCollectors.add(errorCollector);
+		}
+	}
+
+	private void addBinding(final MethodParameter parameter, final String prefix,
+			final List<ErrorCollector> errorCollectors) {
+		final Type type = parameter.getType();
+		final ErrorCollector errorCollector = new ErrorCollector(type, parameter.getName());
+
+		if (Types.isPrimitiveType(type) || Types.isEnumType(type)) {
+			final ValueBinding binding = createValueBinding(prefix + parameter.getName(), (Class<?>) type);
+
+			if (binding == null) {
+				errorCollector.addError("no value generator given for " + prefix + parameter.getName());
+			} else {
+				bindings.add(binding);
+			}
+		} else if (Types.isSingleBeanType(type)) {
+			try {
+				bindings.add(createBeanBinding((Class<?>) type, prefix, errorCollector));
+			} catch (final Exception e) {
+				errorCollector.addError("unable to create type: " + e.getMessage());
+			}
+		} else {
+			errorCollector.addError("Type " + type + " is not supported by this data source: " + getClass());
+		}
+
+		if (errorCollector.hasErrors()) {
+			errorCollectors.add(errorCollector);
+		}
+	}
+
+	private ValueBinding createValueBinding(final String name, final Class<?> type) {
+		final String key = name.toLowerCase();
+		final ValueGenerator generator = generators.get(key);
+		return generator != null ? new ValueBinding(RowRandom.hash(key), generator, type) : null;
+	}
+
+	private Binding createBeanBinding(final Class<?> type, final String prefix, final ErrorCollector errorCollector)
+			throws IntrospectionException, NoSuchMethodException {
+		final List<Method> writeMethods = new ArrayList<Method>();
+		final List<ValueBinding> valueBindings = new ArrayList<ValueBinding>();
+
+		final BeanInfo info = Introspector.getBeanInfo(type);
+		for (final PropertyDescriptor descriptor : info.getPropertyDescriptors()) {
+			final Method writeMethod = descriptor.getWriteMethod();
+			final Class<?> propertyType = descriptor.getPropertyType();
+
+			if (writeMethod != null && (Types.isPrimitiveType(propertyType) || Types.isEnumType(propertyType))) {
+				final ValueBinding binding = createValueBinding(prefix + descriptor.getName(), propertyType);
+
+				if (binding != null) {
+					writeMethods.add(writeMethod);
+					valueBindings.add(binding);
+				}
+			}
+		}
+
+		if (writeMethods.isEmpty()) {
+			errorCollector.addError("no value generator given for any property of " + type.getName());
+		}
+
+		return new BeanBinding(type.getConstructor(), writeMethods.toArray(new Method[0]),
+			valueBindings.toArray(new ValueBinding[0]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		return nextRow < endRow;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		final long row = nextRow++;
+
+		try {
+			final Object[] objects = new Object[bindings.size()];
+
+			for (int i = 0; i < objects.length; i++) {
+				objects[i] = bindings.get(i).bind(random, seed, row);
+			}
+
+			return objects;
+		} catch (final Exception e) {
+			final ErrorCollector errorCollector = new ErrorCollector("generated data");
+			errorCollector.addError("invalid value generated by data source " + getClass().getName() + " at row "
+					+ row + ", detail message: " + e.getMessage());
+			final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+			errorCollectors.add(errorCollector);
+			throw new MultipleSourceErrorsException(errorCollectors);
+		}
+	}
+
+	private interface Binding {
+		Object bind(RowRandom random, long seed, long row) throws Exception;
+	}
+
+	private static class ValueBinding implements Binding {
+		private final long key;
+		private final ValueGenerator generator;
+		private final Class<?> type;
+		private final ValueConverter converter;
+
+		ValueBinding(final long key, final ValueGenerator generator, final Class<?> type) {
+			this.key = key;
+			this.generator = generator;
+			this.type = type;
+			this.converter = ValueConverter.forType(type);
+		}
+
+		@Override
+		public Object bind(final RowRandom random, final long seed, final long row) {
+			random.reseed(seed, row, key);
+			final Object value = generator.generate(random, row);
+			return value != null ? converter.convert(value, type) : null;
+		}
+	}
+
+	private static class BeanBinding implements Binding {
+		private final Constructor<?> constructor;
+		private final Method[] writeMethods;
+		private final ValueBinding[] valueBindings;
+
+		BeanBinding(final Constructor<?> constructor, final Method[] writeMethods,
+				final ValueBinding[] valueBindings) {
+			this.constructor = constructor;
+			this.writeMethods = writeMethods;
+			this.valueBindings = valueBindings;
+		}
+
+		@Override
+		public Object bind(final RowRandom random, final long seed, final long row) throws Exception {
+			final Object bean = constructor.newInstance();
+
+			for (int i = 0; i < writeMethods.length; i++) {
+				final Object value = valueBindings[i].bind(random, seed, row);
+
+				if (value != null) {
+					writeMethods[i].invoke(bean, value);
+				}
+			}
+
+			return bean;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package net.sf.testng.databinding.generator;
+
+import java.util.Map;
+
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+
+public interface GeneratorDataSourceConfiguration {
+
+	/**
+	 * The seed all values are derived from. Data sources configured with the same seed, row count and generators
+	 * generate the same rows.
+	 *
+	 * @return the seed
+	 */
+	long getSeed();
+
+	/**
+	 * The number of rows to generate.
+	 * <p>
+	 * May be any integer &gt;= 0
+	 *
+	 * @return the row count
+	 */
+	long getRowCount();
+
+	/**
+	 * The value generators of the test method parameters and Java Bean properties, see {@link ValueGenerators} for
+	 * the common ones. They are mapped to the name of the parameter or property, prefixed by the
+	 * {@link #getInputPrefix() input prefix} or {@link #getOutputPrefix() output prefix}. The names are case
+	 * insensitive.
+	 * <p>
+	 * Java Bean parameters are bound by binding their properties. Every primitive or enum parameter needs to have a
+	 * value generator. Java Bean properties without a value generator are not set, leaving them unchanged, but every
+	 * Java Bean needs to have at least one property with a value generator.
+	 *
+	 * @return the value generators mapped to the prefixed names
+	 */
+	Map<String, ValueGenerator> getGenerators();
+
+	/**
+	 * The prefix of the names of value generators bound to test method parameters annotated with
+	 * {@link TestInput}, see {@link #getGenerators()}.
+	 * <p>
+	 * Defaults to in_
+	 *
+	 * @return the input prefix
+	 */
+	default String getInputPrefix() {
+		return "in_";
+	}
+
+	/**
+	 * The prefix of the names of value generators bound to test method parameters annotated with
+	 * {@link TestOutput}, see {@link #getGenerators()}.
+	 * <p>
+	 * Defaults to out_
+	 *
+	 * @return the output prefix
+	 */
+	default String getOutputPrefix() {
+		return "out_";
+	}
+
+	/**
+	 * The number of shards the rows are split into. Only the rows of the {@link #getShardIndex() shard} given are
+	 * generated, so several test runs can split the rows between them. Each shard is a contiguous range of rows of
+	 * about the same size and generates exactly the rows it would generate unsplit.
+	 * <p>
+	 * Defaults to 1, generating all rows
+	 *
+	 * @return the number of shards
+	 */
+	default int getShardCount() {
+		return 1;
+	}
+
+	/**
+	 * The index of the shard to generate, see {@link #getShardCount()}.
+	 * <p>
+	 * May be any integer from 0 to the number of shards - 1
+	 * <p>
+	 * Defaults to 0
+	 *
+	 * @return the index of the shard
+	 */
+	default int getShardIndex() {
+		return 0;
+	}
+}
\ No newline at end of file
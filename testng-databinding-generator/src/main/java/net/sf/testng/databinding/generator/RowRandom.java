@@ -0,0 +1,65 @@
+package net.sf.testng.databinding.generator;
+
+import java.util.Random;
+
+/**
+ * A random number generator reseeded for every single value generated, so each value only depends on the seed of the
+ * data source, the row number and the name of the parameter or property. It's based on the SplitMix64 algorithm and
+ * isn't thread safe.
+ *
+ * @author Matthias Rothe
+ */
+final class RowRandom extends Random {
+	private static final long serialVersionUID = 6325011927419652683L;
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	private long state;
+
+	/**
+	 * Seeds this generator for the value of the given row and key.
+	 *
+	 * @param seed The seed of the data source
+	 * @param row The number of the row
+	 * @param key The hash of the name of the parameter or property
+	 */
+	void reseed(final long seed, final long row, final long key) {
+		setSeed(mix(mix(seed + row * GOLDEN_GAMMA) ^ key));
+	}
+
+	@Override
+	public synchronized void setSeed(final long seed) {
+		super.setSeed(seed);
+		state = seed;
+	}
+
+	@Override
+	protected int next(final int bits) {
+		return (int) (nextLong() >>> (64 - bits));
+	}
+
+	@Override
+	public long nextLong() {
+		state += GOLDEN_GAMMA;
+		return mix(state);
+	}
+
+	/**
+	 * @param name The name of a parameter or property
+	 * @return a well distributed hash of the name
+	 */
+	static long hash(final String name) {
+		long hash = 0;
+
+		for (int i = 0; i < name.length(); i++) {
+			hash = hash * 31 + name.charAt(i);
+		}
+
+		return mix(hash);
+	}
+
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
\ No newline at end of file
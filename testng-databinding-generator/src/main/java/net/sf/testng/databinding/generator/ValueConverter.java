@@ -0,0 +1,122 @@
+package net.sf.testng.databinding.generator;
+
+import java.lang.reflect.Type;
+
+import net.sf.testng.databinding.core.util.Types;
+
+/**
+ * Converts generated values to the primitive types, as defined by {@link Types#isPrimitiveType(Type)}, and enum types
+ * of the parameters and properties they are bound to.
+ *
+ * @author Matthias Rothe
+ */
+enum ValueConverter {
+	STRING {
+		@Override
+		Object convert(final Object value, final Class<?> type) {
+			return value.toString();
+		}
+	},
+	CHARACTER {
+		@Override
+		Object convert(final Object value, final Class<?> type) {
+			if (value instanceof Character) {
+				return value;
+			} else if (value instanceof String && ((String) value).length() == 1) {
+				return ((String) value).charAt(0);
+			}
+
+			throw incompatible(value, type);
+		}
+	},
+	INTEGER {
+		@Override
+		Object convert(final Object value, final Class<?> type) {
+			return toNumber(value, type).intValue();
+		}
+	},
+	LONG {
+		@Override
+		Object convert(final Object value, final Class<?> type) {
+			return toNumber(value, type).longValue();
+		}
+	},
+	FLOAT {
+		@Override
+		Object convert(final Object value, final Class<?> type) {
+			return toNumber(value, type).floatValue();
+		}
+	},
+	DOUBLE {
+		@Override
+		Object convert(final Object value, final Class<?> type) {
+			return toNumber(value, type).doubleValue();
+		}
+	},
+	BOOLEAN {
+		@Override
+		Object convert(final Object value, final Class<?> type) {
+			if (value instanceof Boolean) {
+				return value;
+			}
+
+			throw incompatible(value, type);
+		}
+	},
+	ENUM {
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Object convert(final Object value, final Class<?> type) {
+			if (type.isInstance(value)) {
+				return value;
+			} else if (value instanceof String) {
+				return Enum.valueOf((Class<? extends Enum>) type, (String) value);
+			}
+
+			throw incompatible(value, type);
+		}
+	};
+
+	/**
+	 * @param value The generated value, never <code>null</code>
+	 * @param type The type of the parameter or property
+	 * @return the converted value
+	 * @throws IllegalArgumentException if the value can't be converted
+	 */
+	abstract Object convert(Object value, Class<?> type);
+
+	private static Number toNumber(final Object value, final Class<?> type) {
+		if (value instanceof Number) {
+			return (Number) value;
+		}
+
+		throw incompatible(value, type);
+	}
+
+	private static IllegalArgumentException incompatible(final Object value, final Class<?> type) {
+		return new IllegalArgumentException("generated value " + value + " of " + value.getClass()
+				+ " can't be converted to " + type);
+	}
+
+	static ValueConverter forType(final Class<?> type) {
+		if (type == String.class) {
+			return STRING;
+		} else if (type == Character.class || type == char.class) {
+			return CHARACTER;
+		} else if (type == Integer.class || type == int.class) {
+			return INTEGER;
+		} else if (type == Long.class || type == long.class) {
+			return LONG;
+		} else if (type == Float.class || type == float.class) {
+			return FLOAT;
+		} else if (type == Double.class || type == double.class) {
+			return DOUBLE;
+		} else if (type == Boolean.class || type == boolean.class) {
+			return BOOLEAN;
+		} else if (type.isEnum()) {
+			return ENUM;
+		} else {
+			return null;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package net.sf.testng.databinding.generator;
+
+import java.util.Random;
+
+/**
+ * Generates the values of a single test method parameter or Java Bean property, see
+ * {@link GeneratorDataSourceConfiguration#getGenerators()}. Implementations must derive each value from the given
+ * random number generator and row number only, so every row can be generated independently and reproducibly.
+ * {@link ValueGenerators} provides the common implementations.
+ *
+ * @author Matthias Rothe
+ */
+public interface ValueGenerator {
+
+	/**
+	 * Generates the value for the given row.
+	 *
+	 * @param random The random number generator, seeded for this row and value
+	 * @param row The number of the row, starting at 0
+	 * @return the value
+	 */
+	Object generate(Random random, long row);
+}
\ No newline at end of file
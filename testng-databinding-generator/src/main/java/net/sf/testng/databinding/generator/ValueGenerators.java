@@ -0,0 +1,300 @@
+package net.sf.testng.databinding.generator;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+/**
+ * Factory methods for the common {@link ValueGenerator value generators}: constants, sequences, uniformly
+ * distributed ranges, normal and exponential distributions, patterns and weighted choices.
+ * <p>
+ * The values generated are converted to the type of the parameter or property they are bound to, as long as they
+ * are compatible: numbers to any number type, any value to strings, strings of length 1 to characters and strings to
+ * the enum constant of the same name.
+ *
+ * @author Matthias Rothe
+ */
+public final class ValueGenerators {
+
+	private ValueGenerators() {
+	}
+
+	/**
+	 * @param value The value
+	 * @return a generator always generating the given value
+	 */
+	public static ValueGenerator constant(final Object value) {
+		return new ValueGenerator() {
+
+			@Override
+			public Object generate(final Random random, final long row) {
+				return value;
+			}
+		};
+	}
+
+	/**
+	 * @param start The value of the first row
+	 * @param step The difference between the values of consecutive rows
+	 * @return a generator generating <code>start + row * step</code>
+	 */
+	public static ValueGenerator sequence(final long start, final long step) {
+		return new ValueGenerator() {
+
+			@Override
+			public Object generate(final Random random, final long row) {
+				return start + row * step;
+			}
+		};
+	}
+
+	/**
+	 * @param min The smallest value
+	 * @param max The largest value
+	 * @return a generator generating integers uniformly distributed between both values inclusively
+	 */
+	public static ValueGenerator integers(final int min, final int max) {
+		checkRange(min, max);
+		return new ValueGenerator() {
+
+			@Override
+			public Object generate(final Random random, final long row) {
+				return (int) (min + nextLong(random, (long) max - min + 1));
+			}
+		};
+	}
+
+	/**
+	 * @param min The smallest value
+	 * @param max The largest value
+	 * @return a generator generating longs uniformly distributed between both values inclusively
+	 */
+	public static ValueGenerator longs(final long min, final long max) {
+		checkRange(min, max);
+		return new ValueGenerator() {
+
+			@Override
+			public Object generate(final Random random, final long row) {
+				final long range = max - min + 1;
+				return range > 0 ? min + nextLong(random, range) : nextLongBetween(random, min, max);
+			}
+		};
+	}
+
+	/**
+	 * @param min The smallest value
+	 * @param max The upper bound, exclusively
+	 * @return a generator generating doubles uniformly distributed between both values
+	 */
+	public static ValueGenerator doubles(final double min, final double max) {
+		checkRange(min, max);
+		return new ValueGenerator() {
+
+			@Override
+			public Object generate(final Random random, final long row) {
+				return min + random.nextDouble() * (max - min);
+			}
+		};
+	}
+
+	/**
+	 * @param mean The mean
+	 * @param standardDeviation The standard deviation
+	 * @return a generator generating normally distributed doubles
+	 */
+	public static ValueGenerator gaussian(final double mean, final double standardDeviation) {
+		return new ValueGenerator() {
+
+			@Override
+			public Object generate(final Random random, final long row) {
+				return mean + random.nextGaussian() * standardDeviation;
+			}
+		};
+	}
+
+	/**
+	 * @param mean The mean, e.g. the mean time between two events
+	 * @return a generator generating exponentially distributed doubles
+	 */
+	public static ValueGenerator exponential(final double mean) {
+		return new ValueGenerator() {
+
+			@Override
+			public Object generate(final Random random, final long row) {
+				return -mean * Math.log(1 - random.nextDouble());
+			}
+		};
+	}
+
+	/**
+	 * @param probability The probability of <code>true</code>, from 0 to 1
+	 * @return a generator generating booleans
+	 */
+	public static ValueGenerator booleans(final double probability) {
+		return new ValueGenerator() {
+
+			@Override
+			public Object generate(final Random random, final long row) {
+				return random.nextDouble() < probability;
+			}
+		};
+	}
+
+	/**
+	 * Creates a generator generating strings matching the given pattern. Within the pattern <code>#</code> stands for
+	 * a random digit, <code>?</code> for a random lower case letter, <code>^</code> for a random upper case letter
+	 * and <code>*</code> for a random digit or letter of either case. A backslash escapes the following character, any
+	 * other character stands for itself. E.g. <code>^??-####</code> generates strings like <code>Kfa-0815</code>.
+	 *
+	 * @param pattern The pattern
+	 * @return the generator
+	 */
+	public static ValueGenerator pattern(final String pattern) {
+		return new ValueGenerator() {
+
+			@Override
+			public Object generate(final Random random, final long row) {
+				final char[] chars = new char[pattern.length()];
+				int length = 0;
+
+				for (int i = 0; i < pattern.length(); i++) {
+					final char c = pattern.charAt(i);
+
+					switch (c) {
+					case '#':
+						chars[length++] = (char) ('0' + random.nextInt(10));
+						break;
+					case '?':
+						chars[length++] = (char) ('a' + random.nextInt(26));
+						break;
+					case '^':
+						chars[length++] = (char) ('A' + random.nextInt(26));
+						break;
+					case '*':
+						final int index = random.nextInt(62);
+						chars[length++] = index < 10 ? (char) ('0' + index)
+								: index < 36 ? (char) ('a' + index - 10) : (char) ('A' + index - 36);
+						break;
+					case '\\':
+						chars[length++] = ++i < pattern.length() ? pattern.charAt(i) : c;
+						break;
+					default:
+						chars[length++] = c;
+					}
+				}
+
+				return new String(chars, 0, length);
+			}
+		};
+	}
+
+	/**
+	 * @param values The values to choose from
+	 * @return a generator choosing one of the given values with equal probability
+	 */
+	public static ValueGenerator oneOf(final Object... values) {
+		if (values.length == 0) {
+			throw new IllegalArgumentException("no values given");
+		}
+
+		final Object[] choices = values.clone();
+		return new ValueGenerator() {
+
+			@Override
+			public Object generate(final Random random, final long row) {
+				return choices[random.nextInt(choices.length)];
+			}
+		};
+	}
+
+	/**
+	 * @param enumType The enum type
+	 * @return a generator choosing one of the constants of the given enum type with equal probability
+	 */
+	public static ValueGenerator enumValues(final Class<? extends Enum<?>> enumType) {
+		return oneOf((Object[]) enumType.getEnumConstants());
+	}
+
+	/**
+	 * Creates a generator choosing one of the keys of the given map, with a probability proportional to the weight it
+	 * maps to. E.g. the weights <code>{GOLD=1, SILVER=3, BRONZE=6}</code> generate GOLD for 10% of the rows on
+	 * average.
+	 *
+	 * @param weights The values to choose from mapped to their weights, which must not be negative
+	 * @return the generator
+	 */
+	public static ValueGenerator weighted(final Map<?, ? extends Number> weights) {
+		final Object[] choices = new Object[weights.size()];
+		final double[] cumulativeWeights = new double[weights.size()];
+		double total = 0;
+		int i = 0;
+
+		for (final Entry<?, ? extends Number> entry : weights.entrySet()) {
+			final double weight = entry.getValue().doubleValue();
+
+			if (!(weight >= 0)) {
+				throw new IllegalArgumentException("invalid weight " + weight + " of " + entry.getKey());
+			}
+
+			total += weight;
+			choices[i] = entry.getKey();
+			cumulativeWeights[i++] = total;
+		}
+
+		if (!(total > 0)) {
+			throw new IllegalArgumentException("no positive weight given");
+		}
+
+		final double totalWeight = total;
+		return new ValueGenerator() {
+
+			@Override
+			public Object generate(final Random random, final long row) {
+				final double target = Math.min(random.nextDouble() * totalWeight, Math.nextDown(totalWeight));
+				int low = 0;
+				int high = choices.length - 1;
+
+				// the first value whose cumulative weight exceeds the target, never one of weight 0
+				while (low < high) {
+					final int middle = (low + high) >>> 1;
+
+					if (cumulativeWeights[middle] > target) {
+						high = middle;
+					} else {
+						low = middle + 1;
+					}
+				}
+
+				return choices[low];
+			}
+		};
+	}
+
+	private static void checkRange(final double min, final double max) {
+		if (!(min <= max)) {
+			throw new IllegalArgumentException("invalid range from " + min + " to " + max);
+		}
+	}
+
+	private static long nextLong(final Random random, final long bound) {
+		long bits;
+		long value;
+
+		do {
+			bits = random.nextLong() >>> 1;
+			value = bits % bound;
+		} while (bits - value + (bound - 1) < 0);
+
+		return value;
+	}
+
+	private static long nextLongBetween(final Random random, final long min, final long max) {
+		long value;
+
+		do {
+			value = random.nextLong();
+		} while (value < min || value > max);
+
+		return value;
+	}
+}
\ No newline at end of file
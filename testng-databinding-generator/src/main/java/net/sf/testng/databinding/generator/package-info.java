@@ -0,0 +1,6 @@
+/**
+ * Contains a {@link net.sf.testng.databinding.IDataSource data source} implementation generating reproducible
+ * synthetic data and the {@link net.sf.testng.databinding.generator.ValueGenerators value generators} it's
+ * configured with.
+ */
+package net.sf.testng.databinding.generator;
\ No newline at end of file
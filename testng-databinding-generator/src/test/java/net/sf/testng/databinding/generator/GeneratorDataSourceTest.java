@@ -0,0 +1,117 @@
+package net.sf.testng.databinding.generator;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.generator.beans.Customer;
+import net.sf.testng.databinding.generator.beans.Level;
+import net.sf.testng.databinding.generator.datasource.config.GeneratorDataSourceConfigurations;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class GeneratorDataSourceTest {
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test
+	public void shouldGenerateValuesFromGenerators() throws Exception {
+		final List<Object[]> rows = generate("customerConsumer", "customersConfig");
+		int gold = 0;
+
+		assertEquals(rows.size(), 1000);
+		for (final Object[] row : rows) {
+			final Customer customer = (Customer) row[0];
+
+			assertTrue(customer.getId().matches("[A-Z][a-z]{2}-[0-9]{4}"), customer.getId());
+			assertTrue(customer.getAge() >= 18 && customer.getAge() <= 99, String.valueOf(customer.getAge()));
+			assertTrue(customer.getLevel() != Level.SILVER);
+			assertTrue(row[1] instanceof Double);
+
+			if (customer.getLevel() == Level.GOLD) {
+				gold++;
+			}
+		}
+
+		assertTrue(gold > 150 && gold < 350, String.valueOf(gold));
+	}
+
+	@Test
+	public void shouldGenerateReproducibleRows() throws Exception {
+		final List<Object[]> rows = generate("customerConsumer", "customersConfig");
+
+		assertEquals(generate("customerConsumer", "customersConfig").toArray(), rows.toArray());
+		assertEquals(generate("ageConsumer", "customersConfig").get(7)[0], ((Customer) rows.get(7)[0]).getAge());
+	}
+
+	@Test
+	public void shouldGenerateShardsOfUnsplitRows() throws Exception {
+		final List<Object[]> rows = generate("customerConsumer", "customersConfig");
+		final List<Object[]> firstShard = generate("customerConsumer", "firstShardConfig");
+		final List<Object[]> lastShard = generate("customerConsumer", "lastShardConfig");
+
+		assertEquals(firstShard.size(), 333);
+		assertEquals(lastShard.size(), 334);
+		assertEquals(firstShard.toArray(), rows.subList(0, 333).toArray());
+		assertEquals(lastShard.toArray(), rows.subList(666, 1000).toArray());
+	}
+
+	@Test(expectedExceptions = MultipleConfigurationErrorsException.class)
+	public void shouldRequireGenerators() throws Exception {
+		generate("unknownConsumer", "customersConfig");
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldReportIncompatibleValues() throws Exception {
+		generate("customerConsumer", "incompatibleConfig");
+	}
+
+	private List<Object[]> generate(final String methodName, final String configMethod) throws Exception {
+		final GeneratorDataSource dataSource = new GeneratorDataSource(createMethodParameters(methodName),
+				new Configuration(GeneratorDataSourceConfigurations.class, configMethod));
+
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		while (dataSource.hasNext()) {
+			rows.add(dataSource.next());
+		}
+
+		return rows;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void customerConsumer(@TestInput final Customer customer,
+			@TestOutput(name = "balance") final double balance) {
+	}
+
+	public void ageConsumer(@TestInput(name = "age") final int age) {
+	}
+
+	public void unknownConsumer(@TestInput(name = "unknown") final int unknown) {
+	}
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package net.sf.testng.databinding.generator.beans;
+
+public class Customer {
+	private String id;
+	private int age;
+	private Level level;
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(final String id) {
+		this.id = id;
+	}
+
+	public int getAge() {
+		return age;
+	}
+
+	public void setAge(final int age) {
+		this.age = age;
+	}
+
+	public Level getLevel() {
+		return level;
+	}
+
+	public void setLevel(final Level level) {
+		this.level = level;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (id == null ? 0 : id.hashCode());
+		result = prime * result + age;
+		result = prime * result + (level == null ? 0 : level.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Customer other = (Customer) obj;
+		return (id == null ? other.id == null : id.equals(other.id)) && age == other.age && level == other.level;
+	}
+
+	@Override
+	public String toString() {
+		return "Customer [id=" + id + ", age=" + age + ", level=" + level + "]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package net.sf.testng.databinding.generator.beans;
+
+public enum Level {
+	GOLD, SILVER, BRONZE
+}
\ No newline at end of file
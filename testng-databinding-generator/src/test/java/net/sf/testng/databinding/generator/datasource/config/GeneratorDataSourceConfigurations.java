@@ -0,0 +1,83 @@
+package net.sf.testng.databinding.generator.datasource.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.sf.testng.databinding.generator.GeneratorDataSourceConfiguration;
+import net.sf.testng.databinding.generator.ValueGenerator;
+import net.sf.testng.databinding.generator.ValueGenerators;
+
+public class GeneratorDataSourceConfigurations {
+
+	private GeneratorDataSourceConfigurations() {}
+	
+	public static GeneratorDataSourceConfiguration customersConfig() {
+		return new CustomersConfiguration();
+	}
+	
+	public static GeneratorDataSourceConfiguration firstShardConfig() {
+		return new CustomersConfiguration() {
+			
+			@Override
+			public int getShardCount() {
+				return 3;
+			}
+		};
+	}
+	
+	public static GeneratorDataSourceConfiguration lastShardConfig() {
+		return new CustomersConfiguration() {
+			
+			@Override
+			public int getShardCount() {
+				return 3;
+			}
+			
+			@Override
+			public int getShardIndex() {
+				return 2;
+			}
+		};
+	}
+	
+	public static GeneratorDataSourceConfiguration incompatibleConfig() {
+		return new CustomersConfiguration() {
+			
+			@Override
+			public Map<String, ValueGenerator> getGenerators() {
+				final Map<String, ValueGenerator> generators = super.getGenerators();
+				generators.put("out_balance", ValueGenerators.constant("none"));
+				return generators;
+			}
+		};
+	}
+	
+	private static class CustomersConfiguration implements GeneratorDataSourceConfiguration {
+		
+		@Override
+		public long getSeed() {
+			return 42;
+		}
+		
+		@Override
+		public long getRowCount() {
+			return 1000;
+		}
+		
+		@Override
+		public Map<String, ValueGenerator> getGenerators() {
+			final Map<String, Integer> weights = new LinkedHashMap<String, Integer>();
+			weights.put("GOLD", 1);
+			weights.put("SILVER", 0);
+			weights.put("BRONZE", 3);
+			
+			final Map<String, ValueGenerator> generators = new HashMap<String, ValueGenerator>();
+			generators.put("in_id", ValueGenerators.pattern("^??-####"));
+			generators.put("in_Age", ValueGenerators.integers(18, 99));
+			generators.put("in_level", ValueGenerators.weighted(weights));
+			generators.put("out_balance", ValueGenerators.gaussian(1000, 250));
+			return generators;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,306 @@
+package net.sf.testng.databinding.jdbc;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Constructor;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import net.sf.testng.databinding.AbstractDataSource;
+import net.sf.testng.databinding.DataSource;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
+import net.sf.testng.databinding.csv.HeaderNameMapper;
+import net.sf.testng.databinding.csv.Mapper;
+import net.sf.testng.databinding.csv.MapperConstructorMatcher;
+import net.sf.testng.databinding.util.Constructors;
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+import au.com.bytecode.opencsv.CSVReader;
+
+/**
+ * <p>
+ * This {@link IDataSource data source} binds the rows returned by an SQL query to test method parameters. It
+ * supports an arbitrary number of {@link TestInput test input} and {@link TestOutput test output} parameters of
+ * the same types as the CSV data source.
+ * </p><p>
+ * The rows are bound just like the lines of a CSV file, by a {@link Mapper mapper}, with the column labels of the
+ * query taking the place of the header line. By default the {@link HeaderNameMapper} is used, so input and output
+ * columns are told apart by their <code>in_</code> and <code>out_</code> prefixes and the properties of nested Java
+ * Beans are bound from columns with dotted labels, which need to be quoted in most SQL dialects, e.g.
+ * <code>"in_address.city"</code>. The labels are case insensitive.
+ * </p><p>
+ * The query is run once, on a forward-only, read-only cursor, fetching as many rows at once as given by the
+ * {@link JdbcDataSourceConfiguration#getFetchSize() fetch size}. Each row is bound when the next test method
+ * invocation asks for it, so the rows are never all held in memory at the same time. Auto-commit is turned off
+ * while the rows are read, as some databases, e.g. PostgreSQL, only use cursors within transactions. Once all rows
+ * are read, or binding a row fails, the connection is restored and closed. Failures binding a row are reported as a
+ * {@link MultipleSourceErrorsException}.
+ * </p>
+ * <h3>Example</h3>
+ * <h4>Test Method</h4>
+ * <pre>
+ * &#64;DataBinding(propertiesPrefix = "isBetween")
+ * public void testIsBetween(&#64;TestInput CheckData data, &#64;TestOutput(name = "expected") boolean expected) {
+ *     assertEquals(isBetween(data.getValue(), data.getLower(), data.getUpper()), expected);
+ * }
+ * </pre>
+ * <h4>Data Source Configuration</h4>
+ * <pre>
+ * public static JdbcDataSourceConfiguration isBetweenConfig() {
+ *     return new JdbcDataSourceConfiguration() {
+ *
+ *         &#64;Override
+ *         public String getURL() {
+ *             return "jdbc:postgresql://localhost/regression";
+ *         }
+ *
+ *         &#64;Override
+ *         public String getQuery() {
+ *             return "SELECT value AS in_value, lower AS in_lower, upper AS in_upper, expected AS out_expected "
+ *                     + "FROM is_between ORDER BY id";
+ *         }
+ *     };
+ * }
+ * </pre>
+ *
+ * @author Matthias Rothe
+ */
+@DataSource(name = "jdbc")
+public class JdbcDataSource extends AbstractDataSource {
+	private final JdbcDataSourceConfiguration configuration;
+	private Connection connection;
+	private boolean autoCommit;
+	private boolean autoCommitChanged;
+	private PreparedStatement statement;
+	private ResultSet resultSet;
+	private ResultSetRow row;
+	private Mapper mapper;
+	private boolean rowPending;
+	private boolean exhausted;
+	private long rowNumber;
+
+	/**
+	 * Constructs a new instance of this class, setting the {@link MethodParameter test method parameters} to load the
+	 * data for and the {@link Configuration configuration} describing where to load the data from. Runs the query.
+	 *
+	 * @param parameters The test method parameters for which data is to be loaded
+	 * @param configuration The configuration describing where to load the data from
+	 * @throws Exception If anything goes wrong during the creation of this instance
+	 */
+	public JdbcDataSource(final List<MethodParameter> parameters, final Configuration configuration)
+			throws Exception {
+		this.configuration = DataSourceConfigurationLoader.loadDataSourceConfiguration(configuration,
+			JdbcDataSourceConfiguration.class);
+
+		checkConfiguration();
+
+		try {
+			connection = connect();
+			autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			autoCommitChanged = true;
+
+			statement = connection.prepareStatement(this.configuration.getQuery(), ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY);
+			statement.setFetchSize(this.configuration.getFetchSize());
+			resultSet = statement.executeQuery();
+
+			final ResultSetMetaData metaData = resultSet.getMetaData();
+			final String[] labels = new String[metaData.getColumnCount()];
+			final int[] types = new int[labels.length];
+			for (int i = 0; i < labels.length; i++) {
+				labels[i] = metaData.getColumnLabel(i + 1);
+				types[i] = metaData.getColumnType(i + 1);
+			}
+
+			row = new ResultSetRow(resultSet, types);
+			mapper = createMapper(parameters);
+			mapper.init(new LabelReader(labels));
+		} catch (final Exception e) {
+			cleanUpAfter(e);
+			throw e;
+		}
+	}
+
+	private void checkConfiguration() {
+		final ErrorCollector errorCollector = new ErrorCollector("configuration");
+
+		if (configuration.getDataSource() == null && configuration.getURL() == null) {
+			errorCollector.addError("neither a data source nor a JDBC URL given");
+		}
+
+		if (configuration.getQuery() == null || configuration.getQuery().trim().isEmpty()) {
+			errorCollector.addError("no query given");
+		}
+
+		if (configuration.getFetchSize() < 0) {
+			errorCollector.addError("invalid fetch size " + configuration.getFetchSize()
+					+ ", the fetch size must be at least 0");
+		}
+
+		if (errorCollector.hasErrors()) {
+			final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+			errorCollectors.add(errorCollector);
+			throw new MultipleConfigurationErrorsException(errorCollectors);
+		}
+	}
+
+	private Connection connect() throws SQLException {
+		if (configuration.getDataSource() != null) {
+			return configuration.getDataSource().getConnection();
+		} else {
+			return DriverManager.getConnection(configuration.getURL(), configuration.getUser(),
+				configuration.getPassword());
+		}
+	}
+
+	private Mapper createMapper(final List<MethodParameter> parameters) throws Exception {
+		final Constructor<?> constructor = Constructors.getMatchingConstructor(configuration.getMapperClass(),
+			new MapperConstructorMatcher());
+		return (Mapper) constructor.newInstance(parameters, new MapperConfiguration(configuration));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		if (!rowPending && !exhausted) {
+			try {
+				if (resultSet.next()) {
+					row.reset();
+					rowPending = true;
+				} else {
+					exhausted = true;
+					cleanUp();
+				}
+			} catch (final SQLException e) {
+				exhausted = true;
+				cleanUpAfter(e);
+				throw Exceptions.softenIfNecessary(e);
+			}
+		}
+
+		return rowPending;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		rowPending = false;
+		rowNumber++;
+
+		try {
+			return mapper.createBeans(row);
+		} catch (final MultipleSourceErrorsException e) {
+			exhausted = true;
+			cleanUpAfter(e);
+			throw e;
+		} catch (final RuntimeException e) {
+			final MultipleSourceErrorsException sourceErrorsException = sourceErrorsException("row " + rowNumber
+					+ ", detail message: " + e.getMessage());
+			exhausted = true;
+			cleanUpAfter(sourceErrorsException);
+			throw sourceErrorsException;
+		}
+	}
+
+	private MultipleSourceErrorsException sourceErrorsException(final String detail) {
+		final ErrorCollector errorCollector = new ErrorCollector(configuration.getQuery());
+		errorCollector.addError("invalid source for data source " + getClass().getName() + " at " + detail);
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+		errorCollectors.add(errorCollector);
+		return new MultipleSourceErrorsException(errorCollectors);
+	}
+
+	private void cleanUp() {
+		SQLException failure = null;
+
+		try {
+			if (resultSet != null) {
+				resultSet.close();
+			}
+		} catch (final SQLException e) {
+			failure = e;
+		}
+
+		try {
+			if (statement != null) {
+				statement.close();
+			}
+		} catch (final SQLException e) {
+			failure = failure != null ? failure : e;
+		}
+
+		if (connection != null) {
+			try {
+				if (autoCommitChanged) {
+					connection.setAutoCommit(autoCommit);
+				}
+			} catch (final SQLException e) {
+				failure = failure != null ? failure : e;
+			}
+
+			try {
+				connection.close();
+			} catch (final SQLException e) {
+				failure = failure != null ? failure : e;
+			}
+		}
+
+		resultSet = null;
+		statement = null;
+		connection = null;
+
+		if (failure != null) {
+			throw Exceptions.softenIfNecessary(failure);
+		}
+	}
+
+	private void cleanUpAfter(final Exception cause) {
+		try {
+			cleanUp();
+		} catch (final RuntimeException e) {
+			cause.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * Hands the column labels of the query to the {@link Mapper#init(CSVReader) mapper} as the header line.
+	 */
+	private static final class LabelReader extends CSVReader {
+		private String[] labels;
+
+		LabelReader(final String[] labels) {
+			super(new StringReader(""));
+			this.labels = labels;
+		}
+
+		@Override
+		public String[] readNext() throws IOException {
+			final String[] line = labels;
+			labels = null;
+			return line;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package net.sf.testng.databinding.jdbc;
+
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+
+import javax.sql.DataSource;
+
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.csv.HeaderNameMapper;
+import net.sf.testng.databinding.csv.Mapper;
+
+public interface JdbcDataSourceConfiguration {
+
+	/**
+	 * The data source to obtain the database connection from. Takes precedence over the
+	 * {@link #getURL() URL}.
+	 * <p>
+	 * Defaults to <code>null</code>
+	 *
+	 * @return the data source
+	 */
+	default DataSource getDataSource() {
+		return null;
+	}
+
+	/**
+	 * The JDBC URL of the database, passed to {@link DriverManager#getConnection(String, String, String)}
+	 * if no {@link #getDataSource() data source} is given.
+	 * <p>
+	 * Defaults to <code>null</code>
+	 *
+	 * @return the JDBC URL
+	 */
+	default String getURL() {
+		return null;
+	}
+
+	/**
+	 * The user to connect to the {@link #getURL() URL} as.
+	 * <p>
+	 * Defaults to <code>null</code>
+	 *
+	 * @return the user
+	 */
+	default String getUser() {
+		return null;
+	}
+
+	/**
+	 * The password of the {@link #getUser() user}.
+	 * <p>
+	 * Defaults to <code>null</code>
+	 *
+	 * @return the password
+	 */
+	default String getPassword() {
+		return null;
+	}
+
+	/**
+	 * The SQL query selecting the test data. Each row of its result is bound to one test method
+	 * invocation, each column to a test method parameter or Java Bean property, according to the column
+	 * label.
+	 *
+	 * @return the query
+	 */
+	String getQuery();
+
+	/**
+	 * The number of rows fetched from the database at once, see {@link ResultSet#setFetchSize(int)}.
+	 * <p>
+	 * May be any integer &gt;= 0, 0 leaving it to the JDBC driver
+	 * <p>
+	 * Defaults to 100
+	 *
+	 * @return the fetch size
+	 */
+	default int getFetchSize() {
+		return 100;
+	}
+
+	/**
+	 * The mapper implementation class defining how the columns of each row are mapped to the test method
+	 * parameters. The column labels of the query take the place of the header line of a CSV file.
+	 * <p>
+	 * Defaults to {@link HeaderNameMapper HeaderNameMapper.class}
+	 *
+	 * @return the mapper class
+	 */
+	default Class<? extends Mapper> getMapperClass() {
+		return HeaderNameMapper.class;
+	}
+
+	/**
+	 * The prefix to signify test data input columns, i.e. columns containing data for test method
+	 * parameters annotated with {@link TestInput}.
+	 * <p>
+	 * Defaults to in_
+	 *
+	 * @return the input column prefix
+	 */
+	default String getInputColumnPrefix() {
+		return "in_";
+	}
+
+	/**
+	 * The prefix to signify test data output columns, i.e. columns containing data for test method
+	 * parameters annotated with {@link TestOutput}.
+	 * <p>
+	 * Defaults to out_
+	 *
+	 * @return the output column prefix
+	 */
+	default String getOutputColumnPrefix() {
+		return "out_";
+	}
+}
\ No newline at end of file
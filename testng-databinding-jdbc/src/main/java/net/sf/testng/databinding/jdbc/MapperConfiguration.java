@@ -0,0 +1,40 @@
+package net.sf.testng.databinding.jdbc;
+
+import java.net.URL;
+
+import net.sf.testng.databinding.csv.CsvDataSourceConfiguration;
+import net.sf.testng.databinding.csv.Mapper;
+
+/**
+ * The {@link CsvDataSourceConfiguration} handed to the {@link Mapper mapper} binding the rows of a query,
+ * taking the settings applicable to query results from the given {@link JdbcDataSourceConfiguration}.
+ *
+ * @author Matthias Rothe
+ */
+final class MapperConfiguration implements CsvDataSourceConfiguration {
+	private final JdbcDataSourceConfiguration delegate;
+
+	MapperConfiguration(final JdbcDataSourceConfiguration delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public URL getURL() {
+		return null;
+	}
+
+	@Override
+	public Class<? extends Mapper> getMapperClass() {
+		return delegate.getMapperClass();
+	}
+
+	@Override
+	public String getInputColumnPrefix() {
+		return delegate.getInputColumnPrefix();
+	}
+
+	@Override
+	public String getOutputColumnPrefix() {
+		return delegate.getOutputColumnPrefix();
+	}
+}
\ No newline at end of file
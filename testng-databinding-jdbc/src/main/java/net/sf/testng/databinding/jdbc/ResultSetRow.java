@@ -0,0 +1,217 @@
+package net.sf.testng.databinding.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import net.sf.testng.databinding.csv.CsvRow;
+import net.sf.testng.databinding.util.Exceptions;
+
+/**
+ * A {@link CsvRow row view} of the current row of a {@link ResultSet result set}, reading the columns
+ * straight from the result set.
+ * <p>
+ * The typed accessors use the typed getters of the result set, so numbers and booleans aren't converted
+ * to text and back. Text accessors see SQL <code>NULL</code> as an empty cell, except for
+ * {@link #getString(int)}, which returns <code>null</code>. SQL <code>NULL</code> can't be bound to a
+ * number, just like an empty cell of a CSV file.
+ * <p>
+ * Integral numbers are read from columns of other than integral SQL types as decimals, which must not have
+ * a fraction, so e.g. <code>1.5</code> isn't silently truncated. Values the driver can't convert to the
+ * requested number type are reported as a {@link NumberFormatException}, like unparsable cells of a CSV
+ * file.
+ *
+ * @author Matthias Rothe
+ */
+final class ResultSetRow implements CsvRow {
+	private final ResultSet resultSet;
+	private final int columnCount;
+	private final boolean[] integral;
+	private int cachedColumn = -1;
+	private String cachedValue;
+
+	/**
+	 * @param resultSet The result set
+	 * @param columnTypes The {@link Types SQL types} of the columns of the result set
+	 */
+	ResultSetRow(final ResultSet resultSet, final int[] columnTypes) {
+		this.resultSet = resultSet;
+		this.columnCount = columnTypes.length;
+		this.integral = new boolean[columnTypes.length];
+
+		for (int i = 0; i < columnTypes.length; i++) {
+			final int type = columnTypes[i];
+			integral[i] = type == Types.TINYINT || type == Types.SMALLINT || type == Types.INTEGER
+					|| type == Types.BIGINT;
+		}
+	}
+
+	/**
+	 * Discards the text of the column read last, which must be called whenever the result set has been
+	 * moved to the next row.
+	 */
+	void reset() {
+		cachedColumn = -1;
+		cachedValue = null;
+	}
+
+	@Override
+	public int size() {
+		return columnCount;
+	}
+
+	@Override
+	public int length(final int column) {
+		return get(column).length();
+	}
+
+	@Override
+	public char charAt(final int column, final int index) {
+		return get(column).charAt(index);
+	}
+
+	@Override
+	public CharSequence get(final int column) {
+		final String value = getString(column);
+		return value != null ? value : "";
+	}
+
+	@Override
+	public String getString(final int column) {
+		if (column != cachedColumn) {
+			checkColumn(column);
+
+			try {
+				cachedValue = resultSet.getString(column + 1);
+				cachedColumn = column;
+			} catch (final SQLException e) {
+				throw Exceptions.softenIfNecessary(e);
+			}
+		}
+
+		return cachedValue;
+	}
+
+	@Override
+	public Character getChar(final int column) {
+		final String value = getString(column);
+		return value != null && value.length() > 0 ? value.charAt(0) : null;
+	}
+
+	@Override
+	public int getInt(final int column) {
+		checkColumn(column);
+
+		try {
+			if (!integral[column]) {
+				return getDecimal(column).intValueExact();
+			}
+
+			final int value = resultSet.getInt(column + 1);
+			checkNotNull(column);
+			return value;
+		} catch (final SQLException e) {
+			throw numberFormatException(column, "an int", e);
+		} catch (final ArithmeticException e) {
+			throw numberFormatException(column, "an int", e);
+		}
+	}
+
+	@Override
+	public long getLong(final int column) {
+		checkColumn(column);
+
+		try {
+			if (!integral[column]) {
+				return getDecimal(column).longValueExact();
+			}
+
+			final long value = resultSet.getLong(column + 1);
+			checkNotNull(column);
+			return value;
+		} catch (final SQLException e) {
+			throw numberFormatException(column, "a long", e);
+		} catch (final ArithmeticException e) {
+			throw numberFormatException(column, "a long", e);
+		}
+	}
+
+	@Override
+	public float getFloat(final int column) {
+		checkColumn(column);
+
+		try {
+			final float value = resultSet.getFloat(column + 1);
+			checkNotNull(column);
+			return value;
+		} catch (final SQLException e) {
+			throw numberFormatException(column, "a float", e);
+		}
+	}
+
+	@Override
+	public double getDouble(final int column) {
+		checkColumn(column);
+
+		try {
+			final double value = resultSet.getDouble(column + 1);
+			checkNotNull(column);
+			return value;
+		} catch (final SQLException e) {
+			throw numberFormatException(column, "a double", e);
+		}
+	}
+
+	@Override
+	public boolean getBoolean(final int column) {
+		checkColumn(column);
+
+		try {
+			return resultSet.getBoolean(column + 1);
+		} catch (final SQLException e) {
+			throw Exceptions.softenIfNecessary(e);
+		}
+	}
+
+	@Override
+	public String[] toArray() {
+		final String[] cells = new String[columnCount];
+
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = get(i).toString();
+		}
+
+		return cells;
+	}
+
+	private void checkColumn(final int column) {
+		if (column < 0 || column >= columnCount) {
+			throw new IndexOutOfBoundsException("column " + column + " of " + columnCount + " columns");
+		}
+	}
+
+	private BigDecimal getDecimal(final int column) throws SQLException {
+		final BigDecimal value = resultSet.getBigDecimal(column + 1);
+
+		if (value == null) {
+			throw new NumberFormatException("NULL in column " + (column + 1) + " isn't a number");
+		}
+
+		return value;
+	}
+
+	private static NumberFormatException numberFormatException(final int column, final String type,
+			final Exception cause) {
+		final NumberFormatException exception = new NumberFormatException("the value in column " + (column + 1)
+				+ " isn't " + type + ": " + cause.getMessage());
+		exception.initCause(cause);
+		return exception;
+	}
+
+	private void checkNotNull(final int column) throws SQLException {
+		if (resultSet.wasNull()) {
+			throw new NumberFormatException("NULL in column " + (column + 1) + " isn't a number");
+		}
+	}
+}
\ No newline at end of file
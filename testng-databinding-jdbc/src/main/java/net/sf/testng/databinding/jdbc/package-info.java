@@ -0,0 +1,4 @@
+/**
+ * Contains a JDBC {@link net.sf.testng.databinding.IDataSource data source} implementation.
+ */
+package net.sf.testng.databinding.jdbc;
\ No newline at end of file
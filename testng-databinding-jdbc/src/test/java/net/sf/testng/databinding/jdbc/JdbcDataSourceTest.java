@@ -0,0 +1,119 @@
+package net.sf.testng.databinding.jdbc;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.jdbc.beans.Customer;
+import net.sf.testng.databinding.jdbc.beans.Order;
+import net.sf.testng.databinding.jdbc.datasource.config.JdbcDataSourceConfigurations;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class JdbcDataSourceTest {
+	private Method methodParametersCreator;
+	private Connection connection;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@BeforeClass
+	public void createDatabase() throws Exception {
+		connection = DriverManager.getConnection(JdbcDataSourceConfigurations.URL);
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("RUNSCRIPT FROM 'classpath:/orders.sql'");
+		}
+	}
+
+	@AfterClass
+	public void dropDatabase() throws Exception {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP ALL OBJECTS");
+		}
+
+		connection.close();
+	}
+
+	@Test
+	public void shouldBindRowsThroughColumnLabels() throws Exception {
+		final JdbcDataSource dataSource = createDataSource("ordersConfig");
+
+		assertTrue(dataSource.hasNext());
+		assertTrue(dataSource.hasNext());
+
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		while (dataSource.hasNext()) {
+			rows.add(dataSource.next());
+		}
+
+		assertEquals(rows.toArray(), new Object[][] {
+				{ new Order(9000000001L, 3, 4.5, new Customer("Acme", "DE")), true },
+				{ new Order(9000000002L, 10, 0.99, new Customer("Globex", "US")), false },
+				{ new Order(9000000003L, 1, 120.0, new Customer("Acme", "DE")), true } });
+		assertFalse(dataSource.hasNext());
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRequireAllColumns() throws Exception {
+		createDataSource("missingColumnConfig");
+	}
+
+	@Test
+	public void shouldReportFractionalNumbersAndCloseConnection() throws Exception {
+		final JdbcDataSource dataSource = createDataSource("fractionalQuantityConfig");
+
+		try {
+			dataSource.next();
+			fail("expected MultipleSourceErrorsException");
+		} catch (final MultipleSourceErrorsException e) {
+			assertTrue(e.getMessage().contains("at row 1"), e.getMessage());
+		}
+
+		assertFalse(dataSource.hasNext());
+	}
+
+	@Test(expectedExceptions = MultipleConfigurationErrorsException.class)
+	public void shouldRequireQuery() throws Exception {
+		createDataSource("noQueryConfig");
+	}
+
+	private JdbcDataSource createDataSource(final String configMethod) throws Exception {
+		return new JdbcDataSource(createMethodParameters("orderConsumer"),
+				new Configuration(JdbcDataSourceConfigurations.class, configMethod));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void orderConsumer(@TestInput final Order order, @TestOutput(name = "express") final boolean express) {
+	}
+}
\ No newline at end of file
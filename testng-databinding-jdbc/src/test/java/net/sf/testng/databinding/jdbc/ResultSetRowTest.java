@@ -0,0 +1,92 @@
+package net.sf.testng.databinding.jdbc;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.testng.annotations.Test;
+
+public class ResultSetRowTest {
+
+	@Test
+	public void shouldReadIntegralColumnsDirectly() {
+		final ResultSetRow row = createRow(new int[] { Types.INTEGER, Types.BIGINT }, 3, 9000000001L);
+
+		assertEquals(row.getInt(0), 3);
+		assertEquals(row.getLong(1), 9000000001L);
+	}
+
+	@Test
+	public void shouldReadWholeDecimalsAsIntegralNumbers() {
+		final ResultSetRow row = createRow(new int[] { Types.DECIMAL, Types.VARCHAR }, new BigDecimal("10.00"),
+			"9000000002");
+
+		assertEquals(row.getInt(0), 10);
+		assertEquals(row.getLong(1), 9000000002L);
+	}
+
+	@Test(expectedExceptions = NumberFormatException.class)
+	public void shouldRejectFractionalDecimals() {
+		createRow(new int[] { Types.DECIMAL }, new BigDecimal("3.50")).getInt(0);
+	}
+
+	@Test(expectedExceptions = NumberFormatException.class)
+	public void shouldRejectNonNumericColumns() {
+		createRow(new int[] { Types.VARCHAR }, "Acme").getDouble(0);
+	}
+
+	@Test(expectedExceptions = NumberFormatException.class)
+	public void shouldRejectNull() {
+		createRow(new int[] { Types.DECIMAL }, (Object) null).getLong(0);
+	}
+
+	private ResultSetRow createRow(final int[] columnTypes, final Object... values) {
+		final ResultSet resultSet = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+			new Class<?>[] { ResultSet.class }, new InvocationHandler() {
+				private Object lastValue;
+
+				@Override
+				public Object invoke(final Object proxy, final Method method, final Object[] args)
+						throws SQLException {
+					if (method.getName().equals("wasNull")) {
+						return lastValue == null;
+					}
+
+					lastValue = values[(Integer) args[0] - 1];
+					return convert(method.getName(), lastValue);
+				}
+			});
+
+		return new ResultSetRow(resultSet, columnTypes);
+	}
+
+	private static Object convert(final String getter, final Object value) throws SQLException {
+		if (value == null) {
+			return getter.equals("getBigDecimal") || getter.equals("getString") ? null : 0;
+		}
+
+		try {
+			final BigDecimal number = new BigDecimal(value.toString());
+
+			if (getter.equals("getInt")) {
+				return number.intValue();
+			} else if (getter.equals("getLong")) {
+				return number.longValue();
+			} else if (getter.equals("getDouble")) {
+				return number.doubleValue();
+			} else if (getter.equals("getBigDecimal")) {
+				return number;
+			}
+		} catch (final NumberFormatException e) {
+			throw new SQLException("data conversion error converting " + value, e);
+		}
+
+		return value.toString();
+	}
+}
\ No newline at end of file
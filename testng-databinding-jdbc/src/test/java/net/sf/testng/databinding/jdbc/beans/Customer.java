@@ -0,0 +1,57 @@
+package net.sf.testng.databinding.jdbc.beans;
+
+public class Customer {
+	private String name;
+	private String country;
+
+	public Customer() {
+	}
+
+	public Customer(final String name, final String country) {
+		this.name = name;
+		this.country = country;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(final String name) {
+		this.name = name;
+	}
+
+	public String getCountry() {
+		return country;
+	}
+
+	public void setCountry(final String country) {
+		this.country = country;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (name == null ? 0 : name.hashCode());
+		result = prime * result + (country == null ? 0 : country.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Customer other = (Customer) obj;
+		return (name == null ? other.name == null : name.equals(other.name))
+				&& (country == null ? other.country == null : country.equals(other.country));
+	}
+
+	@Override
+	public String toString() {
+		return "Customer [name=" + name + ", country=" + country + "]";
+	}
+}
\ No newline at end of file
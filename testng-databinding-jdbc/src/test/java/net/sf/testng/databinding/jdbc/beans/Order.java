@@ -0,0 +1,81 @@
+package net.sf.testng.databinding.jdbc.beans;
+
+public class Order {
+	private long id;
+	private int quantity;
+	private double unitPrice;
+	private Customer customer;
+
+	public Order() {
+	}
+
+	public Order(final long id, final int quantity, final double unitPrice, final Customer customer) {
+		this.id = id;
+		this.quantity = quantity;
+		this.unitPrice = unitPrice;
+		this.customer = customer;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public void setId(final long id) {
+		this.id = id;
+	}
+
+	public int getQuantity() {
+		return quantity;
+	}
+
+	public void setQuantity(final int quantity) {
+		this.quantity = quantity;
+	}
+
+	public double getUnitPrice() {
+		return unitPrice;
+	}
+
+	public void setUnitPrice(final double unitPrice) {
+		this.unitPrice = unitPrice;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public void setCustomer(final Customer customer) {
+		this.customer = customer;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + Long.hashCode(id);
+		result = prime * result + quantity;
+		result = prime * result + Double.hashCode(unitPrice);
+		result = prime * result + (customer == null ? 0 : customer.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Order other = (Order) obj;
+		return id == other.id && quantity == other.quantity
+				&& Double.doubleToLongBits(unitPrice) == Double.doubleToLongBits(other.unitPrice)
+				&& (customer == null ? other.customer == null : customer.equals(other.customer));
+	}
+
+	@Override
+	public String toString() {
+		return "Order [id=" + id + ", quantity=" + quantity + ", unitPrice=" + unitPrice + ", customer=" + customer
+				+ "]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package net.sf.testng.databinding.jdbc.datasource.config;
+
+import net.sf.testng.databinding.jdbc.JdbcDataSourceConfiguration;
+
+public class JdbcDataSourceConfigurations {
+	public static final String URL = "jdbc:h2:mem:testng-databinding;DB_CLOSE_DELAY=-1";
+
+	private JdbcDataSourceConfigurations() {}
+	
+	public static JdbcDataSourceConfiguration ordersConfig() {
+		return new JdbcDataSourceConfiguration() {
+			
+			@Override
+			public String getURL() {
+				return URL;
+			}
+			
+			@Override
+			public String getQuery() {
+				return "SELECT o.id AS in_id, o.quantity AS in_quantity, o.unit_price AS in_unitPrice, "
+						+ "c.name AS \"in_Customer.Name\", c.country AS \"in_customer.country\", "
+						+ "o.express AS out_express FROM orders o JOIN customers c ON c.id = o.customer_id "
+						+ "ORDER BY o.id";
+			}
+			
+			@Override
+			public int getFetchSize() {
+				return 1;
+			}
+		};
+	}
+	
+	public static JdbcDataSourceConfiguration missingColumnConfig() {
+		return new JdbcDataSourceConfiguration() {
+			
+			@Override
+			public String getURL() {
+				return URL;
+			}
+			
+			@Override
+			public String getQuery() {
+				return "SELECT o.id AS in_id, o.quantity AS in_quantity, c.name AS \"in_customer.name\", "
+						+ "c.country AS \"in_customer.country\", o.express AS out_express "
+						+ "FROM orders o JOIN customers c ON c.id = o.customer_id";
+			}
+		};
+	}
+	
+	public static JdbcDataSourceConfiguration fractionalQuantityConfig() {
+		return new JdbcDataSourceConfiguration() {
+			
+			@Override
+			public String getURL() {
+				return URL;
+			}
+			
+			@Override
+			public String getQuery() {
+				return "SELECT o.id AS in_id, o.quantity + 0.5 AS in_quantity, o.unit_price AS in_unitPrice, "
+						+ "c.name AS \"in_customer.name\", c.country AS \"in_customer.country\", "
+						+ "o.express AS out_express FROM orders o JOIN customers c ON c.id = o.customer_id "
+						+ "ORDER BY o.id";
+			}
+		};
+	}
+	
+	public static JdbcDataSourceConfiguration noQueryConfig() {
+		return new JdbcDataSourceConfiguration() {
+			
+			@Override
+			public String getURL() {
+				return URL;
+			}
+			
+			@Override
+			public String getQuery() {
+				return null;
+			}
+		};
+	}
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+CREATE TABLE customers (id BIGINT PRIMARY KEY, name VARCHAR(50), country CHAR(2));
+CREATE TABLE orders (id BIGINT PRIMARY KEY, customer_id BIGINT REFERENCES customers (id), quantity DECIMAL(10, 2),
+	unit_price DECIMAL(10, 2), express BOOLEAN);
+INSERT INTO customers VALUES (1, 'Acme', 'DE');
+INSERT INTO customers VALUES (2, 'Globex', 'US');
+INSERT INTO orders VALUES (9000000001, 1, 3.00, 4.50, TRUE);
+INSERT INTO orders VALUES (9000000002, 2, 10.00, 0.99, FALSE);
+INSERT INTO orders VALUES (9000000003, 1, 1.00, 120.00, TRUE);
\ No newline at end of file
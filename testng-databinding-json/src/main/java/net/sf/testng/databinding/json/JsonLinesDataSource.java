@@ -0,0 +1,547 @@
+package net.sf.testng.databinding.json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import net.sf.testng.databinding.AbstractDataSource;
+import net.sf.testng.databinding.DataSource;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
+import net.sf.testng.databinding.core.util.DispatchTable;
+import net.sf.testng.databinding.core.util.DispatchTable.Kind;
+import net.sf.testng.databinding.core.util.DispatchTable.Slot;
+import net.sf.testng.databinding.core.util.OrderedParallelBinder;
+import net.sf.testng.databinding.core.util.OrderedParallelBinder.Binding;
+import net.sf.testng.databinding.json.JsonTokenizer.Token;
+import net.sf.testng.databinding.json.LineReader.Line;
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+
+/**
+ * <p>
+ * This {@link IDataSource data source} binds test data contained in JSON Lines files to test method
+ * parameters. It supports an arbitrary number of {@link TestInput test input} and {@link TestOutput test
+ * output} parameters and supports the same parameter types as the XML data source. These types are all
+ * primitive types defined in the Java Language Specification and their wrappers, {@link String Strings},
+ * {@link Enum Enums}, Java Beans and {@link List Lists} of all of those except {@link Enum Enums}.
+ * </p>
+ * <h3>Specifications</h3>
+ * <h4>JSON Lines Data Files</h4>
+ * <p>
+ * The format of the JSON Lines files to be bound needs to adhere to these rules:
+ * <ul>
+ * <li>The file's encoding must be equal to the encoding given in the configuration or UTF-8 if no encoding is
+ * given</li>
+ * <li>Each line holds the data for one test method invocation, as a JSON object. Blank lines are ignored.</li>
+ * <li>All test input data must be the value of the member <code>"testInput"</code> of that object, all test
+ * output data the value of the member <code>"testOutput"</code>. Both values must be JSON objects. Any other
+ * members are ignored.</li>
+ * <li>There must be exactly one member for each test method parameter in the <code>"testInput"</code> or
+ * <code>"testOutput"</code> object. The name of the member must case insensitively equal the name of the
+ * parameter, which is determined as follows:
+ * <ul>
+ * <li>If the parameter is of primitive, primitive wrapper or {@link String} type, or a {@link List} of those,
+ * it's the name given as {@link TestInput#name() &#64;TestInput(name = "")} or
+ * {@link TestOutput#name() &#64;TestOutput(name = "")}</li>
+ * <li>If the parameter is of Java Bean or {@link Enum} type, or a {@link List} of Java Beans, it's the simple name
+ * of the type as returned from {@link Class#getSimpleName() ((Class&lt;?&gt;) type).getSimpleName()}</li>
+ * <li>For {@link List Lists} its plural is accepted as well, taking either a single <code>'s'</code> or an
+ * <code>'ies'</code> suffix for names ending in <code>'y'</code></li>
+ * </ul>
+ * </li>
+ * <li>Values of primitive, primitive wrapper and {@link String} type can be given as JSON strings, numbers or
+ * booleans. Values of {@link Enum} type must be JSON strings holding the name of the enum constant. Java Beans
+ * are given as JSON objects, following the same rules for their properties, and {@link List Lists} as JSON
+ * arrays. <code>null</code> can be given for any value not of a primitive type.</li>
+ * </ul>
+ * </p>
+ * <h4>Java Beans</h4>
+ * <p>
+ * Java Beans that data is to be bound to need to have a standard constructor taking no arguments. The same types that
+ * are supported as test method parameter types are also supported as Java Bean properties types. Nested Java Beans are
+ * supported up to any nesting level, as they are bound iteratively. Any Java Bean properties for which no members can
+ * be found or that have an unsupported type are just not set, leaving them unchanged. Any members for which no Java
+ * Bean properties of matching name and supported type can be found are skipped ignoring them.
+ * </p>
+ * <h4>Streaming, Parallel Binding and Sharding</h4>
+ * <p>
+ * The file is read line by line and each line is tokenized as it's bound, without ever building a tree of its
+ * contents, so files of any size can be bound. As each line is a JSON document of its own, lines can be bound
+ * by several threads, see {@link JsonLinesDataSourceConfiguration#getParallelism()}, and split between several
+ * test runs, see {@link JsonLinesDataSourceConfiguration#getShardCount()}. The lines are returned in file order
+ * either way.
+ * </p>
+ * <h3>Example</h3>
+ * <h4>Test Method</h4>
+ * <pre>
+ * &#64;DataBinding(propertiesPrefix = "advancedSearch")
+ * public void testAdvancedGoogleSearch(&#64;TestInput(name = "searchTerm") final String searchTerm,
+ *         &#64;TestInput final FileType fileType, &#64;TestOutput final List&lt;SearchResult&gt; searchResults) {
+ *     ...
+ * }
+ * </pre>
+ * <h4>JSON Lines Data Source</h4>
+ * <pre>
+ * {"testInput": {"searchTerm": "Java Component Scanner", "fileType": "ALL"}, "testOutput": {"searchResults": [{"searchResultDefinition": {"linkLabel": "eXtcos"}}]}}
+ * {"testInput": {"searchTerm": "json transformation engine", "fileType": "PDF"}, "testOutput": {"searchResults": []}}
+ * </pre>
+ *
+ * @author Matthias Rothe
+ */
+@DataSource(name = "jsonl")
+public class JsonLinesDataSource extends AbstractDataSource {
+	private static final String TEST_INPUT_MEMBER = "testInput";
+	private static final String TEST_OUTPUT_MEMBER = "testOutput";
+
+	private final List<MethodParameter> parameters;
+	private final List<MethodParameter> inputParameters = new ArrayList<MethodParameter>();
+	private final List<MethodParameter> outputParameters = new ArrayList<MethodParameter>();
+	private final DispatchTable inputTable;
+	private final DispatchTable outputTable;
+	private final JsonLinesDataSourceConfiguration configuration;
+	private final LineReader reader;
+	private OrderedParallelBinder<Line> parallelBinder;
+	private String nextLine;
+
+	/**
+	 * Constructs a new instance of this class, setting the {@link MethodParameter test method parameters} to load the
+	 * data for and the {@link Configuration configuration} describing where to load the data from.
+	 *
+	 * @param parameters The test method parameters for which data is to be loaded
+	 * @param configuration The configuration describing where to load the data from
+	 * @throws Exception If anything goes wrong during the creation of this instance
+	 */
+	public JsonLinesDataSource(final List<MethodParameter> parameters, final Configuration configuration)
+			throws Exception {
+		this.configuration = DataSourceConfigurationLoader.loadDataSourceConfiguration(configuration,
+			JsonLinesDataSourceConfiguration.class);
+		this.parameters = parameters;
+
+		for (final MethodParameter parameter : parameters) {
+			if (parameter.getAnnotation(TestInput.class) != null) {
+				inputParameters.add(parameter);
+			} else if (parameter.getAnnotation(TestOutput.class) != null) {
+				outputParameters.add(parameter);
+			}
+		}
+
+		checkConfiguration();
+
+		inputTable = DispatchTable.forParameters(inputParameters, MemberNaming.INSTANCE);
+		outputTable = DispatchTable.forParameters(outputParameters, MemberNaming.INSTANCE);
+		reader = createReader();
+
+		boolean cleanUpNecessary = true;
+		try {
+			if (this.configuration.getParallelism() > 1) {
+				parallelBinder = new OrderedParallelBinder<Line>("json-line-binder", reader,
+					this.configuration.getParallelism(), this.configuration.getMaxLinesInFlight(),
+					new Binding<Line>() {
+
+						@Override
+						public Object[] bind(final Line line) {
+							return bindLine(line.getText(), line.getNumber());
+						}
+					});
+			} else {
+				nextLine = reader.readLine();
+			}
+
+			cleanUpNecessary = false;
+		} finally {
+			if (cleanUpNecessary) {
+				reader.close();
+			}
+		}
+
+		if (!hasNext()) {
+			cleanUp();
+		}
+	}
+
+	private void checkConfiguration() {
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+
+		if (inputParameters.isEmpty() && outputParameters.isEmpty()) {
+			final ErrorCollector errorCollector = new ErrorCollector("method parameters");
+			errorCollector.addError("no parameters with @TestInput or @TestOutput annotation given");
+			errorCollectors.add(errorCollector);
+		}
+
+		final int shardCount = configuration.getShardCount();
+		final int shardIndex = configuration.getShardIndex();
+
+		if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+			final ErrorCollector errorCollector = new ErrorCollector("configuration");
+			errorCollector.addError("invalid shard " + shardIndex + " of " + shardCount
+					+ " shards, the shard index must be at least 0 and less than the number of shards");
+			errorCollectors.add(errorCollector);
+		}
+
+		if (errorCollectors.size() > 0) {
+			throw new MultipleConfigurationErrorsException(errorCollectors);
+		}
+	}
+
+	private LineReader createReader() throws IOException {
+		final URL url = configuration.getURL();
+		final Charset charset = Charset.forName(configuration.getEncoding());
+
+		return new LineReader(new BufferedReader(new InputStreamReader(url.openStream(), charset)),
+			configuration.getShardCount(), configuration.getShardIndex());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		return parallelBinder != null ? parallelBinder.hasNext() : nextLine != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		boolean cleanUpNecessary = true;
+		try {
+			final Object[] dataSet;
+
+			if (parallelBinder != null) {
+				dataSet = parallelBinder.next();
+			} else {
+				final String line = nextLine;
+				final long lineNumber = reader.getLineNumber();
+				nextLine = null;
+				dataSet = bindLine(line, lineNumber);
+				nextLine = reader.readLine();
+			}
+
+			cleanUpNecessary = !hasNext();
+			return dataSet;
+		} catch (final IOException e) {
+			throw Exceptions.softenIfNecessary(e);
+		} finally {
+			if (cleanUpNecessary) {
+				cleanUp();
+			}
+		}
+	}
+
+	private void cleanUp() {
+		try {
+			nextLine = null;
+
+			if (parallelBinder != null) {
+				parallelBinder.close();
+			} else {
+				reader.close();
+			}
+		} catch (final IOException e) {
+			throw Exceptions.softenIfNecessary(e);
+		}
+	}
+
+	private Object[] bindLine(final String line, final long lineNumber) {
+		final JsonTokenizer tokenizer = new JsonTokenizer(line);
+
+		try {
+			final Map<MethodParameter, Object> objects = new HashMap<MethodParameter, Object>();
+			final BitSet inputSeen = new BitSet(inputTable.size());
+			final BitSet outputSeen = new BitSet(outputTable.size());
+			boolean inputBound = false;
+			boolean outputBound = false;
+
+			if (tokenizer.next() != Token.BEGIN_OBJECT) {
+				throw new JsonSourceException("expected a JSON object", tokenizer.getColumn());
+			}
+
+			for (Token token = tokenizer.next(); token != Token.END_OBJECT; token = tokenizer.next()) {
+				final String name = tokenizer.getText();
+				final Token value = tokenizer.next();
+
+				if (name.equals(TEST_INPUT_MEMBER) && !inputBound) {
+					bindSection(inputTable, inputSeen, tokenizer, value, objects);
+					inputBound = true;
+				} else if (name.equals(TEST_OUTPUT_MEMBER) && !outputBound) {
+					bindSection(outputTable, outputSeen, tokenizer, value, objects);
+					outputBound = true;
+				} else {
+					tokenizer.skipValue(value);
+				}
+			}
+
+			tokenizer.next();
+
+			if (inputSeen.cardinality() < inputTable.size() || outputSeen.cardinality() < outputTable.size()) {
+				throw remainingParametersSourceErrorsException(inputSeen, outputSeen);
+			}
+
+			return orderAndConvert(objects);
+		} catch (final JsonSourceException e) {
+			throw sourceErrorsException(lineNumber, e.getColumn(), e.getMessage());
+		} catch (final MultipleConfigurationErrorsException e) {
+			throw e;
+		} catch (final MultipleSourceErrorsException e) {
+			throw e;
+		} catch (final Exception e) {
+			throw sourceErrorsException(lineNumber, tokenizer.getColumn(), e.getClass().getName() + ": "
+					+ e.getMessage());
+		}
+	}
+
+	private void bindSection(final DispatchTable table, final BitSet seen, final JsonTokenizer tokenizer,
+			final Token token, final Map<MethodParameter, Object> objects) throws Exception {
+		if (token != Token.BEGIN_OBJECT) {
+			throw new JsonSourceException("expected a JSON object", tokenizer.getColumn());
+		}
+
+		for (Token next = tokenizer.next(); next != Token.END_OBJECT; next = tokenizer.next()) {
+			final Slot slot = table.lookup(tokenizer.getText(), seen);
+			final Token value = tokenizer.next();
+
+			if (slot == null) {
+				tokenizer.skipValue(value);
+			} else {
+				objects.put(slot.getParameter(), bindValue(slot, tokenizer, value));
+				seen.set(slot.getIndex());
+			}
+		}
+	}
+
+	private Object bindValue(final Slot slot, final JsonTokenizer tokenizer, final Token token) throws Exception {
+		if (!isNested(slot, token)) {
+			return toValue(slot, tokenizer, token);
+		}
+
+		// nested beans and lists are bound iteratively, keeping one frame per nesting level on the stack
+		final Deque<Frame> stack = new ArrayDeque<Frame>();
+		stack.push(new Frame(slot, token));
+
+		while (true) {
+			final Frame frame = stack.peek();
+			final Token next = tokenizer.next();
+
+			if (frame.list == null) {
+				if (next != Token.END_OBJECT) {
+					final Slot property = frame.table.lookup(tokenizer.getText(), frame.seen);
+					final Token value = tokenizer.next();
+
+					if (property == null || property.getKind() == Kind.UNSUPPORTED) {
+						tokenizer.skipValue(value);
+					} else if (isNested(property, value)) {
+						stack.push(new Frame(property, value));
+					} else {
+						property.getWriteMethod().invoke(frame.bean, toValue(property, tokenizer, value));
+						frame.seen.set(property.getIndex());
+					}
+
+					continue;
+				}
+			} else if (next != Token.END_ARRAY) {
+				if (frame.slot.getKind() == Kind.LIST_OF_BEANS && next == Token.BEGIN_OBJECT) {
+					stack.push(new Frame(frame.slot, next));
+				} else {
+					frame.list.add(toElement(frame.slot, tokenizer, next));
+				}
+
+				continue;
+			}
+
+			stack.pop();
+			final Object value = frame.list == null ? frame.bean : frame.list;
+
+			if (stack.isEmpty()) {
+				return value;
+			}
+
+			final Frame parent = stack.peek();
+
+			if (parent.list != null) {
+				parent.list.add(value);
+			} else {
+				frame.slot.getWriteMethod().invoke(parent.bean, value);
+				parent.seen.set(frame.slot.getIndex());
+			}
+		}
+	}
+
+	private boolean isNested(final Slot slot, final Token token) {
+		switch (slot.getKind()) {
+		case SINGLE_BEAN:
+			return token == Token.BEGIN_OBJECT;
+		case LIST_OF_BEANS:
+		case LIST_OF_PRIMITIVES:
+			return token == Token.BEGIN_ARRAY;
+		default:
+			return false;
+		}
+	}
+
+	private Object toValue(final Slot slot, final JsonTokenizer tokenizer, final Token token)
+			throws JsonSourceException {
+		if (token == Token.NULL) {
+			return toNull(slot, tokenizer);
+		}
+
+		switch (slot.getKind()) {
+		case ENUM:
+			if (token == Token.STRING) {
+				return toEnumConstant(slot, tokenizer.getText());
+			}
+
+			throw unexpected(tokenizer, "a string");
+		case PRIMITIVE:
+			return toPrimitive(slot, tokenizer, token);
+		case SINGLE_BEAN:
+			throw unexpected(tokenizer, "an object");
+		case LIST_OF_BEANS:
+		case LIST_OF_PRIMITIVES:
+			throw unexpected(tokenizer, "an array");
+		default:
+			final MethodParameter parameter = slot.getParameter();
+			final ErrorCollector errorCollector = new ErrorCollector(parameter.getType(), parameter.getName());
+			errorCollector.addError("unsupported type for data source " + getClass().getSimpleName());
+			throw new MultipleConfigurationErrorsException(Arrays.asList(errorCollector));
+		}
+	}
+
+	private Object toElement(final Slot slot, final JsonTokenizer tokenizer, final Token token)
+			throws JsonSourceException {
+		if (token == Token.NULL) {
+			return null;
+		} else if (slot.getKind() == Kind.LIST_OF_BEANS) {
+			throw unexpected(tokenizer, "an object");
+		} else {
+			return toPrimitive(slot, tokenizer, token);
+		}
+	}
+
+	private Object toNull(final Slot slot, final JsonTokenizer tokenizer) throws JsonSourceException {
+		final Type type = slot.getParameter().getType();
+
+		if (type instanceof Class<?> && ((Class<?>) type).isPrimitive()) {
+			throw new JsonSourceException("null isn't allowed for primitive type " + type, tokenizer.getColumn());
+		}
+
+		return null;
+	}
+
+	private Object toEnumConstant(final Slot slot, final String enumName) {
+		final Object constant = slot.getEnumConstant(enumName);
+
+		if (constant != null) {
+			return constant;
+		}
+
+		final MethodParameter parameter = slot.getParameter();
+		final ErrorCollector errorCollector = new ErrorCollector(parameter.getType(), parameter.getName());
+		errorCollector.addError("the value [" + enumName + "] found in the source isn't a member of this enum type");
+		throw new MultipleSourceErrorsException(Arrays.asList(errorCollector));
+	}
+
+	private Object toPrimitive(final Slot slot, final JsonTokenizer tokenizer, final Token token)
+			throws JsonSourceException {
+		if (token != Token.STRING && token != Token.NUMBER && token != Token.TRUE && token != Token.FALSE) {
+			throw unexpected(tokenizer, "a string, number or boolean");
+		}
+
+		try {
+			return slot.getConverter().convert(tokenizer.getText());
+		} catch (final IllegalArgumentException e) {
+			throw new JsonSourceException("invalid value for type " + slot.getValueType() + ": "
+					+ e.getMessage(), tokenizer.getColumn());
+		}
+	}
+
+	private JsonSourceException unexpected(final JsonTokenizer tokenizer, final String expected) {
+		return new JsonSourceException("expected " + expected, tokenizer.getColumn());
+	}
+
+	private MultipleSourceErrorsException sourceErrorsException(final long lineNumber, final int column,
+			final String detailMessage) {
+		final ErrorCollector errorCollector = new ErrorCollector(configuration.getURL().toExternalForm());
+		errorCollector.addError("invalid source for data source " + getClass().getName() + " at [" + lineNumber
+				+ ":" + column + "], detail message: " + detailMessage);
+		return new MultipleSourceErrorsException(Arrays.asList(errorCollector));
+	}
+
+	private MultipleSourceErrorsException remainingParametersSourceErrorsException(final BitSet inputSeen,
+			final BitSet outputSeen) {
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+		collectRemainingParameters(inputTable, inputSeen, errorCollectors);
+		collectRemainingParameters(outputTable, outputSeen, errorCollectors);
+		return new MultipleSourceErrorsException(errorCollectors);
+	}
+
+	private void collectRemainingParameters(final DispatchTable table, final BitSet seen,
+			final List<ErrorCollector> errorCollectors) {
+		for (int index = seen.nextClearBit(0); index < table.size(); index = seen.nextClearBit(index + 1)) {
+			final MethodParameter parameter = table.getSlot(index).getParameter();
+			final ErrorCollector errorCollector = new ErrorCollector(parameter.getType(), parameter.getName());
+			errorCollector.addError("no data found for this parameter");
+			errorCollectors.add(errorCollector);
+		}
+	}
+
+	private Object[] orderAndConvert(final Map<MethodParameter, Object> objectsMap) {
+		final List<Object> objects = new ArrayList<Object>();
+
+		for (final MethodParameter parameter : parameters) {
+			objects.add(objectsMap.get(parameter));
+		}
+
+		return objects.toArray();
+	}
+
+	/**
+	 * A Java Bean or a list being bound, together with the {@link Slot slot} of its parent it's bound to.
+	 */
+	private static final class Frame {
+		private final Slot slot;
+		private final DispatchTable table;
+		private final BitSet seen;
+		private final Object bean;
+		private final List<Object> list;
+
+		Frame(final Slot slot, final Token token) throws Exception {
+			this.slot = slot;
+
+			if (token == Token.BEGIN_OBJECT) {
+				table = DispatchTable.forBean(slot.getBeanClass(), MemberNaming.INSTANCE);
+				seen = new BitSet(table.size());
+				bean = table.newBean();
+				list = null;
+			} else {
+				table = null;
+				seen = null;
+				bean = null;
+				list = new ArrayList<Object>();
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package net.sf.testng.databinding.json;
+
+import java.net.URL;
+
+public interface JsonLinesDataSourceConfiguration {
+	URL getURL();
+
+	default String getEncoding() {
+		return "UTF-8";
+	}
+
+	/**
+	 * The number of threads binding the lines of the JSON Lines file in parallel. The lines are still
+	 * read and returned in file order.
+	 * <p>
+	 * Defaults to 1, binding the lines sequentially
+	 *
+	 * @return the parallelism
+	 */
+	default int getParallelism() {
+		return 1;
+	}
+
+	/**
+	 * The maximum number of lines bound ahead of the line requested last, when binding in
+	 * {@link #getParallelism() parallel}.
+	 * <p>
+	 * May be any integer &gt;= 1
+	 * <p>
+	 * Defaults to 64 times the parallelism
+	 *
+	 * @return the maximum number of lines in flight
+	 */
+	default int getMaxLinesInFlight() {
+		return 64 * getParallelism();
+	}
+
+	/**
+	 * The number of shards the lines of the JSON Lines file are split into. Only the lines of the
+	 * {@link #getShardIndex() shard} given are bound, so several test runs can split a large file between
+	 * them. The lines are assigned to the shards round robin, blank lines not counting.
+	 * <p>
+	 * Defaults to 1, binding all lines
+	 *
+	 * @return the number of shards
+	 */
+	default int getShardCount() {
+		return 1;
+	}
+
+	/**
+	 * The index of the shard to bind, see {@link #getShardCount()}.
+	 * <p>
+	 * May be any integer from 0 to the number of shards - 1
+	 * <p>
+	 * Defaults to 0
+	 *
+	 * @return the index of the shard
+	 */
+	default int getShardIndex() {
+		return 0;
+	}
+}
\ No newline at end of file
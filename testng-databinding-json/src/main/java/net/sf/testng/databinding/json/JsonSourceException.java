@@ -0,0 +1,29 @@
+package net.sf.testng.databinding.json;
+
+/**
+ * Signals an error in a line of a JSON Lines file, found at a given column, either because the line isn't
+ * valid JSON or because its values can't be bound to the types they are bound to.
+ *
+ * @author Matthias Rothe
+ */
+final class JsonSourceException extends Exception {
+	private static final long serialVersionUID = 4319528301762134785L;
+
+	private final int column;
+
+	/**
+	 * @param message The detail message
+	 * @param column The column the error was found at, starting at 1
+	 */
+	JsonSourceException(final String message, final int column) {
+		super(message);
+		this.column = column;
+	}
+
+	/**
+	 * @return the column the error was found at, starting at 1
+	 */
+	int getColumn() {
+		return column;
+	}
+}
\ No newline at end of file
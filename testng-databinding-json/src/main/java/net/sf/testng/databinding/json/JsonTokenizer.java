@@ -0,0 +1,358 @@
+package net.sf.testng.databinding.json;
+
+import java.util.Arrays;
+
+/**
+ * A streaming tokenizer for a single JSON document, e.g. one line of a JSON Lines file. The tokens are
+ * pulled one at a time, without building a tree of the document, and nesting is tracked on a growable
+ * stack, so documents can be nested up to any level.
+ * <p>
+ * The tokenizer checks the document to be well-formed JSON as defined by RFC 8259, reporting any violation
+ * as a {@link JsonSourceException} giving the column it was found at.
+ *
+ * @author Matthias Rothe
+ */
+final class JsonTokenizer {
+	private final String json;
+	private int position;
+	private int tokenStart;
+	private String text;
+	private boolean[] objects = new boolean[16];
+	private int depth;
+	private boolean afterName;
+	private boolean afterValue;
+
+	/**
+	 * The tokens of a JSON document.
+	 */
+	enum Token {
+		BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, TRUE, FALSE, NULL, END
+	}
+
+	/**
+	 * @param json The JSON document
+	 */
+	JsonTokenizer(final String json) {
+		this.json = json;
+	}
+
+	/**
+	 * Reads the next token.
+	 *
+	 * @return the next token, {@link Token#END} once the whole document has been read
+	 * @throws JsonSourceException if the document isn't well-formed
+	 */
+	Token next() throws JsonSourceException {
+		skipWhitespace();
+		tokenStart = position;
+		text = null;
+
+		if (afterName) {
+			expect(':');
+			skipWhitespace();
+			tokenStart = position;
+			afterName = false;
+			return readValue();
+		}
+
+		if (depth == 0) {
+			if (afterValue) {
+				if (position < json.length()) {
+					throw error("unexpected characters after the end of the document");
+				}
+
+				return Token.END;
+			}
+
+			return readValue();
+		}
+
+		if (position == json.length()) {
+			throw error("unexpected end of the document");
+		}
+
+		final char c = json.charAt(position);
+
+		if (c == '}' || c == ']') {
+			return close(c);
+		}
+
+		if (afterValue) {
+			expect(',');
+			skipWhitespace();
+			tokenStart = position;
+		}
+
+		return objects[depth - 1] ? readName() : readValue();
+	}
+
+	/**
+	 * Skips the value the given token begins.
+	 *
+	 * @param token The token just read, beginning a value
+	 * @throws JsonSourceException if the document isn't well-formed
+	 */
+	void skipValue(final Token token) throws JsonSourceException {
+		if (token != Token.BEGIN_OBJECT && token != Token.BEGIN_ARRAY) {
+			return;
+		}
+
+		final int bottom = depth - 1;
+
+		while (depth > bottom) {
+			next();
+		}
+	}
+
+	/**
+	 * @return the decoded text of the {@link Token#NAME NAME}, {@link Token#STRING STRING} or
+	 *         {@link Token#NUMBER NUMBER} token just read, the literal of {@link Token#TRUE TRUE} and
+	 *         {@link Token#FALSE FALSE}, <code>null</code> for other tokens
+	 */
+	String getText() {
+		return text;
+	}
+
+	/**
+	 * @return the column the token just read starts at, starting at 1
+	 */
+	int getColumn() {
+		return tokenStart + 1;
+	}
+
+	private Token readValue() throws JsonSourceException {
+		if (position == json.length()) {
+			throw error("unexpected end of the document, expected a value");
+		}
+
+		final char c = json.charAt(position);
+		afterValue = true;
+
+		switch (c) {
+		case '{':
+			return open(true, Token.BEGIN_OBJECT);
+		case '[':
+			return open(false, Token.BEGIN_ARRAY);
+		case '"':
+			text = readString();
+			return Token.STRING;
+		case 't':
+			text = readLiteral("true");
+			return Token.TRUE;
+		case 'f':
+			text = readLiteral("false");
+			return Token.FALSE;
+		case 'n':
+			readLiteral("null");
+			return Token.NULL;
+		default:
+			if (c == '-' || (c >= '0' && c <= '9')) {
+				text = readNumber();
+				return Token.NUMBER;
+			}
+
+			throw error("unexpected character '" + c + "', expected a value");
+		}
+	}
+
+	private Token readName() throws JsonSourceException {
+		if (position == json.length()) {
+			throw error("unexpected end of the document, expected a name");
+		}
+
+		if (json.charAt(position) != '"') {
+			throw error("unexpected character '" + json.charAt(position) + "', expected a name");
+		}
+
+		text = readString();
+		afterName = true;
+		afterValue = false;
+		return Token.NAME;
+	}
+
+	private Token open(final boolean object, final Token token) {
+		if (depth == objects.length) {
+			objects = Arrays.copyOf(objects, depth * 2);
+		}
+
+		objects[depth++] = object;
+		position++;
+		afterValue = false;
+		return token;
+	}
+
+	private Token close(final char c) throws JsonSourceException {
+		final boolean object = objects[depth - 1];
+
+		if (object != (c == '}')) {
+			throw error("unexpected character '" + c + "', expected '" + (object ? '}' : ']') + "'");
+		}
+
+		depth--;
+		position++;
+		afterValue = true;
+		return object ? Token.END_OBJECT : Token.END_ARRAY;
+	}
+
+	private String readString() throws JsonSourceException {
+		final int start = ++position;
+
+		// fast path for strings without escapes
+		while (position < json.length()) {
+			final char c = json.charAt(position);
+
+			if (c == '"') {
+				return json.substring(start, position++);
+			} else if (c == '\\') {
+				break;
+			} else if (c < 0x20) {
+				throw error("unescaped control character in string");
+			}
+
+			position++;
+		}
+
+		final StringBuilder builder = new StringBuilder(position - start + 16).append(json, start, position);
+
+		while (position < json.length()) {
+			final char c = json.charAt(position++);
+
+			if (c == '"') {
+				return builder.toString();
+			} else if (c == '\\') {
+				builder.append(readEscape());
+			} else if (c < 0x20) {
+				throw error("unescaped control character in string");
+			} else {
+				builder.append(c);
+			}
+		}
+
+		throw error("unterminated string");
+	}
+
+	private char readEscape() throws JsonSourceException {
+		if (position == json.length()) {
+			throw error("unterminated string");
+		}
+
+		final char c = json.charAt(position++);
+
+		switch (c) {
+		case '"':
+		case '\\':
+		case '/':
+			return c;
+		case 'b':
+			return '\b';
+		case 'f':
+			return '\f';
+		case 'n':
+			return '\n';
+		case 'r':
+			return '\r';
+		case 't':
+			return '\t';
+		case 'u':
+			if (position + 4 > json.length()) {
+				throw error("invalid unicode escape");
+			}
+
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				final int digit = Character.digit(json.charAt(position++), 16);
+
+				if (digit < 0) {
+					throw error("invalid unicode escape");
+				}
+
+				value = value * 16 + digit;
+			}
+
+			return (char) value;
+		default:
+			throw error("invalid escape character '" + c + "'");
+		}
+	}
+
+	private String readLiteral(final String literal) throws JsonSourceException {
+		if (!json.startsWith(literal, position)) {
+			throw error("unexpected characters, expected a value");
+		}
+
+		position += literal.length();
+		return literal;
+	}
+
+	private String readNumber() throws JsonSourceException {
+		final int start = position;
+
+		if (json.charAt(position) == '-') {
+			position++;
+		}
+
+		if (position < json.length() && json.charAt(position) == '0') {
+			position++;
+		} else if (skipDigits() == 0) {
+			throw error("invalid number");
+		}
+
+		if (position < json.length() && json.charAt(position) == '.') {
+			position++;
+
+			if (skipDigits() == 0) {
+				throw error("invalid number");
+			}
+		}
+
+		if (position < json.length() && (json.charAt(position) == 'e' || json.charAt(position) == 'E')) {
+			position++;
+
+			if (position < json.length() && (json.charAt(position) == '+' || json.charAt(position) == '-')) {
+				position++;
+			}
+
+			if (skipDigits() == 0) {
+				throw error("invalid number");
+			}
+		}
+
+		return json.substring(start, position);
+	}
+
+	private int skipDigits() {
+		final int start = position;
+
+		while (position < json.length() && json.charAt(position) >= '0' && json.charAt(position) <= '9') {
+			position++;
+		}
+
+		return position - start;
+	}
+
+	private void expect(final char expected) throws JsonSourceException {
+		if (position == json.length()) {
+			throw error("unexpected end of the document, expected '" + expected + "'");
+		}
+
+		if (json.charAt(position) != expected) {
+			throw error("unexpected character '" + json.charAt(position) + "', expected '" + expected + "'");
+		}
+
+		position++;
+	}
+
+	private void skipWhitespace() {
+		while (position < json.length() && isWhitespace(json.charAt(position))) {
+			position++;
+		}
+	}
+
+	private static boolean isWhitespace(final char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+	}
+
+	private JsonSourceException error(final String message) {
+		return new JsonSourceException(message, position + 1);
+	}
+}
\ No newline at end of file
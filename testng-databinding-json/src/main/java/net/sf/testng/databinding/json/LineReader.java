@@ -0,0 +1,107 @@
+package net.sf.testng.databinding.json;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+import net.sf.testng.databinding.core.util.OrderedParallelBinder.Source;
+
+/**
+ * Reads the lines of a JSON Lines file one at a time, skipping blank lines and the lines not belonging to
+ * the shard to be bound. As a {@link Source source}, it hands out the lines together with their numbers.
+ *
+ * @author Matthias Rothe
+ */
+final class LineReader implements Closeable, Source<LineReader.Line> {
+	private final BufferedReader reader;
+	private final int shardCount;
+	private final int shardIndex;
+	private long lineNumber;
+	private long recordNumber;
+
+	/**
+	 * @param reader The reader to read the lines from
+	 * @param shardCount The number of shards the lines are split into
+	 * @param shardIndex The index of the shard to read
+	 */
+	LineReader(final BufferedReader reader, final int shardCount, final int shardIndex) {
+		this.reader = reader;
+		this.shardCount = shardCount;
+		this.shardIndex = shardIndex;
+	}
+
+	/**
+	 * @return the next non-blank line of the shard or <code>null</code>, if there is none
+	 * @throws IOException if the file can't be read
+	 */
+	String readLine() throws IOException {
+		String line;
+
+		while ((line = reader.readLine()) != null) {
+			if (lineNumber++ == 0 && line.startsWith("\uFEFF")) {
+				line = line.substring(1);
+			}
+
+			if (!isBlank(line) && recordNumber++ % shardCount == shardIndex) {
+				return line;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * @return the number of the line read last, starting at 1
+	 */
+	long getLineNumber() {
+		return lineNumber;
+	}
+
+	@Override
+	public Line next() throws IOException {
+		final String line = readLine();
+		return line != null ? new Line(line, lineNumber) : null;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private static boolean isBlank(final String line) {
+		for (int i = 0; i < line.length(); i++) {
+			if (!Character.isWhitespace(line.charAt(i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * A line together with its number within the file.
+	 */
+	static final class Line {
+		private final String text;
+		private final long number;
+
+		Line(final String text, final long number) {
+			this.text = text;
+			this.number = number;
+		}
+
+		/**
+		 * @return the text of the line
+		 */
+		String getText() {
+			return text;
+		}
+
+		/**
+		 * @return the number of the line within the file, starting at 1
+		 */
+		long getNumber() {
+			return number;
+		}
+	}
+}
\ No newline at end of file
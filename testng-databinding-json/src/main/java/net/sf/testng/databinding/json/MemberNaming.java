@@ -0,0 +1,41 @@
+package net.sf.testng.databinding.json;
+
+import net.sf.testng.databinding.core.util.DispatchTable;
+import net.sf.testng.databinding.core.util.DispatchTable.Naming;
+
+/**
+ * The {@link Naming naming} rule of {@link JsonLinesDataSource}: members of list types may be named like
+ * the parameter or property or like its plural, since lists of Java Beans are named after their element
+ * type.
+ *
+ * @author Matthias Rothe
+ */
+final class MemberNaming extends Naming {
+
+	/**
+	 * The rule shared by all data sources, sharing the {@link DispatchTable#forBean(Class, Naming) tables}
+	 * of Java Beans, too.
+	 */
+	static final MemberNaming INSTANCE = new MemberNaming();
+
+	private MemberNaming() {
+	}
+
+	@Override
+	protected String[] getListNames(final String listName) {
+		final String normalizedListName = listName.toLowerCase();
+
+		if (normalizedListName.endsWith("s")) {
+			return new String[] { listName };
+		} else if (normalizedListName.endsWith("y")) {
+			return new String[] { listName, listName.substring(0, listName.length() - 1) + "ies" };
+		} else {
+			return new String[] { listName, listName + "s" };
+		}
+	}
+
+	@Override
+	protected String getElementName(final String listName) {
+		return listName;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,4 @@
+/**
+ * Contains a JSON Lines {@link net.sf.testng.databinding.IDataSource data source} implementation.
+ */
+package net.sf.testng.databinding.json;
\ No newline at end of file
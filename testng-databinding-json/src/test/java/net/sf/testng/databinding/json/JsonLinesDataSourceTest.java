@@ -0,0 +1,190 @@
+package net.sf.testng.databinding.json;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.json.beans.InnerTestBean;
+import net.sf.testng.databinding.json.beans.TestBean;
+import net.sf.testng.databinding.json.beans.TestEnum;
+import net.sf.testng.databinding.json.beans.TreeNode;
+import net.sf.testng.databinding.json.datasource.config.JsonLinesDataSourceConfigurations;
+import net.sf.testng.databinding.util.MethodParameter;
+
+public class JsonLinesDataSourceTest {
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test(timeOut = 1000)
+	public void testInputOutputValuesTestData() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("inputOutputValuesConsumer");
+
+		final JsonLinesDataSource provider = new JsonLinesDataSource(parameters,
+				new Configuration(JsonLinesDataSourceConfigurations.class, "inputOutputValuesConfig"));
+
+		assertEquals(readAll(provider).toArray(), expectedInputOutputValues());
+		assertFalse(provider.hasNext());
+	}
+
+	@Test(timeOut = 5000)
+	public void testParallelInputOutputValuesTestData() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("inputOutputValuesConsumer");
+
+		final List<Object[]> actuals = readAll(new JsonLinesDataSource(parameters,
+				new Configuration(JsonLinesDataSourceConfigurations.class, "parallelInputOutputValuesConfig")));
+
+		assertEquals(actuals.toArray(), expectedInputOutputValues());
+	}
+
+	@Test(timeOut = 1000)
+	public void testShardedInputOutputValuesTestData() throws Exception {
+		final Object[][] expecteds = expectedInputOutputValues();
+		final List<MethodParameter> parameters = createMethodParameters("inputOutputValuesConsumer");
+
+		final List<Object[]> actuals = readAll(new JsonLinesDataSource(parameters,
+				new Configuration(JsonLinesDataSourceConfigurations.class, "shardedInputOutputValuesConfig")));
+
+		assertEquals(actuals.toArray(), new Object[][] { expecteds[1], expecteds[3] });
+	}
+
+	@Test(timeOut = 1000, expectedExceptions = MultipleConfigurationErrorsException.class)
+	public void testInvalidShard() throws Exception {
+		new JsonLinesDataSource(createMethodParameters("inputOutputValuesConsumer"),
+			new Configuration(JsonLinesDataSourceConfigurations.class, "invalidShardConfig"));
+	}
+
+	@Test(timeOut = 5000)
+	public void testInvalidTestData() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("inputOutputValuesConsumer");
+
+		for (final String configuration : Arrays.asList("invalidConfig", "parallelInvalidConfig")) {
+			final JsonLinesDataSource provider = new JsonLinesDataSource(parameters,
+					new Configuration(JsonLinesDataSourceConfigurations.class, configuration));
+
+			assertEquals(provider.next()[4], Arrays.asList("1"));
+			assertEquals(provider.next()[4], Arrays.asList("2"));
+
+			try {
+				provider.next();
+				fail("expected MultipleSourceErrorsException");
+			} catch (final MultipleSourceErrorsException e) {
+				assertTrue(e.getMessage().contains("at [3:133]"), e.getMessage());
+			}
+		}
+	}
+
+	@Test(timeOut = 10000)
+	public void testDeeplyNestedBeanTestData() throws Exception {
+		final int depth = 20000;
+		writeDeeplyNestedBeanTestData(depth);
+
+		final List<MethodParameter> parameters = createMethodParameters("treeNodeConsumer");
+
+		final JsonLinesDataSource provider = new JsonLinesDataSource(parameters,
+				new Configuration(JsonLinesDataSourceConfigurations.class, "deeplyNestedBeanConfig"));
+
+		TreeNode treeNode = (TreeNode) provider.next()[0];
+		for (int i = 0; i < depth; i++) {
+			assertEquals(treeNode.getValue(), i);
+			treeNode = treeNode.getTreeNode();
+		}
+
+		assertNull(treeNode);
+		assertFalse(provider.hasNext());
+	}
+
+	private void writeDeeplyNestedBeanTestData(final int depth) throws Exception {
+		final StringBuilder builder = new StringBuilder("{\"testInput\": {\"treeNode\": ");
+
+		for (int i = 0; i < depth; i++) {
+			builder.append("{\"value\": ").append(i).append(", \"treeNode\": ");
+		}
+
+		builder.append("null");
+
+		for (int i = 0; i < depth; i++) {
+			builder.append('}');
+		}
+
+		builder.append("}}\n");
+		Files.write(Paths.get(JsonLinesDataSourceConfigurations.deeplyNestedBeanTestData().toURI()),
+			builder.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private Object[][] expectedInputOutputValues() {
+		return new Object[][] {
+				{ true, new TestBean(), TestEnum.one, Arrays.asList("a", "b", "c"), Arrays.asList("1", "2", "3") },
+				{ false, setupComplexTestBean(), TestEnum.three, Arrays.asList("9", "8", "7"),
+						Arrays.asList("z", "y", "x") },
+				{ false, setupComplexTestBean(), TestEnum.three, Arrays.asList("9", "8", "7"),
+						Arrays.asList("z", "y", "x") },
+				{ true, null, TestEnum.two, null, Collections.emptyList() } };
+	}
+
+	private List<Object[]> readAll(final JsonLinesDataSource provider) {
+		final List<Object[]> dataSets = new ArrayList<Object[]>();
+
+		while (provider.hasNext()) {
+			dataSets.add(provider.next());
+		}
+
+		return dataSets;
+	}
+
+	private TestBean setupComplexTestBean() {
+		final TestBean testBean = new TestBean();
+		testBean.setTestEnum(TestEnum.one);
+		testBean.setTestString("Hello World!");
+		testBean.setTestDouble(5.5);
+		testBean.setTestBooleans(Arrays.asList(true, false, true));
+		testBean.setInnerTestBean(new InnerTestBean("test value"));
+		testBean.setTestBeans(Arrays.asList(new InnerTestBean("list entry 1"), new InnerTestBean("list entry 2"),
+			new InnerTestBean("list entry 3")));
+		return testBean;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void inputOutputValuesConsumer(@TestInput(name = "testChoice") final boolean testChoice,
+			@TestOutput final TestBean testBean, @TestInput final TestEnum testEnum,
+			@TestOutput(name = "strings") final List<String> outStrings,
+			@TestInput(name = "strings") final List<String> inStrings) {
+	}
+
+	public void treeNodeConsumer(@TestInput final TreeNode treeNode) {
+	}
+}
\ No newline at end of file
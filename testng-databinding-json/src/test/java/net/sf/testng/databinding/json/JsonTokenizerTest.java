@@ -0,0 +1,83 @@
+package net.sf.testng.databinding.json;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.json.JsonTokenizer.Token;
+
+public class JsonTokenizerTest {
+
+	@Test
+	public void testTokens() throws Exception {
+		final JsonTokenizer tokenizer = new JsonTokenizer(
+				" {\"a\": [1, -2.5e3, true, false, null], \"b\\u0041\": \"x\\\"y\\n\", \"c\": {}} ");
+		final List<String> tokens = new ArrayList<String>();
+
+		for (Token token = tokenizer.next(); token != Token.END; token = tokenizer.next()) {
+			tokens.add(tokenizer.getText() != null ? token + ":" + tokenizer.getText() : token.toString());
+		}
+
+		assertEquals(tokens.toArray(), new String[] { "BEGIN_OBJECT", "NAME:a", "BEGIN_ARRAY", "NUMBER:1",
+				"NUMBER:-2.5e3", "TRUE:true", "FALSE:false", "NULL", "END_ARRAY", "NAME:bA", "STRING:x\"y\n",
+				"NAME:c", "BEGIN_OBJECT", "END_OBJECT", "END_OBJECT" });
+	}
+
+	@Test
+	public void testSkipValue() throws Exception {
+		final JsonTokenizer tokenizer = new JsonTokenizer("[[1, {\"a\": [2]}], 3]");
+
+		assertEquals(tokenizer.next(), Token.BEGIN_ARRAY);
+		tokenizer.skipValue(tokenizer.next());
+		assertEquals(tokenizer.next(), Token.NUMBER);
+		assertEquals(tokenizer.getText(), "3");
+		assertEquals(tokenizer.next(), Token.END_ARRAY);
+		assertEquals(tokenizer.next(), Token.END);
+	}
+
+	@Test
+	public void testMalformedDocuments() throws Exception {
+		assertError("{\"a\": 1,}", 9);
+		assertError("{\"a\" 1}", 6);
+		assertError("[1 2]", 4);
+		assertError("[1}", 3);
+		assertError("[01]", 3);
+		assertError("[1.]", 4);
+		assertError("{\"a\": tru}", 7);
+		assertError("\"a\\x\"", 5);
+		assertError("{} {}", 4);
+		assertError("{\"a\": [1", 9);
+	}
+
+	@Test
+	public void testColumns() throws Exception {
+		final JsonTokenizer tokenizer = new JsonTokenizer("{\"a\" :  [ 12]}");
+
+		assertEquals(tokenizer.next(), Token.BEGIN_OBJECT);
+		assertEquals(tokenizer.getColumn(), 1);
+		assertEquals(tokenizer.next(), Token.NAME);
+		assertEquals(tokenizer.getColumn(), 2);
+		assertEquals(tokenizer.next(), Token.BEGIN_ARRAY);
+		assertEquals(tokenizer.getColumn(), 9);
+		assertEquals(tokenizer.next(), Token.NUMBER);
+		assertEquals(tokenizer.getColumn(), 11);
+	}
+
+	private void assertError(final String json, final int column) throws Exception {
+		final JsonTokenizer tokenizer = new JsonTokenizer(json);
+
+		try {
+			while (tokenizer.next() != Token.END) {
+				// keep reading
+			}
+
+			fail("expected JsonSourceException for " + json);
+		} catch (final JsonSourceException e) {
+			assertEquals(e.getColumn(), column, json + ": " + e.getMessage());
+		}
+	}
+}
\ No newline at end of file
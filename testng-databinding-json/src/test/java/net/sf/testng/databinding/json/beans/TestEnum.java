@@ -0,0 +1,5 @@
+package net.sf.testng.databinding.json.beans;
+
+public enum TestEnum {
+	one, two, three
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package net.sf.testng.databinding.json.beans;
+
+public class TreeNode {
+	private int value;
+	private TreeNode treeNode;
+
+	public int getValue() {
+		return value;
+	}
+
+	public void setValue(final int value) {
+		this.value = value;
+	}
+
+	public TreeNode getTreeNode() {
+		return treeNode;
+	}
+
+	public void setTreeNode(final TreeNode treeNode) {
+		this.treeNode = treeNode;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package net.sf.testng.databinding.json.datasource.config;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import net.sf.testng.databinding.json.JsonLinesDataSourceConfiguration;
+
+public class JsonLinesDataSourceConfigurations {
+
+	private JsonLinesDataSourceConfigurations() {}
+	
+	public static JsonLinesDataSourceConfiguration inputOutputValuesConfig() {
+		return new JsonLinesDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/inputOutputValuesTestData.jsonl");
+			}
+		};
+	}
+	
+	public static JsonLinesDataSourceConfiguration parallelInputOutputValuesConfig() {
+		return new JsonLinesDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/inputOutputValuesTestData.jsonl");
+			}
+			
+			@Override
+			public int getParallelism() {
+				return 2;
+			}
+			
+			@Override
+			public int getMaxLinesInFlight() {
+				return 2;
+			}
+		};
+	}
+	
+	public static JsonLinesDataSourceConfiguration shardedInputOutputValuesConfig() {
+		return new JsonLinesDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/inputOutputValuesTestData.jsonl");
+			}
+			
+			@Override
+			public int getShardCount() {
+				return 2;
+			}
+			
+			@Override
+			public int getShardIndex() {
+				return 1;
+			}
+		};
+	}
+	
+	public static JsonLinesDataSourceConfiguration invalidConfig() {
+		return new JsonLinesDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/invalidTestData.jsonl");
+			}
+		};
+	}
+	
+	public static JsonLinesDataSourceConfiguration parallelInvalidConfig() {
+		return new JsonLinesDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/invalidTestData.jsonl");
+			}
+			
+			@Override
+			public int getParallelism() {
+				return 2;
+			}
+		};
+	}
+	
+	public static JsonLinesDataSourceConfiguration invalidShardConfig() {
+		return new JsonLinesDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/inputOutputValuesTestData.jsonl");
+			}
+			
+			@Override
+			public int getShardCount() {
+				return 2;
+			}
+			
+			@Override
+			public int getShardIndex() {
+				return 2;
+			}
+		};
+	}
+	
+	public static JsonLinesDataSourceConfiguration deeplyNestedBeanConfig() {
+		return new JsonLinesDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return deeplyNestedBeanTestData();
+			}
+		};
+	}
+	
+	public static URL deeplyNestedBeanTestData() {
+		try {
+			return new File(System.getProperty("java.io.tmpdir"), "deeplyNestedBeanTestData.jsonl").toURI().toURL();
+		} catch (final MalformedURLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package net.sf.testng.databinding.properties;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * An immutable store of the values of a properties file, indexed by row and key. Keys may carry a row
+ * index, like <code>1.in_name</code>, assigning the value to that row. Keys without a row index are shared
+ * by all rows, unless a row defines a value of its own. If no key carries a row index, the file contains
+ * just one row.
+ * <p>
+ * All keys are case-insensitive and stored in lower case. The store is built once: callers resolve each
+ * key to its {@link #getKeyIndex(String) index} upfront, after which reading a {@link #getValue(int, int)
+ * value} is just an array access.
+ *
+ * @author Matthias Rothe
+ */
+final class IndexedProperties {
+	private final Map<String, Integer> keyIndexes;
+	private final String[][] rows;
+
+	private IndexedProperties(final Map<String, Integer> keyIndexes, final String[][] rows) {
+		this.keyIndexes = keyIndexes;
+		this.rows = rows;
+	}
+
+	/**
+	 * Loads the properties file the given URL points to.
+	 *
+	 * @param url The URL of the properties file
+	 * @return the store
+	 * @throws IOException if the file can't be read
+	 */
+	static IndexedProperties load(final URL url) throws IOException {
+		final Builder builder = new Builder();
+
+		try (InputStream input = url.openStream()) {
+			builder.load(input);
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * @return the number of rows, at least 1
+	 */
+	int getRowCount() {
+		return rows.length;
+	}
+
+	/**
+	 * Resolves the given key, which is expected to be in lower case and without a row index.
+	 *
+	 * @param key The key
+	 * @return the index of the key or -1, if no row contains it
+	 */
+	int getKeyIndex(final String key) {
+		final Integer index = keyIndexes.get(key);
+		return index != null ? index : -1;
+	}
+
+	/**
+	 * @param row The row, starting at 0
+	 * @param keyIndex The {@link #getKeyIndex(String) index} of the key
+	 * @return the value of the key in the given row, or <code>null</code> if the row doesn't contain it
+	 */
+	String getValue(final int row, final int keyIndex) {
+		return keyIndex < 0 ? null : rows[row][keyIndex];
+	}
+
+	/**
+	 * Collects the entries read by {@link Properties#load(InputStream)} directly, instead of storing them in
+	 * the underlying hash table first.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Builder extends Properties {
+		private final Map<String, Integer> keyIndexes = new HashMap<String, Integer>();
+		private final List<String> sharedValues = new ArrayList<String>();
+		private final TreeMap<Long, List<String>> indexedValues = new TreeMap<Long, List<String>>();
+
+		@Override
+		public Object put(final Object key, final Object value) {
+			final String normalizedKey = key.toString().toLowerCase();
+			final int dot = indexOfRowSeparator(normalizedKey);
+
+			if (dot < 0) {
+				set(sharedValues, normalizedKey, value.toString());
+			} else {
+				final Long row = Long.valueOf(normalizedKey.substring(0, dot));
+				List<String> values = indexedValues.get(row);
+
+				if (values == null) {
+					values = new ArrayList<String>();
+					indexedValues.put(row, values);
+				}
+
+				set(values, normalizedKey.substring(dot + 1), value.toString());
+			}
+
+			return null;
+		}
+
+		private static int indexOfRowSeparator(final String key) {
+			int i = 0;
+
+			while (i < key.length() && i < 18 && Character.isDigit(key.charAt(i))) {
+				i++;
+			}
+
+			return i > 0 && i < key.length() - 1 && key.charAt(i) == '.' ? i : -1;
+		}
+
+		private void set(final List<String> values, final String key, final String value) {
+			Integer index = keyIndexes.get(key);
+
+			if (index == null) {
+				index = keyIndexes.size();
+				keyIndexes.put(key, index);
+			}
+
+			while (values.size() <= index) {
+				values.add(null);
+			}
+
+			values.set(index, value);
+		}
+
+		IndexedProperties build() {
+			final int keyCount = keyIndexes.size();
+			final String[] shared = sharedValues.toArray(new String[keyCount]);
+
+			if (indexedValues.isEmpty()) {
+				return new IndexedProperties(keyIndexes, new String[][] { shared });
+			}
+
+			final String[][] rows = new String[indexedValues.size()][];
+			int row = 0;
+
+			for (final List<String> values : indexedValues.values()) {
+				final String[] rowValues = shared.clone();
+
+				for (int i = 0; i < values.size(); i++) {
+					if (values.get(i) != null) {
+						rowValues[i] = values.get(i);
+					}
+				}
+
+				rows[row++] = rowValues;
+			}
+
+			return new IndexedProperties(keyIndexes, rows);
+		}
+	}
+}
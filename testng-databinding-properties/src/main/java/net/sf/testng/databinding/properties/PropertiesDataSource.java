@@ -4,14 +4,16 @@ import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Properties;
 
 import net.sf.testng.databinding.AbstractDataSource;
@@ -35,7 +37,8 @@ import net.sf.testng.databinding.util.MethodParameter;
  * {@link TestOutput test output} parameters and supports all generally supported parameter types for
  * input and output parameters, except {@link List Lists}. These types are all primitive types defined
  * in the Java Language Specification and their wrappers, {@link String Strings}, {@link Enum Enums},
- * and Java Beans. Properties data sources always contain data for just one test method invocation.
+ * and Java Beans. Properties data sources contain data for one test method invocation, or for several ones if
+ * the keys are indexed by rows.
  * </p>
  * <h3>Specifications</h3>
  * <h4>Properties Files</h4>
@@ -47,6 +50,13 @@ import net.sf.testng.databinding.util.MethodParameter;
  * for any primitive value, primitive wrapper or {@link String}. For {@link Enum enums} the name returned from
  * {@link Class#getSimpleName() EnumType.class.getSimpleName()} needs to be used. All names are case-insensitive.
  * </p>
+ * <h4>Rows</h4>
+ * <p>
+ * To provide data for several test method invocations, the keys can be prefixed with a row index followed by a dot,
+ * like <code>1.in_userName</code>. Each distinct row index results in one invocation, in ascending order of the
+ * indexes, which don't need to be consecutive. Keys without a row index are shared by all rows, unless a row defines
+ * a value for the same key itself. Files without any row indexes provide data for exactly one invocation.
+ * </p>
  * <h4>Java Beans</h4>
  * <p>
  * Java Beans that data is to be bound to need to have a standard constructor taking no arguments. The same types that are
@@ -89,18 +99,25 @@ import net.sf.testng.databinding.util.MethodParameter;
  * in_userName=admin
  * in_password=admin
  * </pre>
+ * <p>
+ * With rows, loading the credentials of several users sharing the same password:
+ * </p>
+ * <pre>
+ * in_password=secret
+ * 1.in_userName=admin
+ * 2.in_userName=guest
+ * </pre>
  * 
  * @author Matthias Rothe
  */
 @DataSource(name = "properties")
 public class PropertiesDataSource extends AbstractDataSource {
-	private final Properties data;
+	private final IndexedProperties data;
 	private final String inputValuePrefix;
 	private final String outputValuePrefix;
 	private final List<MethodParameter> parameters;
-	private final List<MethodParameter> inputParameters = new ArrayList<MethodParameter>();
-	private final List<MethodParameter> outputParameters = new ArrayList<MethodParameter>();
-	private boolean returnedData = false;
+	private final List<ValueBinding> bindings = new ArrayList<ValueBinding>();
+	private int nextRow = 0;
 
 	/**
 	 * Constructs a new instance of this class, setting the {@link MethodParameter test method parameters} to load the
@@ -122,15 +139,17 @@ public class PropertiesDataSource extends AbstractDataSource {
 		checkParameters(parameters);
 		this.parameters = parameters;
 
+		data = IndexedProperties.load(dataSourceConfiguration.getURL());
+
 		for (final MethodParameter parameter : parameters) {
 			if (parameter.getAnnotation(TestInput.class) != null) {
-				this.inputParameters.add(parameter);
+				bindings.add(createBinding(parameter, inputValuePrefix));
 			} else if (parameter.getAnnotation(TestOutput.class) != null) {
-				this.outputParameters.add(parameter);
+				bindings.add(createBinding(parameter, outputValuePrefix));
+			} else {
+				bindings.add(null);
 			}
 		}
-
-		data = readData(dataSourceConfiguration);
 	}
 
 	private void checkParameters(final List<MethodParameter> parameters) {
@@ -154,36 +173,12 @@ public class PropertiesDataSource extends AbstractDataSource {
 		}
 	}
 
-	private Properties readData(final PropertiesDataSourceConfiguration configuration)
-			throws Exception {
-		final Properties data = new Properties();
-
-		final URL url = configuration.getURL();
-		data.load(url.openStream());
-
-		return normalizeKeys(data);
-	}
-
-	private Properties normalizeKeys(final Properties data) {
-		final Properties nkData = new Properties();
-
-		for (final Entry<Object, Object> entry : data.entrySet()) {
-			nkData.setProperty(entry.getKey().toString().toLowerCase(), entry.getValue().toString());
-		}
-
-		return nkData;
-	}
-
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public boolean hasNext() {
-		if (returnedData) {
-			return false;
-		} else {
-			return true;
-		}
+		return nextRow < data.getRowCount();
 	}
 
 	/**
@@ -191,19 +186,18 @@ public class PropertiesDataSource extends AbstractDataSource {
 	 */
 	@Override
 	public Object[] next() {
-		returnedData = true;
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
 
+		final int row = nextRow++;
 		final List<Object> objects = new ArrayList<Object>();
 		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
 
-		for (final MethodParameter parameter : parameters) {
-			Object object = null;
-
-			if (inputParameters.contains(parameter)) {
-				object = createObject(parameter, inputValuePrefix);
-			} else if (outputParameters.contains(parameter)) {
-				object = createObject(parameter, outputValuePrefix);
-			}
+		for (int i = 0; i < parameters.size(); i++) {
+			final MethodParameter parameter = parameters.get(i);
+			final ValueBinding binding = bindings.get(i);
+			final Object object = binding != null ? binding.bind(row) : null;
 
 			if (object == null) {
 				final ErrorCollector errorCollector = new ErrorCollector(parameter.getType(), parameter.getName());
@@ -221,122 +215,188 @@ public class PropertiesDataSource extends AbstractDataSource {
 		}
 	}
 
-	private Object createObject(final MethodParameter parameter, final String prefix) {
+	private ValueBinding createBinding(final MethodParameter parameter, final String prefix) {
 		final Type type = parameter.getType();
 
 		if (Types.isPrimitiveType(type)) {
-			return createPrimitive(parameter, prefix);
+			return new PrimitiveBinding(parameter, data.getKeyIndex(createKey(prefix, parameter.getName())));
 		} else if (Types.isEnumType(type)) {
-			return createEnum(parameter, prefix);
+			return new EnumBinding(parameter, data.getKeyIndex(createKey(prefix, parameter.getName())));
 		} else if (Types.isSingleBeanType(type)) {
-			return createSingleBean(parameter, prefix);
+			return createBeanBinding(parameter, prefix);
 		} else {
 			return null;
 		}
 	}
 
-	private Object createPrimitive(final MethodParameter parameter, final String prefix) {
-		final String value = data.getProperty(createKey(prefix, parameter.getName()));
-		final Type type = parameter.getType();
+	private String createKey(final String prefix, final String name) {
+		return (prefix + name).toLowerCase();
+	}
 
+	private ValueBinding createBeanBinding(final MethodParameter parameter, final String prefix) {
 		try {
-			if (value == null) {
-				return defaultValue(type);
-			} else if (type.equals(String.class)) {
-				return value;
-			} else if (type == Integer.class || type == int.class) {
-				return Integer.parseInt(value);
-			} else if (type == Long.class || type == long.class) {
-				return Long.parseLong(value);
-			} else if (type == Float.class || type == float.class) {
-				return Float.parseFloat(value);
-			} else if (type == Double.class || type == double.class) {
-				return Double.parseDouble(value);
-			} else if (type == Boolean.class || type == boolean.class) {
-				return Boolean.parseBoolean(value);
+			final Class<?> clazz = (Class<?>) parameter.getType();
+			final BeanInfo info = Introspector.getBeanInfo(clazz);
+			final List<Method> writeMethods = new ArrayList<Method>();
+			final List<ValueBinding> propertyBindings = new ArrayList<ValueBinding>();
+
+			for (final PropertyDescriptor descriptor : info.getPropertyDescriptors()) {
+				if (this.isWriteable(descriptor)) {
+					writeMethods.add(descriptor.getWriteMethod());
+					propertyBindings.add(createBinding(createMethodParameterForProperty(descriptor), prefix));
+				}
 			}
-		} catch (final NumberFormatException e) {
-			final ErrorCollector errorCollector = new ErrorCollector(parameter.getType(), parameter.getName());
-			errorCollector.addError("the value [" + value + "] found in the source is invalid for this type");
-			throw new MultipleSourceErrorsException(Arrays.asList(errorCollector));
+
+			return new BeanBinding(clazz.getConstructor(), writeMethods, propertyBindings);
+		} catch (final Exception e) {
+			throw Exceptions.softenIfNecessary(e);
 		}
+	}
 
-		// can't happen
-		throw new RuntimeException();
+	private boolean isWriteable(final PropertyDescriptor descriptor) {
+		return descriptor.getWriteMethod() != null;
 	}
 
-	private Object defaultValue(final Type type) {
-		if (type == int.class) {
-			return 0;
-		} else if (type == long.class) {
-			return 0l;
-		} else if (type == float.class) {
-			return 0f;
-		} else if (type == double.class) {
-			return 0d;
-		} else if (type == boolean.class) {
-			return false;
-		} else {
-			return null;
-		}
+	private MethodParameter createMethodParameterForProperty(final PropertyDescriptor descriptor) {
+		final Method writeMethod = descriptor.getWriteMethod();
+		final Annotation[][] annotations = writeMethod.getParameterAnnotations();
+		final Type[] parameterTypes = writeMethod.getGenericParameterTypes();
+		return new MethodParameter(Arrays.asList(annotations[0]), parameterTypes[0], descriptor.getName());
 	}
 
-	private Object createEnum(final MethodParameter parameter, final String prefix) {
-		final String enumName = data.getProperty(createKey(prefix, parameter.getName()));
+	/**
+	 * Binds the value of a test method parameter or Java Bean property, with all keys resolved upfront.
+	 */
+	private interface ValueBinding {
+
+		/**
+		 * @param row The row to bind
+		 * @return the value or <code>null</code>, if the row contains no value
+		 */
+		Object bind(int row);
+	}
 
-		if (enumName == null) {
-			return null;
+	private final class PrimitiveBinding implements ValueBinding {
+		private final MethodParameter parameter;
+		private final int keyIndex;
+
+		PrimitiveBinding(final MethodParameter parameter, final int keyIndex) {
+			this.parameter = parameter;
+			this.keyIndex = keyIndex;
 		}
 
-		final Class<?> enumClass = (Class<?>) parameter.getType();
-		final Field[] fields = enumClass.getFields();
+		@Override
+		public Object bind(final int row) {
+			final String value = data.getValue(row, keyIndex);
+			final Type type = parameter.getType();
 
-		for (final Field field : fields) {
 			try {
-				if (field.getName().equals(enumName)) {
-					return field.get(null);
+				if (value == null) {
+					return defaultValue(type);
+				} else if (type.equals(String.class)) {
+					return value;
+				} else if (type == Integer.class || type == int.class) {
+					return Integer.parseInt(value);
+				} else if (type == Long.class || type == long.class) {
+					return Long.parseLong(value);
+				} else if (type == Float.class || type == float.class) {
+					return Float.parseFloat(value);
+				} else if (type == Double.class || type == double.class) {
+					return Double.parseDouble(value);
+				} else if (type == Boolean.class || type == boolean.class) {
+					return Boolean.parseBoolean(value);
 				}
-			} catch (final Exception ignored) {
-				// shouldn't happen
+			} catch (final NumberFormatException e) {
+				final ErrorCollector errorCollector = new ErrorCollector(parameter.getType(), parameter.getName());
+				errorCollector.addError("the value [" + value + "] found in the source is invalid for this type");
+				throw new MultipleSourceErrorsException(Arrays.asList(errorCollector));
 			}
+
+			// can't happen
+			throw new RuntimeException();
 		}
 
-		final ErrorCollector errorCollector = new ErrorCollector(parameter.getType(), parameter.getName());
-		errorCollector.addError("the value [" + enumName + "] found in the source isn't a member of this enum type");
-		throw new MultipleSourceErrorsException(Arrays.asList(errorCollector));
+		private Object defaultValue(final Type type) {
+			if (type == int.class) {
+				return 0;
+			} else if (type == long.class) {
+				return 0l;
+			} else if (type == float.class) {
+				return 0f;
+			} else if (type == double.class) {
+				return 0d;
+			} else if (type == boolean.class) {
+				return false;
+			} else {
+				return null;
+			}
+		}
 	}
 
-	private String createKey(final String prefix, final String name) {
-		return (prefix + name).toLowerCase();
-	}
+	private final class EnumBinding implements ValueBinding {
+		private final MethodParameter parameter;
+		private final int keyIndex;
+		private final Map<String, Object> constants = new HashMap<String, Object>();
 
-	private Object createSingleBean(final MethodParameter parameter, final String prefix) {
-		try {
-			final Class<?> clazz = (Class<?>) parameter.getType();
-			final Object object = clazz.getConstructor().newInstance();
-			final BeanInfo info = Introspector.getBeanInfo(clazz);
+		EnumBinding(final MethodParameter parameter, final int keyIndex) {
+			this.parameter = parameter;
+			this.keyIndex = keyIndex;
 
-			for (final PropertyDescriptor descriptor : info.getPropertyDescriptors()) {
-				if (this.isWriteable(descriptor)) {
-					descriptor.getWriteMethod().invoke(object,
-						createObject(createMethodParameterForProperty(descriptor), prefix));
+			for (final Field field : ((Class<?>) parameter.getType()).getFields()) {
+				try {
+					constants.put(field.getName(), field.get(null));
+				} catch (final Exception ignored) {
+					// shouldn't happen
 				}
 			}
+		}
 
-			return object;
-		} catch (final Exception e) {
-			throw Exceptions.softenIfNecessary(e);
+		@Override
+		public Object bind(final int row) {
+			final String enumName = data.getValue(row, keyIndex);
+
+			if (enumName == null) {
+				return null;
+			}
+
+			final Object constant = constants.get(enumName);
+
+			if (constant != null) {
+				return constant;
+			}
+
+			final ErrorCollector errorCollector = new ErrorCollector(parameter.getType(), parameter.getName());
+			errorCollector.addError("the value [" + enumName + "] found in the source isn't a member of this enum type");
+			throw new MultipleSourceErrorsException(Arrays.asList(errorCollector));
 		}
 	}
 
-	private boolean isWriteable(final PropertyDescriptor descriptor) {
-		return descriptor.getWriteMethod() != null;
-	}
+	private static final class BeanBinding implements ValueBinding {
+		private final Constructor<?> constructor;
+		private final List<Method> writeMethods;
+		private final List<ValueBinding> propertyBindings;
 
-	private MethodParameter createMethodParameterForProperty(final PropertyDescriptor descriptor) {
-		final Method writeMethod = descriptor.getWriteMethod();
-		final Annotation[][] annotations = writeMethod.getParameterAnnotations();
-		final Type[] parameterTypes = writeMethod.getGenericParameterTypes();
-		return new MethodParameter(Arrays.asList(annotations[0]), parameterTypes[0], descriptor.getName());
+		BeanBinding(final Constructor<?> constructor, final List<Method> writeMethods,
+				final List<ValueBinding> propertyBindings) {
+			this.constructor = constructor;
+			this.writeMethods = writeMethods;
+			this.propertyBindings = propertyBindings;
+		}
+
+		@Override
+		public Object bind(final int row) {
+			try {
+				final Object object = constructor.newInstance();
+
+				for (int i = 0; i < writeMethods.size(); i++) {
+					final ValueBinding binding = propertyBindings.get(i);
+					writeMethods.get(i).invoke(object, binding != null ? binding.bind(row) : null);
+				}
+
+				return object;
+			} catch (final Exception e) {
+				throw Exceptions.softenIfNecessary(e);
+			}
+		}
 	}
-}
\ No newline at end of file
+}
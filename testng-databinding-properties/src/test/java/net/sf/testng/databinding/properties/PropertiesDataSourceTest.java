@@ -90,6 +90,20 @@ public class PropertiesDataSourceTest {
 		assertFalse(provider.hasNext());
 	}
 
+	@Test
+	public void testRows() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("primitivesAndEnumConsumer");
+
+		final PropertiesDataSource provider = new PropertiesDataSource(parameters,
+				new Configuration(PropertiesDataSourceConfigurations.class, "rowsConfig"));
+
+		assertTrue(provider.hasNext());
+		assertEquals(provider.next(), new Object[] { 1, TestEnum.one, true });
+		assertEquals(provider.next(), new Object[] { 2, TestEnum.two, true });
+		assertEquals(provider.next(), new Object[] { 10, TestEnum.one, false });
+		assertFalse(provider.hasNext());
+	}
+
 	@SuppressWarnings("unchecked")
 	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
 		for (final Method method : getClass().getMethods()) {
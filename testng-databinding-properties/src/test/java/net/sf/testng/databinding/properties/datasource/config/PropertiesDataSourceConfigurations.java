@@ -37,6 +37,16 @@ public class PropertiesDataSourceConfigurations {
 		};
 	}
 	
+	public static PropertiesDataSourceConfiguration rowsConfig() {
+		return new PropertiesDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/rows.properties");
+			}
+		};
+	}
+	
 	public static PropertiesDataSourceConfiguration primitiveValuesConfig() {
 		return new PropertiesDataSourceConfiguration() {
 			
@@ -0,0 +1,190 @@
+package net.sf.testng.databinding.text;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads the chunks of several {@link TextFileReader text files} concurrently, each on its own worker thread and
+ * ahead of demand, handing them out row by row, just like reading them in turn would.
+ * <p>
+ * At most a given number of chunks are read ahead per file, bounding the memory held by chunks not consumed yet.
+ * Each reader is used by its worker thread only, once reading ahead has started. The time taken to read a row is
+ * thereby the time taken by the slowest file rather than the sum of all files. As soon as reading any file fails, all
+ * workers are stopped and their readers closed, and the failure is reported by {@link #hasNext()} or {@link #next()}.
+ *
+ * @author Matthias Rothe
+ */
+final class ChunkReadAhead {
+	private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+	private static final Object NULL_CHUNK = new Object();
+	private static final Object END = new Object();
+
+	private final List<BlockingQueue<Object>> queues;
+	private final List<Future<?>> workers;
+	private final Object[] heads;
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Starts reading ahead.
+	 *
+	 * @param readers The readers of the text files
+	 * @param types The types the chunks of each text file are read as
+	 * @param chunks The maximum number of chunks read ahead per file
+	 */
+	ChunkReadAhead(final List<TextFileReader> readers, final List<Type> types, final int chunks) {
+		queues = new ArrayList<BlockingQueue<Object>>(readers.size());
+		workers = new ArrayList<Future<?>>(readers.size());
+		heads = new Object[readers.size()];
+
+		final int poolNumber = POOL_NUMBER.incrementAndGet();
+		final AtomicInteger threadNumber = new AtomicInteger();
+		executor = new ThreadPoolExecutor(readers.size(), readers.size(), 1, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+					@Override
+					public Thread newThread(final Runnable runnable) {
+						final Thread thread = new Thread(runnable, "text-read-ahead-" + poolNumber + "-"
+								+ threadNumber.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		executor.allowCoreThreadTimeOut(true);
+
+		for (int i = 0; i < readers.size(); i++) {
+			final TextFileReader reader = readers.get(i);
+			final Type type = types.get(i);
+			final BlockingQueue<Object> queue = new ArrayBlockingQueue<Object>(Math.max(1, chunks));
+
+			queues.add(queue);
+			workers.add(executor.submit(new Runnable() {
+
+				@Override
+				public void run() {
+					readAhead(reader, type, queue);
+				}
+			}));
+		}
+	}
+
+	private void readAhead(final TextFileReader reader, final Type type, final BlockingQueue<Object> queue) {
+		try {
+			try {
+				while (reader.hasMoreData()) {
+					final Object chunk = TextDataSource.readNextChunk(reader, type);
+					queue.put(chunk != null ? chunk : NULL_CHUNK);
+				}
+			} catch (final InterruptedException e) {
+				throw e;
+			} catch (final Throwable t) {
+				queue.put(new Failure(t));
+				return;
+			}
+
+			queue.put(END);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			try {
+				reader.close();
+			} catch (final IOException ignored) {
+				// nothing left to read from it anyway
+			}
+		}
+	}
+
+	/**
+	 * @return <code>true</code>, if at least one file has chunks left, <code>false</code> otherwise
+	 */
+	boolean hasNext() {
+		for (int i = 0; i < heads.length; i++) {
+			if (head(i) != END) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Waits for the next chunk of each file. Files without chunks left contribute <code>null</code>.
+	 *
+	 * @return the next row of chunks
+	 */
+	Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		final Object[] row = new Object[heads.length];
+
+		for (int i = 0; i < heads.length; i++) {
+			final Object head = head(i);
+
+			if (head != END) {
+				row[i] = head != NULL_CHUNK ? head : null;
+				heads[i] = null;
+			}
+		}
+
+		return row;
+	}
+
+	/**
+	 * Stops all workers, discarding any chunks read ahead. Workers waiting for room to put their next chunk are
+	 * interrupted and close their readers.
+	 */
+	void close() {
+		for (final Future<?> worker : workers) {
+			worker.cancel(true);
+		}
+
+		executor.shutdownNow();
+	}
+
+	private Object head(final int file) {
+		if (heads[file] == null) {
+			try {
+				heads[file] = queues.get(file).take();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				close();
+				throw new IllegalStateException(e);
+			}
+		}
+
+		if (heads[file] instanceof Failure) {
+			close();
+
+			final Throwable cause = ((Failure) heads[file]).cause;
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			} else {
+				// just like reading the files in turn does
+				throw new IllegalStateException(cause);
+			}
+		}
+
+		return heads[file];
+	}
+
+	private static final class Failure {
+		private final Throwable cause;
+
+		Failure(final Throwable cause) {
+			this.cause = cause;
+		}
+	}
+}
\ No newline at end of file
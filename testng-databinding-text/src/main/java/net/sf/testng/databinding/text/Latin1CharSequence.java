@@ -0,0 +1,53 @@
+package net.sf.testng.databinding.text;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link CharSequence} view of ISO-8859-1 encoded bytes. Each byte is exactly one character, so characters are
+ * decoded on access without copying the bytes.
+ *
+ * @author Matthias Rothe
+ */
+final class Latin1CharSequence implements CharSequence {
+	private final ByteBuffer bytes;
+
+	/**
+	 * @param bytes The bytes from the buffer's position to its limit
+	 */
+	Latin1CharSequence(final ByteBuffer bytes) {
+		this.bytes = bytes.slice();
+	}
+
+	@Override
+	public int length() {
+		return bytes.remaining();
+	}
+
+	@Override
+	public char charAt(final int index) {
+		if (index < 0 || index >= bytes.remaining()) {
+			throw new IndexOutOfBoundsException("index " + index + ", length " + bytes.remaining());
+		}
+
+		return (char) (bytes.get(index) & 0xFF);
+	}
+
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+		if (start < 0 || end > bytes.remaining() || start > end) {
+			throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + bytes.remaining());
+		}
+
+		final ByteBuffer range = bytes.duplicate();
+		range.limit(end).position(start);
+		return new Latin1CharSequence(range);
+	}
+
+	@Override
+	public String toString() {
+		final byte[] latin1 = new byte[bytes.remaining()];
+		bytes.duplicate().get(latin1);
+		return new String(latin1, StandardCharsets.ISO_8859_1);
+	}
+}
\ No newline at end of file
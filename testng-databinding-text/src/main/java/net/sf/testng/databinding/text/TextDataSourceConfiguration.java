@@ -14,4 +14,17 @@ public interface TextDataSourceConfiguration {
 	default String getBoundary() {
 		return null;
 	}
+
+	/**
+	 * The maximum number of chunks read ahead per text file. If greater than 0, each text file is read on a
+	 * thread of its own, concurrently with the other text files and ahead of demand. The chunks are still
+	 * bound in the order they appear in the text files.
+	 * <p>
+	 * Defaults to 0, reading the chunks of all text files in turn, whenever they are needed
+	 *
+	 * @return the maximum number of chunks read ahead per text file
+	 */
+	default int getReadAhead() {
+		return 0;
+	}
 }
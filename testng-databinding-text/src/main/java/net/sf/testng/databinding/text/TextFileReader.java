@@ -2,11 +2,28 @@ package net.sf.testng.databinding.text;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 /**
  * Reader class for reading text files in chunks. Chunks are separated from each other by a boundary line.
  * The boundary line is taken to be a separate line, but must not end with a newline character <code>\n</code>.
- * 
+ * <p>
+ * Chunks are either read line by line from a {@link BufferedReader} or, much more efficiently, scanned for directly
+ * in the bytes of the file, see {@link #open(URL, String, String)}. In the latter case each chunk is decoded just
+ * once, directly from its byte range into the resulting {@link String}. Either way lines within a chunk are joined
+ * by <code>\n</code>, whatever line terminators the file uses.
+ *
  * @author Matthias Rothe
  */
 public class TextFileReader {
@@ -15,31 +32,158 @@ public class TextFileReader {
 	private String boundary;
 	private String currentLine;
 
+	private ByteBuffer bytes;
+	private Charset charset;
+	private byte[] boundaryBytes;
+	private int position;
+	private int limit;
+	private byte[] scratch;
+	private int chunkStart;
+	private int chunkEnd;
+	private boolean chunkHasCarriageReturns;
+
 	/**
 	 * Constructor taking a {@link BufferedReader} object to read the chunks from and a boundary line separating the
-	 * chunks. 
-	 * 
+	 * chunks.
+	 *
 	 * @param reader The reader to read the chunks from
 	 * @param boundary The boundary line separating the chunks
 	 */
 	public TextFileReader(final BufferedReader reader, final String boundary) {
+		this(reader, boundary, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Constructor taking a {@link BufferedReader} object to read the chunks from, a boundary line separating the
+	 * chunks and the charset chunks are encoded with when {@link #readNextChunkBytes() read as bytes}.
+	 *
+	 * @param reader The reader to read the chunks from
+	 * @param boundary The boundary line separating the chunks
+	 * @param charset The charset of the text file
+	 */
+	public TextFileReader(final BufferedReader reader, final String boundary, final Charset charset) {
 		if (reader == null) {
 			throw new IllegalArgumentException("reader must not be null");
 		}
 
 		this.reader = reader;
 		this.boundary = boundary;
+		this.charset = charset;
+		this.moreData = true;
+	}
+
+	/**
+	 * Constructor taking the bytes of a text file to read the chunks from, the charset of the text file and a boundary
+	 * line separating the chunks. The charset must encode the line terminators and all characters of the boundary as
+	 * single bytes of their ASCII values, like UTF-8 and the ISO-8859 family do, see {@link #supports(Charset)}.
+	 *
+	 * @param bytes The bytes to read the chunks from, starting at the buffer's position
+	 * @param charset The charset of the text file
+	 * @param boundary The boundary line separating the chunks
+	 */
+	public TextFileReader(final ByteBuffer bytes, final Charset charset, final String boundary) {
+		if (bytes == null) {
+			throw new IllegalArgumentException("bytes must not be null");
+		}
+
+		if (!supports(charset)) {
+			throw new IllegalArgumentException("charset " + charset + " is not supported");
+		}
+
+		this.bytes = bytes.duplicate();
+		this.charset = charset;
+		this.boundary = boundary;
+		this.boundaryBytes = boundary != null ? boundary.getBytes(charset) : null;
+		this.position = bytes.position();
+		this.limit = bytes.limit();
 		this.moreData = true;
 	}
 
+	/**
+	 * Creates a reader for the text file the given URL points to. Local files of up to 2GB are memory mapped and
+	 * scanned for boundaries directly in their bytes, if the charset is {@link #supports(Charset) supported}. All
+	 * other files, e.g. resources within jar files, are streamed line by line.
+	 *
+	 * @param url The URL of the text file
+	 * @param encoding The encoding of the text file
+	 * @param boundary The boundary line separating the chunks
+	 * @return the reader
+	 * @throws IOException If the text file cannot be read for any reason
+	 */
+	public static TextFileReader open(final URL url, final String encoding, final String boundary)
+			throws IOException {
+		final Charset charset = Charset.forName(encoding);
+		final ByteBuffer bytes = supports(charset) && "file".equals(url.getProtocol()) ? map(url) : null;
+
+		if (bytes != null) {
+			return new TextFileReader(bytes, charset, boundary);
+		}
+
+		return new TextFileReader(new BufferedReader(new InputStreamReader(url.openStream(), charset)), boundary,
+			charset);
+	}
+
+	private static ByteBuffer map(final URL url) throws IOException {
+		final Path path;
+		try {
+			path = Paths.get(url.toURI());
+		} catch (final URISyntaxException e) {
+			return null;
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			final long size = channel.size();
+			return size <= Integer.MAX_VALUE ? channel.map(MapMode.READ_ONLY, 0, size) : null;
+		}
+	}
+
+	/**
+	 * Checks whether text files of the given charset can be scanned for boundaries directly in their bytes. That's the
+	 * case for all charsets encoding the printable ASCII characters and the line terminators as single bytes of the same
+	 * values, like UTF-8 and the ISO-8859 family.
+	 *
+	 * @param charset The charset
+	 * @return <code>true</code>, if text files of the given charset can be scanned, <code>false</code> otherwise
+	 */
+	public static boolean supports(final Charset charset) {
+		final byte[] ascii = new byte[0x7F - 0x20 + 2];
+		for (int i = 0; i < ascii.length - 2; i++) {
+			ascii[i] = (byte) (0x20 + i);
+		}
+		ascii[ascii.length - 2] = '\r';
+		ascii[ascii.length - 1] = '\n';
+
+		return charset.canEncode()
+				&& Arrays.equals(new String(ascii, StandardCharsets.US_ASCII).getBytes(charset), ascii);
+	}
+
+	/**
+	 * Closes this reader, releasing the underlying reader, if any. There are no more chunks available afterwards.
+	 *
+	 * @throws IOException If the underlying reader cannot be closed
+	 */
+	public void close() throws IOException {
+		final boolean open = moreData;
+		moreData = false;
+		currentLine = null;
+
+		if (open && reader != null) {
+			reader.close();
+		}
+	}
+
 	/**
 	 * Determines whether there's at least one more chunk available.
-	 * 
+	 *
 	 * @return <code>true</code>, if and only if there's at least one more chunk available, <code>false</code> otherwise
 	 * @throws IOException If the data file cannot be read for any reason
 	 */
 	public boolean hasMoreData() throws IOException {
-		if (moreData && currentLine == null) {
+		if (bytes != null) {
+			if (moreData && position >= limit) {
+				moreData = false;
+			}
+		} else if (moreData && currentLine == null) {
 			currentLine = reader.readLine();
 
 			if (currentLine == null) {
@@ -53,11 +197,15 @@ public class TextFileReader {
 
 	/**
 	 * Reads and returns the next chunk of the text file.
-	 * 
+	 *
 	 * @return The next chunk
 	 * @throws IOException If the data file cannot be read for any reason
 	 */
 	public String readNextChunk() throws IOException {
+		if (bytes != null) {
+			return scanNextChunk() ? decode(chunkStart, chunkEnd, chunkHasCarriageReturns) : null;
+		}
+
 		if (!hasMoreData() || currentLine.equals(boundary)) {
 			currentLine = null;
 			return null;
@@ -81,4 +229,139 @@ public class TextFileReader {
 		currentLine = null;
 		return buffer.substring(0, buffer.length() - 1);
 	}
+
+	/**
+	 * Reads and returns the raw bytes of the next chunk of the text file, without decoding them. Line terminators
+	 * within the chunk are kept as they are. If the chunk has been scanned for in the bytes of the file, the returned
+	 * buffer is a read-only view of the chunk's byte range, so the bytes aren't copied. Otherwise it contains the chunk
+	 * encoded in the charset of the text file.
+	 *
+	 * @return The next chunk
+	 * @throws IOException If the data file cannot be read for any reason
+	 */
+	public ByteBuffer readNextChunkBytes() throws IOException {
+		if (bytes == null) {
+			final String chunk = readNextChunk();
+			return chunk != null ? ByteBuffer.wrap(chunk.getBytes(charset)).asReadOnlyBuffer() : null;
+		}
+
+		if (!scanNextChunk()) {
+			return null;
+		}
+
+		final ByteBuffer range = bytes.duplicate();
+		range.limit(chunkEnd).position(chunkStart);
+		return range.slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * Reads and returns the next chunk of the text file as a {@link CharSequence}. For text files encoded in
+	 * ISO-8859-1, which have been scanned for in their bytes, the returned sequence is a view of the chunk's byte
+	 * range, decoding single characters on access, unless the chunk has to be normalized for containing
+	 * <code>\r</code> line terminators. Otherwise the chunk is {@link #readNextChunk() decoded into a String}.
+	 *
+	 * @return The next chunk
+	 * @throws IOException If the data file cannot be read for any reason
+	 */
+	public CharSequence readNextChunkChars() throws IOException {
+		if (bytes == null || !charset.equals(StandardCharsets.ISO_8859_1)) {
+			return readNextChunk();
+		}
+
+		if (!scanNextChunk()) {
+			return null;
+		}
+
+		if (chunkHasCarriageReturns) {
+			return decode(chunkStart, chunkEnd, true);
+		}
+
+		final ByteBuffer range = bytes.duplicate();
+		range.limit(chunkEnd).position(chunkStart);
+		return new Latin1CharSequence(range.slice());
+	}
+
+	private boolean scanNextChunk() throws IOException {
+		if (!hasMoreData()) {
+			return false;
+		}
+
+		final int start = position;
+		int chunkEnd = start;
+		boolean carriageReturns = false;
+
+		for (int lineStart = start; lineStart < limit;) {
+			int lineEnd = lineStart;
+			while (lineEnd < limit && bytes.get(lineEnd) != '\n' && bytes.get(lineEnd) != '\r') {
+				lineEnd++;
+			}
+
+			final int nextLineStart = skipLineTerminator(lineEnd);
+
+			if (isBoundary(lineStart, lineEnd)) {
+				position = nextLineStart;
+				return lineStart != start && setChunk(start, chunkEnd, carriageReturns);
+			}
+
+			carriageReturns |= lineEnd < limit && bytes.get(lineEnd) == '\r';
+			chunkEnd = lineEnd;
+			lineStart = nextLineStart;
+		}
+
+		position = limit;
+		moreData = false;
+		return setChunk(start, chunkEnd, carriageReturns);
+	}
+
+	private boolean setChunk(final int start, final int end, final boolean carriageReturns) {
+		chunkStart = start;
+		chunkEnd = end;
+		chunkHasCarriageReturns = carriageReturns;
+		return true;
+	}
+
+	private int skipLineTerminator(final int lineEnd) {
+		if (lineEnd >= limit) {
+			return limit;
+		} else if (bytes.get(lineEnd) == '\r' && lineEnd + 1 < limit && bytes.get(lineEnd + 1) == '\n') {
+			return lineEnd + 2;
+		} else {
+			return lineEnd + 1;
+		}
+	}
+
+	private boolean isBoundary(final int lineStart, final int lineEnd) {
+		if (boundaryBytes == null || lineEnd - lineStart != boundaryBytes.length) {
+			return false;
+		}
+
+		for (int i = 0; i < boundaryBytes.length; i++) {
+			if (bytes.get(lineStart + i) != boundaryBytes[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private String decode(final int start, final int end, final boolean carriageReturns) {
+		final int length = end - start;
+		final String chunk;
+
+		if (bytes.hasArray()) {
+			chunk = new String(bytes.array(), bytes.arrayOffset() + start, length, charset);
+		} else {
+			if (scratch == null || scratch.length < length) {
+				scratch = new byte[Math.max(length, scratch == null ? 8192 : scratch.length * 2)];
+			}
+
+			final ByteBuffer range = bytes.duplicate();
+			range.limit(end).position(start);
+			range.get(scratch, 0, length);
+			chunk = new String(scratch, 0, length, charset);
+		}
+
+		// lines are joined by \n, just like when reading line by line
+		return carriageReturns ? chunk.replace("\r\n", "\n").replace('\r', '\n') : chunk;
+	}
 }
\ No newline at end of file
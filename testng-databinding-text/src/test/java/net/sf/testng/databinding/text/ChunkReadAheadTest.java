@@ -0,0 +1,84 @@
+package net.sf.testng.databinding.text;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+public class ChunkReadAheadTest {
+	private static final List<Type> TYPES = Arrays.<Type> asList(String.class, String.class);
+
+	@Test
+	public void shouldStopWorkersWhenReadingFails() throws Exception {
+		final CountDownLatch closed = new CountDownLatch(2);
+		final ChunkReadAhead readAhead = new ChunkReadAhead(Arrays.asList(endlessReader(closed),
+			failingReader(closed)), TYPES, 1);
+
+		try {
+			readAhead.next();
+			fail("expected reading the failing file to fail");
+		} catch (final IllegalStateException e) {
+			assertTrue(e.getCause() instanceof IOException, "Expected the read failure as the cause");
+		}
+
+		assertTrue(closed.await(5, TimeUnit.SECONDS), "Expected all workers to stop and close their readers");
+	}
+
+	@Test
+	public void shouldStopWorkersWhenClosedEarly() throws Exception {
+		final CountDownLatch closed = new CountDownLatch(2);
+		final ChunkReadAhead readAhead = new ChunkReadAhead(Arrays.asList(endlessReader(closed),
+			endlessReader(closed)), TYPES, 1);
+
+		assertEquals(readAhead.next(), new Object[] { "chunk", "chunk" });
+		readAhead.close();
+
+		assertTrue(closed.await(5, TimeUnit.SECONDS), "Expected all workers to stop and close their readers");
+	}
+
+	private TextFileReader endlessReader(final CountDownLatch closed) {
+		return new TextFileReader(new BufferedReader(new Reader() {
+
+			@Override
+			public int read(final char[] buffer, final int offset, final int length) {
+				final String chunks = "chunk\n---\n";
+
+				for (int i = 0; i < length; i++) {
+					buffer[offset + i] = chunks.charAt(i % chunks.length());
+				}
+
+				return length - length % chunks.length();
+			}
+
+			@Override
+			public void close() {
+				closed.countDown();
+			}
+		}, 10), "---");
+	}
+
+	private TextFileReader failingReader(final CountDownLatch closed) {
+		return new TextFileReader(new BufferedReader(new Reader() {
+
+			@Override
+			public int read(final char[] buffer, final int offset, final int length) throws IOException {
+				throw new IOException("the disk is gone");
+			}
+
+			@Override
+			public void close() {
+				closed.countDown();
+			}
+		}), "---");
+	}
+}
\ No newline at end of file
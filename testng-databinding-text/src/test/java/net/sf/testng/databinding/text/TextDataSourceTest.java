@@ -1,10 +1,14 @@
 package net.sf.testng.databinding.text;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.testng.annotations.BeforeClass;
@@ -48,6 +52,40 @@ public class TextDataSourceTest {
 		assertContentsEqual(dataSource, expecteds);
 	}
 
+	@Test
+	public void shouldReadAllDataAhead() throws Exception {
+		TextDataSource dataSource = new TextDataSource(createMethodParameters("multiValueConsumer"),
+				new Configuration(TextDataSourceConfigurations.class, "readAheadConfig"));
+		Object[][] expecteds = createMultiValueWithBoundaryExpecteds();
+		assertContentsEqual(dataSource, expecteds);
+		assertFalse(dataSource.hasNext());
+	}
+
+	@Test
+	public void shouldReadRawAndCharSequenceChunks() throws Exception {
+		List<MethodParameter> parameters = createMethodParameters("rawValueConsumer");
+		TextDataSource dataSource = new TextDataSource(parameters,
+				new Configuration(TextDataSourceConfigurations.class, "withBoundaryConfig"));
+		Object[][] expecteds = createMultiValueWithBoundaryExpecteds();
+
+		for (Object[] expected : expecteds) {
+			Object[] actual = dataSource.next();
+
+			assertEquals(actual[0], raw(expected[0]) != null ? raw(expected[0]).array() : null);
+			assertEquals(actual[1], raw(expected[1]));
+			assertTrue(actual[1] == null || ((ByteBuffer) actual[1]).isReadOnly());
+			assertEquals(actual[2] != null ? actual[2].toString() : null, expected[2]);
+			assertEquals(actual[3], expected[3]);
+		}
+
+		assertFalse(dataSource.hasNext());
+	}
+
+	private ByteBuffer raw(final Object chunk) {
+		return chunk != null ? ByteBuffer.wrap(chunk.toString().replace("\n", "\r\n").getBytes(StandardCharsets.UTF_8))
+				: null;
+	}
+
 	private void assertContentsEqual(final TextDataSource dataSource, final Object[][] expecteds) {
 		for (int i = 0; i < expecteds.length; i++) {
 			if (dataSource.hasNext()) {
@@ -95,6 +133,11 @@ public class TextDataSourceTest {
 		throw new NoSuchMethodException(methodName);
 	}
 
+	public void rawValueConsumer(@TestInput(name = "input1") final byte[] input1,
+			@TestInput(name = "input2") final ByteBuffer input2, @TestOutput(name = "output1") final CharSequence output1,
+			@TestOutput(name = "output2") final String output2) {
+	}
+
 	public void multiValueConsumer(@TestInput(name = "input1") final String input1,
 			@TestInput(name = "input2") final String input2, @TestOutput(name = "output1") final String output1,
 			@TestOutput(name = "output2") final String output2) {
@@ -5,7 +5,15 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.StringReader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.Test;
 
@@ -34,6 +42,110 @@ public class TextFileReaderTest {
 		assertEquals(reader.readNextChunk(), null);
 	}
 
+	@Test
+	public void shouldReadAllDataFromBytes() throws Exception {
+		String boundary = "---";
+		String content = "123\r\n123\r\n---\r\n456\r456\r---\r\u00e4\u00f6\u00fc\n789\n---";
+
+		ByteBuffer bytes = ByteBuffer.allocateDirect(content.length() * 2);
+		bytes.put(content.getBytes(StandardCharsets.UTF_8)).flip();
+
+		TextFileReader reader = new TextFileReader(bytes, StandardCharsets.UTF_8, boundary);
+		assertTrue(reader.hasMoreData(), "Expected more data");
+
+		assertEquals(reader.readNextChunk(), "123\n123");
+		assertTrue(reader.hasMoreData(), "Expected more data");
+
+		assertEquals(reader.readNextChunk(), "456\n456");
+		assertTrue(reader.hasMoreData(), "Expected more data");
+
+		assertEquals(reader.readNextChunk(), "\u00e4\u00f6\u00fc\n789");
+		assertFalse(reader.hasMoreData(), "Expected no more data");
+
+		assertEquals(reader.readNextChunk(), null);
+	}
+
+	@Test
+	public void shouldReadSameChunksFromBytesAsFromLines() throws Exception {
+		String[] contents = { "", "\n---\n\n---\n\n---\n\n", "---\n---\n---", "123\n\n", "---123\n---\n",
+				"123\n123\n---\n456\n456\n---\n789\n789" };
+
+		for (String content : contents) {
+			for (String boundary : new String[] { "---", null }) {
+				TextFileReader lines = new TextFileReader(new BufferedReader(new StringReader(content)), boundary);
+				TextFileReader bytes = new TextFileReader(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)),
+					StandardCharsets.UTF_8, boundary);
+
+				while (lines.hasMoreData()) {
+					assertTrue(bytes.hasMoreData(), "Expected more data in " + content);
+					assertEquals(bytes.readNextChunk(), lines.readNextChunk(), "Chunks differ in " + content);
+				}
+
+				assertFalse(bytes.hasMoreData(), "Expected no more data in " + content);
+			}
+		}
+	}
+
+	@Test
+	public void shouldViewLatin1ChunksInPlace() throws Exception {
+		String content = "caf\u00e9\n---\n\u00e0 la carte";
+		ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(StandardCharsets.ISO_8859_1));
+
+		TextFileReader reader = new TextFileReader(bytes, StandardCharsets.ISO_8859_1, "---");
+
+		CharSequence first = reader.readNextChunkChars();
+		assertEquals(first.length(), 4);
+		assertEquals(first.charAt(3), '\u00e9');
+		assertEquals(first.subSequence(1, 3).toString(), "af");
+
+		ByteBuffer second = reader.readNextChunkBytes();
+		assertTrue(second.isReadOnly(), "Expected a read-only view");
+		assertEquals(second, ByteBuffer.wrap("\u00e0 la carte".getBytes(StandardCharsets.ISO_8859_1)));
+		assertFalse(reader.hasMoreData(), "Expected no more data");
+	}
+
+	@Test
+	public void shouldStreamFilesThatCannotBeMapped() throws Exception {
+		StringBuilder content = new StringBuilder("first\n---\n");
+		while (content.length() < 100000) {
+			content.append("filler\n");
+		}
+
+		final byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+		final AtomicInteger bytesRead = new AtomicInteger();
+		URL url = new URL(null, "memory:chunks", new URLStreamHandler() {
+
+			@Override
+			protected URLConnection openConnection(final URL u) {
+				return new URLConnection(u) {
+
+					@Override
+					public void connect() {
+					}
+
+					@Override
+					public InputStream getInputStream() {
+						return new ByteArrayInputStream(bytes) {
+
+							@Override
+							public synchronized int read(final byte[] b, final int off, final int len) {
+								int count = super.read(b, off, len);
+								bytesRead.addAndGet(Math.max(count, 0));
+								return count;
+							}
+						};
+					}
+				};
+			}
+		});
+
+		TextFileReader reader = TextFileReader.open(url, "UTF-8", "---");
+		assertEquals(reader.readNextChunk(), "first");
+		assertTrue(bytesRead.get() < bytes.length, "Expected the file to be streamed");
+
+		reader.close();
+	}
+
 	@Test
 	public void shouldHaveNoData() throws Exception {
 		String boundary = "---";
@@ -33,6 +33,26 @@ public class TextDataSourceConfigurations {
 		};
 	}
 	
+	public static TextDataSourceConfiguration readAheadConfig() {
+		return new TextDataSourceConfiguration() {
+			
+			@Override
+			public Map<String, URL> getURLs() {
+				return URLS;
+			}
+			
+			@Override
+			public String getBoundary() {
+				return "---123---";
+			}
+			
+			@Override
+			public int getReadAhead() {
+				return 2;
+			}
+		};
+	}
+	
 	public static TextDataSourceConfiguration withoutBoundaryConfig() {
 		return new TextDataSourceConfiguration() {
 			
@@ -4,10 +4,9 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.util.Collections;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -36,55 +35,16 @@ import org.slf4j.LoggerFactory;
  * @author Matthias Rothe
  */
 public class BasePackageLoader {
-	private static class CacheKey {
-		private final String source;
-		private final ClassLoader classLoader;
-
-		CacheKey(final String source, final ClassLoader classLoader) {
-			this.source = source;
-			this.classLoader = classLoader;
-		}
-
-		@Override
-		public int hashCode() {
-			final int prime = 31;
-			int result = 1;
-			result = prime * result + ((classLoader == null) ? 0 : classLoader.hashCode());
-			result = prime * result + ((source == null) ? 0 : source.hashCode());
-			return result;
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj) {
-				return true;
+	private static final ClassLoaderCache<String, Set<String>> CACHE = new ClassLoaderCache<String, Set<String>>(
+		new ClassLoaderCache.ValueLoader<String, Set<String>>() {
+
+			@Override
+			public Set<String> load(final String source, final ClassLoader classLoader) {
+				final Set<String> basePackages = new LinkedHashSet<String>();
+				fillBasePackages(basePackages, source, classLoader);
+				return Collections.unmodifiableSet(basePackages);
 			}
-			if (obj == null) {
-				return false;
-			}
-			if (getClass() != obj.getClass()) {
-				return false;
-			}
-			CacheKey other = (CacheKey) obj;
-			if (classLoader == null) {
-				if (other.classLoader != null) {
-					return false;
-				}
-			} else if (!classLoader.equals(other.classLoader)) {
-				return false;
-			}
-			if (source == null) {
-				if (other.source != null) {
-					return false;
-				}
-			} else if (!source.equals(other.source)) {
-				return false;
-			}
-			return true;
-		}
-	}
-
-	private static final Map<CacheKey, Set<String>> CACHE = new HashMap<CacheKey, Set<String>>();
+		});
 	private static final Logger LOG = LoggerFactory.getLogger(BasePackageLoader.class);
 
 	private BasePackageLoader() {
@@ -101,26 +61,16 @@ public class BasePackageLoader {
 	}
 
 	/**
-	 * Loads base packages from the given source using the given class loader.
+	 * Loads base packages from the given source using the given class loader. The base packages are cached per source
+	 * and class loader, without keeping the class loader from being garbage collected. Concurrent calls for the same
+	 * source and class loader load the base packages just once.
 	 * 
 	 * @param source The source from where to load the base packages
 	 * @param classLoader The class loader to use for resolving the source
-	 * @return The set of base packages found in the given source
+	 * @return The unmodifiable set of base packages found in the given source
 	 */
 	public static Set<String> loadBasePackages(final String source, final ClassLoader classLoader) {
-		CacheKey cacheKey = new CacheKey(source, classLoader);
-		Set<String> basePackages;
-
-		if (CACHE.containsKey(cacheKey)) {
-			basePackages = CACHE.get(cacheKey);
-		} else {
-			basePackages = new LinkedHashSet<String>();
-			fillBasePackages(basePackages, source, classLoader);
-
-			CACHE.put(cacheKey, basePackages);
-		}
-
-		return basePackages;
+		return CACHE.get(source, classLoader);
 	}
 
 	static void fillBasePackages(Set<String> basePackages, String source, ClassLoader classLoader) {
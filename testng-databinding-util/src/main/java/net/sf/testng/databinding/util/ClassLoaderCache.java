@@ -0,0 +1,114 @@
+package net.sf.testng.databinding.util;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A thread-safe cache of values loaded per {@link ClassLoader class loader} and key.
+ * <p>
+ * Class loaders are referenced weakly, so caching values for a class loader doesn't keep it from being garbage
+ * collected. For that to work, the cached values must not strongly reference the class loader themselves, neither
+ * directly nor by referencing classes it has loaded. Each value is loaded just once: threads asking for a value
+ * being loaded by another thread wait for that thread to finish loading instead of loading the value again. If
+ * loading fails, the failure is reported to all waiting threads and the value is loaded anew when asked for the
+ * next time.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ * @author Matthias Rothe
+ */
+public class ClassLoaderCache<K, V> {
+	private final Map<ClassLoader, ConcurrentMap<K, FutureTask<V>>> cache =
+			new WeakHashMap<ClassLoader, ConcurrentMap<K, FutureTask<V>>>();
+	private final ValueLoader<K, V> loader;
+
+	/**
+	 * Loads the values to be cached.
+	 *
+	 * @param <K> The type of the keys
+	 * @param <V> The type of the values
+	 */
+	public interface ValueLoader<K, V> {
+
+		/**
+		 * @param key The key to load the value for
+		 * @param classLoader The class loader to load the value with, may be <code>null</code> for the bootstrap
+		 *            class loader
+		 * @return The value
+		 * @throws Exception If loading the value fails
+		 */
+		V load(K key, ClassLoader classLoader) throws Exception;
+	}
+
+	/**
+	 * Constructs a new, empty cache.
+	 *
+	 * @param loader The loader of the values to be cached
+	 */
+	public ClassLoaderCache(final ValueLoader<K, V> loader) {
+		this.loader = loader;
+	}
+
+	/**
+	 * Returns the value cached for the given key and class loader, loading it, if it isn't cached yet.
+	 *
+	 * @param key The key
+	 * @param classLoader The class loader, may be <code>null</code> for the bootstrap class loader
+	 * @return The value
+	 */
+	public V get(final K key, final ClassLoader classLoader) {
+		final ConcurrentMap<K, FutureTask<V>> values = getValues(classLoader);
+		FutureTask<V> value = values.get(key);
+
+		if (value == null) {
+			// the task drops the callable referencing the class loader, once it has run
+			final FutureTask<V> task = new FutureTask<V>(new Callable<V>() {
+
+				@Override
+				public V call() throws Exception {
+					return loader.load(key, classLoader);
+				}
+			});
+			value = values.putIfAbsent(key, task);
+
+			if (value == null) {
+				value = task;
+				task.run();
+			}
+		}
+
+		try {
+			return value.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw Exceptions.softenIfNecessary(e);
+		} catch (final ExecutionException e) {
+			values.remove(key, value);
+			final Throwable cause = e.getCause();
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw Exceptions.softenIfNecessary((Exception) cause);
+		}
+	}
+
+	private ConcurrentMap<K, FutureTask<V>> getValues(final ClassLoader classLoader) {
+		synchronized (cache) {
+			ConcurrentMap<K, FutureTask<V>> values = cache.get(classLoader);
+
+			if (values == null) {
+				values = new ConcurrentHashMap<K, FutureTask<V>>();
+				cache.put(classLoader, values);
+			}
+
+			return values;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package net.sf.testng.databinding.util;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+public class ClassLoaderCacheTest {
+
+	@Test
+	public void shouldLoadEachValueOnce() throws Exception {
+		final AtomicInteger loads = new AtomicInteger();
+		final CountDownLatch loading = new CountDownLatch(1);
+		final CountDownLatch waiting = new CountDownLatch(1);
+		final ClassLoaderCache<String, Object> cache = new ClassLoaderCache<String, Object>(
+			new ClassLoaderCache.ValueLoader<String, Object>() {
+
+				@Override
+				public Object load(final String key, final ClassLoader classLoader) throws Exception {
+					loads.incrementAndGet();
+					loading.countDown();
+					waiting.await();
+					return new Object();
+				}
+			});
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final Object[] values = new Object[1];
+
+		final Thread thread = new Thread() {
+
+			@Override
+			public void run() {
+				values[0] = cache.get("key", classLoader);
+			}
+		};
+		thread.start();
+		loading.await();
+		waiting.countDown();
+
+		final Object value = cache.get("key", classLoader);
+		thread.join();
+
+		assertSame(values[0], value);
+		assertNotSame(cache.get("key", new URLClassLoader(new URL[0], classLoader)), value);
+		assertEquals(loads.get(), 2);
+	}
+
+	@Test
+	public void shouldLoadValueAgainAfterFailure() {
+		final AtomicInteger loads = new AtomicInteger();
+		final ClassLoaderCache<String, Integer> cache = new ClassLoaderCache<String, Integer>(
+			new ClassLoaderCache.ValueLoader<String, Integer>() {
+
+				@Override
+				public Integer load(final String key, final ClassLoader classLoader) {
+					if (loads.incrementAndGet() == 1) {
+						throw new IllegalStateException("first load fails");
+					}
+
+					return loads.get();
+				}
+			});
+
+		try {
+			cache.get("key", null);
+			fail("failure not reported");
+		} catch (final IllegalStateException e) {
+			assertEquals(e.getMessage(), "first load fails");
+		}
+
+		assertEquals(cache.get("key", null), Integer.valueOf(2));
+		assertEquals(cache.get("key", null), Integer.valueOf(2));
+	}
+}
\ No newline at end of file
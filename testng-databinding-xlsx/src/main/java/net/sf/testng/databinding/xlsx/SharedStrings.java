@@ -0,0 +1,140 @@
+package net.sf.testng.databinding.xlsx;
+
+import java.util.Arrays;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The shared strings table of a workbook, holding the strings most text cells refer to by index.
+ * <p>
+ * All strings are stored in a single character array, with a second array holding the offset each
+ * string starts at, so the table takes about two bytes per character and four bytes per string,
+ * instead of a {@link String} object per string.
+ *
+ * @author Matthias Rothe
+ */
+final class SharedStrings {
+	private char[] chars;
+	private int length;
+	private int[] offsets;
+	private int count;
+
+	private SharedStrings(final int expectedCount) {
+		chars = new char[Math.max(16, expectedCount * 8)];
+		offsets = new int[Math.max(16, expectedCount + 1)];
+	}
+
+	/**
+	 * An empty table, for workbooks without shared strings.
+	 *
+	 * @return the table
+	 */
+	static SharedStrings empty() {
+		return new SharedStrings(0);
+	}
+
+	/**
+	 * Reads the table from the shared strings part of a workbook. Rich text strings are stored as their
+	 * plain text, leaving out any phonetic runs.
+	 *
+	 * @param reader The reader of the shared strings part
+	 * @return the table
+	 * @throws XMLStreamException if the part can't be read
+	 */
+	static SharedStrings read(final XMLStreamReader reader) throws XMLStreamException {
+		SharedStrings sharedStrings = null;
+		boolean inText = false;
+		int phoneticDepth = 0;
+
+		while (reader.hasNext()) {
+			final int event = reader.next();
+
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				final String name = reader.getLocalName();
+
+				if ("sst".equals(name)) {
+					sharedStrings = new SharedStrings(parseCount(reader.getAttributeValue(null, "uniqueCount")));
+				} else if ("rPh".equals(name)) {
+					phoneticDepth++;
+				} else if ("t".equals(name) && phoneticDepth == 0) {
+					inText = true;
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				final String name = reader.getLocalName();
+
+				if ("si".equals(name)) {
+					sharedStrings.endString();
+				} else if ("rPh".equals(name)) {
+					phoneticDepth--;
+				} else if ("t".equals(name)) {
+					inText = false;
+				}
+			} else if (inText && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+				sharedStrings.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+			}
+		}
+
+		return sharedStrings != null ? sharedStrings : empty();
+	}
+
+	private static int parseCount(final String count) {
+		try {
+			return count != null ? Math.min(Integer.parseInt(count), 1 << 20) : 0;
+		} catch (final NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private void append(final char[] source, final int start, final int count) {
+		if (length + count > chars.length) {
+			chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + count));
+		}
+
+		System.arraycopy(source, start, chars, length, count);
+		length += count;
+	}
+
+	private void endString() {
+		if (count + 1 == offsets.length) {
+			offsets = Arrays.copyOf(offsets, offsets.length * 2);
+		}
+
+		offsets[++count] = length;
+	}
+
+	/**
+	 * @return the number of strings
+	 */
+	int size() {
+		return count;
+	}
+
+	/**
+	 * @param index The index of the string
+	 * @return the string at the given index
+	 */
+	String get(final int index) {
+		checkIndex(index);
+		return new String(chars, offsets[index], offsets[index + 1] - offsets[index]);
+	}
+
+	/**
+	 * Appends the string at the given index to the cell of the given row started last, without creating a
+	 * {@link String} object.
+	 *
+	 * @param index The index of the string
+	 * @param row The row
+	 */
+	void appendTo(final int index, final XlsxRow row) {
+		checkIndex(index);
+		row.append(chars, offsets[index], offsets[index + 1] - offsets[index]);
+	}
+
+	private void checkIndex(final int index) {
+		if (index < 0 || index >= count) {
+			throw new IndexOutOfBoundsException("shared string " + index + " of " + count + " shared strings");
+		}
+	}
+}
\ No newline at end of file
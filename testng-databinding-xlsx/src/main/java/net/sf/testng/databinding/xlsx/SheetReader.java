@@ -0,0 +1,166 @@
+package net.sf.testng.databinding.xlsx;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the rows of a sheet part one at a time into a reused {@link XlsxRow row view}, resolving shared
+ * strings, inline strings and booleans to the text of the cells. Numbers, formula results and all other
+ * values are taken as stored.
+ *
+ * @author Matthias Rothe
+ */
+final class SheetReader {
+	private final XMLStreamReader reader;
+	private final SharedStrings sharedStrings;
+	private final XlsxRow row = new XlsxRow();
+	private int rowNumber;
+
+	/**
+	 * @param reader The reader of the sheet part
+	 * @param sharedStrings The shared strings table of the workbook
+	 */
+	SheetReader(final XMLStreamReader reader, final SharedStrings sharedStrings) {
+		this.reader = reader;
+		this.sharedStrings = sharedStrings;
+	}
+
+	/**
+	 * Reads the next row holding any non-empty cell.
+	 *
+	 * @return <code>true</code>, if a row has been read, <code>false</code> if there are no rows left
+	 * @throws XMLStreamException if the sheet part can't be read
+	 */
+	boolean readRow() throws XMLStreamException {
+		while (reader.hasNext()) {
+			final int event = reader.next();
+
+			if (event == XMLStreamConstants.START_ELEMENT && "row".equals(reader.getLocalName())) {
+				final String reference = reader.getAttributeValue(null, "r");
+				rowNumber = reference != null ? Integer.parseInt(reference) : rowNumber + 1;
+
+				if (readCells()) {
+					return true;
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(reader.getLocalName())) {
+				return false;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return the row read last
+	 */
+	XlsxRow getRow() {
+		return row;
+	}
+
+	/**
+	 * @return the number of the row read last, as shown by Excel
+	 */
+	int getRowNumber() {
+		return rowNumber;
+	}
+
+	/**
+	 * Sets the minimum number of cells of each row, see {@link XlsxRow#setWidth(int)}.
+	 *
+	 * @param width The width of the header row
+	 */
+	void setWidth(final int width) {
+		row.setWidth(width);
+	}
+
+	/**
+	 * Closes the underlying reader.
+	 *
+	 * @throws XMLStreamException if closing fails
+	 */
+	void close() throws XMLStreamException {
+		reader.close();
+	}
+
+	private boolean readCells() throws XMLStreamException {
+		row.clear();
+		int column = -1;
+
+		while (reader.hasNext()) {
+			final int event = reader.next();
+
+			if (event == XMLStreamConstants.START_ELEMENT && "c".equals(reader.getLocalName())) {
+				final String reference = reader.getAttributeValue(null, "r");
+				column = reference != null ? parseColumn(reference) : column + 1;
+				readCell(column, reader.getAttributeValue(null, "t"));
+			} else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(reader.getLocalName())) {
+				return row.endRow();
+			}
+		}
+
+		return row.endRow();
+	}
+
+	private void readCell(final int column, final String type) throws XMLStreamException {
+		row.beginCell(column);
+		boolean inValue = false;
+		int phoneticDepth = 0;
+
+		while (reader.hasNext()) {
+			final int event = reader.next();
+
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				final String name = reader.getLocalName();
+
+				if ("rPh".equals(name)) {
+					phoneticDepth++;
+				} else if (("v".equals(name) || "t".equals(name)) && phoneticDepth == 0) {
+					inValue = true;
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				final String name = reader.getLocalName();
+
+				if ("c".equals(name)) {
+					break;
+				} else if ("rPh".equals(name)) {
+					phoneticDepth--;
+				} else if ("v".equals(name) || "t".equals(name)) {
+					inValue = false;
+				}
+			} else if (inValue && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+				row.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+			}
+		}
+
+		if ("s".equals(type)) {
+			sharedStrings.appendTo(row.removeLastAsInt(), row);
+		} else if ("b".equals(type)) {
+			row.replaceLast(row.length(column) == 1 && row.charAt(column, 0) == '1' ? "true" : "false");
+		}
+	}
+
+	/**
+	 * Parses the column of a cell reference like <code>BC12</code>.
+	 *
+	 * @param reference The cell reference
+	 * @return the zero-based column
+	 */
+	static int parseColumn(final String reference) {
+		int column = 0;
+
+		for (int i = 0; i < reference.length(); i++) {
+			final char c = reference.charAt(i);
+
+			if (c >= 'A' && c <= 'Z') {
+				column = column * 26 + (c - 'A' + 1);
+			} else if (c >= 'a' && c <= 'z') {
+				column = column * 26 + (c - 'a' + 1);
+			} else {
+				break;
+			}
+		}
+
+		return column - 1;
+	}
+}
\ No newline at end of file
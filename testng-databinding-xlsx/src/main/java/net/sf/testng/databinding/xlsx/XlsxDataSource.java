@@ -0,0 +1,357 @@
+package net.sf.testng.databinding.xlsx;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import net.sf.testng.databinding.AbstractDataSource;
+import net.sf.testng.databinding.DataSource;
+import net.sf.testng.databinding.IDataSource;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.ErrorCollector;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
+import net.sf.testng.databinding.csv.HeaderNameMapper;
+import net.sf.testng.databinding.csv.Mapper;
+import net.sf.testng.databinding.csv.MapperConstructorMatcher;
+import net.sf.testng.databinding.util.Constructors;
+import net.sf.testng.databinding.util.Exceptions;
+import net.sf.testng.databinding.util.MethodParameter;
+import au.com.bytecode.opencsv.CSVReader;
+
+/**
+ * <p>
+ * This {@link IDataSource data source} binds the rows of a sheet of an Excel XLSX workbook to test method
+ * parameters. It supports an arbitrary number of {@link TestInput test input} and {@link TestOutput test output}
+ * parameters of the same types as the CSV data source.
+ * </p><p>
+ * The rows are bound just like the lines of a CSV file, by a {@link Mapper mapper}, with the first non-empty row
+ * of the sheet taking the place of the header line. By default the {@link HeaderNameMapper} is used, so input and
+ * output columns are told apart by their <code>in_</code> and <code>out_</code> prefixes and the properties of
+ * nested Java Beans are bound from columns with dotted names, e.g. <code>in_address.city</code>. Rows without any
+ * non-empty cell are skipped.
+ * </p><p>
+ * Cells are bound from the text Excel stores for them: text cells as shown, booleans as <code>true</code> or
+ * <code>false</code>, numbers and formula results as stored, which for numbers is the shortest decimal
+ * representation of their value. Cells holding whole numbers can therefore be bound to <code>int</code> and
+ * <code>long</code> parameters, dates however are stored as numbers and can't be bound to dates.
+ * </p><p>
+ * The workbook is read straight from its zip file, without building a model of the workbook. Only the shared
+ * strings table, holding the text of text cells, is kept in memory, in a compact form. The sheet itself is read
+ * one row at a time, when the next test method invocation asks for it, so memory use doesn't depend on the number
+ * of rows. Workbooks not located in the file system are copied to a temporary file first.
+ * </p>
+ * <h3>Example</h3>
+ * <h4>Test Method</h4>
+ * <pre>
+ * &#64;DataBinding(propertiesPrefix = "isBetween")
+ * public void testIsBetween(&#64;TestInput CheckData data, &#64;TestOutput(name = "expected") boolean expected) {
+ *     assertEquals(isBetween(data.getValue(), data.getLower(), data.getUpper()), expected);
+ * }
+ * </pre>
+ * <h4>Sheet "isBetween"</h4>
+ * <pre>
+ * | in_value | in_lower | in_upper | out_expected |
+ * |      -10 |       -5 |       10 |        FALSE |
+ * |        0 |       -5 |       10 |         TRUE |
+ * |       20 |       -5 |       10 |        FALSE |
+ * </pre>
+ *
+ * @author Matthias Rothe
+ */
+@DataSource(name = "xlsx")
+public class XlsxDataSource extends AbstractDataSource {
+	private static final String RELATIONSHIPS_PART = "xl/_rels/workbook.xml.rels";
+	private static final String WORKBOOK_PART = "xl/workbook.xml";
+	private static final String SHARED_STRINGS_TYPE = "/sharedStrings";
+
+	private final XlsxDataSourceConfiguration configuration;
+	private File temporaryFile;
+	private ZipFile zipFile;
+	private SheetReader sheetReader;
+	private Mapper mapper;
+	private boolean rowPending;
+	private boolean exhausted;
+
+	/**
+	 * Constructs a new instance of this class, setting the {@link MethodParameter test method parameters} to load the
+	 * data for and the {@link Configuration configuration} describing where to load the data from. Reads the shared
+	 * strings and the header row of the sheet.
+	 *
+	 * @param parameters The test method parameters for which data is to be loaded
+	 * @param configuration The configuration describing where to load the data from
+	 * @throws Exception If anything goes wrong during the creation of this instance
+	 */
+	public XlsxDataSource(final List<MethodParameter> parameters, final Configuration configuration)
+			throws Exception {
+		this.configuration = DataSourceConfigurationLoader.loadDataSourceConfiguration(configuration,
+			XlsxDataSourceConfiguration.class);
+
+		try {
+			zipFile = new ZipFile(locateFile(this.configuration.getURL()));
+
+			final Map<String, String> targets = new HashMap<String, String>();
+			final String sharedStringsPart = readRelationships(targets);
+			final String sheetPart = findSheetPart(targets);
+
+			final SharedStrings sharedStrings;
+			if (sharedStringsPart != null && zipFile.getEntry(sharedStringsPart) != null) {
+				final XMLStreamReader reader = openPart(sharedStringsPart);
+				try {
+					sharedStrings = SharedStrings.read(reader);
+				} finally {
+					reader.close();
+				}
+			} else {
+				sharedStrings = SharedStrings.empty();
+			}
+
+			sheetReader = new SheetReader(openPart(sheetPart), sharedStrings);
+
+			final String[] headers = sheetReader.readRow() ? sheetReader.getRow().toArray() : new String[0];
+			sheetReader.setWidth(headers.length);
+
+			mapper = createMapper(parameters);
+			mapper.init(new HeaderReader(headers));
+		} catch (final Exception e) {
+			cleanUpAfter(e);
+			throw e;
+		}
+	}
+
+	private File locateFile(final URL url) throws Exception {
+		if ("file".equals(url.getProtocol())) {
+			return new File(url.toURI());
+		}
+
+		temporaryFile = File.createTempFile("testng-databinding-", ".xlsx");
+		final InputStream stream = url.openStream();
+		try {
+			Files.copy(stream, temporaryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			stream.close();
+		}
+
+		return temporaryFile;
+	}
+
+	private String readRelationships(final Map<String, String> targets) throws Exception {
+		String sharedStringsPart = null;
+		final XMLStreamReader reader = openPart(RELATIONSHIPS_PART);
+
+		try {
+			while (reader.hasNext()) {
+				if (reader.next() == XMLStreamConstants.START_ELEMENT
+						&& "Relationship".equals(reader.getLocalName())) {
+					final String target = resolveTarget(reader.getAttributeValue(null, "Target"));
+					final String type = reader.getAttributeValue(null, "Type");
+					targets.put(reader.getAttributeValue(null, "Id"), target);
+
+					if (type != null && type.endsWith(SHARED_STRINGS_TYPE)) {
+						sharedStringsPart = target;
+					}
+				}
+			}
+		} finally {
+			reader.close();
+		}
+
+		return sharedStringsPart;
+	}
+
+	private static String resolveTarget(final String target) {
+		return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+	}
+
+	private String findSheetPart(final Map<String, String> targets) throws Exception {
+		final String sheetName = configuration.getSheetName();
+		final XMLStreamReader reader = openPart(WORKBOOK_PART);
+
+		try {
+			while (reader.hasNext()) {
+				if (reader.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(reader.getLocalName())
+						&& (sheetName == null || sheetName.equals(reader.getAttributeValue(null, "name")))) {
+					final String sheetPart = targets.get(getRelationshipId(reader));
+
+					if (sheetPart != null) {
+						return sheetPart;
+					}
+				}
+			}
+		} finally {
+			reader.close();
+		}
+
+		final ErrorCollector errorCollector = new ErrorCollector(configuration.getURL().toExternalForm());
+		errorCollector.addError(sheetName != null ? "sheet not found: " + sheetName : "workbook has no sheets");
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+		errorCollectors.add(errorCollector);
+		throw new MultipleSourceErrorsException(errorCollectors);
+	}
+
+	private static String getRelationshipId(final XMLStreamReader reader) {
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			if ("id".equals(reader.getAttributeLocalName(i)) && reader.getAttributeNamespace(i) != null) {
+				return reader.getAttributeValue(i);
+			}
+		}
+
+		return null;
+	}
+
+	private XMLStreamReader openPart(final String name) throws IOException, XMLStreamException {
+		final ZipEntry entry = zipFile.getEntry(name);
+
+		if (entry == null) {
+			throw new IOException("part " + name + " not found in workbook " + configuration.getURL());
+		}
+
+		final XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return factory.createXMLStreamReader(zipFile.getInputStream(entry));
+	}
+
+	private Mapper createMapper(final List<MethodParameter> parameters) throws Exception {
+		final Constructor<?> constructor = Constructors.getMatchingConstructor(configuration.getMapperClass(),
+			new MapperConstructorMatcher());
+		return (Mapper) constructor.newInstance(parameters, new MapperConfiguration(configuration));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		if (!rowPending && !exhausted) {
+			try {
+				if (sheetReader.readRow()) {
+					rowPending = true;
+				} else {
+					exhausted = true;
+					cleanUp();
+				}
+			} catch (final Exception e) {
+				final int rowNumber = sheetReader.getRowNumber();
+				exhausted = true;
+				cleanUpAfter(e);
+				throw sourceErrorsException(rowNumber, e);
+			}
+		}
+
+		return rowPending;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		rowPending = false;
+
+		try {
+			return mapper.createBeans(sheetReader.getRow());
+		} catch (final MultipleSourceErrorsException e) {
+			exhausted = true;
+			cleanUpAfter(e);
+			throw e;
+		} catch (final RuntimeException e) {
+			final MultipleSourceErrorsException sourceErrorsException = sourceErrorsException(
+				sheetReader.getRowNumber(), e);
+			exhausted = true;
+			cleanUpAfter(sourceErrorsException);
+			throw sourceErrorsException;
+		}
+	}
+
+	private MultipleSourceErrorsException sourceErrorsException(final int rowNumber, final Exception cause) {
+		final ErrorCollector errorCollector = new ErrorCollector(configuration.getURL().toExternalForm());
+		errorCollector.addError("invalid source for data source " + getClass().getName() + " at row " + rowNumber
+				+ ", detail message: " + cause.getMessage());
+		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
+		errorCollectors.add(errorCollector);
+		return new MultipleSourceErrorsException(errorCollectors);
+	}
+
+	private void cleanUp() {
+		Exception failure = null;
+
+		try {
+			if (sheetReader != null) {
+				sheetReader.close();
+			}
+		} catch (final XMLStreamException e) {
+			failure = e;
+		}
+
+		try {
+			if (zipFile != null) {
+				zipFile.close();
+			}
+		} catch (final IOException e) {
+			failure = failure != null ? failure : e;
+		}
+
+		if (temporaryFile != null && !temporaryFile.delete()) {
+			temporaryFile.deleteOnExit();
+		}
+
+		sheetReader = null;
+		zipFile = null;
+		temporaryFile = null;
+
+		if (failure != null) {
+			throw Exceptions.softenIfNecessary(failure);
+		}
+	}
+
+	private void cleanUpAfter(final Exception cause) {
+		try {
+			cleanUp();
+		} catch (final RuntimeException e) {
+			cause.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * Hands the header row of the sheet to the {@link Mapper#init(CSVReader) mapper} as the header line.
+	 */
+	private static final class HeaderReader extends CSVReader {
+		private String[] headers;
+
+		HeaderReader(final String[] headers) {
+			super(new StringReader(""));
+			this.headers = headers;
+		}
+
+		@Override
+		public String[] readNext() throws IOException {
+			final String[] line = headers;
+			headers = null;
+			return line;
+		}
+	}
+}
\ No newline at end of file
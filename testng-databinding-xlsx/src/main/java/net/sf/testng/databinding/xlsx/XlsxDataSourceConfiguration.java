@@ -0,0 +1,65 @@
+package net.sf.testng.databinding.xlsx;
+
+import java.net.URL;
+
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.csv.HeaderNameMapper;
+import net.sf.testng.databinding.csv.Mapper;
+
+public interface XlsxDataSourceConfiguration {
+
+	/**
+	 * The locator of the XLSX workbook.
+	 *
+	 * @return the url
+	 */
+	URL getURL();
+
+	/**
+	 * The name of the sheet holding the test data.
+	 * <p>
+	 * Defaults to <code>null</code>, selecting the first sheet of the workbook
+	 *
+	 * @return the sheet name
+	 */
+	default String getSheetName() {
+		return null;
+	}
+
+	/**
+	 * The mapper implementation class defining how the cells of each row are mapped to the test method
+	 * parameters. The first non-empty row of the sheet is the header row.
+	 * <p>
+	 * Defaults to {@link HeaderNameMapper HeaderNameMapper.class}
+	 *
+	 * @return the mapper class
+	 */
+	default Class<? extends Mapper> getMapperClass() {
+		return HeaderNameMapper.class;
+	}
+
+	/**
+	 * The prefix to signify test data input columns, i.e. columns containing data for test method
+	 * parameters annotated with {@link TestInput}.
+	 * <p>
+	 * Defaults to in_
+	 *
+	 * @return the input column prefix
+	 */
+	default String getInputColumnPrefix() {
+		return "in_";
+	}
+
+	/**
+	 * The prefix to signify test data output columns, i.e. columns containing data for test method
+	 * parameters annotated with {@link TestOutput}.
+	 * <p>
+	 * Defaults to out_
+	 *
+	 * @return the output column prefix
+	 */
+	default String getOutputColumnPrefix() {
+		return "out_";
+	}
+}
\ No newline at end of file
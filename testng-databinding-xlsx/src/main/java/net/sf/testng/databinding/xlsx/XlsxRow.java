@@ -0,0 +1,217 @@
+package net.sf.testng.databinding.xlsx;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+import net.sf.testng.databinding.csv.CsvRow;
+
+/**
+ * A {@link CsvRow row view} of one row of a sheet, holding the text of all cells in a single character
+ * buffer reused for all rows.
+ * <p>
+ * Cells are stored by column, so cells left out of the sheet, as Excel does for blank cells, read as
+ * empty cells. The row view is at least as wide as the header row, so blank cells at the end of a row can
+ * be read as well.
+ *
+ * @author Matthias Rothe
+ */
+final class XlsxRow implements CsvRow {
+	private char[] chars = new char[256];
+	private CharBuffer buffer = CharBuffer.wrap(chars);
+	private int length;
+	private int[] starts = new int[16];
+	private int[] lengths = new int[16];
+	private int size;
+	private int width;
+
+	/**
+	 * Sets the minimum number of cells of each row.
+	 *
+	 * @param width The width of the header row
+	 */
+	void setWidth(final int width) {
+		this.width = width;
+	}
+
+	/**
+	 * Discards all cells, starting a new row.
+	 */
+	void clear() {
+		length = 0;
+		size = 0;
+	}
+
+	/**
+	 * Starts the cell of the given column. Any columns left out before it are filled with empty cells.
+	 *
+	 * @param column The column of the cell
+	 */
+	void beginCell(final int column) {
+		if (column < size) {
+			throw new IllegalStateException("cell of column " + (column + 1) + " given out of order");
+		}
+
+		while (size <= column) {
+			if (size == starts.length) {
+				starts = Arrays.copyOf(starts, size * 2);
+				lengths = Arrays.copyOf(lengths, size * 2);
+			}
+
+			starts[size] = length;
+			lengths[size++] = 0;
+		}
+	}
+
+	/**
+	 * Appends the given characters to the cell started last.
+	 *
+	 * @param source The characters
+	 * @param start The index of the first character
+	 * @param count The number of characters
+	 */
+	void append(final char[] source, final int start, final int count) {
+		ensureCapacity(count);
+		System.arraycopy(source, start, chars, length, count);
+		length += count;
+		lengths[size - 1] += count;
+	}
+
+	/**
+	 * Replaces the text of the cell started last.
+	 *
+	 * @param text The new text
+	 */
+	void replaceLast(final String text) {
+		length = starts[size - 1];
+		lengths[size - 1] = 0;
+		ensureCapacity(text.length());
+		text.getChars(0, text.length(), chars, length);
+		length += text.length();
+		lengths[size - 1] = text.length();
+	}
+
+	/**
+	 * Removes the text of the cell started last, returning it parsed as a decimal <code>int</code>.
+	 *
+	 * @return the parsed text
+	 * @throws NumberFormatException if the text isn't a parsable <code>int</code>
+	 */
+	int removeLastAsInt() {
+		final int start = starts[size - 1];
+		final int value = Integer.parseInt(buffer, start, start + lengths[size - 1], 10);
+		length = start;
+		lengths[size - 1] = 0;
+		return value;
+	}
+
+	/**
+	 * Completes the row, filling it up with empty cells to the minimum width.
+	 *
+	 * @return <code>true</code>, if any cell of the row isn't empty, <code>false</code> otherwise
+	 */
+	boolean endRow() {
+		if (size < width) {
+			beginCell(width - 1);
+		}
+
+		return length > 0;
+	}
+
+	private void ensureCapacity(final int count) {
+		if (length + count > chars.length) {
+			chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + count));
+			buffer = CharBuffer.wrap(chars);
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int length(final int column) {
+		checkColumn(column);
+		return lengths[column];
+	}
+
+	@Override
+	public char charAt(final int column, final int index) {
+		if (index < 0 || index >= length(column)) {
+			throw new IndexOutOfBoundsException("index " + index + " of cell of column " + column);
+		}
+
+		return chars[starts[column] + index];
+	}
+
+	@Override
+	public CharSequence get(final int column) {
+		checkColumn(column);
+		return buffer.subSequence(starts[column], starts[column] + lengths[column]);
+	}
+
+	@Override
+	public String getString(final int column) {
+		checkColumn(column);
+		return new String(chars, starts[column], lengths[column]);
+	}
+
+	@Override
+	public Character getChar(final int column) {
+		return length(column) > 0 ? chars[starts[column]] : null;
+	}
+
+	@Override
+	public int getInt(final int column) {
+		checkColumn(column);
+		return Integer.parseInt(buffer, starts[column], starts[column] + lengths[column], 10);
+	}
+
+	@Override
+	public long getLong(final int column) {
+		checkColumn(column);
+		return Long.parseLong(buffer, starts[column], starts[column] + lengths[column], 10);
+	}
+
+	@Override
+	public float getFloat(final int column) {
+		return Float.parseFloat(getString(column));
+	}
+
+	@Override
+	public double getDouble(final int column) {
+		return Double.parseDouble(getString(column));
+	}
+
+	@Override
+	public boolean getBoolean(final int column) {
+		if (length(column) != 4) {
+			return false;
+		}
+
+		for (int i = 0; i < 4; i++) {
+			if (Character.toLowerCase(chars[starts[column] + i]) != "true".charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public String[] toArray() {
+		final String[] cells = new String[size];
+
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = getString(i);
+		}
+
+		return cells;
+	}
+
+	private void checkColumn(final int column) {
+		if (column < 0 || column >= size) {
+			throw new IndexOutOfBoundsException("column " + column + " of " + size + " columns");
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,4 @@
+/**
+ * Contains an XLSX {@link net.sf.testng.databinding.IDataSource data source} implementation.
+ */
+package net.sf.testng.databinding.xlsx;
\ No newline at end of file
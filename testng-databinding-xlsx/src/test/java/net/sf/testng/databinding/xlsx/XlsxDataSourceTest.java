@@ -0,0 +1,104 @@
+package net.sf.testng.databinding.xlsx;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.GenericDataProvider;
+import net.sf.testng.databinding.TestInput;
+import net.sf.testng.databinding.TestOutput;
+import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
+import net.sf.testng.databinding.core.model.Configuration;
+import net.sf.testng.databinding.util.MethodParameter;
+import net.sf.testng.databinding.xlsx.beans.Parcel;
+import net.sf.testng.databinding.xlsx.beans.Size;
+import net.sf.testng.databinding.xlsx.datasource.config.XlsxDataSourceConfigurations;
+
+public class XlsxDataSourceTest {
+	private Method methodParametersCreator;
+
+	@BeforeClass
+	public void initMethodParametersCreator() throws SecurityException, NoSuchMethodException {
+		methodParametersCreator = GenericDataProvider.class.getDeclaredMethod("createMethodParameters", Method.class);
+		methodParametersCreator.setAccessible(true);
+	}
+
+	@Test
+	public void shouldBindRowsThroughHeaderRow() throws Exception {
+		final XlsxDataSource dataSource = createDataSource("parcelsConfig");
+
+		assertTrue(dataSource.hasNext());
+		assertTrue(dataSource.hasNext());
+
+		final List<Object[]> rows = new ArrayList<Object[]>();
+		while (dataSource.hasNext()) {
+			rows.add(dataSource.next());
+		}
+
+		assertEquals(rows.toArray(), new Object[][] { { new Parcel("Books", 12.5, new Size(40, 30)), true },
+				{ new Parcel("Lamp", 1.75, new Size(25, 20)), false },
+				{ new Parcel("Chair", 7, new Size(50, 45)), false } });
+		assertFalse(dataSource.hasNext());
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRequireAllColumns() throws Exception {
+		createDataSource("missingColumnConfig");
+	}
+
+	@Test(expectedExceptions = MultipleSourceErrorsException.class)
+	public void shouldRequireSheet() throws Exception {
+		createDataSource("unknownSheetConfig");
+	}
+
+	@Test
+	public void shouldReportInvalidRow() throws Exception {
+		final XlsxDataSource dataSource = createDataSource("invalidConfig");
+
+		assertEquals(dataSource.next(), new Object[] { new Parcel("Books", 12.5, new Size(40, 30)), true });
+
+		try {
+			dataSource.next();
+			fail("expected MultipleSourceErrorsException");
+		} catch (final MultipleSourceErrorsException e) {
+			assertTrue(e.getMessage().contains("at row 3"), e.getMessage());
+		}
+
+		assertFalse(dataSource.hasNext());
+	}
+
+	@Test
+	public void shouldParseColumnsOfCellReferences() {
+		assertEquals(SheetReader.parseColumn("A1"), 0);
+		assertEquals(SheetReader.parseColumn("Z12"), 25);
+		assertEquals(SheetReader.parseColumn("AA3"), 26);
+		assertEquals(SheetReader.parseColumn("XFD1048576"), 16383);
+	}
+
+	private XlsxDataSource createDataSource(final String configMethod) throws Exception {
+		return new XlsxDataSource(createMethodParameters("parcelConsumer"),
+				new Configuration(XlsxDataSourceConfigurations.class, configMethod));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MethodParameter> createMethodParameters(final String methodName) throws Exception {
+		for (final Method method : getClass().getMethods()) {
+			if (method.getName().equals(methodName)) {
+				return (List<MethodParameter>) methodParametersCreator.invoke(null, method);
+			}
+		}
+
+		throw new NoSuchMethodException(methodName);
+	}
+
+	public void parcelConsumer(@TestInput final Parcel parcel, @TestOutput(name = "bulky") final boolean bulky) {
+	}
+}
\ No newline at end of file
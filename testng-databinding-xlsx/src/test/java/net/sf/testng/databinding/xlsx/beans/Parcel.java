@@ -0,0 +1,69 @@
+package net.sf.testng.databinding.xlsx.beans;
+
+public class Parcel {
+	private String label;
+	private double weight;
+	private Size size;
+
+	public Parcel() {
+	}
+
+	public Parcel(final String label, final double weight, final Size size) {
+		this.label = label;
+		this.weight = weight;
+		this.size = size;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	public void setLabel(final String label) {
+		this.label = label;
+	}
+
+	public double getWeight() {
+		return weight;
+	}
+
+	public void setWeight(final double weight) {
+		this.weight = weight;
+	}
+
+	public Size getSize() {
+		return size;
+	}
+
+	public void setSize(final Size size) {
+		this.size = size;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (label == null ? 0 : label.hashCode());
+		result = prime * result + Double.hashCode(weight);
+		result = prime * result + (size == null ? 0 : size.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Parcel other = (Parcel) obj;
+		return (label == null ? other.label == null : label.equals(other.label))
+				&& Double.doubleToLongBits(weight) == Double.doubleToLongBits(other.weight)
+				&& (size == null ? other.size == null : size.equals(other.size));
+	}
+
+	@Override
+	public String toString() {
+		return "Parcel [label=" + label + ", weight=" + weight + ", size=" + size + "]";
+	}
+}
\ No newline at end of file
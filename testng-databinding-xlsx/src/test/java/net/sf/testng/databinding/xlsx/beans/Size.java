@@ -0,0 +1,56 @@
+package net.sf.testng.databinding.xlsx.beans;
+
+public class Size {
+	private int length;
+	private int width;
+
+	public Size() {
+	}
+
+	public Size(final int length, final int width) {
+		this.length = length;
+		this.width = width;
+	}
+
+	public int getLength() {
+		return length;
+	}
+
+	public void setLength(final int length) {
+		this.length = length;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public void setWidth(final int width) {
+		this.width = width;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + length;
+		result = prime * result + width;
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Size other = (Size) obj;
+		return length == other.length && width == other.width;
+	}
+
+	@Override
+	public String toString() {
+		return "Size [length=" + length + ", width=" + width + "]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package net.sf.testng.databinding.xlsx.datasource.config;
+
+import java.net.URL;
+
+import net.sf.testng.databinding.xlsx.XlsxDataSourceConfiguration;
+
+public class XlsxDataSourceConfigurations {
+
+	private XlsxDataSourceConfigurations() {}
+	
+	public static XlsxDataSourceConfiguration parcelsConfig() {
+		return new XlsxDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/parcels.xlsx");
+			}
+		};
+	}
+	
+	public static XlsxDataSourceConfiguration missingColumnConfig() {
+		return new XlsxDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/parcels.xlsx");
+			}
+			
+			@Override
+			public String getSheetName() {
+				return "missingColumn";
+			}
+		};
+	}
+	
+	public static XlsxDataSourceConfiguration invalidConfig() {
+		return new XlsxDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/parcels.xlsx");
+			}
+			
+			@Override
+			public String getSheetName() {
+				return "invalid";
+			}
+		};
+	}
+	
+	public static XlsxDataSourceConfiguration unknownSheetConfig() {
+		return new XlsxDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/parcels.xlsx");
+			}
+			
+			@Override
+			public String getSheetName() {
+				return "unknown";
+			}
+		};
+	}
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+package net.sf.testng.databinding.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+import net.sf.testng.databinding.core.util.OrderedParallelBinder;
+import net.sf.testng.databinding.core.util.OrderedParallelBinder.Binding;
+import net.sf.testng.databinding.core.util.OrderedParallelBinder.Source;
+import net.sf.testng.databinding.xml.DataSetScanner.DataSetRegion;
+
+/**
+ * Binds the <code>&lt;dataSet&gt;</code> tags of a {@link MappedFile mapped} XML data file on the worker
+ * threads of an {@link OrderedParallelBinder}.
+ * <p>
+ * Each worker parses the byte range of one data set found by the {@link DataSetScanner} with its own
+ * {@link XMLStreamReader}, positioned at the opening <code>&lt;dataSet&gt;</code> tag. Locations
+ * reported by these readers are relative to the whole file.
+ *
+ * @author Matthias Rothe
+ */
+final class DataSetRegionBinding implements Binding<DataSetRegion> {
+	private final MappedFile file;
+	private final String encoding;
+	private final boolean fastParser;
+	private final DataSetBinding binding;
+
+	/**
+	 * Binds a single data set.
+	 */
+	interface DataSetBinding {
+
+		/**
+		 * @param xmlReader The reader, positioned at the opening <code>&lt;dataSet&gt;</code> tag
+		 * @return the test method arguments bound from the data set
+		 * @throws Exception if binding fails
+		 */
+		Object[] bind(XMLStreamReader xmlReader) throws Exception;
+	}
+
+	private DataSetRegionBinding(final MappedFile file, final String encoding, final boolean fastParser,
+			final DataSetBinding binding) {
+		this.file = file;
+		this.encoding = encoding;
+		this.fastParser = fastParser && FastXMLStreamReader.supports(Charset.forName(encoding));
+		this.binding = binding;
+	}
+
+	/**
+	 * Starts binding the given data sets. Closing the returned binder closes the file.
+	 *
+	 * @param file The mapped file
+	 * @param regions The data sets found in the file
+	 * @param encoding The encoding of the file
+	 * @param fastParser Whether to parse the data sets with the {@link FastXMLStreamReader}, if possible
+	 * @param parallelism The number of worker threads
+	 * @param window The maximum number of data sets bound ahead
+	 * @param binding The binding applied to each data set
+	 * @return the binder
+	 * @throws IOException if starting the binder fails
+	 */
+	static OrderedParallelBinder<DataSetRegion> start(final MappedFile file, final List<DataSetRegion> regions,
+			final String encoding, final boolean fastParser, final int parallelism, final int window,
+			final DataSetBinding binding) throws IOException {
+		return new OrderedParallelBinder<DataSetRegion>("xml-data-set-binder", new Source<DataSetRegion>() {
+			private int nextRegion;
+
+			@Override
+			public DataSetRegion next() {
+				return nextRegion < regions.size() ? regions.get(nextRegion++) : null;
+			}
+
+			@Override
+			public void close() throws IOException {
+				file.close();
+			}
+		}, parallelism, window, new DataSetRegionBinding(file, encoding, fastParser, binding));
+	}
+
+	@Override
+	public Object[] bind(final DataSetRegion region) throws Exception {
+		final XMLStreamReader xmlReader = createReader(region);
+		try {
+			xmlReader.nextTag();
+			return binding.bind(xmlReader);
+		} finally {
+			xmlReader.close();
+		}
+	}
+
+	private XMLStreamReader createReader(final DataSetRegion region) throws Exception {
+		final ByteBuffer bytes = file.slice(region.getStart(), region.getEnd());
+
+		if (fastParser) {
+			final XMLStreamReader xmlReader = FastXMLStreamReader.create(bytes, Charset.forName(encoding),
+				region.getLine(), region.getColumn());
+
+			if (xmlReader != null) {
+				return xmlReader;
+			}
+		}
+
+		final InputStream input = new ByteBufferInputStream(bytes);
+		return new RegionReader(XMLReaders.createStaxReader(input, encoding), region);
+	}
+
+	private static final class RegionReader extends StreamReaderDelegate {
+		private final DataSetRegion region;
+
+		RegionReader(final XMLStreamReader reader, final DataSetRegion region) {
+			super(reader);
+			this.region = region;
+		}
+
+		@Override
+		public Location getLocation() {
+			final Location location = super.getLocation();
+			final int lineNumber = location.getLineNumber();
+			final int columnNumber = location.getColumnNumber();
+
+			return new Location() {
+
+				@Override
+				public int getLineNumber() {
+					return region.getLine() + lineNumber - 1;
+				}
+
+				@Override
+				public int getColumnNumber() {
+					return lineNumber == 1 ? region.getColumn() + columnNumber - 1 : columnNumber;
+				}
+
+				@Override
+				public int getCharacterOffset() {
+					return -1;
+				}
+
+				@Override
+				public String getPublicId() {
+					return location.getPublicId();
+				}
+
+				@Override
+				public String getSystemId() {
+					return location.getSystemId();
+				}
+			};
+		}
+	}
+
+	private static final class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(final ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(final byte[] bytes, final int offset, final int length) {
+			if (length == 0) {
+				return 0;
+			}
+
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+
+			final int count = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+}
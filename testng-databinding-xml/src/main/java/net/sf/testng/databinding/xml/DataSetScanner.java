@@ -0,0 +1,290 @@
+package net.sf.testng.databinding.xml;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds the byte ranges of the <code>&lt;dataSet&gt;</code> tags of a {@link MappedFile mapped} XML
+ * data file, without decoding or validating the file. Comments, CDATA sections, processing instructions
+ * and quoted attribute values are skipped, so tags contained in them aren't mistaken for data sets.
+ * <p>
+ * The scanner gives up, returning <code>null</code>, whenever the file contains anything it can't
+ * reliably handle: document type declarations, root children other than <code>&lt;dataSet&gt;</code>
+ * tags or unbalanced tags. The caller is expected to fall back to sequential parsing in such cases,
+ * leaving it to the XML parser to report any errors.
+ *
+ * @author Matthias Rothe
+ */
+final class DataSetScanner {
+	private static final byte[] DATA_SET_TAG = "dataSet".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] COMMENT_START = "!--".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] COMMENT_END = "-->".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] CDATA_START = "![CDATA[".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] CDATA_END = "]]>".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] PROCESSING_INSTRUCTION_END = "?>".getBytes(StandardCharsets.US_ASCII);
+
+	private final MappedFile file;
+	private final long size;
+	private long position;
+	private int line = 1;
+	private long lineStart;
+
+	private DataSetScanner(final MappedFile file) {
+		this.file = file;
+		this.size = file.size();
+	}
+
+	/**
+	 * Checks whether files of the given charset can be scanned. That's the case for all charsets encoding
+	 * the printable ASCII characters as single bytes of the same values, like UTF-8 and the ISO-8859
+	 * family.
+	 *
+	 * @param charset The charset
+	 * @return <code>true</code>, if files of the given charset can be scanned, <code>false</code> otherwise
+	 */
+	static boolean supports(final Charset charset) {
+		final byte[] ascii = new byte[0x7F - 0x20];
+		for (int i = 0; i < ascii.length; i++) {
+			ascii[i] = (byte) (0x20 + i);
+		}
+
+		return charset.canEncode()
+				&& Arrays.equals(new String(ascii, StandardCharsets.US_ASCII).getBytes(charset), ascii);
+	}
+
+	/**
+	 * Scans the given file for data sets.
+	 *
+	 * @param file The file
+	 * @return the data sets in document order or <code>null</code>, if the file can't be scanned
+	 */
+	static List<DataSetRegion> scan(final MappedFile file) {
+		return new DataSetScanner(file).scan();
+	}
+
+	private List<DataSetRegion> scan() {
+		final List<DataSetRegion> regions = new ArrayList<DataSetRegion>();
+		int depth = 0;
+		long dataSetStart = -1;
+		int dataSetLine = 0;
+		int dataSetColumn = 0;
+
+		while (position < size) {
+			if (read() != '<') {
+				continue;
+			}
+
+			final long tagStart = position - 1;
+			final int tagColumn = (int) (tagStart - lineStart) + 1;
+
+			if (position >= size) {
+				return null;
+			}
+
+			final byte first = file.get(position);
+
+			if (first == '?') {
+				if (!skipPast(PROCESSING_INSTRUCTION_END)) {
+					return null;
+				}
+			} else if (first == '!') {
+				if (startsWith(COMMENT_START)) {
+					if (!skipPast(COMMENT_END)) {
+						return null;
+					}
+				} else if (startsWith(CDATA_START)) {
+					if (!skipPast(CDATA_END)) {
+						return null;
+					}
+				} else {
+					return null;
+				}
+			} else if (first == '/') {
+				position++;
+				if (!skipTag()) {
+					return null;
+				}
+
+				depth--;
+				if (depth == 1) {
+					if (!addRegion(regions, dataSetStart, position, dataSetLine, dataSetColumn)) {
+						return null;
+					}
+				} else if (depth < 0) {
+					return null;
+				}
+			} else {
+				final boolean isDataSetTag = matchesName(DATA_SET_TAG);
+				final Boolean selfClosing = skipStartTag();
+
+				if (selfClosing == null) {
+					return null;
+				}
+
+				if (depth == 1) {
+					if (!isDataSetTag) {
+						return null;
+					}
+
+					dataSetStart = tagStart;
+					dataSetLine = line;
+					dataSetColumn = tagColumn;
+
+					if (selfClosing && !addRegion(regions, dataSetStart, position, dataSetLine, dataSetColumn)) {
+						return null;
+					}
+				}
+
+				if (!selfClosing) {
+					depth++;
+				}
+			}
+		}
+
+		return depth == 0 ? regions : null;
+	}
+
+	private boolean addRegion(final List<DataSetRegion> regions, final long start, final long end, final int line,
+			final int column) {
+		if (end - start > Integer.MAX_VALUE) {
+			return false;
+		}
+
+		regions.add(new DataSetRegion(start, end, line, column));
+		return true;
+	}
+
+	private byte read() {
+		final byte b = file.get(position++);
+
+		if (b == '\n') {
+			line++;
+			lineStart = position;
+		}
+
+		return b;
+	}
+
+	private boolean startsWith(final byte[] bytes) {
+		if (position + bytes.length > size) {
+			return false;
+		}
+
+		for (int i = 0; i < bytes.length; i++) {
+			if (file.get(position + i) != bytes[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private boolean matchesName(final byte[] name) {
+		if (!startsWith(name)) {
+			return false;
+		}
+
+		if (position + name.length >= size) {
+			return false;
+		}
+
+		final byte next = file.get(position + name.length);
+		return next == '>' || next == '/' || isWhitespace(next);
+	}
+
+	private boolean skipPast(final byte[] end) {
+		while (position < size) {
+			if (startsWith(end)) {
+				position += end.length;
+				return true;
+			}
+
+			read();
+		}
+
+		return false;
+	}
+
+	private boolean skipTag() {
+		while (position < size) {
+			if (read() == '>') {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private Boolean skipStartTag() {
+		byte previous = 0;
+
+		while (position < size) {
+			final byte b = read();
+
+			if (b == '"' || b == '\'') {
+				while (position < size && read() != b) {
+					// skip the quoted attribute value
+				}
+			} else if (b == '>') {
+				return previous == '/';
+			}
+
+			previous = b;
+		}
+
+		return null;
+	}
+
+	private static boolean isWhitespace(final byte b) {
+		return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+	}
+
+	/**
+	 * The byte range of a <code>&lt;dataSet&gt;</code> tag, together with the line and column it starts
+	 * at.
+	 */
+	static final class DataSetRegion {
+		private final long start;
+		private final long end;
+		private final int line;
+		private final int column;
+
+		DataSetRegion(final long start, final long end, final int line, final int column) {
+			this.start = start;
+			this.end = end;
+			this.line = line;
+			this.column = column;
+		}
+
+		/**
+		 * @return the position of the first byte of the opening tag
+		 */
+		long getStart() {
+			return start;
+		}
+
+		/**
+		 * @return the position following the last byte of the closing tag
+		 */
+		long getEnd() {
+			return end;
+		}
+
+		/**
+		 * @return the line of the opening tag, starting at 1
+		 */
+		int getLine() {
+			return line;
+		}
+
+		/**
+		 * @return the column of the opening tag, starting at 1
+		 */
+		int getColumn() {
+			return column;
+		}
+	}
+}
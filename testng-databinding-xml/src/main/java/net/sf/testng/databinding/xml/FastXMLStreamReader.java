@@ -0,0 +1,1167 @@
+package net.sf.testng.databinding.xml;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * A streaming parser for the subset of XML used by the data files of {@link XMLDataSource}, reading
+ * directly from (usually memory mapped) bytes.
+ * <p>
+ * The parser supports elements, attributes, text, CDATA sections, comments, processing instructions and
+ * the predefined and character entity references, which are checked while parsing, so malformed ones are
+ * reported by {@link #next()} like any other error. Documents with a document type declaration aren't
+ * supported, so {@link #create(ByteBuffer, Charset, int, int)} returns <code>null</code> for them and the
+ * caller is expected to fall back to a StAX parser. Namespaces aren't processed: prefixes are just
+ * stripped from the local names and namespace declarations aren't reported as attributes.
+ * <p>
+ * Tag names are decoded once per distinct name and looked up from their bytes afterwards, text is only
+ * decoded when requested, and {@link #skipElement()} skips whole subtrees by counting their depth,
+ * without producing any events.
+ *
+ * @author Matthias Rothe
+ */
+final class FastXMLStreamReader implements XMLStreamReader {
+	private static final byte[] XML_DECLARATION = "<?xml".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] COMMENT_START = "<!--".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] COMMENT_END = "-->".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] CDATA_START = "<![CDATA[".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] CDATA_END = "]]>".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] PROCESSING_INSTRUCTION_END = "?>".getBytes(StandardCharsets.US_ASCII);
+
+	private static final int WINDOW_SIZE = 64 * 1024;
+
+	private final ByteBuffer source;
+	private final Charset charset;
+	private final int limit;
+	private final int baseLine;
+	private final int baseColumn;
+	private final NameTable names;
+
+	private int position;
+	private int line = 1;
+	private int lineStart;
+
+	private int event = XMLStreamConstants.START_DOCUMENT;
+	private Name name;
+	private int textStart;
+	private int textEnd;
+	private boolean pendingEndElement;
+	private boolean rootClosed;
+
+	private Name[] openElements = new Name[16];
+	private int depth;
+
+	private Name[] attributeNames = new Name[4];
+	private int[] attributeStarts = new int[4];
+	private int[] attributeEnds = new int[4];
+	private int attributeCount;
+
+	private byte[] window;
+	private int windowStart;
+	private int windowEnd;
+	private int keep;
+
+	private FastXMLStreamReader(final ByteBuffer buffer, final Charset charset, final int baseLine,
+			final int baseColumn) {
+		this.source = buffer.duplicate();
+		this.charset = charset;
+		this.limit = buffer.limit();
+		this.position = buffer.position();
+		this.lineStart = position;
+		this.keep = position;
+
+		if (buffer.hasArray()) {
+			window = buffer.array();
+			windowStart = -buffer.arrayOffset();
+			windowEnd = limit;
+		} else {
+			window = new byte[Math.min(WINDOW_SIZE, Math.max(1, limit - position))];
+			windowStart = position;
+			windowEnd = position;
+		}
+
+		this.baseLine = baseLine;
+		this.baseColumn = baseColumn;
+		this.names = new NameTable(charset);
+		skipByteOrderMark();
+	}
+
+	/**
+	 * Checks whether files of the given charset can be parsed. That's the case for UTF-8, US-ASCII and
+	 * ISO-8859-1.
+	 *
+	 * @param charset The charset
+	 * @return <code>true</code>, if files of the given charset can be parsed, <code>false</code> otherwise
+	 */
+	static boolean supports(final Charset charset) {
+		return charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)
+				|| charset.equals(StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Creates a reader for the file the given URL points to.
+	 *
+	 * @param url The URL of the file
+	 * @param encoding The encoding of the file
+	 * @return the reader or <code>null</code>, if the file isn't a local file of at most 2GB or isn't
+	 *         {@link #create(ByteBuffer, Charset, int, int) supported}
+	 * @throws IOException if the file can't be mapped
+	 */
+	static FastXMLStreamReader open(final URL url, final String encoding) throws IOException {
+		final Charset charset = Charset.forName(encoding);
+
+		if (!"file".equals(url.getProtocol()) || !supports(charset)) {
+			return null;
+		}
+
+		final MappedFile file;
+		try {
+			file = new MappedFile(Paths.get(url.toURI()));
+		} catch (final URISyntaxException e) {
+			return null;
+		}
+
+		try {
+			if (file.size() == 0 || file.size() > Integer.MAX_VALUE) {
+				return null;
+			}
+
+			return create(file.slice(0, file.size()), charset, 1, 1);
+		} finally {
+			file.close();
+		}
+	}
+
+	/**
+	 * Creates a reader for the bytes remaining in the given buffer.
+	 *
+	 * @param buffer The buffer
+	 * @param charset The charset, which must be {@link #supports(Charset) supported}
+	 * @param line The line the buffer starts at within the file, used for reporting locations
+	 * @param column The column the buffer starts at within the file, used for reporting locations
+	 * @return the reader or <code>null</code>, if the document contains a document type declaration
+	 */
+	static FastXMLStreamReader create(final ByteBuffer buffer, final Charset charset, final int line,
+			final int column) {
+		final FastXMLStreamReader reader = new FastXMLStreamReader(buffer, charset, line, column);
+		return reader.hasDocumentTypeDeclaration() ? null : reader;
+	}
+
+	private void skipByteOrderMark() {
+		if (charset.equals(StandardCharsets.UTF_8) && limit - position >= 3 && at(position) == (byte) 0xEF
+				&& at(position + 1) == (byte) 0xBB && at(position + 2) == (byte) 0xBF) {
+			position += 3;
+			lineStart = position;
+		}
+	}
+
+	private boolean hasDocumentTypeDeclaration() {
+		int i = position;
+
+		while (i < limit) {
+			final byte b = at(i);
+
+			if (isWhitespace(b)) {
+				i++;
+			} else if (startsWith(i, COMMENT_START)) {
+				i = indexAfter(i + COMMENT_START.length, COMMENT_END);
+			} else if (b == '<' && i + 1 < limit && at(i + 1) == '?') {
+				i = indexAfter(i + 2, PROCESSING_INSTRUCTION_END);
+			} else {
+				return b == '<' && i + 1 < limit && at(i + 1) == '!';
+			}
+
+			if (i < 0) {
+				return false;
+			}
+		}
+
+		return false;
+	}
+
+	private int indexAfter(final int from, final byte[] end) {
+		for (int i = from; i + end.length <= limit; i++) {
+			if (startsWith(i, end)) {
+				return i + end.length;
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public int next() throws XMLStreamException {
+		if (event == XMLStreamConstants.END_DOCUMENT) {
+			throw new IllegalStateException("end of document reached");
+		}
+
+		if (pendingEndElement) {
+			pendingEndElement = false;
+			closeElement();
+			return event = XMLStreamConstants.END_ELEMENT;
+		}
+
+		attributeCount = 0;
+
+		while (true) {
+			keep = position;
+
+			if (position >= limit) {
+				if (depth > 0) {
+					throw error("unexpected end of document, missing closing tag </" + openElements[depth - 1].qName
+							+ ">");
+				} else if (!rootClosed) {
+					throw error("unexpected end of document, missing root element");
+				}
+
+				return event = XMLStreamConstants.END_DOCUMENT;
+			}
+
+			if (at(position) != '<') {
+				final int start = position;
+				final boolean whitespace = scanText();
+
+				if (depth > 0) {
+					textStart = start;
+					textEnd = position;
+					return event = XMLStreamConstants.CHARACTERS;
+				} else if (!whitespace) {
+					throw error("text found outside the root element");
+				}
+			} else if (position + 1 < limit && at(position + 1) == '/') {
+				parseEndTag();
+				return event = XMLStreamConstants.END_ELEMENT;
+			} else if (position + 1 < limit && at(position + 1) == '?') {
+				final boolean xmlDeclaration = startsWith(position, XML_DECLARATION) && position + 5 < limit
+						&& isWhitespace(at(position + 5));
+				textStart = position + 2;
+				textEnd = skipPast(position + 2, PROCESSING_INSTRUCTION_END) - PROCESSING_INSTRUCTION_END.length;
+
+				if (!xmlDeclaration) {
+					return event = XMLStreamConstants.PROCESSING_INSTRUCTION;
+				}
+			} else if (startsWith(position, COMMENT_START)) {
+				textStart = position + COMMENT_START.length;
+				textEnd = skipPast(textStart, COMMENT_END) - COMMENT_END.length;
+				return event = XMLStreamConstants.COMMENT;
+			} else if (startsWith(position, CDATA_START)) {
+				if (depth == 0) {
+					throw error("CDATA section found outside the root element");
+				}
+
+				textStart = position + CDATA_START.length;
+				textEnd = skipPast(textStart, CDATA_END) - CDATA_END.length;
+				return event = XMLStreamConstants.CDATA;
+			} else if (position + 1 < limit && at(position + 1) == '!') {
+				throw error("document type declarations aren't supported");
+			} else {
+				parseStartTag();
+				return event = XMLStreamConstants.START_ELEMENT;
+			}
+		}
+	}
+
+	private boolean scanText() throws XMLStreamException {
+		boolean whitespace = true;
+
+		while (position < limit) {
+			final byte b = at(position);
+
+			if (b == '<') {
+				break;
+			} else if (b == '&') {
+				position = checkReference(position);
+				whitespace = false;
+			} else if (b == '\n') {
+				newLine(position + 1);
+			} else if (whitespace && !isWhitespace(b)) {
+				whitespace = false;
+			}
+
+			position++;
+		}
+
+		return whitespace;
+	}
+
+	private void parseStartTag() throws XMLStreamException {
+		if (rootClosed && depth == 0) {
+			throw error("only one root element is allowed");
+		}
+
+		position++;
+		name = parseName();
+
+		while (true) {
+			skipWhitespace();
+
+			if (position >= limit) {
+				throw error("unexpected end of document within opening tag <" + name.qName + ">");
+			}
+
+			final byte b = at(position);
+
+			if (b == '>') {
+				position++;
+				break;
+			} else if (b == '/') {
+				if (position + 1 >= limit || at(position + 1) != '>') {
+					throw error("malformed opening tag <" + name.qName + ">");
+				}
+
+				position += 2;
+				pendingEndElement = true;
+				break;
+			} else {
+				parseAttribute();
+			}
+		}
+
+		if (depth == openElements.length) {
+			openElements = Arrays.copyOf(openElements, depth * 2);
+		}
+
+		openElements[depth++] = name;
+	}
+
+	private void parseAttribute() throws XMLStreamException {
+		final Name attributeName = parseName();
+		skipWhitespace();
+		expect('=');
+		skipWhitespace();
+
+		if (position >= limit || (at(position) != '"' && at(position) != '\'')) {
+			throw error("attribute value of " + attributeName.qName + " must be quoted");
+		}
+
+		final byte quote = at(position++);
+		final int start = position;
+
+		while (position < limit && at(position) != quote) {
+			final byte b = at(position);
+
+			if (b == '<') {
+				throw error("attribute values must not contain '<'");
+			} else if (b == '&') {
+				position = checkReference(position);
+			} else if (b == '\n') {
+				newLine(position + 1);
+			}
+
+			position++;
+		}
+
+		if (position >= limit) {
+			throw error("unexpected end of document within attribute value of " + attributeName.qName);
+		}
+
+		final int end = position++;
+
+		if (attributeName.isNamespaceDeclaration()) {
+			return;
+		}
+
+		if (attributeCount == attributeNames.length) {
+			attributeNames = Arrays.copyOf(attributeNames, attributeCount * 2);
+			attributeStarts = Arrays.copyOf(attributeStarts, attributeCount * 2);
+			attributeEnds = Arrays.copyOf(attributeEnds, attributeCount * 2);
+		}
+
+		attributeNames[attributeCount] = attributeName;
+		attributeStarts[attributeCount] = start;
+		attributeEnds[attributeCount] = end;
+		attributeCount++;
+	}
+
+	/**
+	 * Checks the entity reference starting at the given ampersand, so text and attribute values can be decoded
+	 * later on without failing.
+	 *
+	 * @return the index of the semicolon ending the reference
+	 */
+	private int checkReference(final int ampersand) throws XMLStreamException {
+		int semicolon = ampersand + 1;
+
+		while (semicolon < limit) {
+			final byte b = at(semicolon);
+
+			if (b == ';' || b == '<' || b == '&' || b == '"' || b == '\'' || isWhitespace(b)) {
+				break;
+			}
+
+			semicolon++;
+		}
+
+		if (semicolon >= limit || at(semicolon) != ';') {
+			throw error("unterminated entity reference");
+		}
+
+		final String reference = decode(ampersand + 1, semicolon);
+
+		if (resolveReference(reference) == null) {
+			throw error((reference.startsWith("#") ? "malformed character reference &"
+					: "undeclared entity reference &") + reference + ";");
+		}
+
+		return semicolon;
+	}
+
+	private void parseEndTag() throws XMLStreamException {
+		position += 2;
+		final Name endName = parseName();
+		skipWhitespace();
+		expect('>');
+
+		if (depth == 0 || openElements[depth - 1] != endName) {
+			throw error("unexpected closing tag </" + endName.qName + ">"
+					+ (depth > 0 ? ", expected </" + openElements[depth - 1].qName + ">" : ""));
+		}
+
+		closeElement();
+	}
+
+	private void closeElement() {
+		name = openElements[--depth];
+		openElements[depth] = null;
+		rootClosed = depth == 0;
+	}
+
+	private Name parseName() throws XMLStreamException {
+		final int start = position;
+		int hash = 0;
+
+		while (position < limit) {
+			final byte b = at(position);
+
+			if (isWhitespace(b) || b == '>' || b == '/' || b == '=') {
+				break;
+			}
+
+			hash = 31 * hash + b;
+			position++;
+		}
+
+		if (position == start) {
+			throw error("tag or attribute name expected");
+		}
+
+		load(start, position);
+		return names.lookup(window, start - windowStart, position - start, hash);
+	}
+
+	private void skipWhitespace() {
+		while (position < limit) {
+			final byte b = at(position);
+
+			if (b == '\n') {
+				newLine(position + 1);
+			} else if (!isWhitespace(b)) {
+				return;
+			}
+
+			position++;
+		}
+	}
+
+	private void expect(final char c) throws XMLStreamException {
+		if (position >= limit || at(position) != c) {
+			throw error("'" + c + "' expected");
+		}
+
+		position++;
+	}
+
+	private int skipPast(final int from, final byte[] end) throws XMLStreamException {
+		for (position = from; position + end.length <= limit; position++) {
+			if (startsWith(position, end)) {
+				position += end.length;
+				return position;
+			}
+
+			if (at(position) == '\n') {
+				newLine(position + 1);
+			}
+		}
+
+		position = limit;
+		throw error("unexpected end of document, missing '" + new String(end, StandardCharsets.US_ASCII) + "'");
+	}
+
+	/**
+	 * Skips the element this reader is positioned at, including all its contents, leaving the reader
+	 * positioned at the element's closing tag. The contents of the element are only checked for balanced
+	 * tags, not for well-formedness.
+	 *
+	 * @throws XMLStreamException if the element isn't closed
+	 * @throws IllegalStateException if the reader isn't positioned at an opening tag
+	 */
+	void skipElement() throws XMLStreamException {
+		if (event != XMLStreamConstants.START_ELEMENT) {
+			throw new IllegalStateException("not positioned at an opening tag");
+		}
+
+		if (!pendingEndElement) {
+			int skippedDepth = 1;
+
+			while (skippedDepth > 0) {
+				keep = position;
+
+				while (position < limit && at(position) != '<') {
+					if (at(position) == '\n') {
+						newLine(position + 1);
+					}
+					position++;
+				}
+
+				if (position >= limit) {
+					throw error("unexpected end of document, missing closing tag </" + name.qName + ">");
+				}
+
+				if (startsWith(position, COMMENT_START)) {
+					skipPast(position + COMMENT_START.length, COMMENT_END);
+				} else if (startsWith(position, CDATA_START)) {
+					skipPast(position + CDATA_START.length, CDATA_END);
+				} else if (position + 1 < limit && at(position + 1) == '?') {
+					skipPast(position + 2, PROCESSING_INSTRUCTION_END);
+				} else if (position + 1 < limit && at(position + 1) == '/') {
+					skipTag();
+					skippedDepth--;
+				} else if (!skipTag()) {
+					skippedDepth++;
+				}
+			}
+		}
+
+		pendingEndElement = false;
+		attributeCount = 0;
+		closeElement();
+		event = XMLStreamConstants.END_ELEMENT;
+	}
+
+	private boolean skipTag() throws XMLStreamException {
+		byte previous = 0;
+
+		while (++position < limit) {
+			final byte b = at(position);
+
+			if (b == '"' || b == '\'') {
+				while (++position < limit && at(position) != b) {
+					if (at(position) == '\n') {
+						newLine(position + 1);
+					}
+				}
+			} else if (b == '>') {
+				position++;
+				return previous == '/';
+			} else if (b == '\n') {
+				newLine(position + 1);
+			}
+
+			previous = b;
+		}
+
+		throw error("unexpected end of document within tag");
+	}
+
+	@Override
+	public int nextTag() throws XMLStreamException {
+		int eventType = next();
+
+		while ((eventType == XMLStreamConstants.CHARACTERS || eventType == XMLStreamConstants.CDATA)
+				&& isWhiteSpace() || eventType == XMLStreamConstants.COMMENT
+				|| eventType == XMLStreamConstants.PROCESSING_INSTRUCTION) {
+			eventType = next();
+		}
+
+		if (eventType != XMLStreamConstants.START_ELEMENT && eventType != XMLStreamConstants.END_ELEMENT) {
+			throw error("expected opening or closing tag");
+		}
+
+		return eventType;
+	}
+
+	@Override
+	public String getElementText() throws XMLStreamException {
+		if (event != XMLStreamConstants.START_ELEMENT) {
+			throw error("not positioned at an opening tag");
+		}
+
+		String text = null;
+		StringBuilder builder = null;
+
+		for (int eventType = next(); eventType != XMLStreamConstants.END_ELEMENT; eventType = next()) {
+			if (eventType == XMLStreamConstants.CHARACTERS || eventType == XMLStreamConstants.CDATA) {
+				if (text == null) {
+					text = getText();
+				} else {
+					if (builder == null) {
+						builder = new StringBuilder(text);
+					}
+					builder.append(getText());
+				}
+			} else if (eventType == XMLStreamConstants.START_ELEMENT) {
+				throw error("expected text only element, but found opening tag <" + name.qName + ">");
+			} else if (eventType == XMLStreamConstants.END_DOCUMENT) {
+				throw error("unexpected end of document while reading element text");
+			}
+		}
+
+		return builder != null ? builder.toString() : text != null ? text : "";
+	}
+
+	@Override
+	public boolean hasNext() {
+		return event != XMLStreamConstants.END_DOCUMENT;
+	}
+
+	@Override
+	public void close() {
+		// nothing to release, the bytes are owned by the caller
+	}
+
+	@Override
+	public int getEventType() {
+		return event;
+	}
+
+	@Override
+	public String getLocalName() {
+		if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+			throw new IllegalStateException("not positioned at a tag");
+		}
+
+		return name.localName;
+	}
+
+	@Override
+	public QName getName() {
+		return new QName(getLocalName());
+	}
+
+	@Override
+	public boolean hasName() {
+		return event == XMLStreamConstants.START_ELEMENT || event == XMLStreamConstants.END_ELEMENT;
+	}
+
+	@Override
+	public String getPrefix() {
+		return hasName() ? name.prefix : null;
+	}
+
+	@Override
+	public String getNamespaceURI() {
+		return null;
+	}
+
+	@Override
+	public String getText() {
+		switch (event) {
+		case XMLStreamConstants.CHARACTERS:
+			return decodeText(textStart, textEnd, false, true);
+		case XMLStreamConstants.CDATA:
+		case XMLStreamConstants.COMMENT:
+			return decodeText(textStart, textEnd, false, false);
+		default:
+			throw new IllegalStateException("current event has no text");
+		}
+	}
+
+	@Override
+	public char[] getTextCharacters() {
+		return getText().toCharArray();
+	}
+
+	@Override
+	public int getTextCharacters(final int sourceStart, final char[] target, final int targetStart,
+			final int length) {
+		final String text = getText();
+		final int count = Math.max(0, Math.min(length, text.length() - sourceStart));
+		text.getChars(sourceStart, sourceStart + count, target, targetStart);
+		return count;
+	}
+
+	@Override
+	public int getTextStart() {
+		return 0;
+	}
+
+	@Override
+	public int getTextLength() {
+		return getText().length();
+	}
+
+	@Override
+	public boolean hasText() {
+		return event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+				|| event == XMLStreamConstants.COMMENT;
+	}
+
+	@Override
+	public boolean isWhiteSpace() {
+		if (event != XMLStreamConstants.CHARACTERS && event != XMLStreamConstants.CDATA) {
+			return false;
+		}
+
+		for (int i = textStart; i < textEnd; i++) {
+			if (!isWhitespace(at(i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean isStartElement() {
+		return event == XMLStreamConstants.START_ELEMENT;
+	}
+
+	@Override
+	public boolean isEndElement() {
+		return event == XMLStreamConstants.END_ELEMENT;
+	}
+
+	@Override
+	public boolean isCharacters() {
+		return event == XMLStreamConstants.CHARACTERS;
+	}
+
+	@Override
+	public int getAttributeCount() {
+		checkStartElement();
+		return attributeCount;
+	}
+
+	@Override
+	public String getAttributeLocalName(final int index) {
+		checkAttribute(index);
+		return attributeNames[index].localName;
+	}
+
+	@Override
+	public QName getAttributeName(final int index) {
+		return new QName(getAttributeLocalName(index));
+	}
+
+	@Override
+	public String getAttributeNamespace(final int index) {
+		checkAttribute(index);
+		return null;
+	}
+
+	@Override
+	public String getAttributePrefix(final int index) {
+		checkAttribute(index);
+		return attributeNames[index].prefix;
+	}
+
+	@Override
+	public String getAttributeType(final int index) {
+		checkAttribute(index);
+		return "CDATA";
+	}
+
+	@Override
+	public String getAttributeValue(final int index) {
+		checkAttribute(index);
+		return decodeText(attributeStarts[index], attributeEnds[index], true, true);
+	}
+
+	@Override
+	public String getAttributeValue(final String namespaceURI, final String localName) {
+		checkStartElement();
+
+		for (int i = 0; i < attributeCount; i++) {
+			if (attributeNames[i].localName.equals(localName)) {
+				return getAttributeValue(i);
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public boolean isAttributeSpecified(final int index) {
+		checkAttribute(index);
+		return true;
+	}
+
+	private void checkStartElement() {
+		if (event != XMLStreamConstants.START_ELEMENT) {
+			throw new IllegalStateException("not positioned at an opening tag");
+		}
+	}
+
+	private void checkAttribute(final int index) {
+		checkStartElement();
+
+		if (index < 0 || index >= attributeCount) {
+			throw new IndexOutOfBoundsException("attribute index " + index + " out of range");
+		}
+	}
+
+	@Override
+	public int getNamespaceCount() {
+		return 0;
+	}
+
+	@Override
+	public String getNamespacePrefix(final int index) {
+		throw new IndexOutOfBoundsException("namespaces aren't processed");
+	}
+
+	@Override
+	public String getNamespaceURI(final int index) {
+		throw new IndexOutOfBoundsException("namespaces aren't processed");
+	}
+
+	@Override
+	public String getNamespaceURI(final String prefix) {
+		return null;
+	}
+
+	@Override
+	public NamespaceContext getNamespaceContext() {
+		return null;
+	}
+
+	@Override
+	public String getPITarget() {
+		return event == XMLStreamConstants.PROCESSING_INSTRUCTION ? splitProcessingInstruction()[0] : null;
+	}
+
+	@Override
+	public String getPIData() {
+		return event == XMLStreamConstants.PROCESSING_INSTRUCTION ? splitProcessingInstruction()[1] : null;
+	}
+
+	private String[] splitProcessingInstruction() {
+		final String instruction = decodeText(textStart, textEnd, false, false);
+		int i = 0;
+
+		while (i < instruction.length() && !Character.isWhitespace(instruction.charAt(i))) {
+			i++;
+		}
+
+		return new String[] { instruction.substring(0, i), instruction.substring(i).trim() };
+	}
+
+	@Override
+	public void require(final int type, final String namespaceURI, final String localName)
+			throws XMLStreamException {
+		if (event != type || (localName != null && !localName.equals(getLocalName()))) {
+			throw error("required event " + type + (localName != null ? " for " + localName : "")
+					+ " doesn't match the current event " + event);
+		}
+	}
+
+	@Override
+	public Object getProperty(final String name) {
+		return null;
+	}
+
+	@Override
+	public String getEncoding() {
+		return charset.name();
+	}
+
+	@Override
+	public String getVersion() {
+		return "1.0";
+	}
+
+	@Override
+	public boolean isStandalone() {
+		return false;
+	}
+
+	@Override
+	public boolean standaloneSet() {
+		return false;
+	}
+
+	@Override
+	public String getCharacterEncodingScheme() {
+		return null;
+	}
+
+	@Override
+	public Location getLocation() {
+		final int lineNumber = baseLine + line - 1;
+		final int columnNumber = (line == 1 ? baseColumn : 1) + position - lineStart;
+
+		return new Location() {
+
+			@Override
+			public int getLineNumber() {
+				return lineNumber;
+			}
+
+			@Override
+			public int getColumnNumber() {
+				return columnNumber;
+			}
+
+			@Override
+			public int getCharacterOffset() {
+				return -1;
+			}
+
+			@Override
+			public String getPublicId() {
+				return null;
+			}
+
+			@Override
+			public String getSystemId() {
+				return null;
+			}
+		};
+	}
+
+	private XMLStreamException error(final String message) {
+		return new XMLStreamException(message, getLocation());
+	}
+
+	private void newLine(final int start) {
+		line++;
+		lineStart = start;
+	}
+
+	private byte at(final int index) {
+		if (index >= windowEnd || index < windowStart) {
+			load(Math.min(keep, index), index + 1);
+		}
+
+		return window[index - windowStart];
+	}
+
+	/**
+	 * Makes sure the given range is held by the window, which is refilled from the source buffer starting
+	 * at <code>start</code> otherwise. Reading single bytes from a direct buffer is comparatively slow, so
+	 * they are read in bulk.
+	 */
+	private void load(final int start, final int end) {
+		if (start >= windowStart && end <= windowEnd) {
+			return;
+		}
+
+		if (end - start > window.length) {
+			window = new byte[Math.max(end - start, window.length * 2)];
+		}
+
+		final int length = Math.min(window.length, limit - start);
+		source.limit(start + length).position(start);
+		source.get(window, 0, length);
+		windowStart = start;
+		windowEnd = start + length;
+	}
+
+	private boolean startsWith(final int index, final byte[] bytes) {
+		if (index + bytes.length > limit) {
+			return false;
+		}
+
+		for (int i = 0; i < bytes.length; i++) {
+			if (at(index + i) != bytes[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isWhitespace(final byte b) {
+		return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+	}
+
+	private String decodeText(final int start, final int end, final boolean attribute, final boolean references) {
+		int i = start;
+		while (i < end) {
+			final byte b = at(i);
+			if (b == '\r' || (references && b == '&') || (attribute && (b == '\n' || b == '\t'))) {
+				break;
+			}
+			i++;
+		}
+
+		if (i == end) {
+			return decode(start, end);
+		}
+
+		final StringBuilder builder = new StringBuilder(end - start);
+		int runStart = start;
+
+		for (; i < end; i++) {
+			final byte b = at(i);
+
+			if (b == '\r') {
+				builder.append(decode(runStart, i)).append(attribute ? ' ' : '\n');
+				if (i + 1 < end && at(i + 1) == '\n') {
+					i++;
+				}
+				runStart = i + 1;
+			} else if (attribute && (b == '\n' || b == '\t')) {
+				builder.append(decode(runStart, i)).append(' ');
+				runStart = i + 1;
+			} else if (references && b == '&') {
+				builder.append(decode(runStart, i));
+				// the reference has been checked while scanning already
+				final int semicolon = indexOf(i + 1, end, (byte) ';');
+				builder.append(resolveReference(decode(i + 1, semicolon)));
+				i = semicolon;
+				runStart = i + 1;
+			}
+		}
+
+		return builder.append(decode(runStart, end)).toString();
+	}
+
+	private int indexOf(final int from, final int end, final byte b) {
+		int i = from;
+
+		while (i < end && at(i) != b) {
+			i++;
+		}
+
+		return i;
+	}
+
+	private String resolveReference(final String reference) {
+		if (reference.equals("lt")) {
+			return "<";
+		} else if (reference.equals("gt")) {
+			return ">";
+		} else if (reference.equals("amp")) {
+			return "&";
+		} else if (reference.equals("apos")) {
+			return "'";
+		} else if (reference.equals("quot")) {
+			return "\"";
+		} else if (reference.startsWith("#x")) {
+			return resolveCharacterReference(reference.substring(2), 16);
+		} else if (reference.startsWith("#")) {
+			return resolveCharacterReference(reference.substring(1), 10);
+		}
+
+		return null;
+	}
+
+	private static String resolveCharacterReference(final String digits, final int radix) {
+		if (digits.isEmpty()) {
+			return null;
+		}
+
+		int codePoint = 0;
+
+		for (int i = 0; i < digits.length(); i++) {
+			final int digit = Character.digit(digits.charAt(i), radix);
+
+			if (digit < 0 || digits.charAt(i) > 'f') {
+				return null;
+			}
+
+			codePoint = codePoint * radix + digit;
+
+			if (codePoint > Character.MAX_CODE_POINT) {
+				return null;
+			}
+		}
+
+		return new String(Character.toChars(codePoint));
+	}
+
+	private String decode(final int start, final int end) {
+		load(start, end);
+		return new String(window, start - windowStart, end - start, charset);
+	}
+
+	/**
+	 * A tag or attribute name, decoded once.
+	 */
+	private static final class Name {
+		private final byte[] bytes;
+		private final int hash;
+		private final String qName;
+		private final String prefix;
+		private final String localName;
+
+		Name(final byte[] bytes, final int hash, final Charset charset) {
+			this.bytes = bytes;
+			this.hash = hash;
+			this.qName = new String(bytes, charset);
+
+			final int colon = qName.indexOf(':');
+			this.prefix = colon < 0 ? "" : qName.substring(0, colon);
+			this.localName = colon < 0 ? qName : qName.substring(colon + 1);
+		}
+
+		boolean isNamespaceDeclaration() {
+			return qName.equals("xmlns") || prefix.equals("xmlns");
+		}
+	}
+
+	/**
+	 * An open addressing hash table looking up names by their bytes, so each distinct name is decoded
+	 * and allocated only once.
+	 */
+	private static final class NameTable {
+		private final Charset charset;
+		private Name[] table = new Name[64];
+		private int size;
+
+		NameTable(final Charset charset) {
+			this.charset = charset;
+		}
+
+		Name lookup(final byte[] bytes, final int offset, final int length, final int hash) {
+			final int mask = table.length - 1;
+			for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+				final Name candidate = table[slot];
+
+				if (candidate == null) {
+					final Name name = new Name(Arrays.copyOfRange(bytes, offset, offset + length), hash, charset);
+					table[slot] = name;
+
+					if (++size * 2 > table.length) {
+						rehash();
+					}
+
+					return name;
+				} else if (candidate.hash == hash
+						&& Arrays.equals(candidate.bytes, 0, candidate.bytes.length, bytes, offset, offset + length)) {
+					return candidate;
+				}
+			}
+		}
+
+		private void rehash() {
+			final Name[] oldTable = table;
+			table = new Name[oldTable.length * 2];
+			final int mask = table.length - 1;
+
+			for (final Name name : oldTable) {
+				if (name != null) {
+					int slot = name.hash & mask;
+					while (table[slot] != null) {
+						slot = (slot + 1) & mask;
+					}
+					table[slot] = name;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package net.sf.testng.databinding.xml;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only file mapped into memory. As a single mapping can't exceed 2GB, the file is mapped in
+ * segments, hiding the segment boundaries from the users of this class.
+ *
+ * @author Matthias Rothe
+ */
+final class MappedFile implements Closeable {
+	private static final int SEGMENT_SHIFT = 30;
+	private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+	private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+	private final FileChannel channel;
+	private final long size;
+	private final MappedByteBuffer[] segments;
+
+	/**
+	 * Maps the file at the given path.
+	 *
+	 * @param path The path of the file
+	 * @throws IOException if the file can't be opened or mapped
+	 */
+	MappedFile(final Path path) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+
+		boolean mapped = false;
+		try {
+			size = channel.size();
+			segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT)];
+
+			for (int i = 0; i < segments.length; i++) {
+				final long position = i * SEGMENT_SIZE;
+				segments[i] = channel.map(MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+			}
+
+			mapped = true;
+		} finally {
+			if (!mapped) {
+				channel.close();
+			}
+		}
+	}
+
+	/**
+	 * @return the size of the file in bytes
+	 */
+	long size() {
+		return size;
+	}
+
+	/**
+	 * @param position The position of the byte
+	 * @return the byte at the given position
+	 */
+	byte get(final long position) {
+		return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK));
+	}
+
+	/**
+	 * Returns a buffer holding the bytes between the given positions. The buffer shares the mapped memory
+	 * of this file if the range lies within one segment, otherwise the range is mapped separately.
+	 *
+	 * @param start The position of the first byte, inclusive
+	 * @param end The position of the last byte, exclusive
+	 * @return the buffer
+	 * @throws IOException if the range has to be mapped separately and mapping fails
+	 */
+	ByteBuffer slice(final long start, final long end) throws IOException {
+		final int segment = (int) (start >>> SEGMENT_SHIFT);
+
+		if (segment == (int) ((end - 1) >>> SEGMENT_SHIFT)) {
+			final ByteBuffer slice = segments[segment].duplicate();
+			slice.limit((int) (((end - 1) & SEGMENT_MASK) + 1));
+			slice.position((int) (start & SEGMENT_MASK));
+			return slice.slice();
+		}
+
+		return channel.map(MapMode.READ_ONLY, start, end - start);
+	}
+
+	/**
+	 * Closes the underlying channel. Buffers obtained from this file stay valid.
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,51 @@
+package net.sf.testng.databinding.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.testng.databinding.core.util.DispatchTable;
+import net.sf.testng.databinding.core.util.DispatchTable.Naming;
+
+/**
+ * The {@link Naming naming} rule {@link XMLDataSource} has always applied: tags of list types must equal
+ * the singular of the name of the parameter or property, since each element of the list is held by a tag
+ * of its own.
+ *
+ * @author Matthias Rothe
+ */
+final class TagNaming extends Naming {
+
+	/**
+	 * The rule shared by all data sources, sharing the {@link DispatchTable#forBean(Class, Naming) tables}
+	 * of Java Beans, too.
+	 */
+	static final TagNaming INSTANCE = new TagNaming();
+
+	private TagNaming() {
+	}
+
+	@Override
+	protected String[] getListNames(final String listName) {
+		final String normalizedListName = listName.toLowerCase();
+		final List<String> tagNames = new ArrayList<String>(2);
+
+		if (normalizedListName.endsWith("s")) {
+			tagNames.add(listName.substring(0, listName.length() - 1));
+		}
+
+		if (normalizedListName.endsWith("ies")) {
+			tagNames.add(listName.substring(0, listName.length() - "ies".length()) + "y");
+		}
+
+		return tagNames.toArray(new String[tagNames.size()]);
+	}
+
+	@Override
+	protected String getElementName(final String listName) {
+		if (listName.endsWith("ies")) {
+			return listName.substring(0, listName.length() - "ies".length()) + "y";
+		} else {
+			return listName.substring(0, listName.length() - 1);
+		}
+	}
+}
\ No newline at end of file
@@ -1,16 +1,13 @@
 package net.sf.testng.databinding.xml;
 
-import java.beans.BeanInfo;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
+import java.io.IOException;
 import java.io.InputStream;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.Type;
 import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -19,7 +16,6 @@ import java.util.NoSuchElementException;
 import java.util.Properties;
 
 import javax.xml.stream.Location;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
@@ -34,9 +30,15 @@ import net.sf.testng.databinding.core.error.MultipleConfigurationErrorsException
 import net.sf.testng.databinding.core.error.MultipleSourceErrorsException;
 import net.sf.testng.databinding.core.model.Configuration;
 import net.sf.testng.databinding.core.util.DataSourceConfigurationLoader;
-import net.sf.testng.databinding.core.util.Types;
+import net.sf.testng.databinding.core.util.DispatchTable;
+import net.sf.testng.databinding.core.util.DispatchTable.Converter;
+import net.sf.testng.databinding.core.util.DispatchTable.Kind;
+import net.sf.testng.databinding.core.util.DispatchTable.Slot;
+import net.sf.testng.databinding.core.util.OrderedParallelBinder;
 import net.sf.testng.databinding.util.Exceptions;
 import net.sf.testng.databinding.util.MethodParameter;
+import net.sf.testng.databinding.xml.DataSetRegionBinding.DataSetBinding;
+import net.sf.testng.databinding.xml.DataSetScanner.DataSetRegion;
 
 /**
  * <p>
@@ -93,19 +95,65 @@ import net.sf.testng.databinding.util.MethodParameter;
  * </li>
  * <li>There must be tags following the same rules just given for test method parameters for all the properties in a Java
  * Bean type and any nested Java Bean type.</li>
+ * <li>Instead of a tag, test method parameters and Java Bean properties of primitive, primitive wrapper, {@link String}
+ * or {@link Enum} type can be given as an attribute of the <code>&lt;testInputData&gt;</code> or
+ * <code>&lt;testOutputData&gt;</code> tag or of the tag of the Java Bean respectively. The name of the attribute is
+ * determined by the same rules as the name of the tag. Attributes are bound before any child tags, so if both an
+ * attribute and a tag are given for the same parameter or property, the tag is ignored. Attributes with a namespace
+ * prefix and attributes of the root tag aren't allowed to carry data; the root tag must not have any attributes.</li>
  * </ul>
  * </p>
+ * <h4>Compact Format</h4>
+ * <p>
+ * Using attributes, data files shrink considerably and are parsed with fewer events. These two data sets are
+ * equivalent:
+ * </p>
+ * <pre>
+ * &lt;dataSet&gt;
+ *     &lt;testInputData&gt;
+ *         &lt;searchTerm&gt;Java Component Scanner&lt;/searchTerm&gt;
+ *         &lt;fileType&gt;ALL&lt;/fileType&gt;
+ *     &lt;/testInputData&gt;
+ *     &lt;testOutputData&gt;
+ *         &lt;searchResult&gt;
+ *             &lt;searchResultDefinition&gt;
+ *                 &lt;linkLabel&gt;Jetro&lt;/linkLabel&gt;
+ *                 &lt;description&gt;JSON transformations&lt;/description&gt;
+ *             &lt;/searchResultDefinition&gt;
+ *         &lt;/searchResult&gt;
+ *     &lt;/testOutputData&gt;
+ * &lt;/dataSet&gt;
+ * </pre>
+ * <pre>
+ * &lt;dataSet&gt;
+ *     &lt;testInputData searchTerm="Java Component Scanner" fileType="ALL" /&gt;
+ *     &lt;testOutputData&gt;
+ *         &lt;searchResult&gt;
+ *             &lt;searchResultDefinition linkLabel="Jetro" description="JSON transformations" /&gt;
+ *         &lt;/searchResult&gt;
+ *     &lt;/testOutputData&gt;
+ * &lt;/dataSet&gt;
+ * </pre>
  * <h4>Java Beans</h4>
  * <p>
  * Java Beans that data is to be bound to need to have a standard constructor taking no arguments. The same types that are
  * supported as test method parameter types are also supported as Java Bean properties types. Particularly any parameterized
  * types other than {@link List Lists}, whether they are parameterized Java Beans, {@link Collection Collections} other than
- * Lists, or {@link Map Maps}, are not supported. Nested Java Beans are however supported up to any nesting level (nesting
- * is only limited by the max allowable method stack size of the used JVM which generally allows thousands of levels). Any
+ * Lists, or {@link Map Maps}, are not supported. Nested Java Beans are however supported up to any nesting level (nested
+ * beans are bound iteratively, so nesting is only limited by the available heap, not by the method stack size). Any
  * Java Bean properties for which no tags can be found or that have an unsupported type are just not set, leaving them
  * unchanged. Any tags for which no Java Bean properties of matching name and supported type can be found are skipped
  * ignoring them.
  * </p>
+ * <h4>Parallel Binding</h4>
+ * <p>
+ * Large files with many <code>&lt;dataSet&gt;</code> tags can be bound by several threads, see
+ * {@link XMLDataSourceConfiguration#getParallelism()}. A quick pre-pass over the memory mapped file finds
+ * the byte ranges of all data sets, which are then bound by a pool of workers, each parsing its data set
+ * with its own XML parser. The data sets are returned in document order, with at most
+ * {@link XMLDataSourceConfiguration#getMaxDataSetsInFlight()} data sets bound ahead. Files the pre-pass
+ * can't handle, e.g. files containing a document type declaration, are bound sequentially.
+ * </p>
  * <h3>Example</h3>
  * <p>
  * To make issues clearer, here is an example of this data source in use. It's test method does a kind of
@@ -341,9 +389,12 @@ public class XMLDataSource extends AbstractDataSource {
 
 	private final List<MethodParameter> inputParameters = new ArrayList<MethodParameter>();
 	private final List<MethodParameter> outputParameters = new ArrayList<MethodParameter>();
+	private DispatchTable inputTable;
+	private DispatchTable outputTable;
 	private final XMLStreamReader xmlReader;
 	private final XMLDataSourceConfiguration configuration;
 	private InputStream urlStream;
+	private OrderedParallelBinder<DataSetRegion> parallelBinder;
 	private List<MethodParameter> parameters;
 	private boolean usesDataSetTag;
 	private boolean hasNext;
@@ -370,6 +421,7 @@ public class XMLDataSource extends AbstractDataSource {
 
 			xmlReader = createXmlReader();
 			checkDataSource();
+			parallelBinder = createParallelBinder();
 			cleanUpNecessary = false;
 		} finally {
 			if (cleanUpNecessary)
@@ -379,13 +431,50 @@ public class XMLDataSource extends AbstractDataSource {
 
 	private XMLStreamReader createXmlReader() throws Exception {
 		final URL url = configuration.getURL();
+
+		if (configuration.useFastParser()) {
+			final XMLStreamReader xmlReader = FastXMLStreamReader.open(url, configuration.getEncoding());
+
+			if (xmlReader != null) {
+				return xmlReader;
+			}
+		}
+
 		urlStream = url.openStream();
+		return XMLReaders.createStaxReader(urlStream, configuration.getEncoding());
+	}
+
+	private OrderedParallelBinder<DataSetRegion> createParallelBinder() throws Exception {
+		final URL url = configuration.getURL();
+		final int parallelism = configuration.getParallelism();
+
+		if (parallelism <= 1 || !usesDataSetTag || !"file".equals(url.getProtocol())
+				|| !DataSetScanner.supports(Charset.forName(configuration.getEncoding()))) {
+			return null;
+		}
 
-		final XMLInputFactory factory = XMLInputFactory.newInstance();
-		final XMLStreamReader xmlReader = factory.createXMLStreamReader(urlStream,
-			configuration.getEncoding());
+		final MappedFile file = new MappedFile(Paths.get(url.toURI()));
+		final List<DataSetRegion> regions = DataSetScanner.scan(file);
 
-		return xmlReader;
+		if (regions == null) {
+			file.close();
+			return null;
+		}
+
+		xmlReader.close();
+		if (urlStream != null) {
+			urlStream.close();
+		}
+
+		return DataSetRegionBinding.start(file, regions, configuration.getEncoding(),
+			configuration.useFastParser(), parallelism, configuration.getMaxDataSetsInFlight(),
+			new DataSetBinding() {
+
+				@Override
+				public Object[] bind(final XMLStreamReader xmlReader) {
+					return bindDataSet(xmlReader);
+				}
+			});
 	}
 
 	private void checkDataSource() {
@@ -405,7 +494,7 @@ public class XMLDataSource extends AbstractDataSource {
 		}
 
 		if (!validDataSource) {
-			throw genericSourceErrorsException(null);
+			throw genericSourceErrorsException(xmlReader, null);
 		}
 	}
 
@@ -438,6 +527,9 @@ public class XMLDataSource extends AbstractDataSource {
 			errorCollector.addError("no parameters with @TestInput or @TestOutput annotation given");
 			throw new MultipleConfigurationErrorsException(Arrays.asList(errorCollector));
 		}
+
+		inputTable = DispatchTable.forParameters(inputParameters, TagNaming.INSTANCE);
+		outputTable = DispatchTable.forParameters(outputParameters, TagNaming.INSTANCE);
 	}
 
 	/**
@@ -454,79 +546,126 @@ public class XMLDataSource extends AbstractDataSource {
 	@Override
 	public Object[] next() {
 		if (hasNext) {
-			boolean cleanUpNecessary = true;
-			try {
-				final Object[] nextDataSet = createNextDataSet(xmlReader);
-				cleanUpNecessary = false;
-				return nextDataSet;
-			} catch (final MultipleConfigurationErrorsException e) {
-				throw e;
-			} catch (final MultipleSourceErrorsException e) {
-				throw e;
-			} catch (final Exception e) {
-				throw genericSourceErrorsException(e.getClass().getName() + ": " + e.getMessage());
-			} finally {
-				if (cleanUpNecessary)
-					cleanUp();
-			}
+			return parallelBinder != null ? nextBoundInParallel() : nextBoundSequentially();
 		} else {
 			throw new NoSuchElementException();
 		}
 	}
 
+	private Object[] nextBoundSequentially() {
+		boolean cleanUpNecessary = true;
+		try {
+			final Object[] nextDataSet = createNextDataSet(xmlReader);
+			cleanUpNecessary = false;
+			return nextDataSet;
+		} catch (final MultipleConfigurationErrorsException e) {
+			throw e;
+		} catch (final MultipleSourceErrorsException e) {
+			throw e;
+		} catch (final Exception e) {
+			throw genericSourceErrorsException(xmlReader, e.getClass().getName() + ": " + e.getMessage());
+		} finally {
+			if (cleanUpNecessary)
+				cleanUp();
+		}
+	}
+
+	private Object[] nextBoundInParallel() {
+		boolean cleanUpNecessary = true;
+		try {
+			final Object[] nextDataSet = parallelBinder.next();
+			hasNext = parallelBinder.hasNext();
+			cleanUpNecessary = !hasNext;
+			return nextDataSet;
+		} catch (final IOException e) {
+			throw Exceptions.softenIfNecessary(e);
+		} finally {
+			if (cleanUpNecessary)
+				cleanUp();
+		}
+	}
+
 	private Object[] createNextDataSet(final XMLStreamReader xmlReader) throws XMLStreamException {
+		final Object[] dataSet = createDataSet(xmlReader, getSectionTagName());
+		hasNext = determineHasNext(xmlReader);
+		return dataSet;
+	}
+
+	private Object[] bindDataSet(final XMLStreamReader xmlReader) {
+		try {
+			return createDataSet(xmlReader, DATA_SET_TAG);
+		} catch (final MultipleConfigurationErrorsException e) {
+			throw e;
+		} catch (final MultipleSourceErrorsException e) {
+			throw e;
+		} catch (final Exception e) {
+			throw genericSourceErrorsException(xmlReader, e.getClass().getName() + ": " + e.getMessage());
+		}
+	}
+
+	private Object[] createDataSet(final XMLStreamReader xmlReader, final String sectionTagName)
+			throws XMLStreamException {
 		final Map<MethodParameter, Object> objects = new HashMap<MethodParameter, Object>();
+		final BeanStack beanStack = new BeanStack();
 
 		if (inputParameters.size() > 0) {
-			findOpeningTag(TEST_INPUT_DATA_TAG, getSectionTagName(), xmlReader);
-			objects.putAll(createNextInputData(xmlReader));
+			findOpeningTag(TEST_INPUT_DATA_TAG, sectionTagName, xmlReader);
+			objects.putAll(createNextInputData(beanStack, xmlReader));
 		}
 
 		if (outputParameters.size() > 0) {
-			findOpeningTag(TEST_OUTPUT_DATA_TAG, getSectionTagName(), xmlReader);
-			objects.putAll(createNextOutputData(xmlReader));
+			findOpeningTag(TEST_OUTPUT_DATA_TAG, sectionTagName, xmlReader);
+			objects.putAll(createNextOutputData(beanStack, xmlReader));
 		}
 
-		hasNext = determineHasNext(xmlReader);
-
 		return orderAndConvert(objects);
 	}
 
-	private Map<MethodParameter, Object> createNextInputData(final XMLStreamReader xmlReader) throws XMLStreamException {
+	private Map<MethodParameter, Object> createNextInputData(final BeanStack beanStack, final XMLStreamReader xmlReader)
+			throws XMLStreamException {
 		// assumes that xmlReader is always at a testInputData tag on entering this method
-		return createNextData(xmlReader, inputParameters, TEST_INPUT_DATA_TAG);
+		return createNextData(xmlReader, inputTable, TEST_INPUT_DATA_TAG, beanStack);
 	}
 
-	private Map<MethodParameter, Object> createNextOutputData(final XMLStreamReader xmlReader)
-			throws XMLStreamException {
+	private Map<MethodParameter, Object> createNextOutputData(final BeanStack beanStack,
+			final XMLStreamReader xmlReader) throws XMLStreamException {
 		// assumes that xmlReader is always at a testOutputData tag on entering this method
-		return createNextData(xmlReader, outputParameters, TEST_OUTPUT_DATA_TAG);
+		return createNextData(xmlReader, outputTable, TEST_OUTPUT_DATA_TAG, beanStack);
 	}
 
 	private Map<MethodParameter, Object> createNextData(final XMLStreamReader xmlReader,
-			final List<MethodParameter> parameters, final String sectionTagName) throws XMLStreamException {
-		final List<MethodParameter> remainingParameters = new ArrayList<MethodParameter>(parameters);
+			final DispatchTable table, final String sectionTagName, final BeanStack beanStack) throws XMLStreamException {
+		final BitSet seen = new BitSet(table.size());
 		final Map<MethodParameter, Object> objects = new HashMap<MethodParameter, Object>();
 
+		for (int i = 0; i < xmlReader.getAttributeCount(); i++) {
+			final Slot slot = lookupAttributeSlot(table, seen, xmlReader, i);
+
+			if (slot != null) {
+				objects.put(slot.getParameter(), processAttribute(slot, xmlReader.getAttributeValue(i)));
+				seen.set(slot.getIndex());
+			}
+		}
+
 		for (xmlReader.next(); !reachedEndOfDataSection(sectionTagName, xmlReader.getEventType(), xmlReader); parseNextInDataSectionIfNecessary(
 			sectionTagName, xmlReader)) {
 			if (xmlReader.getEventType() == XMLStreamConstants.START_ELEMENT) {
 				final String tagName = xmlReader.getLocalName();
-				final MethodParameter parameter = getMethodParameterByName(remainingParameters, tagName);
+				final Slot slot = table.lookup(tagName, seen);
 
-				if (parameter != null) {
-					objects.put(parameter, processMethodParameter(parameter, xmlReader));
-					remainingParameters.remove(parameter);
+				if (slot != null) {
+					objects.put(slot.getParameter(), processSlot(slot, beanStack, xmlReader));
+					seen.set(slot.getIndex());
 				} else {
 					skipToEndTag(tagName, xmlReader);
 				}
 			}
 		}
 
-		if (remainingParameters.isEmpty()) {
+		if (seen.cardinality() == table.size()) {
 			return objects;
 		} else {
-			throw remainingParametersSourceErrorsException(remainingParameters);
+			throw remainingParametersSourceErrorsException(table, seen);
 		}
 	}
 
@@ -544,206 +683,228 @@ public class XMLDataSource extends AbstractDataSource {
 		}
 	}
 
-	private Object processMethodParameter(final MethodParameter parameter, final XMLStreamReader xmlReader)
+	private Object processSlot(final Slot slot, final BeanStack beanStack, final XMLStreamReader xmlReader)
 			throws XMLStreamException {
-		final Type type = parameter.getType();
-		if (Types.isEnumType(type)) {
-			return processEnumParameter(parameter, xmlReader);
-		} else if (Types.isPrimitiveType(type)) {
-			return processPrimitiveParameter(parameter, xmlReader);
-		} else if (Types.isSingleBeanType(type)) {
-			return processSingleBeanParameter(parameter, xmlReader);
-		} else if (Types.isListOfPrimitivesType(type)) {
-			return processListOfPrimitivesParameter(parameter, xmlReader);
-		} else if (Types.isListOfBeansType(type)) {
-			return processListOfBeansParameter(parameter, xmlReader);
-		} else {
-			final ErrorCollector errorCollector = new ErrorCollector(type, parameter.getName());
+		switch (slot.getKind()) {
+		case ENUM:
+			return processEnumParameter(slot, xmlReader);
+		case PRIMITIVE:
+			return processPrimitiveParameter(slot, xmlReader);
+		case SINGLE_BEAN:
+			return processSingleBeanParameter(slot.getElementName(), slot.getBeanClass(), beanStack, xmlReader);
+		case LIST_OF_PRIMITIVES:
+			return processListOfPrimitivesParameter(slot, xmlReader);
+		case LIST_OF_BEANS:
+			return processListOfBeansParameter(slot, beanStack, xmlReader);
+		default:
+			final MethodParameter parameter = slot.getParameter();
+			final ErrorCollector errorCollector = new ErrorCollector(parameter.getType(), parameter.getName());
 			errorCollector.addError("unsupported type for data source " + getClass().getSimpleName());
 			throw new MultipleConfigurationErrorsException(Arrays.asList(errorCollector));
 		}
 	}
 
-	private Object processEnumParameter(final MethodParameter parameter, final XMLStreamReader xmlReader)
-			throws XMLStreamException {
-		final String enumName = xmlReader.getElementText();
+	private Slot lookupAttributeSlot(final DispatchTable table, final BitSet seen, final XMLStreamReader xmlReader,
+			final int index) {
+		final String prefix = xmlReader.getAttributePrefix(index);
 
-		final Class<?> enumClass = (Class<?>) parameter.getType();
-		final Field[] fields = enumClass.getFields();
+		if (prefix != null && prefix.length() > 0) {
+			return null;
+		}
 
-		for (final Field field : fields) {
-			try {
-				if (field.getName().equals(enumName)) {
-					return field.get(null);
-				}
-			} catch (final Exception ignored) {
-				// shouldn't happen
-			}
+		final Slot slot = table.lookup(xmlReader.getAttributeLocalName(index), seen);
+		return slot != null && (slot.getKind() == Kind.PRIMITIVE || slot.getKind() == Kind.ENUM) ? slot : null;
+	}
+
+	private Object processAttribute(final Slot slot, final String value) {
+		return slot.getKind() == Kind.ENUM ? toEnumConstant(slot, value) : toPrimitive(slot, value);
+	}
+
+	private Object processEnumParameter(final Slot slot, final XMLStreamReader xmlReader) throws XMLStreamException {
+		return toEnumConstant(slot, xmlReader.getElementText());
+	}
+
+	private Object toEnumConstant(final Slot slot, final String enumName) {
+		final Object constant = slot.getEnumConstant(enumName);
+
+		if (constant != null) {
+			return constant;
 		}
 
+		final MethodParameter parameter = slot.getParameter();
 		final ErrorCollector errorCollector = new ErrorCollector(parameter.getType(), parameter.getName());
 		errorCollector.addError("the value [" + enumName + "] found in the source isn't a member of this enum type");
 		throw new MultipleSourceErrorsException(Arrays.asList(errorCollector));
 	}
 
-	private Object processPrimitiveParameter(final MethodParameter parameter, final XMLStreamReader xmlReader)
+	private Object processPrimitiveParameter(final Slot slot, final XMLStreamReader xmlReader)
 			throws XMLStreamException {
-		final String value = xmlReader.getElementText();
-		final Type type = parameter.getType();
-
-		if (type.equals(String.class)) {
-			return value;
-		} else if (type == Integer.class || type == int.class) {
-			return Integer.parseInt(value);
-		} else if (type == Long.class || type == long.class) {
-			return Long.parseLong(value);
-		} else if (type == Float.class || type == float.class) {
-			return Float.parseFloat(value);
-		} else if (type == Double.class || type == double.class) {
-			return Double.parseDouble(value);
-		} else if (type == Boolean.class || type == boolean.class) {
-			return Boolean.parseBoolean(value);
+		return toPrimitive(slot, xmlReader.getElementText());
+	}
+
+	private Object toPrimitive(final Slot slot, final String value) {
+		final Converter converter = slot.getConverter();
+
+		if (converter != null) {
+			return converter.convert(value);
 		}
 
 		// can't happen
 		throw new RuntimeException();
 	}
 
-	private Object processListOfPrimitivesParameter(final MethodParameter listParameter, final XMLStreamReader xmlReader)
+	private Object processListOfPrimitivesParameter(final Slot slot, final XMLStreamReader xmlReader)
 			throws XMLStreamException {
-		final MethodParameter valueParameter = deriveValueFromListParameter(listParameter);
 		final List<Object> primitives = new ArrayList<Object>();
 
 		do {
-			primitives.add(processPrimitiveParameter(valueParameter, xmlReader));
+			primitives.add(processPrimitiveParameter(slot, xmlReader));
 			xmlReader.nextTag();
 		} while (xmlReader.getEventType() == XMLStreamConstants.START_ELEMENT
-				&& nameMatches(listParameter.getType(), listParameter.getName(), xmlReader.getLocalName()));
+				&& slot.matches(xmlReader.getLocalName()));
 
 		return primitives;
 	}
 
-	private Object processSingleBeanParameter(final MethodParameter parameter, final XMLStreamReader xmlReader)
-			throws XMLStreamException {
+	private Object processSingleBeanParameter(final String beanName, final Class<?> clazz,
+			final BeanStack beanStack, final XMLStreamReader xmlReader) throws XMLStreamException {
+		// nested beans are bound iteratively, keeping one frame per nesting level on the bean stack
+		final int bottom = beanStack.depth();
+
 		try {
-			final String beanName = parameter.getName();
-			final Class<?> clazz = (Class<?>) parameter.getType();
-			final BeanInfo info = Introspector.getBeanInfo(clazz);
-			final List<PropertyDescriptor> remainingCandidates = filterCandidateProperties(info
-				.getPropertyDescriptors());
-			final Object bean = clazz.getConstructor().newInstance();
-
-			for (xmlReader.next(); !reachedEndOfBeanSection(clazz, beanName, xmlReader); parseNextInBeanIfNecessary(
-				clazz, beanName, xmlReader)) {
-				if (xmlReader.getEventType() == XMLStreamConstants.START_ELEMENT) {
-					final String tagName = xmlReader.getLocalName();
-					final PropertyDescriptor descriptor = getPropertyDescriptorByName(remainingCandidates, tagName);
+			BeanFrame frame = beanStack.push(beanName, DispatchTable.forBean(clazz, TagNaming.INSTANCE), null, null);
+			processBeanAttributes(frame, xmlReader);
+			xmlReader.next();
+
+			while (true) {
+				if (reachedEndOfBeanSection(frame.beanName, xmlReader)) {
+					final Object bean = frame.bean;
+					final Slot slot = frame.slot;
+					final List<Object> beans = frame.beans;
+					beanStack.pop();
 
-					if (descriptor != null) {
-						descriptor.getWriteMethod().invoke(bean,
-							processMethodParameter(createMethodParameterForProperty(descriptor), xmlReader));
-						remainingCandidates.remove(descriptor);
+					if (beanStack.depth() == bottom) {
+						return bean;
+					}
+
+					frame = beanStack.peek();
+
+					if (slot.getKind() == Kind.LIST_OF_BEANS) {
+						beans.add(bean);
+						xmlReader.nextTag();
+
+						if (xmlReader.getEventType() == XMLStreamConstants.START_ELEMENT
+								&& slot.matches(xmlReader.getLocalName())) {
+							frame = pushBeanFrame(beanStack, slot, beans, xmlReader);
+							continue;
+						}
+
+						slot.getWriteMethod().invoke(frame.bean, beans);
+						frame.seen.set(slot.getIndex());
 					} else {
+						slot.getWriteMethod().invoke(frame.bean, bean);
+						frame.seen.set(slot.getIndex());
+
+						// move past the closing tag, which might be named like the enclosing bean's one
+						xmlReader.next();
+						continue;
+					}
+				} else if (xmlReader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+					final String tagName = xmlReader.getLocalName();
+					final Slot slot = frame.table.lookup(tagName, frame.seen);
+
+					if (slot == null) {
 						skipToEndTag(tagName, xmlReader);
+					} else if (slot.getKind() == Kind.SINGLE_BEAN) {
+						frame = pushBeanFrame(beanStack, slot, null, xmlReader);
+						continue;
+					} else if (slot.getKind() == Kind.LIST_OF_BEANS) {
+						frame = pushBeanFrame(beanStack, slot, new ArrayList<Object>(), xmlReader);
+						continue;
+					} else {
+						slot.getWriteMethod().invoke(frame.bean, processSlot(slot, beanStack, xmlReader));
+						frame.seen.set(slot.getIndex());
 					}
 				}
-			}
 
-			return bean;
+				parseNextInBeanIfNecessary(frame.beanName, xmlReader);
+			}
 		} catch (final XMLStreamException e) {
 			throw e;
 		} catch (final NumberFormatException e) {
 			throw e;
 		} catch (final Exception e) {
-			final ErrorCollector errorCollector = new ErrorCollector(parameter.getType());
+			final ErrorCollector errorCollector = new ErrorCollector(clazz);
 			errorCollector.addError("unable to create type: " + e.getMessage());
 			throw new MultipleConfigurationErrorsException(Arrays.asList(errorCollector));
+		} finally {
+			beanStack.popTo(bottom);
+		}
+	}
+
+	private BeanFrame pushBeanFrame(final BeanStack beanStack, final Slot slot, final List<Object> beans,
+			final XMLStreamReader xmlReader) throws Exception {
+		final BeanFrame frame = beanStack.push(slot.getElementName(),
+			DispatchTable.forBean(slot.getBeanClass(), TagNaming.INSTANCE), slot, beans);
+		processBeanAttributes(frame, xmlReader);
+		xmlReader.next();
+		return frame;
+	}
+
+	private void processBeanAttributes(final BeanFrame frame, final XMLStreamReader xmlReader) throws Exception {
+		for (int i = 0; i < xmlReader.getAttributeCount(); i++) {
+			final Slot slot = lookupAttributeSlot(frame.table, frame.seen, xmlReader, i);
+
+			if (slot != null) {
+				slot.getWriteMethod().invoke(frame.bean, processAttribute(slot, xmlReader.getAttributeValue(i)));
+				frame.seen.set(slot.getIndex());
+			}
 		}
 	}
 
 	private void skipToEndTag(final String tagName, final XMLStreamReader xmlReader) throws XMLStreamException {
+		if (xmlReader instanceof FastXMLStreamReader) {
+			((FastXMLStreamReader) xmlReader).skipElement();
+			return;
+		}
+
 		while (!(xmlReader.getEventType() == XMLStreamConstants.END_ELEMENT && xmlReader.getLocalName().equals(tagName))) {
 			if (xmlReader.hasNext()) {
 				xmlReader.next();
 			} else {
-				throw genericSourceErrorsException("unexpected end of document encountered while "
+				throw genericSourceErrorsException(xmlReader, "unexpected end of document encountered while "
 						+ "skipping to closing tag </" + tagName + ">");
 			}
 		}
 	}
 
-	private boolean reachedEndOfBeanSection(final Class<?> beanType, final String beanName,
-			final XMLStreamReader xmlReader) {
+	private boolean reachedEndOfBeanSection(final String normalizedBeanName, final XMLStreamReader xmlReader) {
 		return xmlReader.getEventType() == XMLStreamConstants.END_ELEMENT
-				&& nameMatches(beanType, beanName, xmlReader.getLocalName());
+				&& normalizedBeanName.equals(xmlReader.getLocalName().toLowerCase());
 	}
 
-	private void parseNextInBeanIfNecessary(final Class<?> beanType, final String beanName,
-			final XMLStreamReader xmlReader) throws XMLStreamException {
+	private void parseNextInBeanIfNecessary(final String normalizedBeanName, final XMLStreamReader xmlReader)
+			throws XMLStreamException {
 		if (xmlReader.getEventType() != XMLStreamConstants.START_ELEMENT
-				&& !reachedEndOfBeanSection(beanType, beanName, xmlReader)) {
+				&& !reachedEndOfBeanSection(normalizedBeanName, xmlReader)) {
 			xmlReader.next();
 		}
 	}
 
-	private List<PropertyDescriptor> filterCandidateProperties(final PropertyDescriptor[] descriptors) {
-		final List<PropertyDescriptor> candidates = new ArrayList<PropertyDescriptor>();
-
-		for (final PropertyDescriptor descriptor : descriptors) {
-			if (descriptor.getWriteMethod() != null) {
-				candidates.add(descriptor);
-			}
-		}
-
-		return candidates;
-	}
-
-	private PropertyDescriptor getPropertyDescriptorByName(final List<PropertyDescriptor> descriptors,
-			final String tagName) {
-		for (final PropertyDescriptor descriptor : descriptors) {
-			final Type propertyType = descriptor.getWriteMethod().getGenericParameterTypes()[0];
-			if (nameMatches(propertyType, descriptor.getName(), tagName)) {
-				return descriptor;
-			}
-		}
-		return null;
-	}
-
-	private MethodParameter createMethodParameterForProperty(final PropertyDescriptor descriptor) {
-		final Method writeMethod = descriptor.getWriteMethod();
-		final Annotation[][] annotations = writeMethod.getParameterAnnotations();
-		final Type[] parameterTypes = writeMethod.getGenericParameterTypes();
-		return new MethodParameter(Arrays.asList(annotations[0]), parameterTypes[0], descriptor.getName());
-	}
-
-	private Object processListOfBeansParameter(final MethodParameter listParameter, final XMLStreamReader xmlReader)
-			throws XMLStreamException {
-		final MethodParameter valueParameter = deriveValueFromListParameter(listParameter);
+	private Object processListOfBeansParameter(final Slot slot, final BeanStack beanStack,
+			final XMLStreamReader xmlReader) throws XMLStreamException {
 		final List<Object> beans = new ArrayList<Object>();
 
 		do {
-			beans.add(processSingleBeanParameter(valueParameter, xmlReader));
+			beans.add(processSingleBeanParameter(slot.getElementName(), slot.getBeanClass(), beanStack,
+				xmlReader));
 			xmlReader.nextTag();
 		} while (xmlReader.getEventType() == XMLStreamConstants.START_ELEMENT
-				&& nameMatches(listParameter.getType(), listParameter.getName(), xmlReader.getLocalName()));
+				&& slot.matches(xmlReader.getLocalName()));
 
 		return beans;
 	}
 
-	private MethodParameter deriveValueFromListParameter(final MethodParameter listParameter) {
-		final MethodParameter valueParameter = Types.unwrapIfPossible(listParameter);
-
-		final String listParameterName = listParameter.getName();
-		String name = null;
-		if (listParameterName.endsWith("ies")) {
-			name = listParameterName.substring(0, listParameterName.length() - "ies".length()) + "y";
-		} else {
-			name = listParameterName.substring(0, listParameterName.length() - 1);
-		}
-
-		return new MethodParameter(valueParameter.getAnnotations(), valueParameter.getType(), name);
-	}
-
 	private boolean determineHasNext(final XMLStreamReader xmlReader) throws XMLStreamException {
 		Boolean hasNext = null;
 
@@ -762,7 +923,7 @@ public class XMLDataSource extends AbstractDataSource {
 				if (tagName.equals(DATA_SET_TAG)) {
 					hasNext = true;
 				} else {
-					throw genericSourceErrorsException("expected opening tag <" + DATA_SET_TAG + "> "
+					throw genericSourceErrorsException(xmlReader, "expected opening tag <" + DATA_SET_TAG + "> "
 							+ "or end of file, but found opening tag <" + tagName + ">");
 				}
 			}
@@ -785,6 +946,9 @@ public class XMLDataSource extends AbstractDataSource {
 			if (urlStream != null) {
 				urlStream.close();
 			}
+			if (parallelBinder != null) {
+				parallelBinder.close();
+			}
 		} catch (final Exception e) {
 			throw Exceptions.softenIfNecessary(e);
 		}
@@ -800,36 +964,6 @@ public class XMLDataSource extends AbstractDataSource {
 		return objects.toArray();
 	}
 
-	private MethodParameter getMethodParameterByName(final List<MethodParameter> parameters, final String name) {
-		for (final MethodParameter parameter : parameters) {
-			if (nameMatches(parameter.getType(), parameter.getName(), name)) {
-				return parameter;
-			}
-		}
-
-		return null;
-	}
-
-	private boolean nameMatches(final Type namedType, final String typeName, final String tagName) {
-		final String normalizedTypeName = typeName.toLowerCase();
-		final String normalizedTagName = tagName.toLowerCase();
-
-		if (Types.isSingleObjectType(namedType) && normalizedTypeName.equals(normalizedTagName)) {
-			return true;
-		} else if (Types.isListOfObjectsType(namedType)) {
-			if (normalizedTypeName.equals(normalizedTagName + "s")) {
-				return true;
-			} else if (normalizedTypeName.endsWith("ies") && normalizedTagName.endsWith("y")) {
-				final String typeNameBody = normalizedTypeName.substring(0,
-					normalizedTypeName.length() - "ies".length());
-				final String tagNameBody = normalizedTagName.substring(0, normalizedTagName.length() - "y".length());
-				return typeNameBody.equals(tagNameBody);
-			}
-		}
-
-		return false;
-	}
-
 	private String getSectionTagName() {
 		return usesDataSetTag ? DATA_SET_TAG : ROOT_TAG;
 	}
@@ -844,15 +978,17 @@ public class XMLDataSource extends AbstractDataSource {
 			if (event == XMLStreamConstants.START_ELEMENT && xmlReader.getLocalName().equals(tagName)) {
 				return;
 			} else if (event == XMLStreamConstants.END_ELEMENT && xmlReader.getLocalName().equals(sectionTagName)) {
-				throw genericSourceErrorsException("couldn't find tag <" + tagName + "> within section <"
+				throw genericSourceErrorsException(xmlReader, "couldn't find tag <" + tagName + "> within section <"
 						+ sectionTagName + ">");
 			}
 		}
 
-		throw genericSourceErrorsException("couldn't find end tag </" + sectionTagName + "> - source is malformed!");
+		throw genericSourceErrorsException(xmlReader, "couldn't find end tag </" + sectionTagName
+				+ "> - source is malformed!");
 	}
 
-	private MultipleSourceErrorsException genericSourceErrorsException(final String detailMessage) {
+	private MultipleSourceErrorsException genericSourceErrorsException(final XMLStreamReader xmlReader,
+			final String detailMessage) {
 		final Location location = xmlReader.getLocation();
 		final ErrorCollector errorCollector = new ErrorCollector(configuration.getURL().toExternalForm());
 		errorCollector.addError("invalid source for data source " + getClass().getName() + " at ["
@@ -862,11 +998,12 @@ public class XMLDataSource extends AbstractDataSource {
 		return new MultipleSourceErrorsException(Arrays.asList(errorCollector));
 	}
 
-	private MultipleSourceErrorsException remainingParametersSourceErrorsException(
-			final List<MethodParameter> remainingParameters) {
+	private MultipleSourceErrorsException remainingParametersSourceErrorsException(final DispatchTable table,
+			final BitSet seen) {
 		final List<ErrorCollector> errorCollectors = new ArrayList<ErrorCollector>();
 
-		for (final MethodParameter parameter : remainingParameters) {
+		for (int index = seen.nextClearBit(0); index < table.size(); index = seen.nextClearBit(index + 1)) {
+			final MethodParameter parameter = table.getSlot(index).getParameter();
 			final ErrorCollector errorCollector = new ErrorCollector(parameter.getType(), parameter.getName());
 			errorCollector.addError("no data found for this parameter");
 			errorCollectors.add(errorCollector);
@@ -911,4 +1048,69 @@ public class XMLDataSource extends AbstractDataSource {
 			return "unknown xml parse event";
 		}
 	}
+
+	/**
+	 * The stack of Java Beans currently being bound, one {@link BeanFrame frame} per nesting level. Frames
+	 * are reused once popped, so binding a data set allocates only as many frames as its deepest bean is
+	 * nested.
+	 */
+	private static final class BeanStack {
+		private final List<BeanFrame> frames = new ArrayList<BeanFrame>();
+		private int depth;
+
+		BeanFrame push(final String beanName, final DispatchTable table, final Slot slot, final List<Object> beans)
+				throws Exception {
+			if (depth == frames.size()) {
+				frames.add(new BeanFrame());
+			}
+
+			final BeanFrame frame = frames.get(depth);
+			frame.beanName = beanName.toLowerCase();
+			frame.table = table;
+			frame.seen.clear();
+			frame.slot = slot;
+			frame.beans = beans;
+			frame.bean = table.newBean();
+			depth++;
+			return frame;
+		}
+
+		BeanFrame peek() {
+			return frames.get(depth - 1);
+		}
+
+		void pop() {
+			frames.get(--depth).clear();
+		}
+
+		void popTo(final int depth) {
+			while (this.depth > depth) {
+				pop();
+			}
+		}
+
+		int depth() {
+			return depth;
+		}
+	}
+
+	/**
+	 * A Java Bean being bound, together with the {@link Slot slot} of its parent it's bound to and the
+	 * list it's added to, if that slot is a list of Java Beans.
+	 */
+	private static final class BeanFrame {
+		private final BitSet seen = new BitSet();
+		private String beanName;
+		private DispatchTable table;
+		private Object bean;
+		private Slot slot;
+		private List<Object> beans;
+
+		void clear() {
+			table = null;
+			bean = null;
+			slot = null;
+			beans = null;
+		}
+	}
 }
\ No newline at end of file
@@ -8,4 +8,51 @@ public interface XMLDataSourceConfiguration {
 	default String getEncoding() {
 		return "UTF-8";
 	}
+
+	/**
+	 * The number of threads binding the <code>&lt;dataSet&gt;</code> tags of the XML source file in
+	 * parallel. The data sets are still returned in document order.
+	 * <p>
+	 * Parallel binding requires the source file to be a local file given by a <code>file:</code> URL, its
+	 * encoding to encode ASCII characters as single bytes, like UTF-8 does, and the data sets to be
+	 * wrapped in <code>&lt;dataSet&gt;</code> tags. Otherwise the data sets are bound sequentially.
+	 * <p>
+	 * Defaults to 1, binding the data sets sequentially
+	 * 
+	 * @return the parallelism
+	 */
+	default int getParallelism() {
+		return 1;
+	}
+
+	/**
+	 * The maximum number of data sets bound ahead of the data set requested last, when binding in
+	 * {@link #getParallelism() parallel}.
+	 * <p>
+	 * May be any integer &gt;= 1
+	 * <p>
+	 * Defaults to 64 times the parallelism
+	 * 
+	 * @return the maximum number of data sets in flight
+	 */
+	default int getMaxDataSetsInFlight() {
+		return 64 * getParallelism();
+	}
+
+	/**
+	 * Whether to parse the XML source file with a parser built for exactly the subset of XML used by data
+	 * files, instead of a general StAX parser. The fast parser reads the memory mapped file, only decodes
+	 * text actually bound and skips unknown tags without parsing their contents.
+	 * <p>
+	 * The fast parser is only used for local files given by a <code>file:</code> URL of at most 2GB,
+	 * encoded in UTF-8, US-ASCII or ISO-8859-1, and without a document type declaration. Otherwise the
+	 * StAX parser is used.
+	 * <p>
+	 * Defaults to false
+	 * 
+	 * @return whether to use the fast parser
+	 */
+	default boolean useFastParser() {
+		return false;
+	}
 }
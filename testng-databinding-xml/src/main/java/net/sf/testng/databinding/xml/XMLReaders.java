@@ -0,0 +1,35 @@
+package net.sf.testng.databinding.xml;
+
+import java.io.InputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Creates the StAX {@link XMLStreamReader readers} used by {@link XMLDataSource}. Looking up an
+ * {@link XMLInputFactory} is expensive, so a single factory is shared by all data sources.
+ *
+ * @author Matthias Rothe
+ */
+final class XMLReaders {
+	private static final XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+
+	private XMLReaders() {
+	}
+
+	/**
+	 * Creates a new reader. Readers may be created concurrently by several threads.
+	 *
+	 * @param input The stream to read from
+	 * @param encoding The encoding of the stream
+	 * @return the reader
+	 * @throws XMLStreamException if the reader can't be created
+	 */
+	static XMLStreamReader createStaxReader(final InputStream input, final String encoding)
+			throws XMLStreamException {
+		synchronized (FACTORY) {
+			return FACTORY.createXMLStreamReader(input, encoding);
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package net.sf.testng.databinding.xml;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class FastXMLStreamReaderTest {
+	private static final String DOCUMENT = "\uFEFF<?xml version=\"1.0\" encoding=\"UTF-8\"?>\r\n"
+			+ "<testData xmlns:t=\"urn:test\">\r\n"
+			+ "\t<!-- a <comment> -->\r\n"
+			+ "\t<t:point x=\"1\" y='2 &amp;\r\n3' />\r\n"
+			+ "\t<text>a &lt;b&gt; &#x41;&#66; caf\u00e9\r\nnext line</text>\r\n"
+			+ "\t<?target some data?>\r\n"
+			+ "\t<cdata><![CDATA[<not a tag/>]]> and text</cdata>\r\n"
+			+ "\t<empty></empty>\r\n"
+			+ "</testData>\r\n";
+
+	@DataProvider
+	public Object[][] resources() {
+		return new Object[][] { { "/beanWithMapTestData.xml" }, { "/inputOutputValuesTestData.xml" },
+				{ "/listWithIESTestData.xml" }, { "/multiRowComplexBeanInputValueTestData.xml" },
+				{ "/parallelDataSetsTestData.xml" } };
+	}
+
+	@Test(dataProvider = "resources")
+	public void shouldReportSameEventsAsStaxForResources(final String resource) throws Exception {
+		final byte[] bytes = Files.readAllBytes(Paths.get(getClass().getResource(resource).toURI()));
+		assertEquals(events(fastReader(bytes, true)), events(staxReader(bytes)));
+	}
+
+	@DataProvider
+	public Object[][] invalidReferences() {
+		return new Object[][] { { "<a>\nx &amp</a>" }, { "<a>\nx &amp y</a>" }, { "<a>\nx &nbsp;</a>" },
+				{ "<a>\nx &#xZZ;</a>" }, { "<a>\nx &#12a;</a>" }, { "<a>\nx &#-5;</a>" },
+				{ "<a>\nx &#x110000;</a>" }, { "<a\nx='&#;' />" }, { "<a\nx='&unknown;' />" } };
+	}
+
+	@Test
+	public void shouldReportSameEventsAsStax() throws Exception {
+		final byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+
+		assertEquals(events(fastReader(bytes, false)), events(staxReader(bytes)));
+		assertEquals(events(fastReader(bytes, true)), events(staxReader(bytes)));
+	}
+
+	@Test
+	public void shouldSkipElements() throws Exception {
+		final byte[] bytes = "<a><b><b/><c x='>'><!-- </b> --></c></b><d>text</d></a>".getBytes(StandardCharsets.UTF_8);
+		final FastXMLStreamReader reader = fastReader(bytes, false);
+
+		assertEquals(reader.next(), XMLStreamConstants.START_ELEMENT);
+		assertEquals(reader.next(), XMLStreamConstants.START_ELEMENT);
+		assertEquals(reader.getLocalName(), "b");
+
+		reader.skipElement();
+		assertEquals(reader.getEventType(), XMLStreamConstants.END_ELEMENT);
+		assertEquals(reader.getLocalName(), "b");
+
+		assertEquals(reader.nextTag(), XMLStreamConstants.START_ELEMENT);
+		assertEquals(reader.getElementText(), "text");
+		assertEquals(reader.nextTag(), XMLStreamConstants.END_ELEMENT);
+		assertEquals(reader.getLocalName(), "a");
+	}
+
+	@Test
+	public void shouldRejectDocumentTypeDeclarations() {
+		final byte[] bytes = "<?xml version=\"1.0\"?>\n<!DOCTYPE testData [<!ENTITY x \"y\">]>\n<testData>&x;</testData>"
+				.getBytes(StandardCharsets.UTF_8);
+
+		assertNull(FastXMLStreamReader.create(ByteBuffer.wrap(bytes), StandardCharsets.UTF_8, 1, 1));
+	}
+
+	@Test
+	public void shouldReportLocationsRelativeToTheFile() throws Exception {
+		final byte[] bytes = "<dataSet>\n\t<a>1</b>\n</dataSet>".getBytes(StandardCharsets.UTF_8);
+		final FastXMLStreamReader reader = FastXMLStreamReader.create(ByteBuffer.wrap(bytes),
+			StandardCharsets.UTF_8, 10, 5);
+
+		reader.nextTag();
+		reader.nextTag();
+
+		try {
+			reader.getElementText();
+		} catch (final Exception e) {
+			assertEquals(reader.getLocation().getLineNumber(), 11);
+			return;
+		}
+
+		throw new AssertionError("mismatched closing tag not detected");
+	}
+
+	@Test(dataProvider = "invalidReferences")
+	public void shouldRejectInvalidReferencesWithLocation(final String document) throws Exception {
+		final FastXMLStreamReader reader = fastReader(document.getBytes(StandardCharsets.UTF_8), false);
+
+		try {
+			while (reader.hasNext()) {
+				reader.next();
+			}
+		} catch (final XMLStreamException e) {
+			assertEquals(e.getLocation().getLineNumber(), 2);
+			return;
+		}
+
+		throw new AssertionError("invalid reference not detected in " + document);
+	}
+
+	private FastXMLStreamReader fastReader(final byte[] bytes, final boolean direct) {
+		final ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.wrap(bytes);
+
+		if (direct) {
+			buffer.put(bytes).flip();
+		}
+
+		return FastXMLStreamReader.create(buffer, StandardCharsets.UTF_8, 1, 1);
+	}
+
+	private XMLStreamReader staxReader(final byte[] bytes) throws Exception {
+		final InputStream input = new ByteArrayInputStream(bytes);
+		return XMLReaders.createStaxReader(input, "UTF-8");
+	}
+
+	private List<String> events(final XMLStreamReader reader) throws Exception {
+		final List<String> events = new ArrayList<String>();
+		StringBuilder text = null;
+
+		for (int event = reader.getEventType(); reader.hasNext(); event = reader.next()) {
+			if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+					|| event == XMLStreamConstants.SPACE) {
+				if (text == null) {
+					text = new StringBuilder();
+				}
+				text.append(reader.getText());
+				continue;
+			}
+
+			if (text != null) {
+				events.add("text: " + text);
+				text = null;
+			}
+
+			switch (event) {
+			case XMLStreamConstants.START_ELEMENT:
+				final StringBuilder element = new StringBuilder("start: " + reader.getLocalName());
+				for (int i = 0; i < reader.getAttributeCount(); i++) {
+					element.append(' ').append(reader.getAttributeLocalName(i)).append('=')
+							.append(reader.getAttributeValue(i));
+				}
+				events.add(element.toString());
+				break;
+			case XMLStreamConstants.END_ELEMENT:
+				events.add("end: " + reader.getLocalName());
+				break;
+			case XMLStreamConstants.COMMENT:
+				events.add("comment: " + reader.getText());
+				break;
+			case XMLStreamConstants.PROCESSING_INSTRUCTION:
+				events.add("instruction: " + reader.getPITarget() + " " + reader.getPIData());
+				break;
+			default:
+				events.add("event: " + event);
+			}
+		}
+
+		events.add("event: " + reader.getEventType());
+		return events;
+	}
+}
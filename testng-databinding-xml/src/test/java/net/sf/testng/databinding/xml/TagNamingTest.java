@@ -0,0 +1,62 @@
+package net.sf.testng.databinding.xml;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.testng.annotations.Test;
+
+import net.sf.testng.databinding.core.util.DispatchTable;
+import net.sf.testng.databinding.core.util.DispatchTable.Kind;
+import net.sf.testng.databinding.core.util.DispatchTable.Slot;
+import net.sf.testng.databinding.xml.beans.IESTestBean;
+import net.sf.testng.databinding.xml.beans.InnerTestBean;
+import net.sf.testng.databinding.xml.beans.TestBean;
+
+public class TagNamingTest {
+
+	@Test
+	public void shouldResolveTagNamesOfBeanProperties() {
+		final DispatchTable table = DispatchTable.forBean(TestBean.class, TagNaming.INSTANCE);
+		final BitSet seen = new BitSet(table.size());
+
+		final Slot testString = table.lookup("testString", seen);
+		assertEquals(testString.getParameter().getName(), "testString");
+		assertEquals(testString.getKind(), Kind.PRIMITIVE);
+		assertSame(table.lookup("TESTSTRING", seen), testString);
+
+		final Slot testBooleans = table.lookup("testBoolean", seen);
+		assertEquals(testBooleans.getKind(), Kind.LIST_OF_PRIMITIVES);
+		assertTrue(testBooleans.matches("TestBoolean"));
+		assertFalse(testBooleans.matches("testBooleans"));
+		assertNull(table.lookup("testBooleans", seen));
+
+		assertEquals(table.lookup("innerTestBean", seen).getKind(), Kind.SINGLE_BEAN);
+		assertEquals(table.lookup("testBean", seen).getBeanClass(), InnerTestBean.class);
+		assertEquals(table.lookup("testEnum", seen).getKind(), Kind.ENUM);
+	}
+
+	@Test
+	public void shouldResolveSingularsOfIesPlurals() {
+		final DispatchTable table = DispatchTable.forBean(IESTestBean.class, TagNaming.INSTANCE);
+		final BitSet seen = new BitSet(table.size());
+
+		final Slot entries = table.lookup("entry", seen);
+		assertEquals(entries.getParameter().getName(), "entries");
+		assertEquals(entries.getElementName(), "entry");
+		assertSame(table.lookup("entrie", seen), entries);
+
+		seen.set(entries.getIndex());
+		assertNull(table.lookup("entry", seen));
+	}
+
+	@Test
+	public void shouldBuildBeanTablesOnce() {
+		assertSame(DispatchTable.forBean(TestBean.class, TagNaming.INSTANCE),
+			DispatchTable.forBean(TestBean.class, TagNaming.INSTANCE));
+	}
+}
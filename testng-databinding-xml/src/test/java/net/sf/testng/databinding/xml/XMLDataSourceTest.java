@@ -2,9 +2,15 @@ package net.sf.testng.databinding.xml;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -22,6 +28,7 @@ import net.sf.testng.databinding.xml.beans.IESTestBean;
 import net.sf.testng.databinding.xml.beans.InnerTestBean;
 import net.sf.testng.databinding.xml.beans.TestBean;
 import net.sf.testng.databinding.xml.beans.TestEnum;
+import net.sf.testng.databinding.xml.beans.TreeNode;
 import net.sf.testng.databinding.xml.datasource.config.XmlDataSourceConfigurations;
 
 public class XMLDataSourceTest {
@@ -68,6 +75,29 @@ public class XMLDataSourceTest {
 		assertFalse(provider.hasNext());
 	}
 
+	@Test(groups = { "singleRow", "multiInputValue", "primitiveInputValue" }, timeOut = 1000)
+	public void testSingleRowCharInputValuesTestData() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("charInputValuesConsumer");
+
+		final XMLDataSource provider = new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "singleRowCharConfig"));
+
+		assertTrue(provider.hasNext());
+		assertEquals(provider.next(), new Object[] { '\u00c4', ';' });
+		assertFalse(provider.hasNext());
+	}
+
+	@Test(groups = { "singleRow", "multiInputValue", "primitiveInputValue" }, timeOut = 1000, expectedExceptions = MultipleSourceErrorsException.class)
+	public void testSingleRowCharInputValuesTestData_MoreThanOneCharacter() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("charInputValuesConsumer");
+
+		final XMLDataSource provider = new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "singleRowInvalidCharConfig"));
+
+		assertTrue(provider.hasNext());
+		provider.next();
+	}
+
 	@Test(groups = { "multiRow", "singleInputValue", "primitiveInputValue" }, dependsOnGroups = "singleRow", timeOut = 1000)
 	public void testMultiRowSingleStringInputValueTestData() throws Exception {
 		final List<MethodParameter> parameters = createMethodParameters("singleStringInputValueConsumer");
@@ -156,6 +186,137 @@ public class XMLDataSourceTest {
 		assertFalse(provider.hasNext());
 	}
 
+	@Test(timeOut = 5000)
+	public void testParallelDataSetsTestData() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("dataSetsConsumer");
+
+		final List<Object[]> expecteds = readAll(new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "dataSetsConfig")));
+		final List<Object[]> actuals = readAll(new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "parallelDataSetsConfig")));
+
+		assertEquals(actuals.size(), 40);
+		assertEquals(actuals.toArray(), expecteds.toArray());
+		assertEquals(actuals.get(6), new Object[] { 7, new InnerTestBean("</dataSet> 7"), Arrays.asList(49, 196, 441, 784) });
+	}
+
+	@Test(timeOut = 5000)
+	public void testParallelInputOutputValuesTestData() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("inputOutputValuesConsumer");
+
+		final List<Object[]> expecteds = readAll(new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "inputOutputValuesConfig")));
+		final List<Object[]> actuals = readAll(new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "parallelInputOutputValuesConfig")));
+
+		assertEquals(actuals.toArray(), expecteds.toArray());
+	}
+
+	@Test(timeOut = 5000)
+	public void testParallelInvalidDataSetsTestData() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("dataSetsConsumer");
+
+		final XMLDataSource provider = new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "parallelInvalidDataSetsConfig"));
+
+		assertEquals(provider.next(), new Object[] { 1, new InnerTestBean("value 1"), Arrays.asList(1) });
+
+		try {
+			provider.next();
+			fail("expected MultipleSourceErrorsException");
+		} catch (final MultipleSourceErrorsException e) {
+			assertTrue(e.getMessage().contains("at [16:"), e.getMessage());
+		}
+	}
+
+	@Test(timeOut = 5000)
+	public void testFastParserInputOutputValuesTestData() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("inputOutputValuesConsumer");
+
+		final List<Object[]> expecteds = readAll(new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "inputOutputValuesConfig")));
+		final List<Object[]> actuals = readAll(new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "fastInputOutputValuesConfig")));
+
+		assertEquals(actuals.toArray(), expecteds.toArray());
+	}
+
+	@Test(timeOut = 5000)
+	public void testFastParserParallelDataSetsTestData() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("dataSetsConsumer");
+
+		final List<Object[]> expecteds = readAll(new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "dataSetsConfig")));
+		final List<Object[]> actuals = readAll(new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "fastParallelDataSetsConfig")));
+
+		assertEquals(actuals.toArray(), expecteds.toArray());
+	}
+
+	@Test(timeOut = 5000)
+	public void testCompactInputOutputValuesTestData() throws Exception {
+		final List<MethodParameter> parameters = createMethodParameters("inputOutputValuesConsumer");
+
+		final List<Object[]> expecteds = readAll(new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "inputOutputValuesConfig")));
+
+		assertEquals(readAll(new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "compactInputOutputValuesConfig"))).toArray(),
+			expecteds.toArray());
+		assertEquals(readAll(new XMLDataSource(parameters,
+				new Configuration(XmlDataSourceConfigurations.class, "fastCompactInputOutputValuesConfig"))).toArray(),
+			expecteds.toArray());
+	}
+
+	@Test(timeOut = 10000)
+	public void testDeeplyNestedBeanTestData() throws Exception {
+		final int depth = 20000;
+		writeDeeplyNestedBeanTestData(depth);
+
+		final List<MethodParameter> parameters = createMethodParameters("treeNodeConsumer");
+
+		for (final String configuration : Arrays.asList("deeplyNestedBeanConfig", "fastDeeplyNestedBeanConfig")) {
+			final XMLDataSource provider = new XMLDataSource(parameters,
+					new Configuration(XmlDataSourceConfigurations.class, configuration));
+
+			TreeNode treeNode = (TreeNode) provider.next()[0];
+			for (int i = 0; i < depth; i++) {
+				assertEquals(treeNode.getValue(), i);
+				treeNode = treeNode.getTreeNode();
+			}
+
+			assertNull(treeNode);
+			assertFalse(provider.hasNext());
+		}
+	}
+
+	private void writeDeeplyNestedBeanTestData(final int depth) throws Exception {
+		final StringBuilder builder = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testData>\n"
+				+ "<testInputData>\n");
+
+		for (int i = 0; i < depth; i++) {
+			builder.append("<treeNode>");
+		}
+
+		for (int i = depth - 1; i >= 0; i--) {
+			builder.append("<value>").append(i).append("</value></treeNode>");
+		}
+
+		builder.append("\n</testInputData>\n</testData>");
+		Files.write(Paths.get(XmlDataSourceConfigurations.deeplyNestedBeanTestData().toURI()),
+			builder.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private List<Object[]> readAll(final XMLDataSource provider) {
+		final List<Object[]> dataSets = new ArrayList<Object[]>();
+
+		while (provider.hasNext()) {
+			dataSets.add(provider.next());
+		}
+
+		return dataSets;
+	}
+
 	private TestBean setupComplexTestBean() {
 		final TestBean testBean = new TestBean();
 		testBean.setTestEnum(TestEnum.one);
@@ -182,6 +343,10 @@ public class XMLDataSourceTest {
 	public void singleStringInputValueConsumer(@TestInput(name = "testValue") final String testValue) {
 	}
 
+	public void charInputValuesConsumer(@TestInput(name = "initial") final char initial,
+			@TestInput(name = "separator") final Character separator) {
+	}
+
 	public void singleEnumInputValueConsumer(@TestInput final TestEnum testEnum) {
 	}
 
@@ -201,6 +366,13 @@ public class XMLDataSourceTest {
 	public void beanWithMapConsumer(@TestInput final BeanWithMap testBean) {
 	}
 
+	public void dataSetsConsumer(@TestInput(name = "index") final int index,
+			@TestInput final InnerTestBean innerTestBean, @TestOutput(name = "squares") final List<Integer> squares) {
+	}
+
+	public void treeNodeConsumer(@TestInput final TreeNode treeNode) {
+	}
+
 	public void listWithIESConsumer(@TestInput(name = "entries") final List<String> entries,
 			@TestInput final IESTestBean bean) {
 	}
@@ -1,5 +1,7 @@
 package net.sf.testng.databinding.xml.datasource.config;
 
+import java.io.File;
+import java.net.MalformedURLException;
 import java.net.URL;
 
 import net.sf.testng.databinding.xml.XMLDataSourceConfiguration;
@@ -68,6 +70,26 @@ public class XmlDataSourceConfigurations {
 		};
 	}
 	
+	public static XMLDataSourceConfiguration singleRowCharConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/singleRowCharInputValuesTestData.xml");
+			}
+		};
+	}
+	
+	public static XMLDataSourceConfiguration singleRowInvalidCharConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/singleRowCharInputValuesTestData-invalid.xml");
+			}
+		};
+	}
+	
 	public static XMLDataSourceConfiguration singleRowSingleStringConfig() {
 		return new XMLDataSourceConfiguration() {
 			
@@ -87,4 +109,157 @@ public class XmlDataSourceConfigurations {
 			}
 		};
 	}
-}
+
+	public static XMLDataSourceConfiguration dataSetsConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/parallelDataSetsTestData.xml");
+			}
+		};
+	}
+	
+	public static XMLDataSourceConfiguration parallelDataSetsConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/parallelDataSetsTestData.xml");
+			}
+			
+			@Override
+			public int getParallelism() {
+				return 4;
+			}
+			
+			@Override
+			public int getMaxDataSetsInFlight() {
+				return 3;
+			}
+		};
+	}
+	
+	public static XMLDataSourceConfiguration parallelInvalidDataSetsConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/parallelDataSetsTestData-invalid.xml");
+			}
+			
+			@Override
+			public int getParallelism() {
+				return 2;
+			}
+		};
+	}
+	
+	public static XMLDataSourceConfiguration parallelInputOutputValuesConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/inputOutputValuesTestData.xml");
+			}
+			
+			@Override
+			public int getParallelism() {
+				return 2;
+			}
+		};
+	}
+	
+	public static XMLDataSourceConfiguration fastInputOutputValuesConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/inputOutputValuesTestData.xml");
+			}
+			
+			@Override
+			public boolean useFastParser() {
+				return true;
+			}
+		};
+	}
+	
+	public static XMLDataSourceConfiguration compactInputOutputValuesConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/inputOutputValuesTestData-compact.xml");
+			}
+		};
+	}
+	
+	public static XMLDataSourceConfiguration fastCompactInputOutputValuesConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/inputOutputValuesTestData-compact.xml");
+			}
+			
+			@Override
+			public boolean useFastParser() {
+				return true;
+			}
+		};
+	}
+	
+	public static XMLDataSourceConfiguration deeplyNestedBeanConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return deeplyNestedBeanTestData();
+			}
+		};
+	}
+	
+	public static XMLDataSourceConfiguration fastDeeplyNestedBeanConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return deeplyNestedBeanTestData();
+			}
+			
+			@Override
+			public boolean useFastParser() {
+				return true;
+			}
+		};
+	}
+	
+	public static URL deeplyNestedBeanTestData() {
+		try {
+			return new File(System.getProperty("java.io.tmpdir"), "deeplyNestedBeanTestData.xml").toURI().toURL();
+		} catch (final MalformedURLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	public static XMLDataSourceConfiguration fastParallelDataSetsConfig() {
+		return new XMLDataSourceConfiguration() {
+			
+			@Override
+			public URL getURL() {
+				return getClass().getResource("/parallelDataSetsTestData.xml");
+			}
+			
+			@Override
+			public int getParallelism() {
+				return 4;
+			}
+			
+			@Override
+			public boolean useFastParser() {
+				return true;
+			}
+		};
+	}
+}
\ No newline at end of file